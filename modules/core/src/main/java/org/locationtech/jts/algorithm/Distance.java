@@ -189,6 +189,107 @@ public class Distance {
     return Math.abs(s) * Math.sqrt(len2);
   }
 
+  /**
+   * Computes the distance from a point to a line segment,
+   * with all values specified as ordinates.
+   * 
+   * Note: NON-ROBUST!
+   * 
+   * @param px the x ordinate of the point
+   * @param py the y ordinate of the point
+   * @param ax the x ordinate of the segment start point
+   * @param ay the y ordinate of the segment start point
+   * @param bx the x ordinate of the segment end point
+   * @param by the y ordinate of the segment end point
+   * @return the distance from the point to the segment
+   */
+  public static double pointToSegment(double px, double py,
+      double ax, double ay, double bx, double by)
+  {
+    return Math.sqrt(pointToSegmentSq(px, py, ax, ay, bx, by));
+  }
+  
+  /**
+   * Computes the squared distance from a point to a line segment,
+   * with all values specified as ordinates.
+   * This avoids computing a square root,
+   * so is suitable for finding the nearest of many segments.
+   * 
+   * Note: NON-ROBUST!
+   * 
+   * @param px the x ordinate of the point
+   * @param py the y ordinate of the point
+   * @param ax the x ordinate of the segment start point
+   * @param ay the y ordinate of the segment start point
+   * @param bx the x ordinate of the segment end point
+   * @param by the y ordinate of the segment end point
+   * @return the squared distance from the point to the segment
+   */
+  public static double pointToSegmentSq(double px, double py,
+      double ax, double ay, double bx, double by)
+  {
+    double dx = bx - ax;
+    double dy = by - ay;
+    double len2 = dx * dx + dy * dy;
+    /**
+     * Project the point onto the segment line,
+     * and clamp the projection factor to the segment.
+     * A zero-length segment is handled as its start point.
+     */
+    double r = 0.0;
+    if (len2 > 0.0) {
+      r = ((px - ax) * dx + (py - ay) * dy) / len2;
+      if (r < 0.0) r = 0.0;
+      else if (r > 1.0) r = 1.0;
+    }
+    double cx = ax + r * dx - px;
+    double cy = ay + r * dy - py;
+    return cx * cx + cy * cy;
+  }
+  
+  /**
+   * Computes the distance from a point to a sequence of line segments
+   * defined by a range of vertices in a packed ordinate array.
+   * The vertices are stored in the array as consecutive groups of 
+   * <code>dimension</code> ordinates, with the X and Y ordinates first
+   * (as in {@link org.locationtech.jts.geom.impl.PackedCoordinateSequence.Double}).
+   * <p>
+   * This avoids creating {@link Coordinate}s for the vertices,
+   * and compares squared distances so that only a single square root is computed.
+   * 
+   * @param px the x ordinate of the point
+   * @param py the y ordinate of the point
+   * @param coords the packed ordinate array
+   * @param dimension the number of ordinates in each vertex
+   * @param start the index of the first vertex
+   * @param end the index of the last vertex + 1
+   * @return the minimum distance between the point and the line segments
+   */
+  public static double pointToSegmentString(double px, double py,
+      double[] coords, int dimension, int start, int end)
+  {
+    if (end <= start)
+      throw new IllegalArgumentException(
+          "Line must contain at least one vertex");
+    int i = start * dimension;
+    double ax = coords[i];
+    double ay = coords[i + 1];
+    // this handles the case of a single vertex
+    double minDistSq = (px - ax) * (px - ax) + (py - ay) * (py - ay);
+    int iEnd = end * dimension;
+    for (i += dimension; i < iEnd; i += dimension) {
+      double bx = coords[i];
+      double by = coords[i + 1];
+      double distSq = pointToSegmentSq(px, py, ax, ay, bx, by);
+      if (distSq < minDistSq) {
+        minDistSq = distSq;
+      }
+      ax = bx;
+      ay = by;
+    }
+    return Math.sqrt(minDistSq);
+  }
+  
   /**
    * Computes the perpendicular distance from a point p to the (infinite) line
    * containing the points AB
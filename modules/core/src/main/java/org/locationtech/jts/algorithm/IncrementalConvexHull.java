@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * Maintains the convex hull of a set of points
+ * which are added incrementally.
+ * This is suitable for computing hulls of streams of points,
+ * since only the current hull vertices are stored.
+ * <p>
+ * The hull is stored as its upper and lower monotone chains,
+ * each sorted in X and then Y.
+ * Adding a point which lies inside the current hull
+ * requires only a binary search and an orientation test.
+ * Adding a point outside the hull inserts it into the chains
+ * and removes the vertices which are no longer on the hull.
+ * <p>
+ * The hull geometry is cached, so calling {@link #getHull()}
+ * when no points have been added to the hull is cheap.
+ * As for {@link ConvexHull}, no hull vertices are collinear.
+ *
+ * @author Martin Davis
+ *
+ * @see ConvexHull
+ * @see PackedConvexHull
+ */
+public class IncrementalConvexHull
+{
+  private GeometryFactory geomFactory;
+  private Chain upper = new Chain(Orientation.CLOCKWISE);
+  private Chain lower = new Chain(Orientation.COUNTERCLOCKWISE);
+  private Geometry hullGeom = null;
+
+  /**
+   * Creates a new empty hull.
+   *
+   * @param geomFactory the factory to use to create hull geometries
+   */
+  public IncrementalConvexHull(GeometryFactory geomFactory)
+  {
+    this.geomFactory = geomFactory;
+  }
+
+  /**
+   * Adds a point to the hull.
+   *
+   * @param x the X ordinate of the point
+   * @param y the Y ordinate of the point
+   * @return true if the hull was changed
+   */
+  public boolean add(double x, double y) {
+    boolean isUpperChanged = upper.add(x, y);
+    boolean isLowerChanged = lower.add(x, y);
+    if (isUpperChanged || isLowerChanged) {
+      hullGeom = null;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Adds a point to the hull.
+   *
+   * @param p the point to add
+   * @return true if the hull was changed
+   */
+  public boolean add(Coordinate p) {
+    return add(p.x, p.y);
+  }
+
+  /**
+   * Adds a set of points stored in an array
+   * of interleaved X and Y ordinates.
+   * The hull of the points is computed first,
+   * so this is much faster than adding them individually.
+   *
+   * @param xy the ordinates of the points to add
+   * @return true if the hull was changed
+   */
+  public boolean add(double[] xy) {
+    double[] hullPts = PackedConvexHull.computeHull(xy);
+    boolean isChanged = false;
+    for (int i = 0; i < hullPts.length; i += 2) {
+      if (add(hullPts[i], hullPts[i + 1]))
+        isChanged = true;
+    }
+    return isChanged;
+  }
+
+  /**
+   * Tests whether a point lies in the current hull
+   * (in its interior or on its boundary).
+   *
+   * @param x the X ordinate of the point
+   * @param y the Y ordinate of the point
+   * @return true if the point is in the hull
+   */
+  public boolean contains(double x, double y) {
+    return upper.isInside(x, y) && lower.isInside(x, y);
+  }
+
+  /**
+   * Gets the number of vertices of the current hull.
+   *
+   * @return the number of hull vertices
+   */
+  public int getNumVertices() {
+    int n = upper.size + Math.max(0, lower.size - 2);
+    return n;
+  }
+
+  /**
+   * Gets the vertices of the current hull
+   * as an array of interleaved X and Y ordinates,
+   * in clockwise order starting at the point with minimum X (and then Y).
+   *
+   * @return the ordinates of the hull vertices
+   */
+  public double[] getVertices() {
+    double[] hullPts = new double[2 * getNumVertices()];
+    System.arraycopy(upper.xy, 0, hullPts, 0, 2 * upper.size);
+    int n = 2 * upper.size;
+    for (int i = lower.size - 2; i >= 1; i--) {
+      hullPts[n++] = lower.xy[2 * i];
+      hullPts[n++] = lower.xy[2 * i + 1];
+    }
+    return hullPts;
+  }
+
+  /**
+   * Gets a geometry representing the current hull.
+   * The result has the same form as that of {@link ConvexHull#getConvexHull()}.
+   *
+   * @return a Polygon, LineString, Point or empty GeometryCollection
+   */
+  public Geometry getHull() {
+    if (hullGeom == null) {
+      hullGeom = PackedConvexHull.toGeometry(getVertices(), geomFactory);
+    }
+    return hullGeom;
+  }
+
+  /**
+   * A monotone chain of hull vertices, sorted in X and then Y.
+   * The chain turns in a given direction at each interior vertex.
+   */
+  private static class Chain {
+    private int turn;
+    private double[] xy = new double[16];
+    private int size = 0;
+
+    Chain(int turn) {
+      this.turn = turn;
+    }
+
+    /**
+     * Tests if a point is on the inner side of the chain
+     * (or on it).
+     */
+    boolean isInside(double x, double y) {
+      if (size == 0) return false;
+      int index = search(x, y);
+      if (index >= 0) return true;
+      int ins = -(index + 1);
+      if (ins == 0 || ins == size) return false;
+      //-- points on the outer side of the chain are on the opposite side to the turn
+      return orientation(ins - 1, ins, x, y) != -turn;
+    }
+
+    /**
+     * Adds a point to the chain, if it lies outside it.
+     *
+     * @return true if the chain was changed
+     */
+    boolean add(double x, double y) {
+      int index = search(x, y);
+      //-- point is already a vertex
+      if (index >= 0) return false;
+      int ins = -(index + 1);
+      //-- point lies on or inside chain
+      if (ins > 0 && ins < size && orientation(ins - 1, ins, x, y) != -turn)
+        return false;
+
+      insert(ins, x, y);
+      //-- remove vertices before the point which are no longer convex
+      int numRemoveBefore = 0;
+      while (ins - numRemoveBefore >= 2
+          && orientation(ins - numRemoveBefore - 2, ins - numRemoveBefore - 1, x, y) != turn) {
+        numRemoveBefore++;
+      }
+      remove(ins - numRemoveBefore, numRemoveBefore);
+      ins -= numRemoveBefore;
+      //-- remove vertices after the point which are no longer convex
+      int numRemoveAfter = 0;
+      while (ins + numRemoveAfter + 2 < size
+          && orientation(ins, ins + numRemoveAfter + 1, ins + numRemoveAfter + 2) != turn) {
+        numRemoveAfter++;
+      }
+      remove(ins + 1, numRemoveAfter);
+      return true;
+    }
+
+    private int orientation(int i, int j, double x, double y) {
+      return CGAlgorithmsDD.orientationIndex(xy[2 * i], xy[2 * i + 1],
+          xy[2 * j], xy[2 * j + 1], x, y);
+    }
+
+    private int orientation(int i, int j, int k) {
+      return orientation(i, j, xy[2 * k], xy[2 * k + 1]);
+    }
+
+    /**
+     * Finds a point in the chain.
+     *
+     * @return the index of the point if present, otherwise (-(insertion point) - 1)
+     */
+    private int search(double x, double y) {
+      int lo = 0;
+      int hi = size - 1;
+      while (lo <= hi) {
+        int mid = (lo + hi) >>> 1;
+        double mx = xy[2 * mid];
+        double my = xy[2 * mid + 1];
+        if (mx < x || (mx == x && my < y))
+          lo = mid + 1;
+        else if (mx > x || my > y)
+          hi = mid - 1;
+        else
+          return mid;
+      }
+      return -(lo + 1);
+    }
+
+    private void insert(int index, double x, double y) {
+      if (2 * size == xy.length) {
+        xy = Arrays.copyOf(xy, 2 * xy.length);
+      }
+      System.arraycopy(xy, 2 * index, xy, 2 * index + 2, 2 * (size - index));
+      xy[2 * index] = x;
+      xy[2 * index + 1] = y;
+      size++;
+    }
+
+    private void remove(int index, int num) {
+      if (num == 0) return;
+      System.arraycopy(xy, 2 * (index + num), xy, 2 * index, 2 * (size - index - num));
+      size -= num;
+    }
+  }
+}
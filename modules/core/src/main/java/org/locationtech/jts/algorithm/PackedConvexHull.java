@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * Computes the convex hull of points stored in an array
+ * of interleaved X and Y ordinates.
+ * This avoids creating {@link Coordinate} objects,
+ * so it is suitable for very large point sets.
+ * <p>
+ * Uses Andrew's Monotone Chain algorithm.
+ * Points inside an octilateral defined by the extremal points
+ * in the 8 cardinal directions are discarded before sorting,
+ * which eliminates most points in large inputs.
+ * The hull can be computed in parallel by computing the hulls
+ * of partitions of the input and then the hull of their vertices.
+ * <p>
+ * The hull vertices are returned as an array of interleaved ordinates,
+ * in clockwise order starting at the point with minimum X (and then Y).
+ * As for {@link ConvexHull}, no hull vertices are collinear.
+ * If the input is degenerate, the hull contains 0, 1 or 2 points.
+ *
+ * @author Martin Davis
+ *
+ * @see ConvexHull
+ * @see IncrementalConvexHull
+ */
+public class PackedConvexHull
+{
+  /**
+   * The minimum number of points in a partition for a parallel computation
+   */
+  private static final int MIN_PARTITION_SIZE = 100_000;
+
+  private static final int INSERTION_SORT_SIZE = 16;
+
+  /**
+   * A value which is safely greater than the
+   * relative round-off error in double-precision numbers
+   */
+  private static final double DP_SAFE_EPSILON = 1e-15;
+
+  /**
+   * Computes the vertices of the convex hull of a set of points.
+   *
+   * @param xy the ordinates of the points
+   * @return the ordinates of the hull vertices, in clockwise order
+   */
+  public static double[] computeHull(double[] xy) {
+    return computeHull(xy, false);
+  }
+
+  /**
+   * Computes the vertices of the convex hull of a set of points,
+   * optionally in parallel.
+   *
+   * @param xy the ordinates of the points
+   * @param isParallel true if the hull should be computed in parallel
+   * @return the ordinates of the hull vertices, in clockwise order
+   */
+  public static double[] computeHull(double[] xy, boolean isParallel) {
+    if (xy.length % 2 != 0)
+      throw new IllegalArgumentException("Ordinate array must have even length");
+    int numPts = xy.length / 2;
+    int numPartitions = Math.min(Runtime.getRuntime().availableProcessors(),
+        numPts / MIN_PARTITION_SIZE);
+    if (! isParallel || numPartitions < 2) {
+      return hull(xy, 0, numPts);
+    }
+    //-- compute the hulls of partitions, and then the hull of their vertices
+    double[][] partHulls = new double[numPartitions][];
+    IntStream.range(0, numPartitions).parallel().forEach(i -> {
+      int start = (int) ((long) numPts * i / numPartitions);
+      int end = (int) ((long) numPts * (i + 1) / numPartitions);
+      partHulls[i] = hull(xy, start, end);
+    });
+    int size = 0;
+    for (double[] partHull : partHulls) {
+      size += partHull.length;
+    }
+    double[] hullPts = new double[size];
+    int n = 0;
+    for (double[] partHull : partHulls) {
+      System.arraycopy(partHull, 0, hullPts, n, partHull.length);
+      n += partHull.length;
+    }
+    return hull(hullPts, 0, hullPts.length / 2);
+  }
+
+  /**
+   * Computes the convex hull of a set of points as a {@link Geometry}.
+   * The result has the same form as that of {@link ConvexHull#getConvexHull()}.
+   *
+   * @param xy the ordinates of the points
+   * @param geomFactory the factory to create the result
+   * @param isParallel true if the hull should be computed in parallel
+   * @return the convex hull geometry
+   */
+  public static Geometry getConvexHull(double[] xy, GeometryFactory geomFactory, boolean isParallel) {
+    return toGeometry(computeHull(xy, isParallel), geomFactory);
+  }
+
+  /**
+   * Creates a geometry for the vertices of a hull.
+   *
+   * @param hullPts the ordinates of the hull vertices, in order
+   * @param geomFactory the factory to create the geometry
+   * @return a Polygon, LineString, Point or empty GeometryCollection
+   */
+  static Geometry toGeometry(double[] hullPts, GeometryFactory geomFactory) {
+    int numPts = hullPts.length / 2;
+    if (numPts == 0)
+      return geomFactory.createGeometryCollection();
+    if (numPts == 1)
+      return geomFactory.createPoint(new Coordinate(hullPts[0], hullPts[1]));
+    if (numPts == 2) {
+      return geomFactory.createLineString(new Coordinate[] {
+          new Coordinate(hullPts[0], hullPts[1]), new Coordinate(hullPts[2], hullPts[3]) });
+    }
+    Coordinate[] ring = new Coordinate[numPts + 1];
+    for (int i = 0; i < numPts; i++) {
+      ring[i] = new Coordinate(hullPts[2 * i], hullPts[2 * i + 1]);
+    }
+    ring[numPts] = ring[0].copy();
+    return geomFactory.createPolygon(ring);
+  }
+
+  /**
+   * Computes the hull of a range of points.
+   *
+   * @param xy the point ordinates
+   * @param start the index of the first point
+   * @param end the index after the last point
+   * @return the ordinates of the hull vertices
+   */
+  private static double[] hull(double[] xy, int start, int end) {
+    double[] pts = reduce(xy, start, end);
+    sort(pts, 0, pts.length / 2 - 1);
+    return monotoneChain(pts);
+  }
+
+  /**
+   * Copies the points in a range which are not inside
+   * the inner octilateral of the extremal points.
+   *
+   * @param xy the point ordinates
+   * @param start the index of the first point
+   * @param end the index after the last point
+   * @return the ordinates of the points which may be on the hull
+   */
+  private static double[] reduce(double[] xy, int start, int end) {
+    if (end <= start)
+      return new double[0];
+
+    //-- the extremal points in the 8 cardinal directions, in CW order
+    int[] ext = new int[8];
+    Arrays.fill(ext, start);
+    for (int i = start + 1; i < end; i++) {
+      double x = xy[2 * i];
+      double y = xy[2 * i + 1];
+      if (x < xy[2 * ext[0]]) ext[0] = i;
+      if (x - y < xy[2 * ext[1]] - xy[2 * ext[1] + 1]) ext[1] = i;
+      if (y > xy[2 * ext[2] + 1]) ext[2] = i;
+      if (x + y > xy[2 * ext[3]] + xy[2 * ext[3] + 1]) ext[3] = i;
+      if (x > xy[2 * ext[4]]) ext[4] = i;
+      if (x - y > xy[2 * ext[5]] - xy[2 * ext[5] + 1]) ext[5] = i;
+      if (y < xy[2 * ext[6] + 1]) ext[6] = i;
+      if (x + y < xy[2 * ext[7]] + xy[2 * ext[7] + 1]) ext[7] = i;
+    }
+    int[] octPts = new int[8];
+    int numOct = 0;
+    for (int i = 0; i < 8; i++) {
+      if (numOct > 0 && isEqual(xy, ext[i], octPts[numOct - 1])) continue;
+      octPts[numOct++] = ext[i];
+    }
+    if (numOct > 1 && isEqual(xy, octPts[0], octPts[numOct - 1]))
+      numOct--;
+
+    double[] reduced = new double[2 * (end - start)];
+    int n = 0;
+    for (int i = start; i < end; i++) {
+      if (numOct >= 3 && isInterior(xy, i, octPts, numOct)) continue;
+      reduced[n++] = xy[2 * i];
+      reduced[n++] = xy[2 * i + 1];
+    }
+    return Arrays.copyOf(reduced, n);
+  }
+
+  private static boolean isEqual(double[] xy, int i, int j) {
+    return xy[2 * i] == xy[2 * j] && xy[2 * i + 1] == xy[2 * j + 1];
+  }
+
+  /**
+   * Tests if a point is strictly inside a convex ring with CW orientation.
+   * The ring is allowed to have collinear vertices.
+   * The orientation is computed directly in double precision,
+   * and only computed robustly if the result is within the round-off error bound.
+   */
+  private static boolean isInterior(double[] xy, int i, int[] ring, int ringSize) {
+    double x = xy[2 * i];
+    double y = xy[2 * i + 1];
+    for (int k = 0; k < ringSize; k++) {
+      int p0 = ring[k];
+      int p1 = ring[k == ringSize - 1 ? 0 : k + 1];
+      double x0 = xy[2 * p0];
+      double y0 = xy[2 * p0 + 1];
+      double detLeft = (xy[2 * p1] - x0) * (y - y0);
+      double detRight = (xy[2 * p1 + 1] - y0) * (x - x0);
+      double det = detLeft - detRight;
+      double errBound = DP_SAFE_EPSILON * (Math.abs(detLeft) + Math.abs(detRight));
+      //-- interior points are to the right of every edge
+      if (det < -errBound) continue;
+      if (det > errBound) return false;
+      int orient = CGAlgorithmsDD.orientationIndex(x0, y0, xy[2 * p1], xy[2 * p1 + 1], x, y);
+      if (orient != Orientation.CLOCKWISE) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Computes the hull vertices of a set of points
+   * sorted in X and then Y.
+   *
+   * @param pts the sorted point ordinates
+   * @return the ordinates of the hull vertices, in CW order
+   */
+  private static double[] monotoneChain(double[] pts) {
+    int numPts = pts.length / 2;
+    double[] upper = new double[pts.length];
+    double[] lower = new double[pts.length];
+    int numUpper = 0;
+    int numLower = 0;
+    for (int i = 0; i < numPts; i++) {
+      double x = pts[2 * i];
+      double y = pts[2 * i + 1];
+      //-- skip duplicate points
+      if (i > 0 && x == pts[2 * i - 2] && y == pts[2 * i - 1])
+        continue;
+      while (numUpper >= 2 && CGAlgorithmsDD.orientationIndex(
+          upper[2 * numUpper - 4], upper[2 * numUpper - 3],
+          upper[2 * numUpper - 2], upper[2 * numUpper - 1], x, y) != Orientation.CLOCKWISE) {
+        numUpper--;
+      }
+      upper[2 * numUpper] = x;
+      upper[2 * numUpper + 1] = y;
+      numUpper++;
+      while (numLower >= 2 && CGAlgorithmsDD.orientationIndex(
+          lower[2 * numLower - 4], lower[2 * numLower - 3],
+          lower[2 * numLower - 2], lower[2 * numLower - 1], x, y) != Orientation.COUNTERCLOCKWISE) {
+        numLower--;
+      }
+      lower[2 * numLower] = x;
+      lower[2 * numLower + 1] = y;
+      numLower++;
+    }
+    //-- the CW ring is the upper chain followed by the reversed lower chain
+    int numLowerInterior = Math.max(0, numLower - 2);
+    double[] hull = new double[2 * (numUpper + numLowerInterior)];
+    System.arraycopy(upper, 0, hull, 0, 2 * numUpper);
+    int n = 2 * numUpper;
+    for (int i = numLower - 2; i >= 1; i--) {
+      hull[n++] = lower[2 * i];
+      hull[n++] = lower[2 * i + 1];
+    }
+    return hull;
+  }
+
+  /**
+   * Sorts a range of points in X and then Y.
+   *
+   * @param xy the point ordinates
+   * @param lo the index of the first point
+   * @param hi the index of the last point
+   */
+  private static void sort(double[] xy, int lo, int hi) {
+    while (hi - lo > INSERTION_SORT_SIZE) {
+      //-- median of three pivot
+      int mid = (lo + hi) >>> 1;
+      if (compare(xy, mid, lo) < 0) swap(xy, mid, lo);
+      if (compare(xy, hi, lo) < 0) swap(xy, hi, lo);
+      if (compare(xy, hi, mid) < 0) swap(xy, hi, mid);
+      double px = xy[2 * mid];
+      double py = xy[2 * mid + 1];
+      int i = lo;
+      int j = hi;
+      while (i <= j) {
+        while (compare(xy, i, px, py) < 0) i++;
+        while (compare(xy, j, px, py) > 0) j--;
+        if (i <= j) {
+          swap(xy, i, j);
+          i++;
+          j--;
+        }
+      }
+      //-- recurse on the smaller partition to limit stack depth
+      if (j - lo < hi - i) {
+        sort(xy, lo, j);
+        lo = i;
+      }
+      else {
+        sort(xy, i, hi);
+        hi = j;
+      }
+    }
+    for (int i = lo + 1; i <= hi; i++) {
+      double x = xy[2 * i];
+      double y = xy[2 * i + 1];
+      int j = i - 1;
+      while (j >= lo && compare(xy, j, x, y) > 0) {
+        xy[2 * j + 2] = xy[2 * j];
+        xy[2 * j + 3] = xy[2 * j + 1];
+        j--;
+      }
+      xy[2 * j + 2] = x;
+      xy[2 * j + 3] = y;
+    }
+  }
+
+  private static int compare(double[] xy, int i, int j) {
+    return compare(xy, i, xy[2 * j], xy[2 * j + 1]);
+  }
+
+  private static int compare(double[] xy, int i, double x, double y) {
+    double xi = xy[2 * i];
+    if (xi < x) return -1;
+    if (xi > x) return 1;
+    double yi = xy[2 * i + 1];
+    if (yi < y) return -1;
+    if (yi > y) return 1;
+    return 0;
+  }
+
+  private static void swap(double[] xy, int i, int j) {
+    double x = xy[2 * i];
+    double y = xy[2 * i + 1];
+    xy[2 * i] = xy[2 * j];
+    xy[2 * i + 1] = xy[2 * j + 1];
+    xy[2 * j] = x;
+    xy[2 * j + 1] = y;
+  }
+}
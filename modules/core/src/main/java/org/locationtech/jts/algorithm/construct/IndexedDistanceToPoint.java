@@ -30,14 +30,25 @@ class IndexedDistanceToPoint {
   
   private Geometry targetGeometry;
   private IndexedFacetDistance facetDistance;
-  private IndexedPointInPolygonsLocator ptLocater;
+  private volatile IndexedPointInPolygonsLocator ptLocater;
 
   public IndexedDistanceToPoint(Geometry geom) {
     this.targetGeometry = geom;
   }
   
   private void init() {
-    if (facetDistance != null)
+    // avoid calling synchronized method improves performance
+    if (ptLocater == null) createIndexes();
+  }
+  
+  /**
+   * Creates the indexes.
+   * The point locator is published last, 
+   * so that a non-null locator indicates that both indexes are available.
+   * This allows the distance to be computed from multiple threads.
+   */
+  private synchronized void createIndexes() {
+    if (ptLocater != null)
       return;
     facetDistance = new IndexedFacetDistance(targetGeometry);
     ptLocater = new IndexedPointInPolygonsLocator(targetGeometry);
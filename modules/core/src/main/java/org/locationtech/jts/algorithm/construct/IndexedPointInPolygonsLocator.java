@@ -32,26 +32,34 @@ import org.locationtech.jts.index.strtree.STRtree;
 class IndexedPointInPolygonsLocator implements PointOnGeometryLocator {
 
   private Geometry geom;
-  private STRtree index;
+  private volatile STRtree index;
 
   public IndexedPointInPolygonsLocator(Geometry geom) {
     this.geom = geom;
   }
   
-  private void init() {
+  /**
+   * Creates the index.
+   * The index is fully built before it is published,
+   * so locating is thread-safe.
+   */
+  private synchronized void createIndex() {
     if (index != null)
       return;
     List<Geometry> polys = PolygonalExtracter.getPolygonals(geom);
-    index = new STRtree();
+    STRtree tree = new STRtree();
     for (int i = 0; i < polys.size(); i++) {
       Geometry poly = polys.get(i);
-      index.insert(poly.getEnvelopeInternal(), new IndexedPointInAreaLocator(poly));
+      tree.insert(poly.getEnvelopeInternal(), new IndexedPointInAreaLocator(poly));
     }
+    tree.build();
+    index = tree;
   }
   
   @Override
   public int locate(Coordinate p) {
-    init();
+    // avoid calling synchronized method improves performance
+    if (index == null) createIndex();
 
     List<IndexedPointInAreaLocator> results = index.query(new Envelope(p));
     for (IndexedPointInAreaLocator ptLocater : results) {
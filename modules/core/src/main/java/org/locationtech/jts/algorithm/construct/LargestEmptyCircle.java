@@ -12,6 +12,7 @@
 package org.locationtech.jts.algorithm.construct;
 
 import java.util.PriorityQueue;
+import java.util.stream.IntStream;
 
 import org.locationtech.jts.algorithm.Centroid;
 import org.locationtech.jts.algorithm.InteriorPoint;
@@ -51,6 +52,12 @@ import org.locationtech.jts.operation.distance.IndexedFacetDistance;
  * The grid is refined using a branch-and-bound algorithm. 
  * Point containment and distance are computed in a performant
  * way by using spatial indexes.
+ * <p>
+ * The centers for many sets of obstacles can be computed
+ * (optionally in parallel) 
+ * by {@link #getCenters(Geometry[], Geometry[], double, boolean)}.
+ * For very large inputs the refinement of the grid
+ * can be run in parallel by calling {@link #setParallel(boolean)}.
  * 
  * @author Martin Davis
  * 
@@ -92,6 +99,31 @@ public class LargestEmptyCircle {
     return lec.getCenter();
   }
   
+  /**
+   * Computes the center points of the Largest Empty Circles
+   * for an array of obstacle geometries and optional polygonal boundaries,
+   * with accuracy to a given tolerance distance,
+   * optionally computing them in parallel.
+   * 
+   * @param obstacles an array of geometries representing the obstacles
+   * @param boundaries an array of polygonal geometries to contain the LEC centers
+   *   (the array or its elements may be null)
+   * @param tolerance the distance tolerance for computing the center points
+   * @param isParallel true if the centers should be computed in parallel
+   * @return an array of the center points of the Largest Empty Circles
+   */
+  public static Point[] getCenters(Geometry[] obstacles, Geometry[] boundaries, double tolerance, boolean isParallel) {
+    if (boundaries != null && boundaries.length != obstacles.length) {
+      throw new IllegalArgumentException("Boundaries array must be the same length as obstacles");
+    }
+    Point[] centers = new Point[obstacles.length];
+    IntStream indexes = IntStream.range(0, obstacles.length);
+    if (isParallel) indexes = indexes.parallel();
+    indexes.forEach(i -> centers[i] = getCenter(obstacles[i], 
+        boundaries == null ? null : boundaries[i], tolerance));
+    return centers;
+  }
+  
   /**
    * Computes a radius line of the Largest Empty Circle
    * interior-disjoint to a set of obstacles, 
@@ -141,6 +173,7 @@ public class LargestEmptyCircle {
   private Coordinate radiusPt;
   private Point radiusPoint = null;
   private Geometry bounds;
+  private boolean isParallel = false;
 
   /**
    * Creates a new instance of a Largest Empty Circle construction,
@@ -171,6 +204,20 @@ public class LargestEmptyCircle {
     obstacleDistance = new IndexedDistanceToPoint( obstacles );
   }
 
+  /**
+   * Sets whether the grid refinement is computed in parallel.
+   * This is faster for very large inputs, 
+   * where most of the time is spent computing distances.
+   * Cells are refined in batches, 
+   * so the result may differ slightly from the sequential computation
+   * (but is still accurate to within the tolerance).
+   * 
+   * @param isParallel true if the refinement should be computed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+  
   /**
    * Gets the center point of the Largest Empty Circle
    * (up to the tolerance distance).
@@ -280,6 +327,9 @@ public class LargestEmptyCircle {
      * of the cell space
      */
     long maxIter = MaximumInscribedCircle.computeMaximumIterations(bounds, tolerance);
+    if (isParallel) {
+      refineParallel(cellQueue, maxIter);
+    }
     long iter = 0;
     while (! cellQueue.isEmpty() && iter < maxIter) {
       iter++;
@@ -320,6 +370,31 @@ public class LargestEmptyCircle {
     radiusPoint = factory.createPoint(radiusPt);
   }
 
+  /**
+   * Carries out the branch-and-bound search
+   * by refining batches of cells in parallel.
+   * The cell queue is emptied.
+   * 
+   * @param cellQueue the queue of cells to refine
+   * @param maxIter the maximum number of cells to process
+   */
+  private void refineParallel(PriorityQueue<Cell> cellQueue, long maxIter) {
+    ParallelCellRefiner.refine(cellQueue, maxIter, new ParallelCellRefiner.CellSearch<Cell>() {
+      public boolean isDone(Cell cell) {
+        return false;
+      }
+      public boolean visit(Cell cell) {
+        if (cell.getDistance() > farthestCell.getDistance()) {
+          farthestCell = cell;
+        }
+        return mayContainCircleCenter(cell);
+      }
+      public Cell createCell(double x, double y, double hSide) {
+        return LargestEmptyCircle.this.createCell(x, y, hSide);
+      }
+    });
+  }
+
   /**
    * Tests whether a cell may contain the circle center,
    * and thus should be refined (split into subcells 
@@ -394,7 +469,7 @@ public class LargestEmptyCircle {
    * This is used as the ordering and upper-bound function in
    * the branch-and-bound algorithm. 
    */
-  private static class Cell implements Comparable<Cell> {
+  private static class Cell implements Comparable<Cell>, ParallelCellRefiner.GridCell {
 
     private static final double SQRT2 = 1.4142135623730951;
 
@@ -11,15 +11,21 @@
  */
 package org.locationtech.jts.algorithm.construct;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.PriorityQueue;
+import java.util.stream.IntStream;
 
 import org.locationtech.jts.algorithm.Centroid;
+import org.locationtech.jts.algorithm.Distance;
 import org.locationtech.jts.algorithm.InteriorPoint;
+import org.locationtech.jts.algorithm.RayCrossingCounter;
 import org.locationtech.jts.algorithm.locate.IndexedPointInAreaLocator;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineSegment;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Location;
 import org.locationtech.jts.geom.MultiPolygon;
@@ -50,6 +56,14 @@ import org.locationtech.jts.operation.distance.IndexedFacetDistance;
  * The grid is refined using a branch-and-bound algorithm. 
  * Point containment and distance are computed in a performant
  * way by using spatial indexes.
+ * For small polygons they are computed directly from the polygon rings,
+ * since this is faster than building and querying the indexes.
+ * <p>
+ * The centers of many polygons can be computed efficiently 
+ * (optionally in parallel)
+ * by {@link #getCenters(Geometry[], double, boolean)}.
+ * For very large polygons the refinement of the grid
+ * can be run in parallel by calling {@link #setParallel(boolean)}.
  * 
  * <h3>Future Enhancements</h3>
  * <ul>
@@ -77,6 +91,25 @@ public class MaximumInscribedCircle {
     return mic.getCenter();
   }
 
+  /**
+   * Computes the center points of the Maximum Inscribed Circles
+   * of an array of polygonal geometries, up to a given tolerance distance,
+   * optionally computing them in parallel.
+   * This is suitable for computing label positions for many polygons.
+   * 
+   * @param polygonals an array of polygonal geometries
+   * @param tolerance the distance tolerance for computing the center points
+   * @param isParallel true if the centers should be computed in parallel
+   * @return an array of the center points of the maximum inscribed circles
+   */
+  public static Point[] getCenters(Geometry[] polygonals, double tolerance, boolean isParallel) {
+    Point[] centers = new Point[polygonals.length];
+    IntStream indexes = IntStream.range(0, polygonals.length);
+    if (isParallel) indexes = indexes.parallel();
+    indexes.forEach(i -> centers[i] = getCenter(polygonals[i], tolerance));
+    return centers;
+  }
+
   /**
    * Computes a radius line of the Maximum Inscribed Circle
    * of a polygonal geometry, up to a given tolerance distance.
@@ -111,12 +144,21 @@ public class MaximumInscribedCircle {
     return 2000 + 2000 * factor;
   }
   
+  /**
+   * The maximum number of vertices for which 
+   * distance and point location are computed directly from the rings
+   */
+  private static final int MAX_DIRECT_VERTICES = 100;
+  
   private Geometry inputGeom;
   private double tolerance;
 
   private GeometryFactory factory;
   private IndexedPointInAreaLocator ptLocater;
   private IndexedFacetDistance indexedDistance;
+  private Coordinate[][] rings;
+  private boolean isParallel = false;
+  private Cell farthestCell;
   private Cell centerCell = null;
   private Coordinate centerPt = null;
   private Coordinate radiusPt;
@@ -144,8 +186,40 @@ public class MaximumInscribedCircle {
     this.inputGeom = polygonal;
     this.factory = polygonal.getFactory();
     this.tolerance = tolerance;
-    ptLocater = new IndexedPointInAreaLocator(polygonal);
-    indexedDistance = new IndexedFacetDistance( polygonal.getBoundary() );
+    if (polygonal.getNumPoints() <= MAX_DIRECT_VERTICES) {
+      rings = extractRings(polygonal);
+    }
+    else {
+      ptLocater = new IndexedPointInAreaLocator(polygonal);
+      indexedDistance = new IndexedFacetDistance( polygonal.getBoundary() );
+    }
+  }
+
+  private static Coordinate[][] extractRings(Geometry polygonal) {
+    List<Coordinate[]> ringList = new ArrayList<Coordinate[]>();
+    for (int i = 0; i < polygonal.getNumGeometries(); i++) {
+      Polygon poly = (Polygon) polygonal.getGeometryN(i);
+      if (poly.isEmpty()) continue;
+      ringList.add(poly.getExteriorRing().getCoordinates());
+      for (int j = 0; j < poly.getNumInteriorRing(); j++) {
+        ringList.add(poly.getInteriorRingN(j).getCoordinates());
+      }
+    }
+    return ringList.toArray(new Coordinate[0][]);
+  }
+  
+  /**
+   * Sets whether the grid refinement is computed in parallel.
+   * This is faster for very large polygons, 
+   * where most of the time is spent computing distances.
+   * Cells are refined in batches, 
+   * so the result may differ slightly from the sequential computation
+   * (but is still accurate to within the tolerance).
+   * 
+   * @param isParallel true if the refinement should be computed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
   }
 
   /**
@@ -196,6 +270,8 @@ public class MaximumInscribedCircle {
    * @return the signed distance to the area boundary (negative indicates outside the area)
    */
   private double distanceToBoundary(Point p) {
+    if (rings != null) 
+      return distanceToRings(p.getCoordinate());
     double dist = indexedDistance.distance(p);
     boolean isOutide = Location.EXTERIOR == ptLocater.locate(p.getCoordinate());
     if (isOutide) return -dist;
@@ -204,10 +280,51 @@ public class MaximumInscribedCircle {
 
   private double distanceToBoundary(double x, double y) {
     Coordinate coord = new Coordinate(x, y);
+    if (rings != null) 
+      return distanceToRings(coord);
     Point pt = factory.createPoint(coord);
     return distanceToBoundary(pt);
   }
   
+  /**
+   * Computes the signed distance from a point to the polygon rings.
+   * This gives the same result as using the indexes, 
+   * since the same distance and ray-crossing computations are used.
+   * 
+   * @param p the point to compute the distance for
+   * @return the signed distance to the area boundary (negative indicates outside the area)
+   */
+  private double distanceToRings(Coordinate p) {
+    double minDist = Double.MAX_VALUE;
+    RayCrossingCounter rcc = new RayCrossingCounter(p);
+    for (Coordinate[] ring : rings) {
+      for (int i = 1; i < ring.length; i++) {
+        double dist = Distance.pointToSegment(p, ring[i - 1], ring[i]);
+        if (dist < minDist) {
+          minDist = dist;
+        }
+        rcc.countSegment(ring[i - 1], ring[i]);
+      }
+    }
+    if (rcc.getLocation() == Location.EXTERIOR) return -minDist;
+    return minDist;
+  }
+  
+  private Coordinate nearestRingPoint(Coordinate p) {
+    double minDist = Double.MAX_VALUE;
+    Coordinate nearestPt = null;
+    for (Coordinate[] ring : rings) {
+      for (int i = 1; i < ring.length; i++) {
+        double dist = Distance.pointToSegment(p, ring[i - 1], ring[i]);
+        if (dist < minDist) {
+          minDist = dist;
+          nearestPt = new LineSegment(ring[i - 1], ring[i]).closestPoint(p);
+        }
+      }
+    }
+    return nearestPt;
+  }
+  
   private void compute() {
     // check if already computed
     if (centerCell != null) return;
@@ -218,7 +335,7 @@ public class MaximumInscribedCircle {
     createInitialGrid(inputGeom.getEnvelopeInternal(), cellQueue);
 
     // initial candidate center point
-    Cell farthestCell = createInterorPointCell(inputGeom);
+    farthestCell = createInterorPointCell(inputGeom);
     //int totalCells = cellQueue.size();
 
     /**
@@ -226,6 +343,9 @@ public class MaximumInscribedCircle {
      * of the cell space
      */
     long maxIter = computeMaximumIterations(inputGeom, tolerance);
+    if (isParallel) {
+      refineParallel(cellQueue, maxIter);
+    }
     long iter = 0;
     while (! cellQueue.isEmpty() && iter < maxIter) {
       iter++;
@@ -267,10 +387,42 @@ public class MaximumInscribedCircle {
     centerPt = new Coordinate(centerCell.getX(), centerCell.getY());
     centerPoint = factory.createPoint(centerPt);
     // compute radius point
-    Coordinate[] nearestPts = indexedDistance.nearestPoints(centerPoint);
-    radiusPt = nearestPts[0].copy();
+    if (rings != null) {
+      radiusPt = nearestRingPoint(centerPt);
+    }
+    else {
+      Coordinate[] nearestPts = indexedDistance.nearestPoints(centerPoint);
+      radiusPt = nearestPts[0].copy();
+    }
     radiusPoint = factory.createPoint(radiusPt);
   }
+  
+  /**
+   * Carries out the branch-and-bound search
+   * by refining batches of cells in parallel.
+   * The cell queue is emptied.
+   * 
+   * @param cellQueue the queue of cells to refine
+   * @param maxIter the maximum number of cells to process
+   */
+  private void refineParallel(PriorityQueue<Cell> cellQueue, long maxIter) {
+    ParallelCellRefiner.refine(cellQueue, maxIter, new ParallelCellRefiner.CellSearch<Cell>() {
+      public boolean isDone(Cell cell) {
+        //-- if cell must be closer than furthest, all remaining cells in queue are even closer
+        return cell.getMaxDistance() < farthestCell.getDistance();
+      }
+      public boolean visit(Cell cell) {
+        if (cell.getDistance() > farthestCell.getDistance()) {
+          farthestCell = cell;
+        }
+        double potentialIncrease = cell.getMaxDistance() - farthestCell.getDistance();
+        return potentialIncrease > tolerance;
+      }
+      public Cell createCell(double x, double y, double hSide) {
+        return MaximumInscribedCircle.this.createCell(x, y, hSide);
+      }
+    });
+  }
 
   /**
    * Initializes the queue with a cell covering 
@@ -311,7 +463,7 @@ public class MaximumInscribedCircle {
    * the branch-and-bound algorithm. 
    *
    */
-  private static class Cell implements Comparable<Cell> {
+  private static class Cell implements Comparable<Cell>, ParallelCellRefiner.GridCell {
 
     private static final double SQRT2 = 1.4142135623730951;
 
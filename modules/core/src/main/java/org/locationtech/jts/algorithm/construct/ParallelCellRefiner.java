@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.construct;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Carries out the branch-and-bound search over square grid cells
+ * used by {@link MaximumInscribedCircle} and {@link LargestEmptyCircle},
+ * by refining batches of cells in parallel.
+ * Cells are removed from the queue and tested sequentially,
+ * and the sub-cells of the cells to be refined are created in parallel,
+ * since computing the distance of a cell is the expensive part of the search.
+ *
+ * @author Martin Davis
+ *
+ */
+class ParallelCellRefiner {
+
+  /**
+   * The number of cells refined in each step
+   */
+  private static final int BATCH_SIZE = 64;
+
+  /**
+   * A square grid cell.
+   */
+  interface GridCell {
+    double getX();
+    double getY();
+    double getHSide();
+  }
+
+  /**
+   * The operations on cells provided by a search.
+   *
+   * @param <C> the type of cell
+   */
+  interface CellSearch<C extends GridCell> {
+
+    /**
+     * Tests whether the search is finished when a cell is at the front of the queue,
+     * since no remaining cell can improve the result.
+     *
+     * @param cell the cell at the front of the queue
+     * @return true if the search is finished
+     */
+    boolean isDone(C cell);
+
+    /**
+     * Processes a cell removed from the queue,
+     * and determines whether it should be refined.
+     *
+     * @param cell the cell to process
+     * @return true if the cell should be refined
+     */
+    boolean visit(C cell);
+
+    /**
+     * Creates a cell.
+     * This is called concurrently from multiple threads.
+     *
+     * @param x the X ordinate of the cell centre
+     * @param y the Y ordinate of the cell centre
+     * @param hSide half the side length of the cell
+     * @return a new cell
+     */
+    C createCell(double x, double y, double hSide);
+  }
+
+  /**
+   * Refines the cells in a queue until the search is finished
+   * or the maximum number of cells have been processed.
+   * The cell queue is emptied.
+   *
+   * @param cellQueue the queue of cells to refine
+   * @param maxIter the maximum number of cells to process
+   * @param search the search operations
+   */
+  @SuppressWarnings("unchecked")
+  static <C extends GridCell> void refine(PriorityQueue<C> cellQueue, long maxIter, CellSearch<C> search) {
+    List<C> refineCells = new ArrayList<C>();
+    long iter = 0;
+    while (! cellQueue.isEmpty() && iter < maxIter) {
+      refineCells.clear();
+      while (refineCells.size() < BATCH_SIZE
+          && ! cellQueue.isEmpty() && iter < maxIter) {
+        if (search.isDone(cellQueue.peek()))
+          break;
+        iter++;
+        C cell = cellQueue.remove();
+        if (search.visit(cell)) {
+          refineCells.add(cell);
+        }
+      }
+      if (refineCells.isEmpty())
+        break;
+
+      //-- compute the quadrant sub-cells of the batch in parallel
+      Object[] subCells = new Object[4 * refineCells.size()];
+      IntStream.range(0, subCells.length).parallel().forEach(i -> {
+        C cell = refineCells.get(i / 4);
+        double h2 = cell.getHSide() / 2;
+        double x = (i & 1) == 0 ? cell.getX() - h2 : cell.getX() + h2;
+        double y = (i & 2) == 0 ? cell.getY() - h2 : cell.getY() + h2;
+        subCells[i] = search.createCell(x, y, h2);
+      });
+      for (Object subCell : subCells) {
+        cellQueue.add((C) subCell);
+      }
+    }
+    cellQueue.clear();
+  }
+}
@@ -13,6 +13,7 @@ package org.locationtech.jts.algorithm.distance;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.stream.IntStream;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
@@ -64,6 +65,107 @@ public class DiscreteFrechetDistance {
     return dist.distance();
   }
 
+  /**
+   * Computes the Discrete Fréchet Distance between two {@link Geometry}s
+   * using a {@code Cartesian} distance computation function,
+   * optionally computing the distance matrix in parallel.
+   * <p>
+   * The parallel computation evaluates the full distance matrix
+   * one anti-diagonal at a time.
+   * The cells of an anti-diagonal depend only on the previous two anti-diagonals,
+   * so they can be computed concurrently,
+   * and only those anti-diagonals need to be stored.
+   * This uses memory linear in the number of vertices,
+   * but computes all <code>n &middot; m</code> vertex distances,
+   * which the sequential algorithm may avoid.
+   * So it is only used if the geometries are large enough
+   * for the anti-diagonals to be computed in parallel;
+   * otherwise the sequential algorithm is used.
+   *
+   * @param g0 the 1st geometry
+   * @param g1 the 2nd geometry
+   * @param isParallel true if the distance matrix should be computed in parallel
+   * @return the cartesian distance between {#g0} and {#g1}
+   */
+  public static double distance(Geometry g0, Geometry g1, boolean isParallel) {
+    if (! isParallel)
+      return distance(g0, g1);
+    Coordinate[] coords0 = g0.getCoordinates();
+    Coordinate[] coords1 = g1.getCoordinates();
+    //-- the longest anti-diagonal has the size of the smaller geometry
+    if (Math.min(coords0.length, coords1.length) < PARALLEL_DIAGONAL_SIZE)
+      return distance(g0, g1);
+    return distanceByDiagonals(coords0, coords1);
+  }
+
+  /**
+   * The minimum number of cells in an anti-diagonal
+   * for it to be computed in parallel
+   */
+  private static final int PARALLEL_DIAGONAL_SIZE = 4096;
+
+  /**
+   * Computes the Discrete Fréchet Distance by evaluating the coupling matrix
+   * along anti-diagonals (cells with <code>i + j = k</code>).
+   *
+   * @param coords0 an array of {@code Coordinate}s.
+   * @param coords1 an array of {@code Coordinate}s.
+   * @return the Discrete Fréchet Distance
+   */
+  private static double distanceByDiagonals(Coordinate[] coords0, Coordinate[] coords1) {
+    int n0 = coords0.length;
+    int n1 = coords1.length;
+    if (n0 == 0 || n1 == 0) return 0.0;
+
+    // diagonals are indexed by the row index i
+    double[] diag2 = new double[n0];
+    double[] diag1 = new double[n0];
+    double[] diag = new double[n0];
+    for (int k = 0; k <= n0 + n1 - 2; k++) {
+      int iMin = Math.max(0, k - n1 + 1);
+      int iMax = Math.min(k, n0 - 1);
+      final int kk = k;
+      final double[] cur = diag;
+      final double[] prev1 = diag1;
+      final double[] prev2 = diag2;
+      if (iMax - iMin + 1 >= PARALLEL_DIAGONAL_SIZE) {
+        IntStream.rangeClosed(iMin, iMax).parallel().forEach(
+            i -> computeCoupling(coords0, coords1, i, kk - i, cur, prev1, prev2));
+      }
+      else {
+        for (int i = iMin; i <= iMax; i++) {
+          computeCoupling(coords0, coords1, i, k - i, cur, prev1, prev2);
+        }
+      }
+      diag = prev2;
+      diag1 = cur;
+      diag2 = prev1;
+    }
+    return diag1[n0 - 1];
+  }
+
+  /**
+   * Computes the coupling distance for the cell (i, j) of the matrix.
+   */
+  private static void computeCoupling(Coordinate[] coords0, Coordinate[] coords1, int i, int j,
+      double[] diag, double[] diag1, double[] diag2) {
+    double dist = coords0[i].distance(coords1[j]);
+    double minPrev;
+    if (i > 0 && j > 0) {
+      minPrev = Math.min(Math.min(diag1[i - 1], diag1[i]), diag2[i - 1]);
+    }
+    else if (i > 0) {
+      minPrev = diag1[i - 1];
+    }
+    else if (j > 0) {
+      minPrev = diag1[i];
+    }
+    else {
+      minPrev = dist;
+    }
+    diag[i] = Math.max(dist, minPrev);
+  }
+
   private final Geometry g0;
   private final Geometry g1;
   private PointPairDistance ptDist;
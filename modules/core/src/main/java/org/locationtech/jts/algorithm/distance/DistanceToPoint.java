@@ -11,7 +11,9 @@
  */
 package org.locationtech.jts.algorithm.distance;
 
+import org.locationtech.jts.algorithm.Distance;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.LineSegment;
@@ -50,14 +52,26 @@ public class DistanceToPoint
   
   public static void computeDistance(LineString line, Coordinate pt, PointPairDistance ptDist)
   {
-    LineSegment tempSegment = new LineSegment();
-    Coordinate[] coords = line.getCoordinates();
-    for (int i = 0; i < coords.length - 1; i++) {
-      tempSegment.setCoordinates(coords[i], coords[i + 1]);
-      // this is somewhat inefficient - could do better
-      Coordinate closestPt = tempSegment.closestPoint(pt);
-      ptDist.setMinimum(closestPt, pt);
+    /**
+     * Find the nearest segment using squared distances
+     * computed directly from the sequence ordinates,
+     * and only compute the closest point for that segment.
+     */
+    CoordinateSequence seq = line.getCoordinateSequence();
+    int minIndex = -1;
+    double minDistSq = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < seq.size() - 1; i++) {
+      double distSq = Distance.pointToSegmentSq(pt.x, pt.y, 
+          seq.getX(i), seq.getY(i), seq.getX(i + 1), seq.getY(i + 1));
+      if (distSq < minDistSq) {
+        minDistSq = distSq;
+        minIndex = i;
+      }
     }
+    if (minIndex < 0) return;
+    LineSegment seg = new LineSegment(seq.getCoordinate(minIndex), seq.getCoordinate(minIndex + 1));
+    Coordinate closestPt = seg.closestPoint(pt);
+    ptDist.setMinimum(closestPt, pt);
   }
 
   public static void computeDistance(LineSegment segment, Coordinate pt, PointPairDistance ptDist)
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm.distance;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.impl.CoordinateArraySequence;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.operation.distance.FacetSequence;
+import org.locationtech.jts.operation.distance.FacetSequenceTreeBuilder;
+import org.locationtech.jts.operation.distance.GeometryLocation;
+
+/**
+ * Computes the same discrete Hausdorff distance as {@link DiscreteHausdorffDistance},
+ * using R-tree indexes of the facets of the input geometries.
+ * This is much faster for large inputs.
+ * <p>
+ * The computation uses an early-break strategy.
+ * The distance from each discrete point to the other geometry
+ * only needs to be computed exactly if the point is further
+ * from the other geometry than the maximum distance found so far.
+ * Otherwise the search for the point terminates as soon as
+ * a nearby facet is found.
+ * <p>
+ * The {@link #isWithinDistance(double)} test terminates
+ * as soon as a discrete point is found which is further than the
+ * given distance from the other geometry.
+ * This provides a fast way to check that geometries are
+ * similar to within a tolerance.
+ * <p>
+ * If either geometry is empty the distance is 0.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author Martin Davis
+ *
+ * @see DiscreteHausdorffDistance
+ */
+public class IndexedHausdorffDistance
+{
+  /**
+   * Computes the discrete Hausdorff distance between two geometries.
+   *
+   * @param g0 a geometry
+   * @param g1 a geometry
+   * @return the discrete Hausdorff distance
+   */
+  public static double distance(Geometry g0, Geometry g1)
+  {
+    IndexedHausdorffDistance dist = new IndexedHausdorffDistance(g0, g1);
+    return dist.distance();
+  }
+
+  /**
+   * Computes the discrete Hausdorff distance between two geometries,
+   * with segments densified by a given fraction.
+   *
+   * @param g0 a geometry
+   * @param g1 a geometry
+   * @param densifyFrac the densification fraction
+   * @return the discrete Hausdorff distance
+   */
+  public static double distance(Geometry g0, Geometry g1, double densifyFrac)
+  {
+    IndexedHausdorffDistance dist = new IndexedHausdorffDistance(g0, g1);
+    dist.setDensifyFraction(densifyFrac);
+    return dist.distance();
+  }
+
+  /**
+   * Tests whether the discrete Hausdorff distance between two geometries
+   * is less than or equal to a given distance.
+   *
+   * @param g0 a geometry
+   * @param g1 a geometry
+   * @param maxDistance the distance limit
+   * @return true if the discrete Hausdorff distance is less than or equal to the limit
+   */
+  public static boolean isWithinDistance(Geometry g0, Geometry g1, double maxDistance)
+  {
+    IndexedHausdorffDistance dist = new IndexedHausdorffDistance(g0, g1);
+    return dist.isWithinDistance(maxDistance);
+  }
+
+  private static final FacetSequenceDistance FACET_SEQ_DIST = new FacetSequenceDistance();
+
+  private Geometry g0;
+  private Geometry g1;
+  private STRtree facetTree0 = null;
+  private STRtree facetTree1 = null;
+  private PointPairDistance ptDist = new PointPairDistance();
+
+  /**
+   * Value of 0.0 indicates that no densification should take place
+   */
+  private double densifyFrac = 0.0;
+
+  /**
+   * Creates a new instance for two geometries.
+   *
+   * @param g0 a geometry
+   * @param g1 a geometry
+   */
+  public IndexedHausdorffDistance(Geometry g0, Geometry g1)
+  {
+    this.g0 = g0;
+    this.g1 = g1;
+  }
+
+  /**
+   * Sets the fraction by which to densify each segment.
+   * Each segment will be (virtually) split into a number of equal-length
+   * subsegments, whose fraction of the total length is closest
+   * to the given fraction.
+   *
+   * @param densifyFrac the densification fraction
+   */
+  public void setDensifyFraction(double densifyFrac)
+  {
+    if (densifyFrac > 1.0
+        || densifyFrac <= 0.0)
+      throw new IllegalArgumentException("Fraction is not in range (0.0 - 1.0]");
+
+    this.densifyFrac = densifyFrac;
+  }
+
+  /**
+   * Computes the discrete Hausdorff distance between the geometries.
+   *
+   * @return the discrete Hausdorff distance
+   */
+  public double distance()
+  {
+    ptDist = new PointPairDistance();
+    if (g0.isEmpty() || g1.isEmpty()) return 0.0;
+    computeOrientedDistance(g0, getFacetTree(1), Double.POSITIVE_INFINITY);
+    computeOrientedDistance(g1, getFacetTree(0), Double.POSITIVE_INFINITY);
+    return ptDist.getDistance();
+  }
+
+  /**
+   * Computes the oriented discrete Hausdorff distance
+   * from the first geometry to the second.
+   *
+   * @return the oriented discrete Hausdorff distance
+   */
+  public double orientedDistance()
+  {
+    ptDist = new PointPairDistance();
+    if (g0.isEmpty() || g1.isEmpty()) return 0.0;
+    computeOrientedDistance(g0, getFacetTree(1), Double.POSITIVE_INFINITY);
+    return ptDist.getDistance();
+  }
+
+  /**
+   * Tests whether the discrete Hausdorff distance between the geometries
+   * is less than or equal to a given distance.
+   * The test terminates as soon as a point is found which
+   * is further than the distance from the other geometry.
+   *
+   * @param maxDistance the distance limit
+   * @return true if the discrete Hausdorff distance is less than or equal to the limit
+   */
+  public boolean isWithinDistance(double maxDistance)
+  {
+    ptDist = new PointPairDistance();
+    if (g0.isEmpty() || g1.isEmpty()) return true;
+    /**
+     * The extremal points of an envelope are vertices of the geometry.
+     * If one envelope is not covered by the other envelope
+     * expanded by the distance, some vertex lies further than
+     * the distance from the other geometry.
+     */
+    if (! isCoveredExpanded(g0.getEnvelopeInternal(), g1.getEnvelopeInternal(), maxDistance)
+        || ! isCoveredExpanded(g1.getEnvelopeInternal(), g0.getEnvelopeInternal(), maxDistance))
+      return false;
+
+    if (! computeOrientedDistance(g0, getFacetTree(1), maxDistance))
+      return false;
+    return computeOrientedDistance(g1, getFacetTree(0), maxDistance);
+  }
+
+  /**
+   * Gets the pair of points at which the distance is attained,
+   * if it has been computed.
+   *
+   * @return the pair of points
+   */
+  public Coordinate[] getCoordinates() { return ptDist.getCoordinates(); }
+
+  private static boolean isCoveredExpanded(Envelope env, Envelope envCover, double distance) {
+    Envelope envExpand = envCover.copy();
+    envExpand.expandBy(distance);
+    return envExpand.covers(env);
+  }
+
+  private STRtree getFacetTree(int index) {
+    if (index == 0) {
+      if (facetTree0 == null) facetTree0 = FacetSequenceTreeBuilder.build(g0);
+      return facetTree0;
+    }
+    if (facetTree1 == null) facetTree1 = FacetSequenceTreeBuilder.build(g1);
+    return facetTree1;
+  }
+
+  /**
+   * Computes the oriented distance from the discrete points of a geometry
+   * to the facets in a tree, updating the maximum point pair distance.
+   * If a distance limit is given, the computation terminates
+   * when a point is found which is further than the limit.
+   *
+   * @return false if a point is further than the distance limit
+   */
+  private boolean computeOrientedDistance(Geometry discreteGeom, STRtree facetTree, double maxDistance)
+  {
+    OrientedDistanceFilter filter = new OrientedDistanceFilter(facetTree, maxDistance);
+    discreteGeom.apply(filter);
+    return ! filter.isDone();
+  }
+
+  private class OrientedDistanceFilter
+  implements CoordinateSequenceFilter
+  {
+    private STRtree facetTree;
+    private double maxDistance;
+    private int numSubSegs = 0;
+    private boolean isBeyondLimit = false;
+
+    private Coordinate queryPt = new Coordinate();
+    private FacetSequence queryFacet;
+
+    OrientedDistanceFilter(STRtree facetTree, double maxDistance) {
+      this.facetTree = facetTree;
+      this.maxDistance = maxDistance;
+      if (densifyFrac > 0) {
+        numSubSegs = (int) Math.rint(1.0 / densifyFrac);
+      }
+      queryFacet = new FacetSequence(new CoordinateArraySequence(new Coordinate[] { queryPt }), 0);
+    }
+
+    public void filter(CoordinateSequence seq, int index)
+    {
+      addPoint(seq.getX(index), seq.getY(index));
+      /**
+       * Densified points are generated for the segment ending at this vertex
+       * (which also handles skipping Point geometries)
+       */
+      if (numSubSegs <= 0 || index == 0)
+        return;
+
+      double x0 = seq.getX(index - 1);
+      double y0 = seq.getY(index - 1);
+      double delx = (seq.getX(index) - x0) / numSubSegs;
+      double dely = (seq.getY(index) - y0) / numSubSegs;
+      //-- the segment start vertex has already been checked
+      for (int i = 1; i < numSubSegs && ! isBeyondLimit; i++) {
+        addPoint(x0 + i * delx, y0 + i * dely);
+      }
+    }
+
+    private void addPoint(double x, double y) {
+      queryPt.x = x;
+      queryPt.y = y;
+      /**
+       * A point within the distance limit, 
+       * or closer than the current maximum distance, 
+       * cannot change the result.
+       * So it is enough to find any facet within that distance
+       */
+      double checkDist = maxDistance;
+      if (Double.isInfinite(checkDist)) {
+        checkDist = ptDist.getDistance();
+        if (Double.isNaN(checkDist)) checkDist = -1;
+      }
+      if (checkDist >= 0 && isWithinDistance(checkDist))
+        return;
+
+      FacetSequence nearest = (FacetSequence) facetTree.nearestNeighbour(
+          new Envelope(queryPt), queryFacet, FACET_SEQ_DIST);
+      GeometryLocation[] locs = queryFacet.nearestLocations(nearest);
+      ptDist.setMaximum(locs[1].getCoordinate(), locs[0].getCoordinate());
+
+      if (ptDist.getDistance() > maxDistance)
+        isBeyondLimit = true;
+    }
+
+    private boolean isWithinDistance(double distance) {
+      Envelope queryEnv = new Envelope(queryPt);
+      queryEnv.expandBy(distance);
+      List facets = facetTree.query(queryEnv);
+      for (Iterator it = facets.iterator(); it.hasNext(); ) {
+        FacetSequence facet = (FacetSequence) it.next();
+        if (queryFacet.distance(facet) <= distance)
+          return true;
+      }
+      return false;
+    }
+
+    public boolean isGeometryChanged() { return false; }
+
+    public boolean isDone() { return isBeyondLimit; }
+  }
+
+  private static class FacetSequenceDistance
+  implements ItemDistance
+  {
+    public double distance(ItemBoundable item1, ItemBoundable item2) {
+      FacetSequence fs1 = (FacetSequence) item1.getItem();
+      FacetSequence fs2 = (FacetSequence) item2.getItem();
+      return fs1.distance(fs2);
+    }
+  }
+}
@@ -12,9 +12,14 @@
 package org.locationtech.jts.algorithm.hull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.stream.IntStream;
 
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
@@ -59,6 +64,11 @@ import org.locationtech.jts.geom.Polygon;
  * This constraint may cause the concave hull to fail to meet the target criterion.
  * <p>
  * Optionally the concave hull can be allowed to contain holes by calling {@link #setHolesAllowed(boolean)}.
+ * <p>
+ * For very large point sets a scalable mode can be used 
+ * by calling {@link #setScalable(boolean)}.
+ * The hulls of many point sets can be computed in parallel 
+ * using {@link #concaveHullByLength(Geometry[], double, boolean, boolean)}.
  * 
  * @author Martin Davis
  *
@@ -112,6 +122,34 @@ public class ConcaveHull
     return hull.getHull();
   }
   
+  /**
+   * Computes concave hulls of the vertices of an array of geometries
+   * using the target criterion of maximum edge length,
+   * optionally computing them in parallel.
+   * This is intended for computing the hulls of many clusters of points.
+   * The hulls are computed using the scalable mode
+   * (see {@link #setScalable(boolean)}).
+   * 
+   * @param geoms the input geometries
+   * @param maxLength the target maximum edge length
+   * @param isHolesAllowed whether holes are allowed in the result
+   * @param isParallel true if the hulls should be computed in parallel
+   * @return an array containing the concave hull of each input geometry
+   */
+  public static Geometry[] concaveHullByLength(Geometry[] geoms, double maxLength, boolean isHolesAllowed, boolean isParallel) {
+    Geometry[] result = new Geometry[geoms.length];
+    IntStream indexes = IntStream.range(0, geoms.length);
+    if (isParallel) indexes = indexes.parallel();
+    indexes.forEach(i -> {
+      ConcaveHull hull = new ConcaveHull(geoms[i]);
+      hull.setMaximumEdgeLength(maxLength);
+      hull.setHolesAllowed(isHolesAllowed);
+      hull.setScalable(true);
+      result[i] = hull.getHull();
+    });
+    return result;
+  }
+  
   /**
    * Computes a concave hull of the vertices in a geometry
    * using the target criterion of maximum edge length ratio.
@@ -170,6 +208,7 @@ public class ConcaveHull
   private double maxEdgeLengthRatio = -1;
   private double alpha = -1;
   private boolean isHolesAllowed = false;
+  private boolean isScalable = false;
   
   private int criteriaType = PARAM_EDGE_LENGTH;
   private double maxSizeInHull = 0.0;
@@ -254,6 +293,31 @@ public class ConcaveHull
     this.isHolesAllowed = isHolesAllowed;
   }
   
+  /**
+   * Sets whether the hull is computed in a scalable way,
+   * suitable for very large point sets.
+   * In this mode the Delaunay triangulation is computed 
+   * using a compact triangulation algorithm.
+   * Also, if the target criterion is a Maximum Edge Length or Alpha value
+   * (rather than a ratio)
+   * the input points are thinned first.
+   * Points are bucketed into a grid 
+   * with cell size one-quarter of the target value.
+   * In cells whose neighbours all contain points 
+   * only a single point is kept.
+   * This removes most of the points in the interior of the hull,
+   * while keeping all points near its boundary.
+   * <p>
+   * The result is very close to the exact hull,
+   * but may differ from it slightly
+   * (in particular for degenerate inputs such as points on a regular grid).
+   * 
+   * @param isScalable true if the scalable mode should be used
+   */
+  public void setScalable(boolean isScalable) {
+    this.isScalable = isScalable;
+  }
+  
   /**
    * Gets the computed concave hull.
    * 
@@ -263,7 +327,7 @@ public class ConcaveHull
     if (inputGeometry.isEmpty()) {
       return geomFactory.createPolygon();
     }
-    List<HullTri> triList = HullTriangulation.createDelaunayTriangulation(inputGeometry);
+    List<HullTri> triList = createTriangulation();
     setSize(triList);
     
     if (maxEdgeLengthRatio >= 0) {
@@ -278,6 +342,90 @@ public class ConcaveHull
     return hull;
   }
 
+  private List<HullTri> createTriangulation() {
+    if (! isScalable) {
+      return HullTriangulation.createDelaunayTriangulation(inputGeometry);
+    }
+    Coordinate[] pts = inputGeometry.getCoordinates();
+    if (maxEdgeLengthRatio < 0 && maxSizeInHull > 0) {
+      pts = thin(pts, maxSizeInHull / 4);
+    }
+    return HullTriangulation.createCompactDelaunayTriangulation(pts);
+  }
+
+  /**
+   * Thins a set of points by keeping only a single point
+   * in each grid cell which is surrounded by non-empty cells.
+   * 
+   * @param pts the points to thin
+   * @param cellSize the grid cell size
+   * @return the thinned points
+   */
+  private static Coordinate[] thin(Coordinate[] pts, double cellSize) {
+    Envelope env = new Envelope();
+    for (Coordinate p : pts) {
+      env.expandToInclude(p);
+    }
+    //-- don't thin if the grid is too large to index
+    if (env.getWidth() / cellSize >= Integer.MAX_VALUE - 1 
+        || env.getHeight() / cellSize >= Integer.MAX_VALUE - 1)
+      return pts;
+    
+    long[] ptCell = new long[pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      //-- offset by one cell so that neighbour indexes are non-negative
+      int ix = 1 + (int) ((pts[i].x - env.getMinX()) / cellSize);
+      int iy = 1 + (int) ((pts[i].y - env.getMinY()) / cellSize);
+      ptCell[i] = cellKey(ix, iy);
+    }
+    long[] cells = uniqueSorted(ptCell);
+    boolean[] isInterior = new boolean[cells.length];
+    for (int i = 0; i < cells.length; i++) {
+      isInterior[i] = isInteriorCell(cells[i], cells);
+    }
+    
+    boolean[] isCellUsed = new boolean[cells.length];
+    CoordinateList thinPts = new CoordinateList();
+    for (int i = 0; i < pts.length; i++) {
+      int cell = Arrays.binarySearch(cells, ptCell[i]);
+      if (isInterior[cell]) {
+        if (isCellUsed[cell]) continue;
+        isCellUsed[cell] = true;
+      }
+      thinPts.add(pts[i]);
+    }
+    return thinPts.toCoordinateArray();
+  }
+
+  private static long cellKey(int ix, int iy) {
+    return ((long) ix << 32) | iy;
+  }
+  
+  private static boolean isInteriorCell(long cell, long[] cells) {
+    int ix = (int) (cell >>> 32);
+    int iy = (int) cell;
+    for (int dx = -1; dx <= 1; dx++) {
+      for (int dy = -1; dy <= 1; dy++) {
+        if (dx == 0 && dy == 0) continue;
+        if (Arrays.binarySearch(cells, cellKey(ix + dx, iy + dy)) < 0) 
+          return false;
+      }
+    }
+    return true;
+  }
+
+  private static long[] uniqueSorted(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    int n = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (n == 0 || sorted[i] != sorted[n - 1]) {
+        sorted[n++] = sorted[i];
+      }
+    }
+    return Arrays.copyOf(sorted, n);
+  }
+  
   private void setSize(List<HullTri> triList) {
     for (HullTri tri : triList) {
       if (criteriaType == PARAM_EDGE_LENGTH) {
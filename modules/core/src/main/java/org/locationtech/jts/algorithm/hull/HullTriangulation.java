@@ -22,10 +22,12 @@ import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.Triangle;
 import org.locationtech.jts.operation.overlayng.CoverageUnion;
 import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
+import org.locationtech.jts.triangulate.HalfEdgeDelaunayTriangulator;
 import org.locationtech.jts.triangulate.quadedge.QuadEdge;
 import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
 import org.locationtech.jts.triangulate.quadedge.TriangleVisitor;
 import org.locationtech.jts.triangulate.tri.Tri;
+import org.locationtech.jts.triangulate.tri.TriMesh;
 import org.locationtech.jts.triangulate.tri.TriangulationBuilder;
 import org.locationtech.jts.util.Assert;
 
@@ -47,6 +49,44 @@ class HullTriangulation
     return triList;
   }
   
+  /**
+   * Creates the Delaunay triangulation of a set of points
+   * using a compact triangulation algorithm.
+   * This avoids creating QuadEdge structures,
+   * so it uses much less memory for large point sets.
+   * 
+   * @param pts the points to triangulate
+   * @return the list of linked triangles
+   */
+  public static List<HullTri> createCompactDelaunayTriangulation(Coordinate[] pts) {
+    HalfEdgeDelaunayTriangulator dt = new HalfEdgeDelaunayTriangulator(pts);
+    int[] triVertex = dt.getTriangleVertices();
+    TriMesh mesh = new TriMesh();
+    mesh.addVertices(pts);
+    //-- the triangulation vertices are CCW, so reverse them
+    for (int i = 0; i < triVertex.length; i += 3) {
+      mesh.addTriangle(triVertex[i], triVertex[i + 2], triVertex[i + 1]);
+    }
+    mesh.buildAdjacency();
+    
+    int numTri = mesh.getNumTriangles();
+    List<HullTri> triList = new ArrayList<HullTri>(numTri);
+    for (int t = 0; t < numTri; t++) {
+      triList.add(new HullTri(mesh.getCoordinate(t, 0), mesh.getCoordinate(t, 1), mesh.getCoordinate(t, 2)));
+    }
+    for (int t = 0; t < numTri; t++) {
+      triList.get(t).setAdjacent(adjacent(mesh, t, 0, triList), 
+          adjacent(mesh, t, 1, triList), adjacent(mesh, t, 2, triList));
+    }
+    return triList;
+  }
+  
+  private static HullTri adjacent(TriMesh mesh, int tri, int index, List<HullTri> triList) {
+    int adj = mesh.getAdjacent(tri, index);
+    if (adj < 0) return null;
+    return triList.get(adj);
+  }
+  
   private static List<HullTri> toTris(QuadEdgeSubdivision subdiv) {
     HullTriVisitor visitor = new HullTriVisitor();
     subdiv.visitTriangles(visitor, false);
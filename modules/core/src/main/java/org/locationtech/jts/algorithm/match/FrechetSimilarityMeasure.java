@@ -38,12 +38,27 @@ import org.locationtech.jts.geom.MultiPoint;
  */
 public class FrechetSimilarityMeasure implements SimilarityMeasure {
 
+  private boolean isParallel = false;
+
   /**
    * Creates an instance of this class.
    */
   public FrechetSimilarityMeasure()
   { }
 
+  /**
+   * Creates an instance of this class
+   * which optionally computes the Fréchet distance in parallel.
+   *
+   * @param isParallel true if the distance should be computed in parallel
+   *
+   * @see DiscreteFrechetDistance#distance(Geometry, Geometry, boolean)
+   */
+  public FrechetSimilarityMeasure(boolean isParallel)
+  {
+    this.isParallel = isParallel;
+  }
+
   @Override
   public double measure(Geometry g1, Geometry g2) {
 
@@ -52,7 +67,7 @@ public class FrechetSimilarityMeasure implements SimilarityMeasure {
       throw new IllegalArgumentException("g1 and g2 are of different type");
 
     // Compute the distance
-    double frechetDistance = DiscreteFrechetDistance.distance(g1, g2);
+    double frechetDistance = DiscreteFrechetDistance.distance(g1, g2, isParallel);
     if (frechetDistance == 0d) return 1;
 
     // Compute envelope diagonal size
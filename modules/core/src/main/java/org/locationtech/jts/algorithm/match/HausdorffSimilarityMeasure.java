@@ -13,6 +13,7 @@
 package org.locationtech.jts.algorithm.match;
 
 import org.locationtech.jts.algorithm.distance.DiscreteHausdorffDistance;
+import org.locationtech.jts.algorithm.distance.IndexedHausdorffDistance;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 
@@ -41,10 +42,24 @@ public class HausdorffSimilarityMeasure
 	}
 	*/
 
+	private boolean isIndexed = false;
+
 	public HausdorffSimilarityMeasure()
 	{
 	}
 
+	/**
+	 * Creates a measure which optionally computes the Hausdorff distance
+	 * using {@link IndexedHausdorffDistance}.
+	 * This is faster for large geometries.
+	 *
+	 * @param isIndexed true if the distance should be computed using facet indexes
+	 */
+	public HausdorffSimilarityMeasure(boolean isIndexed)
+	{
+		this.isIndexed = isIndexed;
+	}
+
 	/*
 	 * Densify a small amount to increase accuracy of Hausdorff distance
 	 */
@@ -52,7 +67,9 @@ public class HausdorffSimilarityMeasure
 
 	public double measure(Geometry g1, Geometry g2)
 	{
-		double distance = DiscreteHausdorffDistance.distance(g1, g2, DENSIFY_FRACTION);
+		double distance = isIndexed
+				? IndexedHausdorffDistance.distance(g1, g2, DENSIFY_FRACTION)
+				: DiscreteHausdorffDistance.distance(g1, g2, DENSIFY_FRACTION);
     if (distance == 0d) return 1d;
 
 		Envelope env = new Envelope(g1.getEnvelopeInternal());
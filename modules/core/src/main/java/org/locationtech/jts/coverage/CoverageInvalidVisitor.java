@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * An interface for processing the invalid polygons
+ * found by a coverage validation.
+ * 
+ * @author Martin Davis
+ * 
+ * @see TiledCoverageValidator
+ */
+public interface CoverageInvalidVisitor {
+  
+  /**
+   * Processes an invalid coverage polygon.
+   * 
+   * @param polygon the invalid polygon
+   * @param invalidLines a linear geometry indicating the invalid boundary segments
+   */
+  void visit(Geometry polygon, Geometry invalidLines);
+}
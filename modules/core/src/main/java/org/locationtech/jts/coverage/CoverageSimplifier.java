@@ -14,6 +14,7 @@ package org.locationtech.jts.coverage;
 import java.util.List;
 
 import org.locationtech.jts.coverage.TPVWSimplifier.Edge;
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 
 /**
@@ -55,6 +56,14 @@ import org.locationtech.jts.geom.Geometry;
  * <p>
  * The class allows specifying a separate tolerance for each element of the input coverage.
  * <p>
+ * Simplifications for several tolerances (e.g. for different map scales)
+ * can be computed together using {@link #simplifyLevels(double[])}.
+ * This extracts the coverage edges only once.
+ * <p>
+ * The edges can be simplified in parallel, using {@link #setParallel(boolean)}.
+ * Edges which do not interact are simplified concurrently,
+ * so the result is identical to the sequential computation.
+ * <p>
  * The input coverage should be valid according to {@link CoverageValidator}.
  * Invalid coverages may be simplified, but the result will likely still be invalid.
  * 
@@ -95,6 +104,22 @@ public class CoverageSimplifier {
     return simplifier.simplify(tolerances);
   }
   
+  /**
+   * Simplifies the boundaries of a set of polygonal geometries forming a coverage
+   * for several tolerances,
+   * preserving the coverage topology.
+   * 
+   * @param coverage a set of polygonal geometries forming a coverage
+   * @param tolerances the simplification tolerances
+   * @param isParallel true if the edges should be simplified in parallel
+   * @return the simplified coverage polygons for each tolerance
+   */
+  public static Geometry[][] simplifyLevels(Geometry[] coverage, double[] tolerances, boolean isParallel) {
+    CoverageSimplifier simplifier = new CoverageSimplifier(coverage);
+    simplifier.setParallel(isParallel);
+    return simplifier.simplifyLevels(tolerances);
+  }
+  
   /**
    * Simplifies the inner boundaries of a set of polygonal geometries forming a coverage,
    * preserving the coverage topology.
@@ -126,6 +151,7 @@ public class CoverageSimplifier {
   private Geometry[] coverage;
   private double smoothWeight = CornerArea.DEFAULT_SMOOTH_WEIGHT;
   private double removableSizeFactor = 1.0;
+  private boolean isParallel = false;
   
   /**
    * Create a new coverage simplifier instance.
@@ -164,6 +190,15 @@ public class CoverageSimplifier {
     this.smoothWeight  = smoothWeight;
   }
   
+  /**
+   * Sets whether the coverage edges are simplified in parallel.
+   * 
+   * @param isParallel true if the edges should be simplified in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+  
   /**
    * Computes the simplified coverage using a single distance tolerance, 
    * preserving the coverage topology.
@@ -202,6 +237,36 @@ public class CoverageSimplifier {
     return simplifyEdges(tolerances);
   }
 
+  /**
+   * Computes simplified coverages for several distance tolerances,
+   * preserving the coverage topology.
+   * Each simplified coverage is the same as that computed 
+   * by {@link #simplify(double)} for the tolerance,
+   * but the coverage edges are extracted only once.
+   * 
+   * @param tolerances the simplification distance tolerances
+   * @return the simplified coverage polygons for each tolerance
+   */
+  public Geometry[][] simplifyLevels(double[] tolerances) {
+    CoverageRingEdges covRings = CoverageRingEdges.create(coverage);
+    List<CoverageEdge> covEdges = covRings.getEdges();
+    Coordinate[][] edgePts = new Coordinate[covEdges.size()][];
+    for (int i = 0; i < covEdges.size(); i++) {
+      edgePts[i] = covEdges.get(i).getCoordinates();
+    }
+    Geometry[][] result = new Geometry[tolerances.length][];
+    for (int level = 0; level < tolerances.length; level++) {
+      //-- restore the original edges
+      for (int i = 0; i < covEdges.size(); i++) {
+        covEdges.get(i).setCoordinates(edgePts[i]);
+      }
+      double tolerance = tolerances[level];
+      TPVWSimplifier.Edge[] edges = createEdges(covEdges, tolerance, tolerance);
+      result[level] = simplify(covRings, covEdges, edges);
+    }
+    return result;
+  }
+
   private Geometry[] simplifyEdges(double[] tolerances) {
     CoverageRingEdges covRings = CoverageRingEdges.create(coverage);
     List<CoverageEdge> covEdges = covRings.getEdges();
@@ -243,7 +308,7 @@ public class CoverageSimplifier {
 
   private Geometry[] simplify(CoverageRingEdges covRings, List<CoverageEdge> covEdges, TPVWSimplifier.Edge[] edges) {
     CornerArea cornerArea = new CornerArea(smoothWeight);
-    TPVWSimplifier.simplify(edges, cornerArea, removableSizeFactor);
+    TPVWSimplifier.simplify(edges, cornerArea, removableSizeFactor, isParallel);
     setCoordinates(covEdges, edges);
     Geometry[] result = covRings.buildCoverage();
     return result;
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A source of the polygons in a polygonal coverage,
+ * which can be queried by envelope.
+ * This allows processing coverages which are too large
+ * to be held in memory (e.g. by querying a spatial database).
+ * 
+ * @author Martin Davis
+ * 
+ * @see TiledCoverageValidator
+ */
+public interface CoverageSource {
+  
+  /**
+   * Queries the coverage for the polygons whose envelopes
+   * intersect an envelope.
+   * A polygon may be returned as a different object by different queries,
+   * but its coordinates must be identical.
+   * 
+   * @param env the query envelope
+   * @return the polygons which may intersect the envelope
+   */
+  List<Geometry> query(Envelope env);
+}
@@ -11,6 +11,10 @@
  */
 package org.locationtech.jts.coverage;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -19,6 +23,12 @@ import org.locationtech.jts.geom.GeometryFactory;
  * Unions a polygonal coverage in an efficient way.
  * <p>
  * Valid polygonal coverage topology allows merging polygons in a very efficient way.
+ * <p>
+ * A coverage can also be dissolved into groups of elements
+ * specified by a key for each element.
+ * The union of each group only processes the edges of the group elements,
+ * so the total work is proportional to the size of the coverage.
+ * The groups can be unioned in parallel.
  * 
  * @author Martin Davis
  *
@@ -39,4 +49,81 @@ public class CoverageUnion {
     GeometryCollection geoms = geomFact.createGeometryCollection(coverage);
     return org.locationtech.jts.operation.overlayng.CoverageUnion.union(geoms);
   }
+  
+  /**
+   * Unions groups of the elements of a polygonal coverage.
+   * The groups are specified by an integer key for each element.
+   * Keys must be dense indexes, in the range 0 to the number of elements - 1
+   * (identifiers such as database keys must be mapped to indexes first).
+   * The result contains the union of each group,
+   * indexed by the group key, up to the largest key used.
+   * Keys with no non-empty elements produce an empty polygon.
+   * 
+   * @param coverage the polygons in the coverage
+   * @param groupKeys the group key of each coverage element
+   * @return the union of each group, indexed by key
+   * @throws IllegalArgumentException if a key is outside the range of element indexes
+   */
+  public static Geometry[] union(Geometry[] coverage, int[] groupKeys) {
+    return union(coverage, groupKeys, false);
+  }
+  
+  /**
+   * Unions groups of the elements of a polygonal coverage,
+   * optionally computing the groups in parallel.
+   * The groups are specified by an integer key for each element.
+   * Keys must be dense indexes, in the range 0 to the number of elements - 1
+   * (identifiers such as database keys must be mapped to indexes first).
+   * The result contains the union of each group,
+   * indexed by the group key, up to the largest key used.
+   * Keys with no non-empty elements produce an empty polygon.
+   * 
+   * @param coverage the polygons in the coverage
+   * @param groupKeys the group key of each coverage element
+   * @param isParallel true if the groups should be computed in parallel
+   * @return the union of each group, indexed by key
+   * @throws IllegalArgumentException if a key is outside the range of element indexes
+   */
+  public static Geometry[] union(Geometry[] coverage, int[] groupKeys, boolean isParallel) {
+    if (groupKeys.length != coverage.length)
+      throw new IllegalArgumentException("number of group keys does not match number of coverage elements");
+    int numGroups = 0;
+    for (int key : groupKeys) {
+      if (key < 0 || key >= coverage.length)
+        throw new IllegalArgumentException("Group key " + key 
+            + " is outside the range 0 to " + (coverage.length - 1));
+      numGroups = Math.max(numGroups, key + 1);
+    }
+    if (coverage.length == 0)
+      return new Geometry[0];
+    GeometryFactory geomFact = coverage[0].getFactory();
+    
+    List<Geometry>[] groups = groupElements(coverage, groupKeys, numGroups);
+    Geometry[] result = new Geometry[numGroups];
+    IntStream groupIndexes = IntStream.range(0, numGroups);
+    if (isParallel) {
+      groupIndexes = groupIndexes.parallel();
+    }
+    groupIndexes.forEach(i -> result[i] = unionGroup(groups[i], geomFact));
+    return result;
+  }
+
+  private static List<Geometry>[] groupElements(Geometry[] coverage, int[] groupKeys, int numGroups) {
+    @SuppressWarnings("unchecked")
+    List<Geometry>[] groups = new List[numGroups];
+    for (int i = 0; i < numGroups; i++) {
+      groups[i] = new ArrayList<Geometry>();
+    }
+    for (int i = 0; i < coverage.length; i++) {
+      groups[groupKeys[i]].add(coverage[i]);
+    }
+    return groups;
+  }
+  
+  private static Geometry unionGroup(List<Geometry> group, GeometryFactory geomFact) {
+    if (group.isEmpty())
+      return geomFact.createPolygon();
+    GeometryCollection geoms = geomFact.createGeometryCollection(GeometryFactory.toGeometryArray(group));
+    return org.locationtech.jts.operation.overlayng.CoverageUnion.union(geoms);
+  }
 }
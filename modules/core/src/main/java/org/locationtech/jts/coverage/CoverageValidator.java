@@ -12,6 +12,7 @@
 package org.locationtech.jts.coverage;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
@@ -46,6 +47,10 @@ import org.locationtech.jts.index.strtree.STRtree;
  * In some situations it may also produce false positives 
  * (linework identified as part of a gap which is actually wider).
  * See {@link CoverageGapFinder} for an alternate way to detect gaps which may be more accurate.
+ * <p>
+ * The polygons can be validated in parallel, using {@link #setParallel(boolean)}.
+ * Coverages which are too large to be held in memory
+ * can be validated using {@link TiledCoverageValidator}.
  * 
  * @author Martin Davis
  *
@@ -105,8 +110,26 @@ public class CoverageValidator {
     return v.validate();
   }
   
+  /**
+   * Validates that a set of polygons forms a valid polygonal coverage
+   * and contains no gaps narrower than a specified width,
+   * optionally validating the polygons in parallel.
+   * 
+   * @param coverage an array of polygons forming a coverage
+   * @param gapWidth the maximum width of invalid gaps
+   * @param isParallel true if the polygons should be validated in parallel
+   * @return an array of linear geometries indicating coverage errors, or nulls
+   */
+  public static Geometry[] validate(Geometry coverage[], double gapWidth, boolean isParallel) {
+    CoverageValidator v = new CoverageValidator(coverage);
+    v.setGapWidth(gapWidth);
+    v.setParallel(isParallel);
+    return v.validate();
+  }
+  
   private Geometry[] coverage;
   private double gapWidth;
+  private boolean isParallel = false;
 
   /**
    * Creates a new coverage validator
@@ -126,6 +149,15 @@ public class CoverageValidator {
     this.gapWidth = gapWidth;
   }
   
+  /**
+   * Sets whether the polygons are validated in parallel.
+   * 
+   * @param isParallel true if the polygons should be validated in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+  
   /**
    * Validates the polygonal coverage.
    * The result is an array of the same size as the input coverage.
@@ -141,16 +173,33 @@ public class CoverageValidator {
     for (Geometry geom : coverage) {
       index.insert(geom.getEnvelopeInternal(), geom);
     }
-    Geometry[] invalidLines = new Geometry[coverage.length];
-    for (int i = 0; i < coverage.length; i++) {
-      Geometry geom = coverage[i];
-      invalidLines[i] = validate(geom, index);
+    //-- build the index before querying it concurrently
+    index.build();
+    return validate(coverage, index, gapWidth, isParallel);
+  }
+
+  /**
+   * Validates a set of target polygons against the polygons in an index.
+   * The index must contain the targets, and must be built.
+   * 
+   * @param targets the polygons to validate
+   * @param index an index containing the targets and the polygons adjacent to them
+   * @param gapWidth the maximum width of gaps to detect
+   * @param isParallel true if the targets should be validated in parallel
+   * @return an array of nulls or linear geometries
+   */
+  static Geometry[] validate(Geometry[] targets, STRtree index, double gapWidth, boolean isParallel) {
+    Geometry[] invalidLines = new Geometry[targets.length];
+    IntStream indexes = IntStream.range(0, targets.length);
+    if (isParallel) {
+      indexes = indexes.parallel();
     }
+    indexes.forEach(i -> invalidLines[i] = validate(targets[i], index, gapWidth));
     return invalidLines;
   }
 
-  private Geometry validate(Geometry targetGeom, STRtree index) {
-    Envelope queryEnv = targetGeom.getEnvelopeInternal();
+  private static Geometry validate(Geometry targetGeom, STRtree index, double gapWidth) {
+    Envelope queryEnv = targetGeom.getEnvelopeInternal().copy();
     queryEnv.expandBy(gapWidth);
     List<Geometry> nearGeomList = index.query(queryEnv);
     //-- the target geometry is returned in the query, so must be removed from the set
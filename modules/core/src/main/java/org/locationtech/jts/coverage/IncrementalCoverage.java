@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.index.quadtree.Quadtree;
+
+/**
+ * Maintains a polygonal coverage which is edited by
+ * inserting, replacing and deleting polygons,
+ * and keeps the validation and simplification of the coverage up to date.
+ * Only the polygons near the edited ones are revalidated and resimplified,
+ * so updates after small edits to a large coverage are fast.
+ * <p>
+ * Polygons are identified by the index at which they were inserted.
+ * The initial coverage polygons have the indexes of the input array.
+ * Deleted polygons leave a <tt>null</tt> entry in the coverage.
+ * <p>
+ * Validation is the same as that of {@link CoverageValidator},
+ * including detecting narrow gaps if a gap width is set.
+ * A polygon is revalidated if it lies within the gap width
+ * of an edited polygon.
+ * <p>
+ * Simplification uses the same algorithm as {@link CoverageSimplifier}.
+ * The first simplification processes the entire coverage,
+ * and the simplified coverage edges are retained.
+ * After an edit, the edges of the polygons near the edited ones are resimplified.
+ * The edges shared with the remaining polygons are kept
+ * as they were simplified previously,
+ * so the simplified coverage remains valid.
+ * The result may differ slightly from simplifying the edited coverage in full.
+ *
+ * @author Martin Davis
+ *
+ * @see CoverageValidator
+ * @see CoverageSimplifier
+ */
+public class IncrementalCoverage {
+
+  private List<Geometry> polygons = new ArrayList<Geometry>();
+  private Quadtree index = new Quadtree();
+
+  private double gapWidth = 0.0;
+  private List<Geometry> invalidLines = null;
+  private List<Envelope> validateDirty = new ArrayList<Envelope>();
+
+  private double tolerance = 0.0;
+  private List<Geometry> simplified = null;
+  private List<Envelope> simplifyDirty = new ArrayList<Envelope>();
+  /**
+   * The simplified coordinates of the coverage edges, keyed by the original edge
+   */
+  private Map<LineSegment, Coordinate[]> simplifiedEdges;
+  /**
+   * The keys of the edges of each polygon
+   */
+  private List<List<LineSegment>> polygonEdgeKeys;
+
+  /**
+   * Creates a new incremental coverage
+   * containing an initial set of polygons.
+   *
+   * @param coverage the polygons in the initial coverage
+   */
+  public IncrementalCoverage(Geometry[] coverage) {
+    for (Geometry geom : coverage) {
+      int id = polygons.size();
+      polygons.add(geom);
+      index.insert(geom.getEnvelopeInternal(), id);
+    }
+  }
+
+  /**
+   * Sets the maximum gap width, if narrow gaps are to be detected
+   * by validation.
+   *
+   * @param gapWidth the maximum width of gaps to detect
+   */
+  public void setGapWidth(double gapWidth) {
+    this.gapWidth = gapWidth;
+    invalidLines = null;
+  }
+
+  /**
+   * Sets the distance tolerance used for simplification.
+   *
+   * @param tolerance the simplification distance tolerance
+   */
+  public void setSimplifyTolerance(double tolerance) {
+    this.tolerance = tolerance;
+    simplified = null;
+  }
+
+  /**
+   * Gets the number of polygon indexes in the coverage,
+   * including those of deleted polygons.
+   *
+   * @return the number of polygon indexes
+   */
+  public int size() {
+    return polygons.size();
+  }
+
+  /**
+   * Gets a polygon in the coverage.
+   *
+   * @param id the index of the polygon
+   * @return the polygon, or null if it has been deleted
+   */
+  public Geometry getPolygon(int id) {
+    return polygons.get(id);
+  }
+
+  /**
+   * Gets the polygons in the coverage,
+   * with null entries for deleted polygons.
+   *
+   * @return the coverage polygons
+   */
+  public Geometry[] getCoverage() {
+    return polygons.toArray(new Geometry[0]);
+  }
+
+  /**
+   * Inserts a polygon into the coverage.
+   *
+   * @param geom the polygon to insert
+   * @return the index of the inserted polygon
+   */
+  public int insert(Geometry geom) {
+    int id = polygons.size();
+    polygons.add(geom);
+    if (invalidLines != null) invalidLines.add(null);
+    if (simplified != null) {
+      simplified.add(null);
+      polygonEdgeKeys.add(new ArrayList<LineSegment>());
+    }
+    index.insert(geom.getEnvelopeInternal(), id);
+    markChanged(geom.getEnvelopeInternal());
+    return id;
+  }
+
+  /**
+   * Replaces a polygon in the coverage.
+   *
+   * @param id the index of the polygon to replace
+   * @param geom the new polygon
+   */
+  public void replace(int id, Geometry geom) {
+    delete(id);
+    polygons.set(id, geom);
+    index.insert(geom.getEnvelopeInternal(), id);
+    markChanged(geom.getEnvelopeInternal());
+  }
+
+  /**
+   * Deletes a polygon from the coverage.
+   *
+   * @param id the index of the polygon to delete
+   */
+  public void delete(int id) {
+    Geometry geom = polygons.get(id);
+    if (geom == null)
+      throw new IllegalArgumentException("Polygon " + id + " has been deleted");
+    index.remove(geom.getEnvelopeInternal(), id);
+    polygons.set(id, null);
+    if (invalidLines != null) invalidLines.set(id, null);
+    if (simplified != null) {
+      simplified.set(id, null);
+      removeEdges(id);
+    }
+    markChanged(geom.getEnvelopeInternal());
+  }
+
+  private void markChanged(Envelope env) {
+    validateDirty.add(env);
+    simplifyDirty.add(env);
+  }
+
+  //=======================================================
+  // Validation
+  //=======================================================
+
+  /**
+   * Validates the coverage, revalidating only
+   * the polygons affected by edits since the last validation.
+   * The result has the same form as {@link CoverageValidator#validate()}.
+   *
+   * @return an array of nulls or linear geometries indicating coverage errors
+   */
+  public Geometry[] validate() {
+    if (invalidLines == null) {
+      invalidLines = new ArrayList<Geometry>();
+      for (int id = 0; id < polygons.size(); id++) {
+        invalidLines.add(validate(id));
+      }
+    }
+    else {
+      for (int id : findNear(validateDirty, gapWidth)) {
+        invalidLines.set(id, validate(id));
+      }
+    }
+    validateDirty.clear();
+    return invalidLines.toArray(new Geometry[0]);
+  }
+
+  /**
+   * Tests whether the coverage is valid.
+   *
+   * @return true if the coverage is valid
+   */
+  public boolean isValid() {
+    return ! CoverageValidator.hasInvalidResult(validate());
+  }
+
+  private Geometry validate(int id) {
+    Geometry geom = polygons.get(id);
+    if (geom == null)
+      return null;
+    Envelope queryEnv = geom.getEnvelopeInternal().copy();
+    queryEnv.expandBy(gapWidth);
+    List<Geometry> nearGeoms = new ArrayList<Geometry>();
+    for (int nearId : query(queryEnv)) {
+      if (nearId != id) {
+        nearGeoms.add(polygons.get(nearId));
+      }
+    }
+    Geometry result = CoveragePolygonValidator.validate(geom,
+        nearGeoms.toArray(new Geometry[0]), gapWidth);
+    return result.isEmpty() ? null : result;
+  }
+
+  //=======================================================
+  // Simplification
+  //=======================================================
+
+  /**
+   * Simplifies the coverage, resimplifying only
+   * the polygons affected by edits since the last simplification.
+   * The result has the same form as {@link CoverageSimplifier#simplify(double)},
+   * with null entries for deleted polygons.
+   *
+   * @return the simplified coverage polygons
+   */
+  public Geometry[] simplify() {
+    if (simplified == null) {
+      simplifyAll();
+    }
+    else {
+      Integer[] affected = findNear(simplifyDirty, 0).toArray(new Integer[0]);
+      if (affected.length > 0) {
+        simplify(affected, true);
+      }
+    }
+    simplifyDirty.clear();
+    return simplified.toArray(new Geometry[0]);
+  }
+
+  private void simplifyAll() {
+    simplified = new ArrayList<Geometry>();
+    simplifiedEdges = new HashMap<LineSegment, Coordinate[]>();
+    polygonEdgeKeys = new ArrayList<List<LineSegment>>();
+    List<Integer> ids = new ArrayList<Integer>();
+    for (int id = 0; id < polygons.size(); id++) {
+      simplified.add(null);
+      polygonEdgeKeys.add(new ArrayList<LineSegment>());
+      if (polygons.get(id) != null) {
+        ids.add(id);
+      }
+    }
+    simplify(ids.toArray(new Integer[0]), false);
+  }
+
+  /**
+   * Resimplifies a set of polygons.
+   * The coverage is extracted for the polygons and their neighbours,
+   * so that the edges of the polygons are the same as in the full coverage.
+   * Edges between two affected polygons (or on the coverage boundary)
+   * are simplified.
+   * Edges shared with a neighbour keep their previous simplification.
+   *
+   * @param affected the indexes of the polygons to resimplify, in order
+   * @param hasNeighbours true if the affected polygons may have neighbours
+   */
+  private void simplify(Integer[] affected, boolean hasNeighbours) {
+    List<Integer> localIds = new ArrayList<Integer>(Arrays.asList(affected));
+    if (hasNeighbours) {
+      Set<Integer> localIdSet = new HashSet<Integer>(localIds);
+      for (int id : affected) {
+        for (int nbrId : query(polygons.get(id).getEnvelopeInternal())) {
+          if (localIdSet.add(nbrId)) {
+            localIds.add(nbrId);
+          }
+        }
+      }
+    }
+    int numAffected = affected.length;
+    Geometry[] localCoverage = new Geometry[localIds.size()];
+    for (int i = 0; i < localCoverage.length; i++) {
+      localCoverage[i] = polygons.get(localIds.get(i));
+    }
+
+    CoverageRingEdges covRings = CoverageRingEdges.create(localCoverage);
+    List<CoverageEdge> affectedEdges = new ArrayList<CoverageEdge>();
+    List<TPVWSimplifier.Edge> edges = new ArrayList<TPVWSimplifier.Edge>();
+    List<Coordinate[]> frozenPts = new ArrayList<Coordinate[]>();
+    for (CoverageEdge covEdge : covRings.getEdges()) {
+      boolean isAffected0 = covEdge.getAdjacentIndex(0) < numAffected;
+      boolean isAffected1 = covEdge.hasAdjacentIndex(1) && covEdge.getAdjacentIndex(1) < numAffected;
+      if (! isAffected0 && ! isAffected1)
+        continue;
+      affectedEdges.add(covEdge);
+      boolean isShared = covEdge.hasAdjacentIndex(1) && (isAffected0 != isAffected1);
+      Coordinate[] pts = isShared ? findSimplified(covEdge) : null;
+      frozenPts.add(pts);
+      if (pts == null) {
+        edges.add(createEdge(covEdge, tolerance));
+      }
+      else if (pts.length > 0) {
+        //-- edge is kept, but constrains the simplification of other edges
+        edges.add(new TPVWSimplifier.Edge(pts, 0, covEdge.isFreeRing(), false));
+      }
+    }
+
+    //-- remove the edges of the affected polygons, since they are replaced
+    for (int id : affected) {
+      removeEdges(id);
+    }
+
+    TPVWSimplifier.Edge[] edgeArr = edges.toArray(new TPVWSimplifier.Edge[0]);
+    TPVWSimplifier.simplify(edgeArr, new CornerArea(), 1.0);
+    int iedge = 0;
+    for (int i = 0; i < affectedEdges.size(); i++) {
+      CoverageEdge covEdge = affectedEdges.get(i);
+      Coordinate[] pts = frozenPts.get(i);
+      LineSegment key = key(covEdge.getCoordinates());
+      if (pts == null) {
+        TPVWSimplifier.Edge edge = edgeArr[iedge++];
+        if (edge.getTolerance() > 0) {
+          covEdge.setCoordinates(edge.getCoordinates());
+        }
+      }
+      else {
+        if (pts.length > 0) iedge++;
+        covEdge.setCoordinates(orient(pts, covEdge.getCoordinates()));
+      }
+      simplifiedEdges.put(key, covEdge.getCoordinates());
+      addEdgeKey(localIds, covEdge, 0, numAffected, key);
+      addEdgeKey(localIds, covEdge, 1, numAffected, key);
+    }
+
+    Geometry[] result = covRings.buildCoverage();
+    for (int i = 0; i < numAffected; i++) {
+      simplified.set(localIds.get(i), result[i]);
+    }
+  }
+
+  private void addEdgeKey(List<Integer> localIds, CoverageEdge covEdge, int side, int numAffected, LineSegment key) {
+    if (! covEdge.hasAdjacentIndex(side)) return;
+    int localIndex = covEdge.getAdjacentIndex(side);
+    if (localIndex >= numAffected) return;
+    polygonEdgeKeys.get(localIds.get(localIndex)).add(key);
+  }
+
+  private void removeEdges(int id) {
+    for (LineSegment key : polygonEdgeKeys.get(id)) {
+      simplifiedEdges.remove(key);
+    }
+    polygonEdgeKeys.get(id).clear();
+  }
+
+  private Coordinate[] findSimplified(CoverageEdge covEdge) {
+    return simplifiedEdges.get(key(covEdge.getCoordinates()));
+  }
+
+  /**
+   * Orients simplified edge coordinates in the same direction
+   * as an edge, if the endpoints allow determining this.
+   */
+  private static Coordinate[] orient(Coordinate[] simplifiedPts, Coordinate[] pts) {
+    if (simplifiedPts.length == 0)
+      return simplifiedPts;
+    if (simplifiedPts[0].equals2D(pts[0]))
+      return simplifiedPts;
+    if (simplifiedPts[simplifiedPts.length - 1].equals2D(pts[0])) {
+      Coordinate[] reversed = simplifiedPts.clone();
+      CoordinateArrays.reverse(reversed);
+      return reversed;
+    }
+    return simplifiedPts;
+  }
+
+  /**
+   * Computes a key for an edge which is independent of
+   * the edge direction and the start point of a ring.
+   */
+  private static LineSegment key(Coordinate[] pts) {
+    if (CoordinateArrays.isRing(pts))
+      return CoverageEdge.key(pts);
+    return CoverageEdge.key(pts, 0, pts.length - 1);
+  }
+
+  private static TPVWSimplifier.Edge createEdge(CoverageEdge covEdge, double tol) {
+    return new TPVWSimplifier.Edge(covEdge.getCoordinates(), tol,
+        covEdge.isFreeRing(), covEdge.isRemovableRing());
+  }
+
+  //=======================================================
+
+  /**
+   * Finds the polygons whose envelopes are within a distance
+   * of a set of envelopes.
+   */
+  private TreeSet<Integer> findNear(List<Envelope> envs, double distance) {
+    TreeSet<Integer> ids = new TreeSet<Integer>();
+    for (Envelope env : envs) {
+      Envelope queryEnv = env.copy();
+      queryEnv.expandBy(distance);
+      ids.addAll(query(queryEnv));
+    }
+    return ids;
+  }
+
+  private List<Integer> query(Envelope queryEnv) {
+    List<Integer> ids = new ArrayList<Integer>();
+    for (Object item : index.query(queryEnv)) {
+      int id = (Integer) item;
+      if (polygons.get(id).getEnvelopeInternal().intersects(queryEnv)) {
+        ids.add(id);
+      }
+    }
+    return ids;
+  }
+}
@@ -13,6 +13,7 @@ package org.locationtech.jts.coverage;
 
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.stream.IntStream;
 
 import org.locationtech.jts.algorithm.Area;
 import org.locationtech.jts.geom.Coordinate;
@@ -38,6 +39,13 @@ import org.locationtech.jts.simplify.LinkedLine;
  * in the Visvalingam-Whyatt algorithm.
  * This equates roughly to the maximum
  * distance by which a simplified line can change from the original.
+ * <p>
+ * The edges can be simplified in parallel.
+ * Simplifying an edge only depends on the edges whose envelopes intersect it.
+ * The edges are assigned to stages so that each edge is in a later stage
+ * than all preceding edges which it depends on.
+ * The stages are processed in order, and the edges in a stage concurrently.
+ * This produces the same result as simplifying the edges sequentially.
  * 
  * @author mdavis
  *
@@ -60,14 +68,31 @@ class TPVWSimplifier {
   public static void simplify(Edge[] edges, 
       CornerArea cornerArea,
       double removableSizeFactor) {
+    simplify(edges, cornerArea, removableSizeFactor, false);
+  }
+  
+  /**
+   * Simplifies a set of edges, optionally in parallel.
+   * 
+   * @param edges the edges to simplify
+   * @param cornerArea the corner area computer
+   * @param removableSizeFactor the factor determining the size of rings to remove
+   * @param isParallel true if the edges should be simplified in parallel
+   */
+  public static void simplify(Edge[] edges, 
+      CornerArea cornerArea,
+      double removableSizeFactor,
+      boolean isParallel) {
     TPVWSimplifier simp = new TPVWSimplifier(edges);
     simp.setCornerArea(cornerArea);
     simp.setRemovableRingSizeFactor(removableSizeFactor);
+    simp.setParallel(isParallel);
     simp.simplify();
   }
  
   private CornerArea cornerArea;
   private double removableSizeFactor = 1.0;
+  private boolean isParallel = false;
   private Edge[] edges;
   
   public TPVWSimplifier(Edge[] edges) {
@@ -81,17 +106,92 @@ class TPVWSimplifier {
   public void setCornerArea(CornerArea cornerArea) {
     this.cornerArea = cornerArea;
   }
+  
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
  
   private void simplify() {
     EdgeIndex edgeIndex = new EdgeIndex();
     add(edges, edgeIndex);
-
+    
+    if (isParallel) {
+      simplifyParallel(edgeIndex);
+      return;
+    }
     for (int i = 0 ; i < edges.length; i++) {
       Edge edge = edges[i];
       edge.simplify(cornerArea, edgeIndex);
     }
   }
 
+  private void simplifyParallel(EdgeIndex edgeIndex) {
+    //-- vertex indexes are shared between threads, so must be created up front
+    IntStream.range(0, edges.length).parallel().forEach(i -> {
+      if (! edges[i].isRemoved()) {
+        edges[i].initIndex();
+      }
+    });
+    
+    int[] stage = computeStages(edgeIndex);
+    int numStages = 0;
+    for (int s : stage) {
+      numStages = Math.max(numStages, s + 1);
+    }
+    //-- sort the simplified edges by stage, preserving their order
+    int[] stageStart = new int[numStages + 1];
+    for (int s : stage) {
+      if (s >= 0) stageStart[s + 1]++;
+    }
+    for (int s = 0; s < numStages; s++) {
+      stageStart[s + 1] += stageStart[s];
+    }
+    int[] stageEdges = new int[stageStart[numStages]];
+    int[] fill = stageStart.clone();
+    for (int i = 0; i < edges.length; i++) {
+      if (stage[i] >= 0) {
+        stageEdges[fill[stage[i]]++] = i;
+      }
+    }
+    
+    for (int s = 0; s < numStages; s++) {
+      IntStream.range(stageStart[s], stageStart[s + 1]).parallel().forEach(i -> 
+        edges[stageEdges[i]].simplify(cornerArea, edgeIndex)
+      );
+    }
+  }
+
+  /**
+   * Computes the stage in which each edge is simplified.
+   * An edge is in a later stage than every preceding edge 
+   * whose envelope intersects it.
+   * Edges which are not simplified have stage -1.
+   * 
+   * @param edgeIndex the index of the edges
+   * @return the stage of each edge
+   */
+  private int[] computeStages(EdgeIndex edgeIndex) {
+    int[] stage = new int[edges.length];
+    for (int i = 0; i < edges.length; i++) {
+      edges[i].order = i;
+    }
+    for (int i = 0; i < edges.length; i++) {
+      Edge edge = edges[i];
+      if (! edge.isSimplified()) {
+        stage[i] = -1;
+        continue;
+      }
+      int edgeStage = 0;
+      for (Edge adj : edgeIndex.query(edge.getEnvelope())) {
+        if (adj.order < i && stage[adj.order] >= edgeStage) {
+          edgeStage = stage[adj.order] + 1;
+        }
+      }
+      stage[i] = edgeStage;
+    }
+    return stage;
+  }
+
   private void add(Edge[] edges, EdgeIndex edgeIndex) {
     for (Edge edge : edges) {
       //-- don't include removed edges in index
@@ -117,6 +217,7 @@ class TPVWSimplifier {
     private boolean isRemoved = false;
     private boolean isRemovable;
     private double distanceTolerance = 0.0;
+    private int order;
 
     /**
      * Creates a new edge.
@@ -158,6 +259,15 @@ class TPVWSimplifier {
       return isRemoved;
     }
     
+    /**
+     * Tests whether simplifying this edge can change it.
+     * 
+     * @return true if the edge is simplified
+     */
+    boolean isSimplified() {
+      return ! isRemoved && distanceTolerance > 0.0;
+    }
+    
     private Coordinate getCoordinate(int index) {
       return pts[index];
     }
@@ -178,11 +288,7 @@ class TPVWSimplifier {
     }
     
     public void simplify(CornerArea cornerArea, EdgeIndex edgeIndex) {     
-      if (isRemoved) {
-        return;
-      }
-      //-- don't simplify
-      if (distanceTolerance <= 0.0)
+      if (! isSimplified())
         return;
       
       double areaTolerance = distanceTolerance * distanceTolerance;
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Validates a polygonal coverage tile by tile,
+ * so that the memory used is bounded by the size of a tile.
+ * The coverage polygons are obtained from a {@link CoverageSource},
+ * and invalid polygons are passed to a {@link CoverageInvalidVisitor}
+ * as soon as each tile is validated.
+ * The validation is the same as that of {@link CoverageValidator}.
+ * <p>
+ * The coverage extent is divided into a grid of square tiles.
+ * Each polygon is validated once, in the tile containing 
+ * the lower-left corner of its envelope.
+ * The polygons adjacent to the ones in a tile are queried
+ * using the envelope of the tile polygons,
+ * so invalid segments between polygons in different tiles are detected.
+ * <p>
+ * The polygons in each tile can be validated in parallel,
+ * using {@link #setParallel(boolean)}.
+ * 
+ * @author Martin Davis
+ * 
+ * @see CoverageValidator
+ */
+public class TiledCoverageValidator {
+
+  /**
+   * Validates a polygonal coverage tile by tile.
+   * 
+   * @param source the source of the coverage polygons
+   * @param extent the extent of the coverage
+   * @param tileSize the width and height of the tiles
+   * @param visitor the visitor to pass the invalid polygons to
+   */
+  public static void validate(CoverageSource source, Envelope extent, double tileSize,
+      CoverageInvalidVisitor visitor) {
+    TiledCoverageValidator v = new TiledCoverageValidator(source, extent, tileSize);
+    v.validate(visitor);
+  }
+  
+  private CoverageSource source;
+  private Envelope extent;
+  private double tileSize;
+  private double gapWidth = 0.0;
+  private boolean isParallel = false;
+  private int numTileX;
+  private int numTileY;
+
+  /**
+   * Creates a new tiled coverage validator.
+   * 
+   * @param source the source of the coverage polygons
+   * @param extent the extent of the coverage
+   * @param tileSize the width and height of the tiles
+   */
+  public TiledCoverageValidator(CoverageSource source, Envelope extent, double tileSize) {
+    if (tileSize <= 0)
+      throw new IllegalArgumentException("Tile size must be positive");
+    this.source = source;
+    this.extent = extent;
+    this.tileSize = tileSize;
+    numTileX = numTiles(extent.getWidth());
+    numTileY = numTiles(extent.getHeight());
+  }
+  
+  private int numTiles(double size) {
+    return Math.max(1, (int) Math.ceil(size / tileSize));
+  }
+  
+  /**
+   * Sets the maximum gap width, if narrow gaps are to be detected.
+   * 
+   * @param gapWidth the maximum width of gaps to detect
+   */
+  public void setGapWidth(double gapWidth) {
+    this.gapWidth = gapWidth;
+  }
+  
+  /**
+   * Sets whether the polygons in each tile are validated in parallel.
+   * 
+   * @param isParallel true if the polygons should be validated in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+  
+  /**
+   * Validates the coverage, 
+   * passing each invalid polygon and its invalid segments to a visitor.
+   * The visitor is called on the calling thread.
+   * 
+   * @param visitor the visitor to pass the invalid polygons to
+   */
+  public void validate(CoverageInvalidVisitor visitor) {
+    if (extent.isNull()) return;
+    for (int iy = 0; iy < numTileY; iy++) {
+      for (int ix = 0; ix < numTileX; ix++) {
+        validateTile(ix, iy, visitor);
+      }
+    }
+  }
+
+  private void validateTile(int ix, int iy, CoverageInvalidVisitor visitor) {
+    Envelope tileEnv = tileEnvelope(ix, iy);
+    List<Geometry> targets = new ArrayList<Geometry>();
+    Envelope queryEnv = new Envelope();
+    for (Geometry geom : source.query(tileEnv)) {
+      Envelope env = geom.getEnvelopeInternal();
+      if (tileX(env.getMinX()) != ix || tileY(env.getMinY()) != iy)
+        continue;
+      targets.add(geom);
+      queryEnv.expandToInclude(env);
+    }
+    if (targets.isEmpty()) return;
+    
+    queryEnv.expandBy(gapWidth);
+    STRtree index = new STRtree();
+    for (Geometry geom : source.query(queryEnv)) {
+      index.insert(geom.getEnvelopeInternal(), geom);
+    }
+    index.build();
+    
+    Geometry[] targetGeoms = GeometryFactory.toGeometryArray(targets);
+    Geometry[] invalidLines = CoverageValidator.validate(targetGeoms, index, gapWidth, isParallel);
+    for (int i = 0; i < targetGeoms.length; i++) {
+      if (invalidLines[i] != null) {
+        visitor.visit(targetGeoms[i], invalidLines[i]);
+      }
+    }
+  }
+
+  private Envelope tileEnvelope(int ix, int iy) {
+    double minX = extent.getMinX() + ix * tileSize;
+    double minY = extent.getMinY() + iy * tileSize;
+    return new Envelope(minX, minX + tileSize, minY, minY + tileSize);
+  }
+
+  private int tileX(double x) {
+    return tileIndex(x - extent.getMinX(), numTileX);
+  }
+
+  private int tileY(double y) {
+    return tileIndex(y - extent.getMinY(), numTileY);
+  }
+
+  private int tileIndex(double offset, int numTiles) {
+    int index = (int) Math.floor(offset / tileSize);
+    if (index < 0) return 0;
+    if (index >= numTiles) return numTiles - 1;
+    return index;
+  }
+}
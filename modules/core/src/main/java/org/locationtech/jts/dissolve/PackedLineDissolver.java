@@ -0,0 +1,683 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.dissolve;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.locationtech.jts.edgegraph.PackedEdgeGraph;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.util.XYHashIndex;
+
+/**
+ * Dissolves the linear components
+ * from a collection of {@link Geometry}s
+ * into a set of maximal-length {@link LineString}s
+ * in which every unique segment appears once only.
+ * This computes the same result as {@link LineDissolver},
+ * but uses a {@link PackedEdgeGraph} to represent the linework.
+ * This uses much less memory and is faster,
+ * so it is suitable for dissolving very large sets of lines.
+ * <p>
+ * The dissolve can be computed in parallel (via {@link #setParallel(boolean)}).
+ * In this mode the input segments are partitioned
+ * by a grid over the locations of their midpoints,
+ * so that duplicate segments always fall in the same partition.
+ * Each partition is dissolved independently,
+ * with vertices shared by several partitions treated as nodes.
+ * The lines ending at shared vertices are then merged
+ * where the vertex is not a node of the complete linework.
+ * Only the graphs of the partitions being processed are held in memory at one time.
+ * <p>
+ * The output lines contain only X and Y ordinates,
+ * since the graph stores only those.
+ * Any Z or M ordinates of the input are discarded.
+ * The output lines may occur in a different order to
+ * those produced by {@link LineDissolver}.
+ * <p>
+ * This class does <b>not</b> node the input lines.
+ * If there are line segments crossing in the input,
+ * they will still cross in the output.
+ *
+ * @author Martin Davis
+ *
+ * @see LineDissolver
+ */
+public class PackedLineDissolver
+{
+  /**
+   * Dissolves the linear components in a geometry.
+   *
+   * @param g the geometry to dissolve
+   * @return the dissolved lines
+   */
+  public static Geometry dissolve(Geometry g)
+  {
+    PackedLineDissolver d = new PackedLineDissolver();
+    d.add(g);
+    return d.getResult();
+  }
+
+  /**
+   * The target number of segments in a partition for parallel dissolving.
+   */
+  private static final int PARTITION_SIZE = 50000;
+
+  private Geometry result;
+  private GeometryFactory factory;
+  private PackedEdgeGraph graph = new PackedEdgeGraph();
+  private final BitSet isStart = new BitSet();
+  private final List<LineString> lines = new ArrayList<LineString>();
+
+  private boolean isParallel = false;
+  private boolean isInputAdded = false;
+  private int partitionSize = PARTITION_SIZE;
+  /**
+   * The segments to dissolve, stored as x0, y0, x1, y1
+   * (only used for parallel dissolving)
+   */
+  private double[] segs = new double[64];
+  private int numSegs = 0;
+  private final BitSet isSegStart = new BitSet();
+
+  /**
+   * The graph vertices which may have edges in other partitions
+   * (empty unless dissolving a partition)
+   */
+  private BitSet isBorderVertex = new BitSet();
+  private final List<BorderLine> borderLines = new ArrayList<BorderLine>();
+
+  public PackedLineDissolver()
+  {
+  }
+
+  private PackedLineDissolver(GeometryFactory factory)
+  {
+    this.factory = factory;
+  }
+
+  /**
+   * Sets whether the dissolve is computed in parallel.
+   * This must be set before any geometries are added,
+   * since the input is stored differently for each mode.
+   *
+   * @param isParallel true if the dissolve is computed in parallel
+   * @throws IllegalStateException if geometries have already been added
+   */
+  public void setParallel(boolean isParallel) {
+    if (isInputAdded && isParallel != this.isParallel)
+      throw new IllegalStateException("Parallel mode must be set before geometries are added");
+    this.isParallel = isParallel;
+  }
+
+  /**
+   * Sets the target number of segments in a partition for parallel dissolving.
+   *
+   * @param partitionSize the number of segments in a partition
+   */
+  void setPartitionSize(int partitionSize) {
+    this.partitionSize = partitionSize;
+  }
+
+  /**
+   * Adds a {@link Geometry} to be dissolved.
+   * Any number of geometries may be added by calling this method multiple times.
+   * Any type of Geometry may be added.  The constituent linework will be
+   * extracted to be dissolved.
+   *
+   * @param geometry geometry to be line-merged
+   */
+  public void add(Geometry geometry) {
+    geometry.apply(new GeometryComponentFilter() {
+      public void filter(Geometry component) {
+        if (component instanceof LineString) {
+          add((LineString)component);
+        }
+      }
+    });
+  }
+
+  /**
+   * Adds a collection of Geometries to be processed. May be called multiple times.
+   * Any dimension of Geometry may be added; the constituent linework will be
+   * extracted.
+   *
+   * @param geometries the geometries to be line-merged
+   */
+  public void add(Collection geometries)
+  {
+    for (Iterator i = geometries.iterator(); i.hasNext(); ) {
+      Geometry geometry = (Geometry) i.next();
+      add(geometry);
+    }
+  }
+
+  private void add(LineString lineString) {
+    isInputAdded = true;
+    if (factory == null) {
+      this.factory = lineString.getFactory();
+    }
+    CoordinateSequence seq = lineString.getCoordinateSequence();
+    boolean doneStart = false;
+    for (int i = 1; i < seq.size(); i++) {
+      double x0 = seq.getX(i-1);
+      double y0 = seq.getY(i-1);
+      double x1 = seq.getX(i);
+      double y1 = seq.getY(i);
+      // skip zero-length edges
+      if (x0 == x1 && y0 == y1) continue;
+      boolean isLineStart = ! doneStart;
+      doneStart = true;
+      if (isParallel) {
+        addSegment(x0, y0, x1, y1, isLineStart);
+      }
+      else {
+        addEdge(x0, y0, x1, y1, isLineStart);
+      }
+    }
+  }
+
+  private void addEdge(double x0, double y0, double x1, double y1, boolean isLineStart) {
+    int e = graph.addEdge(x0, y0, x1, y1);
+    /**
+     * Record source initial segments, so that they can be reflected in output when needed
+     * (i.e. during formation of isolated rings)
+     */
+    if (isLineStart) {
+      isStart.set(e);
+    }
+  }
+
+  private void addSegment(double x0, double y0, double x1, double y1, boolean isLineStart) {
+    if (4 * numSegs == segs.length) {
+      segs = Arrays.copyOf(segs, 2 * segs.length);
+    }
+    int i = 4 * numSegs;
+    segs[i] = x0;
+    segs[i + 1] = y0;
+    segs[i + 2] = x1;
+    segs[i + 3] = y1;
+    if (isLineStart) {
+      isSegStart.set(numSegs);
+    }
+    numSegs++;
+  }
+
+  /**
+   * Gets the dissolved result as a MultiLineString.
+   *
+   * @return the dissolved lines
+   */
+  public Geometry getResult()
+  {
+    if (result == null)
+      computeResult();
+    return result;
+  }
+
+  private void computeResult() {
+    if (factory == null) factory = new GeometryFactory();
+    if (isParallel) {
+      computePartitioned();
+    }
+    else {
+      computeLines();
+    }
+    result = factory.buildGeometry(lines);
+  }
+
+  private void computeLines() {
+    for (int v = 0; v < graph.getNumVertices(); v++) {
+      int e = graph.getVertexEdge(v);
+      if (graph.isMarked(e)) continue;
+      process(e);
+    }
+  }
+
+  //------------------------------------------------------------
+  // Partitioned dissolving
+  //------------------------------------------------------------
+
+  private double minX;
+  private double minY;
+  private double scaleX;
+  private double scaleY;
+  private int gridSize;
+
+  private void computePartitioned() {
+    if (numSegs == 0) return;
+    initGrid();
+    int numCells = gridSize * gridSize;
+
+    //-- group segments by cell, in input order
+    int[] segCell = new int[numSegs];
+    int[] cellStart = new int[numCells + 1];
+    for (int i = 0; i < numSegs; i++) {
+      int s = 4 * i;
+      int cell = cell((segs[s] + segs[s + 2]) / 2, (segs[s + 1] + segs[s + 3]) / 2);
+      segCell[i] = cell;
+      cellStart[cell + 1]++;
+    }
+    for (int c = 0; c < numCells; c++) {
+      cellStart[c + 1] += cellStart[c];
+    }
+    int[] cellSegs = new int[numSegs];
+    int[] cellPos = Arrays.copyOf(cellStart, numCells);
+    for (int i = 0; i < numSegs; i++) {
+      cellSegs[cellPos[segCell[i]]++] = i;
+    }
+    XYHashIndex borderVertices = findBorderVertices(segCell);
+
+    PackedLineDissolver[] parts = new PackedLineDissolver[numCells];
+    IntStream cells = IntStream.range(0, numCells).parallel();
+    cells.forEach(c -> {
+      if (cellStart[c] == cellStart[c + 1]) return;
+      parts[c] = dissolvePartition(cellSegs, cellStart[c], cellStart[c + 1], borderVertices);
+    });
+
+    List<BorderLine> partBorderLines = new ArrayList<BorderLine>();
+    for (PackedLineDissolver part : parts) {
+      if (part == null) continue;
+      lines.addAll(part.lines);
+      partBorderLines.addAll(part.borderLines);
+    }
+    mergeBorderLines(partBorderLines, borderVertices);
+  }
+
+  private void initGrid() {
+    minX = Double.POSITIVE_INFINITY;
+    minY = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < 2 * numSegs; i++) {
+      double x = segs[2 * i];
+      double y = segs[2 * i + 1];
+      if (x < minX) minX = x;
+      if (x > maxX) maxX = x;
+      if (y < minY) minY = y;
+      if (y > maxY) maxY = y;
+    }
+    int numPartitions = (numSegs + partitionSize - 1) / partitionSize;
+    gridSize = (int) Math.ceil(Math.sqrt(numPartitions));
+    scaleX = maxX > minX ? gridSize / (maxX - minX) : 0;
+    scaleY = maxY > minY ? gridSize / (maxY - minY) : 0;
+  }
+
+  private int cell(double x, double y) {
+    int ix = Math.min((int) ((x - minX) * scaleX), gridSize - 1);
+    int iy = Math.min((int) ((y - minY) * scaleY), gridSize - 1);
+    return iy * gridSize + ix;
+  }
+
+  /**
+   * Finds the vertices which may have segments in more than one partition.
+   * A vertex with segments in different partitions
+   * lies outside the cell of at least one of them,
+   * so it is sufficient to check the endpoints of each segment
+   * against the segment cell.
+   *
+   * @param segCell the cell of each segment
+   * @return an index of the border vertices
+   */
+  private XYHashIndex findBorderVertices(int[] segCell) {
+    XYHashIndex borderVertices = new XYHashIndex();
+    for (int i = 0; i < numSegs; i++) {
+      int s = 4 * i;
+      if (cell(segs[s], segs[s + 1]) != segCell[i])
+        borderVertices.add(segs[s], segs[s + 1]);
+      if (cell(segs[s + 2], segs[s + 3]) != segCell[i])
+        borderVertices.add(segs[s + 2], segs[s + 3]);
+    }
+    return borderVertices;
+  }
+
+  private PackedLineDissolver dissolvePartition(int[] cellSegs, int start, int end, XYHashIndex borderVertices) {
+    PackedLineDissolver part = new PackedLineDissolver(factory);
+    for (int i = start; i < end; i++) {
+      int seg = cellSegs[i];
+      int s = 4 * seg;
+      part.addEdge(segs[s], segs[s + 1], segs[s + 2], segs[s + 3], isSegStart.get(seg));
+    }
+    PackedEdgeGraph partGraph = part.graph;
+    for (int v = 0; v < partGraph.getNumVertices(); v++) {
+      if (borderVertices.find(partGraph.getVertexX(v), partGraph.getVertexY(v)) != XYHashIndex.NONE)
+        part.isBorderVertex.set(v);
+    }
+    part.computeLines();
+    //-- release the graph, since only the lines are needed
+    part.graph = null;
+    part.isBorderVertex = null;
+    return part;
+  }
+
+  /**
+   * A dissolved line which ends at a border vertex,
+   * and so may need to be merged with lines from other partitions.
+   */
+  private static class BorderLine {
+    Coordinate[] pts;
+    /**
+     * The lowest origin of the input start segments in the line, if any
+     */
+    Coordinate ringStart;
+
+    BorderLine(Coordinate[] pts, Coordinate ringStart) {
+      this.pts = pts;
+      this.ringStart = ringStart;
+    }
+  }
+
+  /**
+   * Merges the lines ending at border vertices
+   * which are not nodes of the complete linework.
+   * Lines forming isolated rings start at the lowest origin
+   * of their input start segments, as for a single graph.
+   *
+   * @param borderLines the lines ending at border vertices
+   * @param borderVertices the border vertices
+   */
+  private void mergeBorderLines(List<BorderLine> borderLines, XYHashIndex borderVertices) {
+    int n = borderLines.size();
+    //-- index the line ends (2i, 2i+1) by their vertex
+    XYHashIndex vertices = new XYHashIndex();
+    int[] endVertex = new int[2 * n];
+    for (int i = 0; i < n; i++) {
+      Coordinate[] pts = borderLines.get(i).pts;
+      endVertex[2 * i] = vertices.add(pts[0].x, pts[0].y);
+      endVertex[2 * i + 1] = vertices.add(pts[pts.length - 1].x, pts[pts.length - 1].y);
+    }
+    int numVertices = vertices.size();
+    int[] vertexEndStart = new int[numVertices + 1];
+    for (int end = 0; end < 2 * n; end++) {
+      vertexEndStart[endVertex[end] + 1]++;
+    }
+    for (int v = 0; v < numVertices; v++) {
+      vertexEndStart[v + 1] += vertexEndStart[v];
+    }
+    int[] vertexEnds = new int[2 * n];
+    int[] vertexPos = Arrays.copyOf(vertexEndStart, numVertices);
+    for (int end = 0; end < 2 * n; end++) {
+      vertexEnds[vertexPos[endVertex[end]]++] = end;
+    }
+
+    /**
+     * Lines are merged at border vertices with two line ends.
+     * Other vertices are nodes, since the line ends at a vertex
+     * inside a partition do not include the lines which do not touch borders.
+     */
+    BitSet isMergeVertex = new BitSet(numVertices);
+    for (int v = 0; v < numVertices; v++) {
+      if (vertexEndStart[v + 1] - vertexEndStart[v] == 2
+          && borderVertices.find(vertices.getX(v), vertices.getY(v)) != XYHashIndex.NONE)
+        isMergeVertex.set(v);
+    }
+
+    BitSet isMerged = new BitSet(n);
+    //-- merge lines starting at nodes
+    for (int v = 0; v < numVertices; v++) {
+      if (isMergeVertex.get(v)) continue;
+      for (int i = vertexEndStart[v]; i < vertexEndStart[v + 1]; i++) {
+        int end = vertexEnds[i];
+        if (isMerged.get(end / 2)) continue;
+        mergeFrom(end, borderLines, endVertex, vertexEndStart, vertexEnds, isMergeVertex, isMerged, false);
+      }
+    }
+    //-- merge isolated rings
+    for (int i = 0; i < n; i++) {
+      if (isMerged.get(i)) continue;
+      mergeFrom(2 * i, borderLines, endVertex, vertexEndStart, vertexEnds, isMergeVertex, isMerged, true);
+    }
+  }
+
+  private void mergeFrom(int startEnd, List<BorderLine> borderLines,
+      int[] endVertex, int[] vertexEndStart, int[] vertexEnds,
+      BitSet isMergeVertex, BitSet isMerged, boolean isRing) {
+    CoordinateList line = new CoordinateList();
+    Coordinate ringStart = null;
+    int end = startEnd;
+    while (true) {
+      BorderLine borderLine = borderLines.get(end / 2);
+      isMerged.set(end / 2);
+      line.add(borderLine.pts, false, end % 2 == 0);
+      if (borderLine.ringStart != null
+          && (ringStart == null || borderLine.ringStart.compareTo(ringStart) < 0)) {
+        ringStart = borderLine.ringStart;
+      }
+      int lastEnd = end ^ 1;
+      int v = endVertex[lastEnd];
+      if (! isMergeVertex.get(v)) break;
+      int i = vertexEndStart[v];
+      end = vertexEnds[i] == lastEnd ? vertexEnds[i + 1] : vertexEnds[i];
+      if (end == startEnd) break;
+    }
+    Coordinate[] pts = line.toCoordinateArray();
+    if (isRing && ringStart != null) {
+      pts = startRingAt(pts, ringStart);
+    }
+    lines.add(factory.createLineString(pts));
+  }
+
+  private static Coordinate[] startRingAt(Coordinate[] ring, Coordinate start) {
+    int n = ring.length - 1;
+    int index = 0;
+    while (index < n && ! ring[index].equals2D(start)) {
+      index++;
+    }
+    if (index == 0 || index == n) return ring;
+    Coordinate[] pts = new Coordinate[ring.length];
+    for (int i = 0; i < n; i++) {
+      pts[i] = ring[(index + i) % n];
+    }
+    pts[n] = pts[0];
+    return pts;
+  }
+
+  //------------------------------------------------------------
+  // Graph dissolving
+  //------------------------------------------------------------
+
+  private int[] nodeEdgeStack = new int[16];
+  private int stackSize = 0;
+
+  private void process(int e) {
+    int eNode = prevNode(e);
+    // if edge is in a ring, just process this edge
+    if (eNode == PackedEdgeGraph.NONE)
+      eNode = e;
+    stackEdges(eNode);
+    // extract lines from node edges in stack
+    buildLines();
+  }
+
+  /**
+   * Tests whether the origin of an edge is a node.
+   * A node has degree {@code <> 2}, or is a border vertex
+   * of a partition.
+   */
+  private boolean isNode(int e) {
+    return graph.degree(e) != 2
+        || isBorderVertex.get(graph.origVertex(e));
+  }
+
+  /**
+   * Finds the first node previous to an edge, if any.
+   *
+   * @return an edge originating at the node prior to the edge,
+   *   or {@link PackedEdgeGraph#NONE} if the edge is part of a ring
+   */
+  private int prevNode(int e) {
+    int curr = e;
+    while (! isNode(curr)) {
+      curr = graph.prev(curr);
+      if (curr == e)
+        return PackedEdgeGraph.NONE;
+    }
+    return curr;
+  }
+
+  /**
+   * For each edge in stack
+   * (which must originate at a node)
+   * extracts the line it initiates.
+   */
+  private void buildLines() {
+    while (stackSize > 0) {
+      int e = pop();
+      if (graph.isMarked(e))
+        continue;
+      buildLine(e);
+    }
+  }
+
+  private void push(int e) {
+    if (stackSize == nodeEdgeStack.length) {
+      nodeEdgeStack = Arrays.copyOf(nodeEdgeStack, 2 * stackSize);
+    }
+    nodeEdgeStack[stackSize++] = e;
+  }
+
+  private int pop() {
+    return nodeEdgeStack[--stackSize];
+  }
+
+  private int ringStartEdge;
+
+  /**
+   * Updates the tracked ringStartEdge
+   * if the given edge has a lower origin
+   * (using the standard Coordinate ordering).
+   *
+   * @see LineDissolver
+   */
+  private void updateRingStartEdge(int e)
+  {
+    if (! isStart.get(e)) {
+      e = PackedEdgeGraph.sym(e);
+      if (! isStart.get(e)) return;
+    }
+    // here e is known to be a start edge
+    if (ringStartEdge == PackedEdgeGraph.NONE
+        || compareOrig(e, ringStartEdge) < 0) {
+      ringStartEdge = e;
+    }
+  }
+
+  private int compareOrig(int e1, int e2) {
+    double x1 = graph.origX(e1);
+    double x2 = graph.origX(e2);
+    if (x1 < x2) return -1;
+    if (x1 > x2) return 1;
+    double y1 = graph.origY(e1);
+    double y2 = graph.origY(e2);
+    if (y1 < y2) return -1;
+    if (y1 > y2) return 1;
+    return 0;
+  }
+
+  /**
+   * Builds a line starting from the given edge.
+   * The start edge origin is a node (valence = 1 or >= 3),
+   * unless it is part of a pure ring.
+   *
+   * @param eStart the edge to start at
+   */
+  private void buildLine(int eStart) {
+    CoordinateList line = new CoordinateList();
+    int e = eStart;
+    ringStartEdge = PackedEdgeGraph.NONE;
+
+    graph.markBoth(e);
+    line.add(graph.orig(e), false);
+    // scan along the path until a node is found (if one exists)
+    while (! isNode(PackedEdgeGraph.sym(e))) {
+      updateRingStartEdge(e);
+      int eNext = graph.next(e);
+      // check if edges form a ring - if so, we're done
+      if (eNext == eStart)  {
+        buildRing(ringStartEdge);
+        return;
+      }
+      // add point to line, and move to next edge
+      line.add(graph.orig(eNext), false);
+      e = eNext;
+      graph.markBoth(e);
+    }
+    // add final node
+    line.add(graph.dest(e), false);
+
+    // queue up the final node edges
+    stackEdges(PackedEdgeGraph.sym(e));
+    // store the scanned line
+    if (isBorderVertex.get(graph.origVertex(eStart))
+        || isBorderVertex.get(graph.destVertex(e))) {
+      updateRingStartEdge(e);
+      Coordinate ringStart = ringStartEdge == PackedEdgeGraph.NONE
+          ? null : graph.orig(ringStartEdge);
+      borderLines.add(new BorderLine(line.toCoordinateArray(), ringStart));
+    }
+    else {
+      addLine(line);
+    }
+  }
+
+  private void buildRing(int eStartRing) {
+    CoordinateList line = new CoordinateList();
+    int e = eStartRing;
+
+    line.add(graph.orig(e), false);
+    // scan along the path until a node is found (if one exists)
+    while (! isNode(PackedEdgeGraph.sym(e))) {
+      int eNext = graph.next(e);
+      // check if edges form a ring - if so, we're done
+      if (eNext == eStartRing)
+        break;
+
+      // add point to line, and move to next edge
+      line.add(graph.orig(eNext), false);
+      e = eNext;
+    }
+    // add final node
+    line.add(graph.dest(e), false);
+
+    // store the scanned line
+    addLine(line);
+  }
+
+  private void addLine(CoordinateList line) {
+    lines.add(factory.createLineString(line.toCoordinateArray()));
+  }
+
+  /**
+   * Adds edges around this node to the stack.
+   *
+   * @param node an edge originating at the node
+   */
+  private void stackEdges(int node) {
+    int e = node;
+    do {
+      if (! graph.isMarked(e))
+        push(e);
+      e = graph.oNext(e);
+    } while (e != node);
+  }
+}
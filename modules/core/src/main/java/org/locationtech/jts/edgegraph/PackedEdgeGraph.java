@@ -0,0 +1,593 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.edgegraph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Quadrant;
+import org.locationtech.jts.util.Assert;
+import org.locationtech.jts.util.XYHashIndex;
+
+/**
+ * A compact graph of half-edges between 2D vertices,
+ * stored in primitive arrays.
+ * It has the same structure and edge algebra as an {@link EdgeGraph}
+ * of {@link HalfEdge}s, but uses much less memory
+ * and avoids allocating objects per edge or vertex.
+ * This allows it to represent graphs containing tens of millions of edges.
+ * <p>
+ * Half-edges are identified by non-negative <code>int</code> ids.
+ * Half-edges are created in symmetric pairs,
+ * with ids <code>2k</code> and <code>2k+1</code>,
+ * so that {@link #sym(int)} is computed rather than stored.
+ * As in {@link HalfEdge}, the edges around each vertex are
+ * linked in CCW order.
+ * Vertices are identified by <code>int</code> ids,
+ * and are located by an {@link XYHashIndex}.
+ * Vertices are equal if they are equal in 2D
+ * (so any Z or M ordinates of the input are ignored).
+ * <p>
+ * Each half-edge has a mark flag,
+ * which can be used by algorithms traversing the graph.
+ *
+ * @author Martin Davis
+ *
+ * @see EdgeGraph
+ * @see HalfEdge
+ */
+public class PackedEdgeGraph
+{
+  /**
+   * Indicates that no edge or vertex exists.
+   */
+  public static final int NONE = -1;
+
+  private static final int INIT_CAPACITY = 16;
+
+  /**
+   * Gets the symmetric (opposite) half-edge of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return the id of the sym half-edge
+   */
+  public static int sym(int e) {
+    return e ^ 1;
+  }
+
+  private XYHashIndex vertexIndex;
+  private int[] vertexEdge;
+
+  private int[] edgeOrig;
+  private int[] edgeNext;
+  private int numEdges = 0;
+  private BitSet edgeMark = new BitSet();
+
+  /**
+   * Creates a new empty graph.
+   */
+  public PackedEdgeGraph() {
+    this(INIT_CAPACITY);
+  }
+
+  /**
+   * Creates a new empty graph,
+   * with space allocated for a given number of edges.
+   *
+   * @param edgeCapacity the expected number of edges
+   */
+  public PackedEdgeGraph(int edgeCapacity) {
+    int cap = Math.max(edgeCapacity, INIT_CAPACITY);
+    vertexIndex = new XYHashIndex(cap);
+    vertexEdge = new int[cap];
+    edgeOrig = new int[2 * cap];
+    edgeNext = new int[2 * cap];
+  }
+
+  /**
+   * Gets the number of vertices in the graph.
+   * Vertex ids range from 0 to this value (exclusive).
+   *
+   * @return the number of vertices
+   */
+  public int getNumVertices() {
+    return vertexIndex.size();
+  }
+
+  /**
+   * Gets the number of half-edges in the graph.
+   * Half-edge ids range from 0 to this value (exclusive).
+   *
+   * @return the number of half-edges
+   */
+  public int getNumHalfEdges() {
+    return numEdges;
+  }
+
+  /**
+   * Gets the X ordinate of a vertex.
+   *
+   * @param v a vertex id
+   * @return the X ordinate of the vertex
+   */
+  public double getVertexX(int v) {
+    return vertexIndex.getX(v);
+  }
+
+  /**
+   * Gets the Y ordinate of a vertex.
+   *
+   * @param v a vertex id
+   * @return the Y ordinate of the vertex
+   */
+  public double getVertexY(int v) {
+    return vertexIndex.getY(v);
+  }
+
+  /**
+   * Gets a half-edge originating at a vertex.
+   *
+   * @param v a vertex id
+   * @return a half-edge with the vertex as origin
+   */
+  public int getVertexEdge(int v) {
+    return vertexEdge[v];
+  }
+
+  /**
+   * Finds the vertex at a location, if it exists.
+   *
+   * @param x the X ordinate of the location
+   * @param y the Y ordinate of the location
+   * @return the vertex id, or {@link #NONE} if there is no vertex at the location
+   */
+  public int findVertex(double x, double y) {
+    return vertexIndex.find(x, y);
+  }
+
+  /**
+   * Adds an edge between two locations to this graph,
+   * if it is not already present.
+   * Only valid edges can be added
+   * (in particular, zero-length segments cannot be added).
+   *
+   * @param x0 the X ordinate of the edge origin
+   * @param y0 the Y ordinate of the edge origin
+   * @param x1 the X ordinate of the edge destination
+   * @param y1 the Y ordinate of the edge destination
+   * @return the half-edge from the origin to the destination,
+   *   or {@link #NONE} if the edge is invalid
+   */
+  public int addEdge(double x0, double y0, double x1, double y1) {
+    if (x0 == x1 && y0 == y1) return NONE;
+
+    int v0 = addVertex(x0, y0);
+    int v1 = addVertex(x1, y1);
+    int eAdj0 = vertexEdge[v0];
+    if (eAdj0 != NONE) {
+      int eSame = find(eAdj0, v1);
+      if (eSame != NONE) return eSame;
+    }
+    int e = createPair(v0, v1);
+    insert(v0, e);
+    insert(v1, sym(e));
+    return e;
+  }
+
+  /**
+   * Adds an edge between two coordinates to this graph,
+   * if it is not already present.
+   *
+   * @param orig the edge origin location
+   * @param dest the edge destination location
+   * @return the half-edge from the origin to the destination,
+   *   or {@link #NONE} if the edge is invalid
+   *
+   * @see #addEdge(double, double, double, double)
+   */
+  public int addEdge(Coordinate orig, Coordinate dest) {
+    return addEdge(orig.getX(), orig.getY(), dest.getX(), dest.getY());
+  }
+
+  /**
+   * Finds an edge in this graph with the given origin
+   * and destination, if one exists.
+   *
+   * @param x0 the X ordinate of the edge origin
+   * @param y0 the Y ordinate of the edge origin
+   * @param x1 the X ordinate of the edge destination
+   * @param y1 the Y ordinate of the edge destination
+   * @return the half-edge with the given origin and destination,
+   *   or {@link #NONE} if none exists
+   */
+  public int findEdge(double x0, double y0, double x1, double y1) {
+    int v0 = findVertex(x0, y0);
+    if (v0 == NONE) return NONE;
+    int v1 = findVertex(x1, y1);
+    if (v1 == NONE) return NONE;
+    return find(vertexEdge[v0], v1);
+  }
+
+  /**
+   * Finds an edge in this graph with the given origin
+   * and destination, if one exists.
+   *
+   * @param orig the origin location
+   * @param dest the destination location
+   * @return the half-edge with the given origin and destination,
+   *   or {@link #NONE} if none exists
+   */
+  public int findEdge(Coordinate orig, Coordinate dest) {
+    return findEdge(orig.getX(), orig.getY(), dest.getX(), dest.getY());
+  }
+
+  /**
+   * Finds the half-edge starting at the origin of a half-edge
+   * with the given destination vertex, if any.
+   *
+   * @param e a half-edge
+   * @param destVertex the destination vertex id to search for
+   * @return the half-edge with the required destination, or {@link #NONE}
+   */
+  public int find(int e, int destVertex) {
+    int oNext = e;
+    do {
+      if (destVertex(oNext) == destVertex)
+        return oNext;
+      oNext = oNext(oNext);
+    } while (oNext != e);
+    return NONE;
+  }
+
+  /**
+   * Gets the origin vertex of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return the origin vertex id
+   */
+  public int origVertex(int e) {
+    return edgeOrig[e];
+  }
+
+  /**
+   * Gets the destination vertex of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return the destination vertex id
+   */
+  public int destVertex(int e) {
+    return edgeOrig[sym(e)];
+  }
+
+  /**
+   * Gets the X ordinate of the origin of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return the origin X ordinate
+   */
+  public double origX(int e) {
+    return vertexIndex.getX(edgeOrig[e]);
+  }
+
+  /**
+   * Gets the Y ordinate of the origin of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return the origin Y ordinate
+   */
+  public double origY(int e) {
+    return vertexIndex.getY(edgeOrig[e]);
+  }
+
+  /**
+   * Gets the X ordinate of the destination of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return the destination X ordinate
+   */
+  public double destX(int e) {
+    return origX(sym(e));
+  }
+
+  /**
+   * Gets the Y ordinate of the destination of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return the destination Y ordinate
+   */
+  public double destY(int e) {
+    return origY(sym(e));
+  }
+
+  /**
+   * Creates a coordinate for the origin of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return a new coordinate for the origin
+   */
+  public Coordinate orig(int e) {
+    return new Coordinate(origX(e), origY(e));
+  }
+
+  /**
+   * Creates a coordinate for the destination of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return a new coordinate for the destination
+   */
+  public Coordinate dest(int e) {
+    return orig(sym(e));
+  }
+
+  /**
+   * Gets the next half-edge CCW around the
+   * destination vertex of a half-edge,
+   * originating at that vertex.
+   * If the destination vertex has degree 1 then this is the <b>sym</b> edge.
+   *
+   * @param e a half-edge id
+   * @return the next outgoing half-edge CCW around the destination vertex
+   *
+   * @see HalfEdge#next()
+   */
+  public int next(int e) {
+    return edgeNext[e];
+  }
+
+  /**
+   * Gets the next half-edge CCW around the origin of a half-edge,
+   * with the same origin.
+   * If the origin vertex has degree 1 then this is the edge itself.
+   *
+   * @param e a half-edge id
+   * @return the next half-edge around the origin
+   *
+   * @see HalfEdge#oNext()
+   */
+  public int oNext(int e) {
+    return edgeNext[sym(e)];
+  }
+
+  /**
+   * Gets the previous half-edge CW around the origin
+   * vertex of a half-edge,
+   * with that vertex being its destination.
+   * This requires a scan of the origin edges.
+   *
+   * @param e a half-edge id
+   * @return the previous half-edge CW around the origin vertex
+   *
+   * @see HalfEdge#prev()
+   */
+  public int prev(int e) {
+    int curr = e;
+    int prev;
+    do {
+      prev = curr;
+      curr = oNext(curr);
+    } while (curr != e);
+    return sym(prev);
+  }
+
+  /**
+   * Computes the degree of the origin vertex of a half-edge.
+   *
+   * @param e a half-edge id
+   * @return the degree of the origin vertex
+   */
+  public int degree(int e) {
+    int degree = 0;
+    int curr = e;
+    do {
+      degree++;
+      curr = oNext(curr);
+    } while (curr != e);
+    return degree;
+  }
+
+  /**
+   * Finds the first node previous to a half-edge, if any.
+   * A node has degree {@code <> 2}.
+   * If no such node exists (i.e. the edge is part of a ring)
+   * then {@link #NONE} is returned.
+   *
+   * @param e a half-edge id
+   * @return a half-edge originating at the node prior to the edge,
+   *   or {@link #NONE} if no node exists
+   */
+  public int prevNode(int e) {
+    int curr = e;
+    while (degree(curr) == 2) {
+      curr = prev(curr);
+      if (curr == e)
+        return NONE;
+    }
+    return curr;
+  }
+
+  /**
+   * Tests whether a half-edge is marked.
+   *
+   * @param e a half-edge id
+   * @return true if the half-edge is marked
+   */
+  public boolean isMarked(int e) {
+    return edgeMark.get(e);
+  }
+
+  /**
+   * Marks a half-edge.
+   *
+   * @param e a half-edge id
+   */
+  public void mark(int e) {
+    edgeMark.set(e);
+  }
+
+  /**
+   * Marks a half-edge and its sym.
+   *
+   * @param e a half-edge id
+   */
+  public void markBoth(int e) {
+    edgeMark.set(e);
+    edgeMark.set(sym(e));
+  }
+
+  /**
+   * Tests whether the half-edges around the origin
+   * of a half-edge are sorted correctly
+   * (i.e. are strictly increasing in CCW order).
+   *
+   * @param e a half-edge id
+   * @return true if the origin edges are sorted correctly
+   *
+   * @see HalfEdge#isEdgesSorted()
+   */
+  public boolean isEdgesSorted(int e) {
+    int lowest = e;
+    int curr = oNext(e);
+    while (curr != e) {
+      if (compareAngularDirection(curr, lowest) < 0)
+        lowest = curr;
+      curr = oNext(curr);
+    }
+    curr = lowest;
+    do {
+      int eNext = oNext(curr);
+      if (eNext == lowest) break;
+      if (compareAngularDirection(eNext, curr) <= 0)
+        return false;
+      curr = eNext;
+    } while (curr != lowest);
+    return true;
+  }
+
+  /**
+   * Compares half-edges which originate at the same vertex
+   * based on the angle they make at their origin vertex with the positive X-axis.
+   * This uses the same robust ordering as {@link HalfEdge#compareAngularDirection(HalfEdge)}.
+   *
+   * @param e1 a half-edge id
+   * @param e2 a half-edge id with the same origin
+   * @return a negative, zero or positive value
+   *   as the angle of e1 is less than, equal to or greater than that of e2
+   */
+  public int compareAngularDirection(int e1, int e2)
+  {
+    double ox = origX(e1);
+    double oy = origY(e1);
+    double dx = destX(e1) - ox;
+    double dy = destY(e1) - oy;
+    double dx2 = destX(e2) - ox;
+    double dy2 = destY(e2) - oy;
+
+    // same vector
+    if (dx == dx2 && dy == dy2)
+      return 0;
+
+    int quadrant = Quadrant.quadrant(dx, dy);
+    int quadrant2 = Quadrant.quadrant(dx2, dy2);
+    if (quadrant > quadrant2) return 1;
+    if (quadrant < quadrant2) return -1;
+
+    //--- vectors are in the same quadrant, so e1 > e2 if it is CCW of e2
+    return CGAlgorithmsDD.orientationIndex(ox, oy,
+        destX(e2), destY(e2), destX(e1), destY(e1));
+  }
+
+  private int addVertex(double x, double y) {
+    int numVertices = vertexIndex.size();
+    int v = vertexIndex.add(x, y);
+    //-- initialize a new vertex
+    if (v == numVertices) {
+      if (v == vertexEdge.length) {
+        vertexEdge = Arrays.copyOf(vertexEdge, 2 * vertexEdge.length);
+      }
+      vertexEdge[v] = NONE;
+    }
+    return v;
+  }
+
+  private int createPair(int v0, int v1) {
+    if (numEdges == edgeOrig.length) {
+      int cap = 2 * edgeOrig.length;
+      edgeOrig = Arrays.copyOf(edgeOrig, cap);
+      edgeNext = Arrays.copyOf(edgeNext, cap);
+    }
+    int e = numEdges;
+    numEdges += 2;
+    edgeOrig[e] = v0;
+    edgeOrig[e + 1] = v1;
+    // set next ptrs for a single segment
+    edgeNext[e] = e + 1;
+    edgeNext[e + 1] = e;
+    return e;
+  }
+
+  /**
+   * Inserts a half-edge into the ring of edges around its origin vertex,
+   * ensuring that the edges remain ordered CCW.
+   */
+  private void insert(int v, int eAdd) {
+    int eBase = vertexEdge[v];
+    if (eBase == NONE) {
+      vertexEdge[v] = eAdd;
+      return;
+    }
+    // If this is only edge at origin, insert it after this
+    if (oNext(eBase) == eBase) {
+      insertAfter(eBase, eAdd);
+      return;
+    }
+    insertAfter(insertionEdge(eBase, eAdd), eAdd);
+  }
+
+  /**
+   * Finds the insertion edge for a half-edge
+   * being added to an origin,
+   * ensuring that the star of edges
+   * around the origin remains fully CCW.
+   *
+   * @see HalfEdge#insert(HalfEdge)
+   */
+  private int insertionEdge(int eBase, int eAdd) {
+    int ePrev = eBase;
+    do {
+      int eNext = oNext(ePrev);
+      int compNextPrev = compareAngularDirection(eNext, ePrev);
+      //-- general case, with eNext higher than ePrev
+      if (compNextPrev > 0
+          && compareAngularDirection(eAdd, ePrev) >= 0
+          && compareAngularDirection(eAdd, eNext) <= 0) {
+        return ePrev;
+      }
+      //-- origin-crossing case, indicated by eNext <= ePrev
+      if (compNextPrev <= 0
+          && (compareAngularDirection(eAdd, eNext) <= 0
+            || compareAngularDirection(eAdd, ePrev) >= 0)) {
+        return ePrev;
+      }
+      ePrev = eNext;
+    } while (ePrev != eBase);
+    Assert.shouldNeverReachHere();
+    return NONE;
+  }
+
+  private void insertAfter(int ePrev, int eAdd) {
+    int save = oNext(ePrev);
+    edgeNext[sym(ePrev)] = eAdd;
+    edgeNext[sym(eAdd)] = save;
+  }
+}
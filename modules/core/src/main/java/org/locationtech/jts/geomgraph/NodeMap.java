@@ -16,21 +16,27 @@ import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.TreeMap;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Location;
+import org.locationtech.jts.util.XYHashMap;
 
 /**
- * A map of nodes, indexed by the coordinate of the node
+ * A map of nodes, indexed by the coordinate of the node.
+ * Nodes are located using a hash of the coordinate ordinates,
+ * and iterated in coordinate order.
+ * <p>
+ * The collection returned by {@link #values()} (and used by {@link #iterator()})
+ * is an unmodifiable snapshot, which is cached until the map is next changed.
+ * Unlike a live map view, it does not reflect nodes added or removed
+ * after it was obtained, and {@link Iterator#remove()} is not supported.
+ *
  * @version 1.7
  */
 public class NodeMap
 
 {
-  //Map nodeMap = new HashMap();
-  Map nodeMap = new TreeMap();
+  XYHashMap<Node> nodeMap = new XYHashMap<Node>();
   NodeFactory nodeFact;
 
   public NodeMap(NodeFactory nodeFact) {
@@ -53,7 +59,7 @@ public class NodeMap
    */
   public Node addNode(Coordinate coord)
   {
-    Node node = (Node) nodeMap.get(coord);
+    Node node = nodeMap.get(coord);
     if (node == null) {
       node = nodeFact.createNode(coord);
       nodeMap.put(coord, node);
@@ -63,7 +69,7 @@ public class NodeMap
 
   public Node addNode(Node n)
   {
-    Node node = (Node) nodeMap.get(n.getCoordinate());
+    Node node = nodeMap.get(n.getCoordinate());
     if (node == null) {
       nodeMap.put(n.getCoordinate(), n);
       return n;
@@ -91,15 +97,15 @@ public class NodeMap
    * @param coord Coordinate to find
    * @return the node if found; null otherwise
    */
-  public Node find(Coordinate coord)  {    return (Node) nodeMap.get(coord);  }
+  public Node find(Coordinate coord)  {    return nodeMap.get(coord);  }
 
   public Iterator iterator()
   {
-    return nodeMap.values().iterator();
+    return nodeMap.orderedValues().iterator();
   }
   public Collection values()
   {
-    return nodeMap.values();
+    return nodeMap.orderedValues();
   }
 
   public Collection getBoundaryNodes(int geomIndex)
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.linearref;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.algorithm.Distance;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.math.MathUtil;
+import org.locationtech.jts.util.IntArrayList;
+
+/**
+ * Supports projecting points onto a linear {@link Geometry}
+ * and extracting points at length indexes,
+ * using a spatial index of the line segments.
+ * This computes the same values as
+ * {@link LengthIndexedLine#project(Coordinate)} and
+ * {@link LengthIndexedLine#extractPoint(double)},
+ * but is much faster for long lines
+ * when many points are projected or extracted.
+ * <p>
+ * The index is built once, in the constructor.
+ * The segments are indexed by a packed R-tree over
+ * their sequence along the line,
+ * which is effective since the segments of a line are spatially coherent.
+ * Projection uses a branch-and-bound search of the tree,
+ * and extraction uses a binary search of the segment start lengths.
+ * <p>
+ * Instances are immutable, and so can be used by multiple threads concurrently.
+ *
+ * @author Martin Davis
+ *
+ * @see LengthIndexedLine
+ */
+public class IndexedLengthIndexedLine
+{
+  /**
+   * Number of items/nodes in a parent node.
+   */
+  private static final int NODE_CAPACITY = 16;
+
+  /**
+   * Factor for the tolerance used when pruning index nodes.
+   * This ensures that floating-point round-off in the
+   * segment distance computation cannot cause a nearest segment to be missed.
+   */
+  private static final double PRUNE_TOLERANCE_FACTOR = 1.0e-10;
+
+  private final Geometry linearGeom;
+  private final double length;
+
+  //-- the line segments, in order along the line
+  private int numSegs = 0;
+  private Coordinate[] segP0;
+  private Coordinate[] segP1;
+  private double[] segLen;
+  private double[] segStart;
+  private int[] segComp;
+  private int[] segVertex;
+
+  //-- the component ends, with the number of segments preceding each
+  private int numEnds = 0;
+  private double[] endLength;
+  private int[] endComp;
+  private int[] endVertex;
+  private int[] endSegCount;
+
+  private int[] levelOffset;
+  private double[] bounds;
+  private double maxAbsOrdinate = 0.0;
+
+  /**
+   * Creates an indexed line for a linear {@link Geometry}.
+   *
+   * @param linearGeom the linear geometry to reference along
+   */
+  public IndexedLengthIndexedLine(Geometry linearGeom) {
+    this.linearGeom = linearGeom;
+    length = linearGeom.getLength();
+    extractSegments();
+    buildIndex();
+  }
+
+  /**
+   * Gets the index of the end of the line.
+   *
+   * @return the end index
+   */
+  public double getEndIndex() {
+    return length;
+  }
+
+  private void extractSegments() {
+    int numPts = linearGeom.getNumPoints();
+    segP0 = new Coordinate[numPts];
+    segP1 = new Coordinate[numPts];
+    segLen = new double[numPts];
+    segStart = new double[numPts];
+    segComp = new int[numPts];
+    segVertex = new int[numPts];
+    int numLines = linearGeom.getNumGeometries();
+    endLength = new double[numLines];
+    endComp = new int[numLines];
+    endVertex = new int[numLines];
+    endSegCount = new int[numLines];
+
+    /**
+     * The segments are traversed in the same way as
+     * by LengthIndexOfPoint and LengthLocationMap,
+     * so that the computed lengths are identical.
+     */
+    double totalLength = 0.0;
+    LinearIterator it = new LinearIterator(linearGeom);
+    while (it.hasNext()) {
+      if (it.isEndOfLine()) {
+        endLength[numEnds] = totalLength;
+        endComp[numEnds] = it.getComponentIndex();
+        endVertex[numEnds] = it.getVertexIndex();
+        endSegCount[numEnds] = numSegs;
+        numEnds++;
+      }
+      else {
+        Coordinate p0 = it.getSegmentStart();
+        Coordinate p1 = it.getSegmentEnd();
+        double len = p1.distance(p0);
+        segP0[numSegs] = p0;
+        segP1[numSegs] = p1;
+        segLen[numSegs] = len;
+        segStart[numSegs] = totalLength;
+        segComp[numSegs] = it.getComponentIndex();
+        segVertex[numSegs] = it.getVertexIndex();
+        numSegs++;
+        totalLength += len;
+      }
+      it.next();
+    }
+  }
+
+  //------------------------------------------------------------
+  // Projection
+  //------------------------------------------------------------
+
+  /**
+   * Computes the index for the closest point on the line to the given point.
+   * If more than one point has the closest distance the first one along the line
+   * is returned.
+   *
+   * @param pt a point
+   * @return the index of the point
+   *
+   * @see LengthIndexedLine#project(Coordinate)
+   */
+  public double project(Coordinate pt) {
+    if (numSegs == 0) return -1.0;
+    int seg = nearestSegment(pt);
+    return segmentNearestMeasure(seg, pt);
+  }
+
+  /**
+   * Computes the index for the closest point on the line to the given point.
+   *
+   * @param x the X ordinate of the point
+   * @param y the Y ordinate of the point
+   * @return the index of the point
+   *
+   * @see #project(Coordinate)
+   */
+  public double project(double x, double y) {
+    return project(new Coordinate(x, y));
+  }
+
+  /**
+   * Computes the indexes for the closest points on the line
+   * to a set of points.
+   *
+   * @param xs the X ordinates of the points
+   * @param ys the Y ordinates of the points
+   * @return the indexes of the points
+   *
+   * @see #project(Coordinate)
+   */
+  public double[] project(double[] xs, double[] ys) {
+    if (xs.length != ys.length)
+      throw new IllegalArgumentException("Ordinate arrays must have the same length");
+    double[] index = new double[xs.length];
+    Coordinate pt = new Coordinate();
+    for (int i = 0; i < xs.length; i++) {
+      pt.x = xs[i];
+      pt.y = ys[i];
+      index[i] = project(pt);
+    }
+    return index;
+  }
+
+  /**
+   * Finds the first segment along the line
+   * which has the minimum distance to a point.
+   * An initial bound is found by descending to the nearest leaf node.
+   * Then the tree is searched in segment order,
+   * so that segments with equal distance are resolved
+   * in the same way as a linear scan.
+   */
+  private int nearestSegment(Coordinate pt) {
+    NearestSearch search = new NearestSearch(pt);
+    int topLevel = levelOffset.length - 2;
+    search.searchGreedy(topLevel, 0);
+    search.search(topLevel, 0);
+    return search.nearestSeg;
+  }
+
+  private class NearestSearch {
+    private Coordinate pt;
+    private double tolerance;
+    int nearestSeg = -1;
+    double nearestDist = Double.MAX_VALUE;
+
+    NearestSearch(Coordinate pt) {
+      this.pt = pt;
+      double scale = Math.max(maxAbsOrdinate, Math.max(Math.abs(pt.x), Math.abs(pt.y)));
+      tolerance = PRUNE_TOLERANCE_FACTOR * scale;
+    }
+
+    void searchGreedy(int level, int nodeIndex) {
+      while (level > 0) {
+        int childStart = nodeIndex * NODE_CAPACITY;
+        int childEnd = MathUtil.clampMax(childStart + NODE_CAPACITY, levelSize(level - 1));
+        int nearestChild = childStart;
+        double minDist = Double.POSITIVE_INFINITY;
+        for (int i = childStart; i < childEnd; i++) {
+          double dist = nodeDistance(level - 1, i);
+          if (dist < minDist) {
+            minDist = dist;
+            nearestChild = i;
+          }
+        }
+        nodeIndex = nearestChild;
+        level--;
+      }
+      searchItems(nodeIndex);
+    }
+
+    void search(int level, int nodeIndex) {
+      if (nodeDistance(level, nodeIndex) > nearestDist + tolerance)
+        return;
+      if (level == 0) {
+        searchItems(nodeIndex);
+        return;
+      }
+      int childStart = nodeIndex * NODE_CAPACITY;
+      int childEnd = MathUtil.clampMax(childStart + NODE_CAPACITY, levelSize(level - 1));
+      for (int i = childStart; i < childEnd; i++) {
+        search(level - 1, i);
+      }
+    }
+
+    private void searchItems(int nodeIndex) {
+      int start = nodeIndex * NODE_CAPACITY;
+      int end = MathUtil.clampMax(start + NODE_CAPACITY, numSegs);
+      for (int i = start; i < end; i++) {
+        double dist = Distance.pointToSegment(pt, segP0[i], segP1[i]);
+        if (dist < nearestDist
+            || (dist == nearestDist && i < nearestSeg)) {
+          nearestDist = dist;
+          nearestSeg = i;
+        }
+      }
+    }
+
+    private double nodeDistance(int level, int nodeIndex) {
+      int b = 4 * (levelOffset[level] + nodeIndex);
+      double dx = Math.max(0.0, Math.max(bounds[b] - pt.x, pt.x - bounds[b + 2]));
+      double dy = Math.max(0.0, Math.max(bounds[b + 1] - pt.y, pt.y - bounds[b + 3]));
+      return Math.sqrt(dx * dx + dy * dy);
+    }
+  }
+
+  /**
+   * Computes the length index of the point on a segment nearest a given point,
+   * in the same way as {@link LengthIndexOfPoint}.
+   */
+  private double segmentNearestMeasure(int seg, Coordinate pt) {
+    double projFactor = projectionFactor(segP0[seg], segP1[seg], pt);
+    if (projFactor <= 0.0)
+      return segStart[seg];
+    if (projFactor <= 1.0)
+      return segStart[seg] + projFactor * segLen[seg];
+    return segStart[seg] + segLen[seg];
+  }
+
+  /**
+   * Computes the projection factor of a point on a segment.
+   *
+   * @see org.locationtech.jts.geom.LineSegment#projectionFactor(Coordinate)
+   */
+  private static double projectionFactor(Coordinate p0, Coordinate p1, Coordinate p) {
+    if (p.equals2D(p0)) return 0.0;
+    if (p.equals2D(p1)) return 1.0;
+    double dx = p1.x - p0.x;
+    double dy = p1.y - p0.y;
+    double len = dx * dx + dy * dy;
+    if (len <= 0.0) return Double.NaN;
+    return ((p.x - p0.x) * dx + (p.y - p0.y) * dy) / len;
+  }
+
+  //------------------------------------------------------------
+  // Extraction
+  //------------------------------------------------------------
+
+  /**
+   * Computes the {@link Coordinate} for the point
+   * on the line at the given index.
+   * If the index is out of range the first or last point on the
+   * line will be returned.
+   *
+   * @param index the index of the desired point
+   * @return the Coordinate at the given index
+   *
+   * @see LengthIndexedLine#extractPoint(double)
+   */
+  public Coordinate extractPoint(double index) {
+    return location(index).getCoordinate(linearGeom).copy();
+  }
+
+  /**
+   * Computes the {@link Coordinate}s for the points
+   * on the line at a set of indexes.
+   *
+   * @param indexes the indexes of the desired points
+   * @return the Coordinates at the given indexes
+   *
+   * @see #extractPoint(double)
+   */
+  public Coordinate[] extractPoint(double[] indexes) {
+    Coordinate[] pts = new Coordinate[indexes.length];
+    for (int i = 0; i < indexes.length; i++) {
+      pts[i] = extractPoint(indexes[i]);
+    }
+    return pts;
+  }
+
+  /**
+   * Computes the location for a length index,
+   * in the same way as {@link LengthLocationMap#getLocation(double)}.
+   */
+  private LinearLocation location(double index) {
+    double forwardLength = index;
+    if (index < 0.0) {
+      forwardLength = length + index;
+    }
+    if (forwardLength <= 0.0)
+      return new LinearLocation();
+
+    //-- the first segment ending after the length
+    int seg = firstAfter(forwardLength);
+    /**
+     * If the length is exactly at the end of a component
+     * preceding the segment, the component end is used
+     */
+    int end = firstEndAtOrAfter(forwardLength);
+    if (end < numEnds && endLength[end] == forwardLength
+        && (seg == numSegs || endSegCount[end] <= seg)) {
+      return new LinearLocation(endComp[end], endVertex[end], 0.0);
+    }
+    if (seg < numSegs) {
+      double frac = (forwardLength - segStart[seg]) / segLen[seg];
+      return new LinearLocation(segComp[seg], segVertex[seg], frac);
+    }
+    return LinearLocation.getEndLocation(linearGeom);
+  }
+
+  private int firstAfter(double len) {
+    int lo = 0;
+    int hi = numSegs;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (segStart[mid] + segLen[mid] > len)
+        hi = mid;
+      else
+        lo = mid + 1;
+    }
+    return lo;
+  }
+
+  private int firstEndAtOrAfter(double len) {
+    int lo = 0;
+    int hi = numEnds;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (endLength[mid] >= len)
+        hi = mid;
+      else
+        lo = mid + 1;
+    }
+    return lo;
+  }
+
+  //------------------------------------------------------------
+  // Index
+  //------------------------------------------------------------
+
+  private void buildIndex() {
+    levelOffset = computeLevelOffsets();
+    bounds = new double[4 * levelOffset[levelOffset.length - 1]];
+    Arrays.fill(bounds, Double.NaN);
+    fillItemBounds();
+    for (int lvl = 1; lvl < levelOffset.length - 1; lvl++) {
+      fillLevelBounds(lvl);
+    }
+  }
+
+  /**
+   * Computes the level offsets.
+   * This is the position in the bounds array of each level.
+   * The last offset is the total number of nodes.
+   */
+  private int[] computeLevelOffsets() {
+    IntArrayList offsets = new IntArrayList();
+    offsets.add(0);
+    int levelSize = numSegs;
+    int currOffset = 0;
+    do {
+      levelSize = Math.max(1, MathUtil.ceil(levelSize, NODE_CAPACITY));
+      currOffset += levelSize;
+      offsets.add(currOffset);
+    } while (levelSize > 1);
+    return offsets.toArray();
+  }
+
+  private int levelSize(int level) {
+    return levelOffset[level + 1] - levelOffset[level];
+  }
+
+  private void fillItemBounds() {
+    for (int i = 0; i < numSegs; i++) {
+      int b = 4 * (i / NODE_CAPACITY);
+      expand(b, segP0[i].x, segP0[i].y);
+      expand(b, segP1[i].x, segP1[i].y);
+      maxAbsOrdinate = Math.max(maxAbsOrdinate,
+          Math.max(Math.max(Math.abs(segP0[i].x), Math.abs(segP0[i].y)),
+              Math.max(Math.abs(segP1[i].x), Math.abs(segP1[i].y))));
+    }
+  }
+
+  private void fillLevelBounds(int lvl) {
+    int childOffset = levelOffset[lvl - 1];
+    for (int i = 0; i < levelSize(lvl - 1); i++) {
+      int bChild = 4 * (childOffset + i);
+      int b = 4 * (levelOffset[lvl] + i / NODE_CAPACITY);
+      expand(b, bounds[bChild], bounds[bChild + 1]);
+      expand(b, bounds[bChild + 2], bounds[bChild + 3]);
+    }
+  }
+
+  private void expand(int b, double x, double y) {
+    if (Double.isNaN(bounds[b]) || x < bounds[b]) bounds[b] = x;
+    if (Double.isNaN(bounds[b + 1]) || y < bounds[b + 1]) bounds[b + 1] = y;
+    if (Double.isNaN(bounds[b + 2]) || x > bounds[b + 2]) bounds[b + 2] = x;
+    if (Double.isNaN(bounds[b + 3]) || y > bounds[b + 3]) bounds[b + 3] = y;
+  }
+}
@@ -187,6 +187,10 @@ public class LengthIndexedLine
    * If more than one point has the closest distance the first one along the line
    * is returned.
    * (The point does not necessarily have to lie precisely on the line.)
+   * <p>
+   * This scans all segments of the line.
+   * To project many points onto a long line
+   * use {@link IndexedLengthIndexedLine}.
    *
    * @param pt a point on the line
    * @return the index of the point
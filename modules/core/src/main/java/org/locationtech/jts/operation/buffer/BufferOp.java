@@ -13,6 +13,8 @@ package org.locationtech.jts.operation.buffer;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
+
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -243,6 +245,61 @@ public class BufferOp
     return geomBuf;
   }
 
+  /**
+   * Computes the buffers of an array of geometries
+   * for a given buffer distance and set of parameters.
+   * <p>
+   * This is more efficient than buffering each geometry separately.
+   * The fillet and end cap vertices for the parameters are computed once
+   * and reused for every input.
+   * Points and two-point lines are buffered directly
+   * from these, without noding or topology building.
+   *
+   * @param geoms the geometries to buffer
+   * @param distance the buffer distance
+   * @param params the buffer parameters to use
+   * @return an array containing the buffer of each input geometry
+   */
+  public static Geometry[] bufferOp(Geometry[] geoms, double distance, BufferParameters params)
+  {
+    return bufferOp(geoms, distance, params, false);
+  }
+  
+  /**
+   * Computes the buffers of an array of geometries
+   * for a given buffer distance and set of parameters,
+   * optionally computing them in parallel.
+   * <p>
+   * The fillet and end cap vertices for the parameters are computed once
+   * and reused for every input.
+   * Points and two-point lines are buffered directly
+   * from these, without noding or topology building.
+   * <p>
+   * The parameters object must not be modified while the computation is running.
+   *
+   * @param geoms the geometries to buffer
+   * @param distance the buffer distance
+   * @param params the buffer parameters to use
+   * @param isParallel true if the buffers should be computed in parallel
+   * @return an array containing the buffer of each input geometry
+   */
+  public static Geometry[] bufferOp(Geometry[] geoms, double distance, BufferParameters params, boolean isParallel)
+  {
+    OffsetCurveTemplate template = new OffsetCurveTemplate(params);
+    Geometry[] result = new Geometry[geoms.length];
+    IntStream indexes = IntStream.range(0, geoms.length);
+    if (isParallel) indexes = indexes.parallel();
+    indexes.forEach(i -> result[i] = bufferOp(geoms[i], distance, params, template));
+    return result;
+  }
+  
+  private static Geometry bufferOp(Geometry geom, double distance, BufferParameters params, OffsetCurveTemplate template)
+  {
+    Geometry buf = template.buffer(geom, distance);
+    if (buf != null) return buf;
+    return bufferOp(geom, distance, params);
+  }
+  
   /**
    * Buffers a geometry with distance zero.
    * The result can be computed using the maximum-signed-area orientation,
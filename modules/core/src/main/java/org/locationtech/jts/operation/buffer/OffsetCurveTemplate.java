@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.buffer;
+
+import org.locationtech.jts.algorithm.Angle;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+
+/**
+ * Precomputes the unit-circle vertices used to generate fillets and end caps
+ * for a given set of {@link BufferParameters},
+ * and uses them to compute buffers of simple inputs directly.
+ * <p>
+ * The buffer of a point or a two-point line is a simple convex polygon,
+ * so its offset curve does not need to be noded and
+ * can be emitted as the result shell.
+ * The fillet vertices are obtained by scaling and rotating
+ * the template, which avoids the trigonometric evaluation
+ * performed by {@link OffsetSegmentGenerator} for every input.
+ * The vertices produced are the same (up to round-off) as those produced
+ * by the full buffer algorithm.
+ * <p>
+ * Inputs which are not handled directly are indicated by a <code>null</code> result,
+ * and must be buffered by {@link BufferOp}.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ *
+ * @author Martin Davis
+ *
+ */
+class OffsetCurveTemplate
+{
+  private final int endCapStyle;
+  private final boolean isSingleSided;
+  /**
+   * The number of segments in a full circle
+   */
+  private final int numCircleSegs;
+  private final double[] unitCos;
+  private final double[] unitSin;
+
+  /**
+   * Creates a template for the given buffer parameters.
+   * The parameter values are copied, so later changes to the
+   * parameters object do not affect the template.
+   *
+   * @param bufParams the buffer parameters
+   */
+  public OffsetCurveTemplate(BufferParameters bufParams) {
+    endCapStyle = bufParams.getEndCapStyle();
+    isSingleSided = bufParams.isSingleSided();
+
+    int quadSegs = bufParams.getQuadrantSegments();
+    if (quadSegs < 1) quadSegs = 1;
+    numCircleSegs = 4 * quadSegs;
+
+    double angleInc = Angle.PI_TIMES_2 / numCircleSegs;
+    unitCos = new double[numCircleSegs + 1];
+    unitSin = new double[numCircleSegs + 1];
+    for (int i = 0; i <= numCircleSegs; i++) {
+      unitCos[i] = Angle.cosSnap(i * angleInc);
+      unitSin[i] = Angle.sinSnap(i * angleInc);
+    }
+  }
+
+  /**
+   * Computes the buffer of a geometry, if it is a
+   * point or two-point line which can be handled directly.
+   *
+   * @param geom the geometry to buffer
+   * @param distance the buffer distance
+   * @return the buffer polygon, or null if the input must be buffered by the full algorithm
+   */
+  public Geometry buffer(Geometry geom, double distance) {
+    if (distance <= 0.0 || isSingleSided) return null;
+    if (geom.isEmpty()) return null;
+    GeometryFactory geomFact = geom.getFactory();
+    if (geomFact.getPrecisionModel().getType() != PrecisionModel.FLOATING)
+      return null;
+
+    Coordinate[] ring = null;
+    if (geom instanceof Point) {
+      ring = pointRing(((Point) geom).getCoordinate(), distance);
+    }
+    else if (geom.getClass() == LineString.class
+        && geom.getNumPoints() == 2) {
+      LineString line = (LineString) geom;
+      ring = segmentRing(line.getCoordinateN(0), line.getCoordinateN(1), distance);
+    }
+    if (ring == null) return null;
+    return geomFact.createPolygon(ring);
+  }
+
+  private Coordinate[] pointRing(Coordinate p, double distance) {
+    if (! isFinite(p)) return null;
+    switch (endCapStyle) {
+    case BufferParameters.CAP_ROUND:
+      return circle(p, distance);
+    case BufferParameters.CAP_SQUARE:
+      return square(p, distance);
+    }
+    // the buffer of a point with a flat cap is empty
+    return null;
+  }
+
+  /**
+   * Computes a CW circle around a point,
+   * starting at the point with angle 0.
+   */
+  private Coordinate[] circle(Coordinate p, double distance) {
+    Coordinate[] pts = new Coordinate[numCircleSegs + 1];
+    for (int i = 0; i < numCircleSegs; i++) {
+      pts[i] = new Coordinate(
+          p.x + distance * unitCos[i],
+          p.y - distance * unitSin[i]);
+    }
+    pts[numCircleSegs] = pts[0].copy();
+    return pts;
+  }
+
+  /**
+   * Computes a CW square around a point.
+   */
+  private static Coordinate[] square(Coordinate p, double distance) {
+    return new Coordinate[] {
+        new Coordinate(p.x + distance, p.y + distance),
+        new Coordinate(p.x + distance, p.y - distance),
+        new Coordinate(p.x - distance, p.y - distance),
+        new Coordinate(p.x - distance, p.y + distance),
+        new Coordinate(p.x + distance, p.y + distance)
+    };
+  }
+
+  /**
+   * Computes the CW buffer ring of a line segment,
+   * with vertices in the same order as produced by {@link OffsetCurveBuilder}.
+   */
+  private Coordinate[] segmentRing(Coordinate p0, Coordinate p1, double distance) {
+    if (! isFinite(p0) || ! isFinite(p1)) return null;
+    if (p0.equals2D(p1)) return null;
+
+    double dx = p1.x - p0.x;
+    double dy = p1.y - p0.y;
+    double len = Math.hypot(dx, dy);
+    double ux = dx / len;
+    double uy = dy / len;
+
+    switch (endCapStyle) {
+    case BufferParameters.CAP_ROUND:
+      return roundCapRing(p0, p1, ux, uy, distance);
+    case BufferParameters.CAP_FLAT:
+      return new Coordinate[] {
+          leftOffset(p1, ux, uy, distance, 0),
+          leftOffset(p1, ux, uy, -distance, 0),
+          leftOffset(p0, ux, uy, -distance, 0),
+          leftOffset(p0, ux, uy, distance, 0),
+          leftOffset(p1, ux, uy, distance, 0)
+      };
+    case BufferParameters.CAP_SQUARE:
+      return new Coordinate[] {
+          leftOffset(p1, ux, uy, distance, 0),
+          leftOffset(p1, ux, uy, distance, distance),
+          leftOffset(p1, ux, uy, -distance, distance),
+          leftOffset(p0, ux, uy, -distance, 0),
+          leftOffset(p0, ux, uy, -distance, -distance),
+          leftOffset(p0, ux, uy, distance, -distance),
+          leftOffset(p1, ux, uy, distance, 0)
+      };
+    }
+    return null;
+  }
+
+  private Coordinate[] roundCapRing(Coordinate p0, Coordinate p1, double ux, double uy, double distance) {
+    int numCapSegs = numCircleSegs / 2;
+    Coordinate[] pts = new Coordinate[2 * numCapSegs + 3];
+    int index = 0;
+    index = addCap(p1, ux, uy, distance, pts, index);
+    index = addCap(p0, -ux, -uy, distance, pts, index);
+    pts[index] = pts[0].copy();
+    return pts;
+  }
+
+  /**
+   * Adds the vertices of a round end cap around a point,
+   * from the left offset point to the right offset point
+   * of a segment with the given unit direction vector.
+   * The cap vertices are the template half-circle,
+   * rotated to the direction of the segment.
+   */
+  private int addCap(Coordinate p, double ux, double uy, double distance, Coordinate[] pts, int index) {
+    int numCapSegs = numCircleSegs / 2;
+    for (int i = 0; i <= numCapSegs; i++) {
+      double cos = unitCos[i];
+      double sin = unitSin[i];
+      pts[index++] = new Coordinate(
+          p.x + distance * (ux * sin - uy * cos),
+          p.y + distance * (ux * cos + uy * sin));
+    }
+    return index;
+  }
+
+  /**
+   * Computes a point offset from a base point
+   * by a distance to the left of and a distance along
+   * the unit direction vector.
+   */
+  private static Coordinate leftOffset(Coordinate p, double ux, double uy, double leftDist, double alongDist) {
+    return new Coordinate(
+        p.x - leftDist * uy + alongDist * ux,
+        p.y + leftDist * ux + alongDist * uy);
+  }
+
+  private static boolean isFinite(Coordinate p) {
+    return Double.isFinite(p.x) && Double.isFinite(p.y);
+  }
+}
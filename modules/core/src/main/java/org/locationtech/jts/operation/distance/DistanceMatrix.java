@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.operation.distance;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.locationtech.jts.algorithm.locate.SimplePointInAreaLocator;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Computes a sparse matrix of the distances between
+ * the geometries in two sets,
+ * containing the pairs of geometries which lie within a given distance.
+ * Distances are the same as those computed by {@link DistanceOp}.
+ * <p>
+ * The candidate pairs are found using an R-tree of the envelopes of the second set,
+ * and pairs whose envelope distance exceeds the limit are discarded.
+ * The distance of each candidate pair is computed using
+ * R-trees of the facets of both geometries
+ * (as in {@link IndexedFacetDistance}),
+ * plus a test for containment if either geometry is polygonal.
+ * The facet trees of the second set are built once and reused
+ * for all rows.
+ * Rows are independent, so they can be computed in parallel.
+ * <p>
+ * The result is stored in compressed sparse row form.
+ * The entries for each row are ordered by column index.
+ * Empty geometries have no entries.
+ *
+ * @author Martin Davis
+ *
+ */
+public class DistanceMatrix
+{
+  private static final FacetSequenceDistance FACET_SEQ_DIST = new FacetSequenceDistance();
+
+  /**
+   * Computes the distances between the pairs of geometries
+   * from two sets which lie within a given distance.
+   *
+   * @param geomsA the geometries defining the matrix rows
+   * @param geomsB the geometries defining the matrix columns
+   * @param maxDistance the distance limit
+   * @return the sparse distance matrix
+   */
+  public static DistanceMatrix withinDistance(Geometry[] geomsA, Geometry[] geomsB, double maxDistance)
+  {
+    return withinDistance(geomsA, geomsB, maxDistance, false);
+  }
+
+  /**
+   * Computes the distances between the pairs of geometries
+   * from two sets which lie within a given distance,
+   * optionally computing the matrix rows in parallel.
+   *
+   * @param geomsA the geometries defining the matrix rows
+   * @param geomsB the geometries defining the matrix columns
+   * @param maxDistance the distance limit
+   * @param isParallel true if the rows should be computed in parallel
+   * @return the sparse distance matrix
+   */
+  public static DistanceMatrix withinDistance(Geometry[] geomsA, Geometry[] geomsB, double maxDistance, boolean isParallel)
+  {
+    Builder builder = new Builder(geomsA, geomsB, maxDistance, isParallel);
+    return builder.build();
+  }
+
+  private int numRows;
+  private int numCols;
+  private int[] rowStart;
+  private int[] colIndex;
+  private double[] distance;
+
+  private DistanceMatrix(int numRows, int numCols, int[] rowStart, int[] colIndex, double[] distance)
+  {
+    this.numRows = numRows;
+    this.numCols = numCols;
+    this.rowStart = rowStart;
+    this.colIndex = colIndex;
+    this.distance = distance;
+  }
+
+  /**
+   * Gets the number of rows in the matrix
+   * (the size of the first geometry set).
+   *
+   * @return the number of rows
+   */
+  public int getNumRows() {
+    return numRows;
+  }
+
+  /**
+   * Gets the number of columns in the matrix
+   * (the size of the second geometry set).
+   *
+   * @return the number of columns
+   */
+  public int getNumColumns() {
+    return numCols;
+  }
+
+  /**
+   * Gets the total number of entries in the matrix.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return colIndex.length;
+  }
+
+  /**
+   * Gets the index of the first entry in a row.
+   * The entries in row <code>i</code> are those with indexes from
+   * <code>getRowStart(i)</code> up to (but not including) <code>getRowStart(i + 1)</code>.
+   *
+   * @param row the row index, from 0 to <code>getNumRows()</code>
+   * @return the index of the first entry in the row
+   */
+  public int getRowStart(int row) {
+    return rowStart[row];
+  }
+
+  /**
+   * Gets the column index of an entry.
+   *
+   * @param entry the entry index
+   * @return the column index of the entry
+   */
+  public int getColumn(int entry) {
+    return colIndex[entry];
+  }
+
+  /**
+   * Gets the distance of an entry.
+   *
+   * @param entry the entry index
+   * @return the distance of the entry
+   */
+  public double getDistance(int entry) {
+    return distance[entry];
+  }
+
+  /**
+   * Gets the distance between a pair of geometries,
+   * if they lie within the distance limit.
+   *
+   * @param row the index of the geometry in the first set
+   * @param col the index of the geometry in the second set
+   * @return the distance between the geometries,
+   *   or {@link Double#NaN} if they do not lie within the distance limit
+   */
+  public double getDistance(int row, int col) {
+    int entry = Arrays.binarySearch(colIndex, rowStart[row], rowStart[row + 1], col);
+    if (entry < 0) return Double.NaN;
+    return distance[entry];
+  }
+
+  private static class Builder {
+    private Geometry[] geomsA;
+    private Geometry[] geomsB;
+    private double maxDistance;
+    private boolean isParallel;
+
+    private STRtree indexB;
+    private STRtree[] facetTreeB;
+
+    private int[][] rowCols;
+    private double[][] rowDists;
+
+    Builder(Geometry[] geomsA, Geometry[] geomsB, double maxDistance, boolean isParallel) {
+      this.geomsA = geomsA;
+      this.geomsB = geomsB;
+      this.maxDistance = maxDistance;
+      this.isParallel = isParallel;
+    }
+
+    DistanceMatrix build() {
+      indexB = new STRtree();
+      for (int i = 0; i < geomsB.length; i++) {
+        if (geomsB[i].isEmpty()) continue;
+        indexB.insert(geomsB[i].getEnvelopeInternal(), i);
+      }
+      indexB.build();
+
+      facetTreeB = new STRtree[geomsB.length];
+      range(geomsB.length).forEach(i -> facetTreeB[i] = FacetSequenceTreeBuilder.build(geomsB[i]));
+
+      rowCols = new int[geomsA.length][];
+      rowDists = new double[geomsA.length][];
+      range(geomsA.length).forEach(i -> computeRow(i));
+
+      return createMatrix();
+    }
+
+    private IntStream range(int n) {
+      IntStream indexes = IntStream.range(0, n);
+      if (isParallel) indexes = indexes.parallel();
+      return indexes;
+    }
+
+    private void computeRow(int row) {
+      Geometry geomA = geomsA[row];
+      int[] cols = new int[0];
+      double[] dists = new double[0];
+
+      if (! geomA.isEmpty()) {
+        Envelope envA = geomA.getEnvelopeInternal();
+        Envelope queryEnv = envA.copy();
+        queryEnv.expandBy(maxDistance);
+        List candidates = indexB.query(queryEnv);
+
+        cols = new int[candidates.size()];
+        dists = new double[candidates.size()];
+        int n = 0;
+        STRtree facetTreeA = null;
+        for (Iterator it = candidates.iterator(); it.hasNext(); ) {
+          int col = (Integer) it.next();
+          Geometry geomB = geomsB[col];
+          //-- prune using the lower bound provided by the envelope distance
+          if (envA.distance(geomB.getEnvelopeInternal()) > maxDistance)
+            continue;
+          if (facetTreeA == null)
+            facetTreeA = FacetSequenceTreeBuilder.build(geomA);
+          double dist = distance(geomA, facetTreeA, geomB, facetTreeB[col]);
+          if (dist <= maxDistance) {
+            cols[n] = col;
+            dists[n] = dist;
+            n++;
+          }
+        }
+        cols = Arrays.copyOf(cols, n);
+        dists = Arrays.copyOf(dists, n);
+        sortByColumn(cols, dists);
+      }
+      rowCols[row] = cols;
+      rowDists[row] = dists;
+    }
+
+    private DistanceMatrix createMatrix() {
+      int[] rowStart = new int[geomsA.length + 1];
+      for (int i = 0; i < geomsA.length; i++) {
+        rowStart[i + 1] = rowStart[i] + rowCols[i].length;
+      }
+      int size = rowStart[geomsA.length];
+      int[] colIndex = new int[size];
+      double[] distance = new double[size];
+      for (int i = 0; i < geomsA.length; i++) {
+        System.arraycopy(rowCols[i], 0, colIndex, rowStart[i], rowCols[i].length);
+        System.arraycopy(rowDists[i], 0, distance, rowStart[i], rowDists[i].length);
+      }
+      return new DistanceMatrix(geomsA.length, geomsB.length, rowStart, colIndex, distance);
+    }
+  }
+
+  /**
+   * Computes the distance between two non-empty geometries,
+   * using facet trees for both.
+   * If the facets are disjoint and one geometry is polygonal,
+   * each component of the other geometry lies either wholly inside
+   * or wholly outside it, so it is sufficient to test
+   * a single point of each component for containment.
+   */
+  private static double distance(Geometry geomA, STRtree facetTreeA, Geometry geomB, STRtree facetTreeB)
+  {
+    Object[] nearest = facetTreeA.nearestNeighbour(facetTreeB, FACET_SEQ_DIST);
+    double dist = ((FacetSequence) nearest[0]).distance((FacetSequence) nearest[1]);
+    if (dist <= 0.0) return dist;
+
+    if (isContainedPoint(geomB, geomA) || isContainedPoint(geomA, geomB))
+      return 0.0;
+    return dist;
+  }
+
+  /**
+   * Tests if some component point of a geometry is contained in
+   * the area of a polygonal geometry.
+   */
+  private static boolean isContainedPoint(Geometry geom, Geometry polyGeom) {
+    if (polyGeom.getDimension() < 2) return false;
+    if (! polyGeom.getEnvelopeInternal().intersects(geom.getEnvelopeInternal()))
+      return false;
+    List pts = ConnectedElementPointFilter.getCoordinates(geom);
+    for (Iterator it = pts.iterator(); it.hasNext(); ) {
+      Coordinate pt = (Coordinate) it.next();
+      if (SimplePointInAreaLocator.isContained(pt, polyGeom))
+        return true;
+    }
+    return false;
+  }
+
+  /**
+   * Sorts the column and distance arrays by column index.
+   * The column indexes in a row are distinct,
+   * so the sorted position of each distance can be found by binary search.
+   */
+  private static void sortByColumn(int[] cols, double[] dists) {
+    int[] sortedCols = cols.clone();
+    Arrays.sort(sortedCols);
+    double[] sortedDists = new double[dists.length];
+    for (int i = 0; i < cols.length; i++) {
+      int pos = Arrays.binarySearch(sortedCols, cols[i]);
+      sortedDists[pos] = dists[i];
+    }
+    System.arraycopy(sortedCols, 0, cols, 0, cols.length);
+    System.arraycopy(sortedDists, 0, dists, 0, dists.length);
+  }
+
+  private static class FacetSequenceDistance
+  implements ItemDistance
+  {
+    public double distance(ItemBoundable item1, ItemBoundable item2) {
+      FacetSequence fs1 = (FacetSequence) item1.getItem();
+      FacetSequence fs2 = (FacetSequence) item2.getItem();
+      return fs1.distance(fs2);
+    }
+  }
+}
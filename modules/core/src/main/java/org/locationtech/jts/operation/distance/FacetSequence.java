@@ -18,6 +18,7 @@ import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 
 /**
  * Represents a sequence of facets (points or line segments)
@@ -33,6 +34,12 @@ public class FacetSequence
   private CoordinateSequence pts;
   private int start;
   private int end;
+  /**
+   * The ordinate array of the sequence, if it is packed.
+   * This allows distance computation without creating {@link Coordinate}s.
+   */
+  private double[] packedCoords = null;
+  private int packedDimension;
   
   /**
    * Creates a new sequence of facets based on a {@link CoordinateSequence}
@@ -49,6 +56,7 @@ public class FacetSequence
     this.pts = pts;
     this.start = start;
     this.end = end;
+    initPacked();
   } 
   
   /**
@@ -63,6 +71,7 @@ public class FacetSequence
     this.pts = pts;
     this.start = start;
     this.end = end;
+    initPacked();
   }
   
   /**
@@ -76,6 +85,15 @@ public class FacetSequence
     this.pts = pts;
     this.start = start;
     this.end = start + 1;
+    initPacked();
+  }
+  
+  private void initPacked()
+  {
+    if (pts instanceof PackedCoordinateSequence.Double) {
+      packedCoords = ((PackedCoordinateSequence.Double) pts).getRawCoordinates();
+      packedDimension = pts.getDimension();
+    }
   }
   
   public Envelope getEnvelope()
@@ -121,12 +139,10 @@ public class FacetSequence
       distance = pt.distance(seqPt);
     }
     else if (isPoint) {
-      Coordinate pt = pts.getCoordinate(start);      
-      distance = computeDistancePointLine(pt, facetSeq, null);
+      distance = computeDistancePointLine(pts, start, facetSeq);
     }
     else if (isPointOther) {
-      Coordinate seqPt = facetSeq.pts.getCoordinate(facetSeq.start);
-      distance = computeDistancePointLine(seqPt, this, null);
+      distance = computeDistancePointLine(facetSeq.pts, facetSeq.start, this);
     }
     else {
       distance = computeDistanceLineLine(facetSeq, null);
@@ -203,6 +219,15 @@ public class FacetSequence
     locs[1] = new GeometryLocation(facetSeq.geom, j, new Coordinate(closestPt[1]));    
   }
   
+  private double computeDistancePointLine(CoordinateSequence ptSeq, int ptIndex, FacetSequence facetSeq) 
+  {
+    if (facetSeq.packedCoords != null) {
+      return Distance.pointToSegmentString(ptSeq.getX(ptIndex), ptSeq.getY(ptIndex), 
+          facetSeq.packedCoords, facetSeq.packedDimension, facetSeq.start, facetSeq.end);
+    }
+    return computeDistancePointLine(ptSeq.getCoordinate(ptIndex), facetSeq, null);
+  }
+  
   private double computeDistancePointLine(Coordinate pt, FacetSequence facetSeq, GeometryLocation[] locs) 
   {
     double minDistance = Double.MAX_VALUE;
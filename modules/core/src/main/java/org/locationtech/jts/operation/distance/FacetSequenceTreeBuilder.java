@@ -48,7 +48,7 @@ public class FacetSequenceTreeBuilder {
    * @param g
    * @return List<GeometryFacetSequence>
    */
-  private static List computeFacetSequences(Geometry g) {
+  static List computeFacetSequences(Geometry g) {
     final List sections = new ArrayList();
 
     g.apply(new GeometryComponentFilter() {
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.operation.distance;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.strtree.AbstractNode;
+import org.locationtech.jts.index.strtree.Boundable;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Computes facet distances from query geometries
+ * to a fixed set of target {@link Geometry}s.
+ * The facets (segments and vertices) of all the targets
+ * are stored in a single R-tree, tagged with the index of the
+ * target geometry which owns them.
+ * This supports finding the nearest target geometries to a query
+ * without computing the distance to every target.
+ * <p>
+ * Targets are identified by their index in the array
+ * provided to the constructor.
+ * Distances are computed as by {@link IndexedFacetDistance}.
+ * So in the case of {@link org.locationtech.jts.geom.Polygonal} targets
+ * or queries the distance is computed to the polygon boundaries.
+ * <p>
+ * The queries use a best-first traversal of the R-tree,
+ * in which targets are found in order of increasing distance.
+ * The first facet found for a target provides its distance,
+ * so the search can stop as soon as the required targets have been found.
+ * <p>
+ * This class is immutable and thread-safe,
+ * so a single instance can be queried from multiple threads.
+ *
+ * @author Martin Davis
+ *
+ * @see IndexedFacetDistance
+ */
+public class IndexedFacetDistanceSet
+{
+  private static final FacetSequenceDistance FACET_SEQ_DIST = new FacetSequenceDistance();
+
+  private static final int STR_TREE_NODE_CAPACITY = 4;
+
+  private final Geometry[] geoms;
+  private final STRtree facetTree;
+
+  /**
+   * Creates a new instance for a set of target geometries.
+   *
+   * @param geoms the target geometries
+   */
+  public IndexedFacetDistanceSet(Geometry[] geoms) {
+    this.geoms = geoms.clone();
+    facetTree = new STRtree(STR_TREE_NODE_CAPACITY);
+    for (int i = 0; i < geoms.length; i++) {
+      List facets = FacetSequenceTreeBuilder.computeFacetSequences(geoms[i]);
+      for (Iterator it = facets.iterator(); it.hasNext(); ) {
+        FacetSequence facet = (FacetSequence) it.next();
+        facetTree.insert(facet.getEnvelope(), new OwnedFacet(facet, i));
+      }
+    }
+    facetTree.build();
+  }
+
+  /**
+   * Gets the number of target geometries.
+   *
+   * @return the number of targets
+   */
+  public int size() {
+    return geoms.length;
+  }
+
+  /**
+   * Gets a target geometry.
+   *
+   * @param index the index of the target
+   * @return the target geometry
+   */
+  public Geometry getGeometry(int index) {
+    return geoms[index];
+  }
+
+  /**
+   * Finds the target geometry nearest to a query geometry.
+   *
+   * @param g the query geometry
+   * @return the index of the nearest target, or -1 if there are no non-empty targets
+   */
+  public int nearestGeometry(Geometry g) {
+    Neighbours nearest = kNearest(g, 1);
+    if (nearest.size() == 0) return -1;
+    return nearest.getIndex(0);
+  }
+
+  /**
+   * Finds the <code>k</code> target geometries nearest to a query geometry,
+   * in order of increasing distance.
+   * Fewer than <code>k</code> targets are returned if there are fewer
+   * non-empty targets.
+   *
+   * @param g the query geometry
+   * @param k the number of targets to find
+   * @return the nearest targets and their distances
+   */
+  public Neighbours kNearest(Geometry g, int k) {
+    return search(g, k, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Finds all target geometries within a given distance of a query geometry,
+   * in order of increasing distance.
+   *
+   * @param g the query geometry
+   * @param maxDistance the distance limit
+   * @return the targets within the distance and their distances
+   */
+  public Neighbours withinDistance(Geometry g, double maxDistance) {
+    return search(g, Integer.MAX_VALUE, maxDistance);
+  }
+
+  private Neighbours search(Geometry g, int maxCount, double maxDistance) {
+    Neighbours result = new Neighbours();
+    if (maxCount <= 0 || g.isEmpty() || facetTree.isEmpty())
+      return result;
+
+    STRtree queryTree = FacetSequenceTreeBuilder.build(g);
+    Envelope queryEnv = g.getEnvelopeInternal();
+    BitSet isFound = new BitSet(geoms.length);
+
+    PriorityQueue<SearchEntry> priQ = new PriorityQueue<SearchEntry>();
+    AbstractNode root = facetTree.getRoot();
+    priQ.add(new SearchEntry(root, queryEnv.distance((Envelope) root.getBounds())));
+
+    while (! priQ.isEmpty()) {
+      SearchEntry entry = priQ.poll();
+      /**
+       * Entries are popped in order of distance,
+       * so if this entry is beyond the limit all remaining ones are too
+       */
+      if (entry.distance > maxDistance)
+        break;
+
+      if (entry.boundable instanceof ItemBoundable) {
+        OwnedFacet facet = (OwnedFacet) ((ItemBoundable) entry.boundable).getItem();
+        //-- first time a target is popped gives its minimum distance
+        if (isFound.get(facet.owner)) continue;
+        isFound.set(facet.owner);
+        result.add(facet.owner, entry.distance);
+        if (result.size() >= maxCount)
+          break;
+        continue;
+      }
+
+      List children = ((AbstractNode) entry.boundable).getChildBoundables();
+      for (Iterator it = children.iterator(); it.hasNext(); ) {
+        Boundable child = (Boundable) it.next();
+        double dist;
+        if (child instanceof ItemBoundable) {
+          OwnedFacet facet = (OwnedFacet) ((ItemBoundable) child).getItem();
+          if (isFound.get(facet.owner)) continue;
+          dist = facetDistance(facet.facet, (Envelope) child.getBounds(), queryTree);
+        }
+        else {
+          dist = queryEnv.distance((Envelope) child.getBounds());
+        }
+        if (dist <= maxDistance)
+          priQ.add(new SearchEntry(child, dist));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Computes the exact distance from a facet sequence
+   * to the facets of the query geometry.
+   */
+  private static double facetDistance(FacetSequence facet, Envelope facetEnv, STRtree queryTree) {
+    FacetSequence nearest = (FacetSequence) queryTree.nearestNeighbour(facetEnv, facet, FACET_SEQ_DIST);
+    return facet.distance(nearest);
+  }
+
+  /**
+   * A list of target geometry indexes and their distances
+   * from a query geometry, in order of increasing distance.
+   *
+   * @author Martin Davis
+   */
+  public static class Neighbours {
+    private int[] index = new int[4];
+    private double[] distance = new double[4];
+    private int size = 0;
+
+    Neighbours() {
+    }
+
+    void add(int i, double dist) {
+      if (size >= index.length) {
+        index = Arrays.copyOf(index, 2 * size);
+        distance = Arrays.copyOf(distance, 2 * size);
+      }
+      index[size] = i;
+      distance[size] = dist;
+      size++;
+    }
+
+    /**
+     * Gets the number of target geometries found.
+     *
+     * @return the number of targets
+     */
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Gets the index of the i'th nearest target geometry found.
+     *
+     * @param i the position in the list
+     * @return the index of the target geometry
+     */
+    public int getIndex(int i) {
+      if (i >= size) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+      return index[i];
+    }
+
+    /**
+     * Gets the distance to the i'th nearest target geometry found.
+     *
+     * @param i the position in the list
+     * @return the distance to the target geometry
+     */
+    public double getDistance(int i) {
+      if (i >= size) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+      return distance[i];
+    }
+
+    /**
+     * Gets the indexes of the target geometries found.
+     *
+     * @return an array of target indexes
+     */
+    public int[] getIndexes() {
+      return Arrays.copyOf(index, size);
+    }
+
+    /**
+     * Gets the distances to the target geometries found.
+     *
+     * @return an array of distances
+     */
+    public double[] getDistances() {
+      return Arrays.copyOf(distance, size);
+    }
+  }
+
+  private static class OwnedFacet {
+    final FacetSequence facet;
+    final int owner;
+
+    OwnedFacet(FacetSequence facet, int owner) {
+      this.facet = facet;
+      this.owner = owner;
+    }
+  }
+
+  private static class SearchEntry implements Comparable<SearchEntry> {
+    final Boundable boundable;
+    final double distance;
+
+    SearchEntry(Boundable boundable, double distance) {
+      this.boundable = boundable;
+      this.distance = distance;
+    }
+
+    public int compareTo(SearchEntry o) {
+      return Double.compare(distance, o.distance);
+    }
+  }
+
+  private static class FacetSequenceDistance
+  implements ItemDistance
+  {
+    public double distance(ItemBoundable item1, ItemBoundable item2) {
+      FacetSequence fs1 = (FacetSequence) item1.getItem();
+      FacetSequence fs2 = (FacetSequence) item2.getItem();
+      return fs1.distance(fs2);
+    }
+  }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.linemerge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Quadrant;
+import org.locationtech.jts.util.XYHashIndex;
+
+/**
+ * Merges a collection of linear components to form maximal-length linestrings,
+ * in the same way as {@link LineMerger}.
+ * The merged lines are identical to those computed by {@link LineMerger},
+ * and are returned in the same order.
+ * <p>
+ * Instead of a planar graph of node and edge objects, the line endpoints
+ * are located via an {@link XYHashIndex} and the graph
+ * is represented by primitive arrays.
+ * This uses much less memory and is faster for large networks.
+ * The merged lines can be computed in parallel.
+ * They can also be retrieved one at a time
+ * via {@link #getMergedLine(int)},
+ * to avoid holding the entire result in memory.
+ * <p>
+ * The edges must be correctly noded; that is, they must only meet
+ * at their endpoints.
+ * Input lines which are empty or contain only a single unique coordinate are not included
+ * in the merging.
+ *
+ * @author Martin Davis
+ *
+ * @see LineMerger
+ */
+public class PackedLineMerger
+{
+  private List<LineString> lines = new ArrayList<LineString>();
+  private GeometryFactory factory = null;
+  private boolean isParallel = false;
+
+  /**
+   * The node at each line end.
+   * Line ends are identified by 2i for the start and 2i+1 for the end of line i.
+   * An end also represents the directed edge leaving the node along the line.
+   */
+  private int[] endNode;
+  private XYHashIndex nodeIndex;
+  /**
+   * The ends at each node, stored in nodeEnds[nodeEndStart[n] .. nodeEndStart[n+1]-1]
+   */
+  private int[] nodeEndStart;
+  private int[] nodeEnds;
+  /**
+   * The start end of each merged line, in output order
+   */
+  private int[] mergedStart = null;
+
+  /**
+   * Creates a new line merger.
+   */
+  public PackedLineMerger()
+  {
+  }
+
+  /**
+   * Sets whether the merged lines are computed in parallel.
+   *
+   * @param isParallel true if the merged lines are computed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
+  }
+
+  /**
+   * Adds a Geometry to be processed. May be called multiple times.
+   * Any dimension of Geometry may be added; the constituent linework will be
+   * extracted.
+   *
+   * @param geometry geometry to be line-merged
+   */
+  public void add(Geometry geometry) {
+    geometry.apply(new GeometryComponentFilter() {
+      public void filter(Geometry component) {
+        if (component instanceof LineString) {
+          add((LineString)component);
+        }
+      }
+    });
+  }
+
+  /**
+   * Adds a collection of Geometries to be processed. May be called multiple times.
+   * Any dimension of Geometry may be added; the constituent linework will be
+   * extracted.
+   *
+   * @param geometries the geometries to be line-merged
+   */
+  public void add(Collection geometries)
+  {
+    for (Iterator i = geometries.iterator(); i.hasNext(); ) {
+      Geometry geometry = (Geometry) i.next();
+      add(geometry);
+    }
+  }
+
+  private void add(LineString lineString) {
+    if (factory == null) {
+      this.factory = lineString.getFactory();
+    }
+    // don't add lines with all coordinates equal
+    if (dirIndex(lineString.getCoordinateSequence(), true) < 0)
+      return;
+    lines.add(lineString);
+    mergedStart = null;
+  }
+
+  /**
+   * Gets the number of merged lines.
+   *
+   * @return the number of merged lines
+   */
+  public int getNumMergedLines() {
+    merge();
+    return mergedStart.length;
+  }
+
+  /**
+   * Gets a merged line.
+   * The line is created when this method is called,
+   * so the merged lines can be processed one at a time.
+   *
+   * @param i the index of the merged line
+   * @return the merged line
+   */
+  public LineString getMergedLine(int i) {
+    merge();
+    return buildLine(mergedStart[i]);
+  }
+
+  /**
+   * Gets the {@link LineString}s created by the merging process.
+   *
+   * @return the collection of merged LineStrings
+   */
+  public Collection<LineString> getMergedLineStrings() {
+    merge();
+    LineString[] merged = new LineString[mergedStart.length];
+    indexes(merged.length).forEach(i -> merged[i] = buildLine(mergedStart[i]));
+    return new ArrayList<LineString>(Arrays.asList(merged));
+  }
+
+  private IntStream indexes(int n) {
+    IntStream indexes = IntStream.range(0, n);
+    if (isParallel) indexes = indexes.parallel();
+    return indexes;
+  }
+
+  private void merge()
+  {
+    if (mergedStart != null) return;
+    buildGraph();
+    boolean[] isMerged = new boolean[lines.size()];
+    int[] strings = findNodeStrings(isMerged);
+    int[] loops = findIsolatedLoops(isMerged);
+    mergedStart = new int[strings.length + loops.length];
+    System.arraycopy(strings, 0, mergedStart, 0, strings.length);
+    System.arraycopy(loops, 0, mergedStart, strings.length, loops.length);
+  }
+
+  private void buildGraph() {
+    int numEnds = 2 * lines.size();
+    nodeIndex = new XYHashIndex(lines.size());
+    endNode = new int[numEnds];
+    for (int i = 0; i < lines.size(); i++) {
+      CoordinateSequence seq = lines.get(i).getCoordinateSequence();
+      int last = seq.size() - 1;
+      endNode[2 * i] = nodeIndex.add(seq.getX(0), seq.getY(0));
+      endNode[2 * i + 1] = nodeIndex.add(seq.getX(last), seq.getY(last));
+    }
+    int numNodes = nodeIndex.size();
+    nodeEndStart = new int[numNodes + 1];
+    for (int end = 0; end < numEnds; end++) {
+      nodeEndStart[endNode[end] + 1]++;
+    }
+    for (int n = 0; n < numNodes; n++) {
+      nodeEndStart[n + 1] += nodeEndStart[n];
+    }
+    //-- ends are added in increasing order, which is the order of insertion into a LineMergeGraph
+    nodeEnds = new int[numEnds];
+    int[] fill = Arrays.copyOf(nodeEndStart, numNodes);
+    for (int end = 0; end < numEnds; end++) {
+      nodeEnds[fill[endNode[end]]++] = end;
+    }
+  }
+
+  private int degree(int node) {
+    return nodeEndStart[node + 1] - nodeEndStart[node];
+  }
+
+  /**
+   * Gets the next end along a merged line,
+   * or -1 if the line reaches a node with degree other than 2.
+   */
+  private int next(int end) {
+    int sym = end ^ 1;
+    int node = endNode[sym];
+    if (degree(node) != 2) return -1;
+    int end0 = nodeEnds[nodeEndStart[node]];
+    int end1 = nodeEnds[nodeEndStart[node] + 1];
+    return end0 == sym ? end1 : end0;
+  }
+
+  /**
+   * Finds the merged lines which start and end at nodes of degree other than 2.
+   * Each line is traced from both its ends,
+   * and kept only from the end which {@link LineMerger} starts it at.
+   * This allows the lines to be traced in parallel without synchronization.
+   */
+  private int[] findNodeStrings(boolean[] isMerged) {
+    int[] startEnds = IntStream.range(0, endNode.length)
+        .filter(end -> degree(endNode[end]) != 2)
+        .toArray();
+    int[] starts = indexes(startEnds.length)
+        .map(i -> startEnds[i])
+        .filter(start -> compareEnd(start, lastEnd(start) ^ 1) < 0)
+        .toArray();
+    indexes(starts.length).forEach(i -> markMerged(starts[i], isMerged));
+    return sortEnds(starts);
+  }
+
+  private int lastEnd(int start) {
+    int end = start;
+    int next;
+    while ((next = next(end)) >= 0 && next != start) {
+      end = next;
+    }
+    return end;
+  }
+
+  private void markMerged(int start, boolean[] isMerged) {
+    int end = start;
+    do {
+      isMerged[end / 2] = true;
+      end = next(end);
+    } while (end >= 0 && end != start);
+  }
+
+  /**
+   * Finds the isolated loops formed by lines which are not yet merged
+   * (which have only degree-2 nodes).
+   * Each loop starts at the lowest end it contains.
+   */
+  private int[] findIsolatedLoops(boolean[] isMerged) {
+    List<Integer> loopStarts = new ArrayList<Integer>();
+    for (int i = 0; i < isMerged.length; i++) {
+      if (isMerged[i]) continue;
+      int start = 2 * i;
+      int minEnd = start;
+      int end = start;
+      do {
+        isMerged[end / 2] = true;
+        if (compareEnd(end, minEnd) < 0) minEnd = end;
+        if (compareEnd(end ^ 1, minEnd) < 0) minEnd = end ^ 1;
+        end = next(end);
+      } while (end != start);
+      loopStarts.add(minEnd);
+    }
+    int[] loops = new int[loopStarts.size()];
+    for (int i = 0; i < loops.length; i++) {
+      loops[i] = loopStarts.get(i);
+    }
+    return sortEnds(loops);
+  }
+
+  private int[] sortEnds(int[] ends) {
+    Integer[] sorted = new Integer[ends.length];
+    for (int i = 0; i < ends.length; i++) {
+      sorted[i] = ends[i];
+    }
+    if (isParallel)
+      Arrays.parallelSort(sorted, (e1, e2) -> compareEnd(e1, e2));
+    else
+      Arrays.sort(sorted, (e1, e2) -> compareEnd(e1, e2));
+    int[] result = new int[ends.length];
+    for (int i = 0; i < ends.length; i++) {
+      result[i] = sorted[i];
+    }
+    return result;
+  }
+
+  /**
+   * Compares ends in the order in which {@link LineMerger}
+   * processes the directed edges they represent:
+   * by node coordinate, then in CCW order around the node,
+   * then in order of insertion.
+   */
+  private int compareEnd(int e1, int e2) {
+    int n1 = endNode[e1];
+    int n2 = endNode[e2];
+    if (n1 != n2) {
+      double x1 = nodeIndex.getX(n1);
+      double x2 = nodeIndex.getX(n2);
+      if (x1 < x2) return -1;
+      if (x1 > x2) return 1;
+      double y1 = nodeIndex.getY(n1);
+      double y2 = nodeIndex.getY(n2);
+      if (y1 < y2) return -1;
+      if (y1 > y2) return 1;
+    }
+    int comp = compareDirection(e1, e2);
+    if (comp != 0) return comp;
+    return Integer.compare(e1, e2);
+  }
+
+  /**
+   * Compares the directions of ends at the same node,
+   * in the same way as {@link org.locationtech.jts.planargraph.DirectedEdge#compareDirection}.
+   */
+  private int compareDirection(int e1, int e2) {
+    if (e1 == e2) return 0;
+    Coordinate p0 = endPoint(e1);
+    Coordinate p1 = dirPoint(e1);
+    Coordinate q1 = dirPoint(e2);
+    int quadrant1 = Quadrant.quadrant(p1.x - p0.x, p1.y - p0.y);
+    int quadrant2 = Quadrant.quadrant(q1.x - p0.x, q1.y - p0.y);
+    if (quadrant1 > quadrant2) return 1;
+    if (quadrant1 < quadrant2) return -1;
+    return Orientation.index(p0, q1, p1);
+  }
+
+  private Coordinate endPoint(int end) {
+    CoordinateSequence seq = lines.get(end / 2).getCoordinateSequence();
+    int index = isForward(end) ? 0 : seq.size() - 1;
+    return seq.getCoordinate(index);
+  }
+
+  private Coordinate dirPoint(int end) {
+    CoordinateSequence seq = lines.get(end / 2).getCoordinateSequence();
+    return seq.getCoordinate(dirIndex(seq, isForward(end)));
+  }
+
+  private static boolean isForward(int end) {
+    return end % 2 == 0;
+  }
+
+  /**
+   * Finds the index of the first point in a direction along a sequence
+   * which is not equal to the start point in that direction.
+   *
+   * @return the index of the direction point, or -1 if all points are equal
+   */
+  private static int dirIndex(CoordinateSequence seq, boolean isForward) {
+    int n = seq.size();
+    if (n == 0) return -1;
+    int start = isForward ? 0 : n - 1;
+    int inc = isForward ? 1 : -1;
+    double x = seq.getX(start);
+    double y = seq.getY(start);
+    for (int i = start + inc; i >= 0 && i < n; i += inc) {
+      if (seq.getX(i) != x || seq.getY(i) != y)
+        return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Builds a merged line in the same way as {@link EdgeString}.
+   */
+  private LineString buildLine(int start) {
+    int forwardDirectedEdges = 0;
+    int reverseDirectedEdges = 0;
+    CoordinateList coordinateList = new CoordinateList();
+    int end = start;
+    do {
+      boolean isForward = isForward(end);
+      if (isForward) {
+        forwardDirectedEdges++;
+      }
+      else {
+        reverseDirectedEdges++;
+      }
+      coordinateList.add(lines.get(end / 2).getCoordinates(), false, isForward);
+      end = next(end);
+    } while (end >= 0 && end != start);
+    Coordinate[] coordinates = coordinateList.toCoordinateArray();
+    if (reverseDirectedEdges > forwardDirectedEdges) {
+      CoordinateArrays.reverse(coordinates);
+    }
+    return factory.createLineString(coordinates);
+  }
+}
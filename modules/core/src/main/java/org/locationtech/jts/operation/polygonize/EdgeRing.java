@@ -98,7 +98,7 @@ class EdgeRing {
   
   // cache the following data for efficiency
   private LinearRing ring = null;
-  private IndexedPointInAreaLocator locator;
+  private volatile IndexedPointInAreaLocator locator;
   
   private Coordinate[] ringPts = null;
   private List<LinearRing> holes;
@@ -236,10 +236,19 @@ class EdgeRing {
   }
 
   private PointOnGeometryLocator getLocator() {
+    // avoid calling synchronized method improves performance
+    if (locator == null) createLocator();
+    return locator;
+  }
+  
+  /**
+   * Creates the locator, ensuring only one is created
+   * when shells are queried concurrently during parallel hole assignment.
+   */
+  private synchronized void createLocator() {
     if (locator == null) {
       locator = new IndexedPointInAreaLocator(getRing());
     }
-    return locator;
   }
   
   public int locate(Coordinate pt) {
@@ -12,9 +12,9 @@
 package org.locationtech.jts.operation.polygonize;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.locationtech.jts.geom.Envelope;
-import org.locationtech.jts.index.SpatialIndex;
 import org.locationtech.jts.index.strtree.STRtree;
 
 /**
@@ -22,6 +22,10 @@ import org.locationtech.jts.index.strtree.STRtree;
  * during polygonization.
  * Uses spatial indexing to improve performance
  * of shell lookup.
+ * <p>
+ * The shell lookup for each hole can be carried out in parallel.
+ * Holes are added to their shells in the order they are provided,
+ * so the result is the same as for sequential assignment.
  * 
  * @author mdavis
  *
@@ -39,8 +43,23 @@ public class HoleAssigner
     assigner.assignHolesToShells(holes);
   }
   
+  /**
+   * Assigns hole rings to shell rings,
+   * optionally finding the shells in parallel.
+   * 
+   * @param holes list of hole rings to assign
+   * @param shells list of shell rings
+   * @param isParallel true if the shells should be found in parallel
+   */
+  public static void assignHolesToShells(List<EdgeRing> holes, List<EdgeRing> shells, boolean isParallel) {
+    HoleAssigner assigner = new HoleAssigner(shells);
+    assigner.setParallel(isParallel);
+    assigner.assignHolesToShells(holes);
+  }
+  
   private List<EdgeRing> shells;
-  private SpatialIndex shellIndex;
+  private STRtree shellIndex;
+  private boolean isParallel = false;
   
   /**
    * Creates a new hole assigner.
@@ -57,6 +76,17 @@ public class HoleAssigner
     for (EdgeRing shell : shells) {
       shellIndex.insert(shell.getRing().getEnvelopeInternal(), shell);
     }
+    //-- build now to allow concurrent queries
+    shellIndex.build();
+  }
+
+  /**
+   * Sets whether the shell containing each hole is found in parallel.
+   * 
+   * @param isParallel true if the shells should be found in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
   }
 
   /**
@@ -66,6 +96,10 @@ public class HoleAssigner
    */
   public void assignHolesToShells(List<EdgeRing> holeList)
   {
+    if (isParallel) {
+      assignHolesToShellsParallel(holeList);
+      return;
+    }
     for (EdgeRing holeER : holeList) {
       assignHoleToShell(holeER);
     }
@@ -79,6 +113,19 @@ public class HoleAssigner
     }
   }
   
+  private void assignHolesToShellsParallel(List<EdgeRing> holeList)
+  {
+    EdgeRing[] holeShell = new EdgeRing[holeList.size()];
+    IntStream.range(0, holeShell.length).parallel()
+      .forEach(i -> holeShell[i] = findShellContaining(holeList.get(i)));
+    //-- add holes in sequence, since shell hole lists are not thread-safe
+    for (int i = 0; i < holeShell.length; i++) {
+      if (holeShell[i] != null) {
+        holeShell[i].addHole(holeList.get(i));
+      }
+    }
+  }
+  
   @SuppressWarnings("unchecked")
   private List<EdgeRing> queryOverlappingShells(Envelope ringEnv) {
     return (List<EdgeRing>) shellIndex.query(ringEnv);
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Stack;
+import java.util.stream.IntStream;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
@@ -80,6 +81,7 @@ class PolygonizeGraph
   }
 
   private GeometryFactory factory;
+  private List<Component> components = null;
 
   //private List labelledRings;
  
@@ -127,10 +129,15 @@ class PolygonizeGraph
   }
 
   private void computeNextCWEdges()
+  {
+    computeNextCWEdges(nodeIterator());
+  }
+
+  private static void computeNextCWEdges(Iterator<?> nodeIt)
   {
     // set the next pointers for the edges around each node
-    for (Iterator<?> iNode = nodeIterator(); iNode.hasNext(); ) {
-      Node node = (Node) iNode.next();
+    while (nodeIt.hasNext()) {
+      Node node = (Node) nodeIt.next();
       computeNextCWEdges(node);
     }
   }
@@ -141,7 +148,7 @@ class PolygonizeGraph
    *
    * @param ringEdges the list of start edges for the edgeRings to convert.
    */
-  private void convertMaximalToMinimalEdgeRings(List<PolygonizeDirectedEdge> ringEdges)
+  private static void convertMaximalToMinimalEdgeRings(List<PolygonizeDirectedEdge> ringEdges)
   {
     for (PolygonizeDirectedEdge de : ringEdges) {
       long label = de.getLabel();
@@ -197,6 +204,50 @@ class PolygonizeGraph
     convertMaximalToMinimalEdgeRings(maximalRings);
 
     // find all edgerings (which will now be minimal ones, as required)
+    return findEdgeRings(dirEdges);
+  }
+
+  /**
+   * Computes the minimal EdgeRings formed by the edges in this graph,
+   * processing the connected components of the graph in parallel.
+   * The components do not share any nodes or edges,
+   * so their edge ring labels and next pointers can be computed independently.
+   * The edge rings are returned in the same order as by {@link #getEdgeRings()}.
+   * 
+   * @return a list of the {@link EdgeRing}s found by the polygonization process.
+   */
+  public List<EdgeRing> getEdgeRingsParallel()
+  {
+    List<Component> comps = getComponents();
+    IntStream.range(0, comps.size()).parallel().forEach(i -> {
+      Component comp = comps.get(i);
+      computeNextCWEdges(comp.nodes.iterator());
+      label(comp.dirEdges, -1);
+      List<PolygonizeDirectedEdge> maximalRings = findLabeledEdgeRings(comp.dirEdges);
+      convertMaximalToMinimalEdgeRings(maximalRings);
+      comp.edgeRings = findEdgeRings(comp.dirEdges);
+    });
+    /**
+     * Merge the component edge rings in the order of their start edges,
+     * which is the order in which they are found by a sequential traversal.
+     * The start edge of a ring is the first of its edges in graph order,
+     * and the rings of a component are in the order of their start edges.
+     */
+    List<EdgeRing> edgeRingList = new ArrayList<EdgeRing>();
+    for (Iterator<?> i = dirEdges.iterator(); i.hasNext(); ) {
+      PolygonizeDirectedEdge de = (PolygonizeDirectedEdge) i.next();
+      if (de.isMarked()) continue;
+      Component comp = (Component) de.getFromNode().getData();
+      if (comp.nextRing < comp.edgeRings.size() 
+          && de.getRing() == comp.edgeRings.get(comp.nextRing)) {
+        edgeRingList.add(comp.edgeRings.get(comp.nextRing++));
+      }
+    }
+    return edgeRingList;
+  }
+
+  private List<EdgeRing> findEdgeRings(Collection<?> dirEdges)
+  {
     List<EdgeRing> edgeRingList = new ArrayList<EdgeRing>();
     for (Iterator<?> i = dirEdges.iterator(); i.hasNext(); ) {
       PolygonizeDirectedEdge de = (PolygonizeDirectedEdge) i.next();
@@ -240,13 +291,35 @@ class PolygonizeGraph
    * Finds and removes all cut edges from the graph.
    * @return a list of the {@link LineString}s forming the removed cut edges
    */
-  @SuppressWarnings("unchecked")
   public List<LineString> deleteCutEdges()
   {
     computeNextCWEdges();
     // label the current set of edgerings
     findLabeledEdgeRings(dirEdges);
+    return extractCutEdges();
+  }
 
+  /**
+   * Finds and removes all cut edges from the graph,
+   * labelling the edge rings of the connected components of the graph in parallel.
+   * The cut edges are returned in the same order as by {@link #deleteCutEdges()}.
+   * 
+   * @return a list of the {@link LineString}s forming the removed cut edges
+   */
+  public List<LineString> deleteCutEdgesParallel()
+  {
+    List<Component> comps = getComponents();
+    IntStream.range(0, comps.size()).parallel().forEach(i -> {
+      Component comp = comps.get(i);
+      computeNextCWEdges(comp.nodes.iterator());
+      findLabeledEdgeRings(comp.dirEdges);
+    });
+    return extractCutEdges();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<LineString> extractCutEdges()
+  {
     /**
      * Cut Edges are edges where both dirEdges have the same label.
      * Delete them, and record them
@@ -346,6 +419,45 @@ class PolygonizeGraph
     }
   }
 
+  /**
+   * Gets the connected components of the graph.
+   * The component of each node is stored in its data field.
+   * The directed edges of each component are in the same order as in the graph,
+   * so the components are traversed in the same order as the entire graph.
+   * 
+   * @return the connected components of the graph
+   */
+  private List<Component> getComponents()
+  {
+    if (components != null) return components;
+    components = new ArrayList<Component>();
+    Stack<Node> nodeStack = new Stack<Node>();
+    for (Iterator<?> i = nodeIterator(); i.hasNext(); ) {
+      Node start = (Node) i.next();
+      if (start.getData() != null) continue;
+      Component comp = new Component();
+      components.add(comp);
+      start.setData(comp);
+      nodeStack.push(start);
+      while (! nodeStack.isEmpty()) {
+        Node node = nodeStack.pop();
+        comp.nodes.add(node);
+        for (Iterator<?> j = node.getOutEdges().iterator(); j.hasNext(); ) {
+          Node toNode = ((DirectedEdge) j.next()).getToNode();
+          if (toNode.getData() == null) {
+            toNode.setData(comp);
+            nodeStack.push(toNode);
+          }
+        }
+      }
+    }
+    for (Iterator<?> i = dirEdges.iterator(); i.hasNext(); ) {
+      PolygonizeDirectedEdge de = (PolygonizeDirectedEdge) i.next();
+      ((Component) de.getFromNode().getData()).dirEdges.add(de);
+    }
+    return components;
+  }
+
   private EdgeRing findEdgeRing(PolygonizeDirectedEdge startDE)
   {
     EdgeRing er = new EdgeRing(factory);
@@ -400,4 +512,13 @@ class PolygonizeGraph
     return dangleLines;
   }
   
+  /**
+   * A connected component of the graph
+   */
+  private static class Component {
+    List<Node> nodes = new ArrayList<Node>();
+    List<PolygonizeDirectedEdge> dirEdges = new ArrayList<PolygonizeDirectedEdge>();
+    List<EdgeRing> edgeRings;
+    int nextRing = 0;
+  }
 }
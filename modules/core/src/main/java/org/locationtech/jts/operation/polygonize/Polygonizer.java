@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryComponentFilter;
@@ -46,6 +47,13 @@ import org.locationtech.jts.geom.Polygon;
  * The set of extracted polygons is guaranteed to be edge-disjoint.
  * This is useful where it is known that the input lines form a
  * valid polygonal geometry (which may include holes or nested polygons).
+ * <p>
+ * The {@link #setParallel(boolean)} option allows the connected components
+ * of the graph to be traversed in parallel to find cut edges and edge rings,
+ * the edge rings to be validated in parallel,
+ * and the holes to be assigned to shells in parallel.
+ * Dangle removal is still performed sequentially.
+ * The result is the same as for sequential computation.
  *
  * @version 1.7
  */
@@ -84,6 +92,7 @@ public class Polygonizer
 
   private boolean isCheckingRingsValid = true;
   private boolean extractOnlyPolygonal;
+  private boolean isParallel = false;
 
   private GeometryFactory geomFactory = null;
 
@@ -165,6 +174,22 @@ public class Polygonizer
     this.isCheckingRingsValid = isCheckingRingsValid;
   }
   
+  /**
+   * Sets whether the polygonization is computed in parallel.
+   * This includes finding the cut edges and edge rings
+   * of each connected component of the graph,
+   * checking ring validity and orientation,
+   * and assigning holes to shells.
+   * <p>
+   * The default is <code>false</code>.
+   * 
+   * @param isParallel true if edge rings should be processed in parallel
+   */
+  public void setParallel(boolean isParallel)
+  {
+    this.isParallel = isParallel;
+  }
+  
   /**
    * Gets the list of polygons formed by the polygonization.
    * @return a collection of {@link Polygon}s
@@ -235,8 +260,15 @@ public class Polygonizer
     if (graph == null) return;
 
     dangles = graph.deleteDangles();
-    cutEdges = graph.deleteCutEdges();
-    List<EdgeRing> edgeRingList = graph.getEdgeRings();
+    List<EdgeRing> edgeRingList;
+    if (isParallel) {
+      cutEdges = graph.deleteCutEdgesParallel();
+      edgeRingList = graph.getEdgeRingsParallel();
+    }
+    else {
+      cutEdges = graph.deleteCutEdges();
+      edgeRingList = graph.getEdgeRings();
+    }
 
     //Debug.printTime("Build Edge Rings");
 
@@ -252,7 +284,7 @@ public class Polygonizer
     //Debug.printTime("Validate Rings");
     
     findShellsAndHoles(validEdgeRingList);
-    HoleAssigner.assignHolesToShells(holeList, shellList);
+    HoleAssigner.assignHolesToShells(holeList, shellList, isParallel);
     
     // order the shells to make any subsequent processing deterministic
     Collections.sort(shellList, new EdgeRing.EnvelopeComparator());
@@ -270,8 +302,11 @@ public class Polygonizer
 
   private void findValidRings(List<EdgeRing> edgeRingList, List<EdgeRing> validEdgeRingList, List<EdgeRing> invalidRingList)
   {
+    if (isParallel) {
+      ringIndexes(edgeRingList).forEach(i -> edgeRingList.get(i).computeValid());
+    }
     for (EdgeRing er : edgeRingList) {
-      er.computeValid();
+      if (! isParallel) er.computeValid();
       if (er.isValid())
         validEdgeRingList.add(er);
       else
@@ -283,8 +318,11 @@ public class Polygonizer
   {
     holeList = new ArrayList<EdgeRing>();
     shellList = new ArrayList<EdgeRing>();
+    if (isParallel) {
+      ringIndexes(edgeRingList).forEach(i -> edgeRingList.get(i).computeHole());
+    }
     for (EdgeRing er : edgeRingList) {
-      er.computeHole();
+      if (! isParallel) er.computeHole();
       if (er.isHole())
         holeList.add(er);
       else
@@ -292,6 +330,15 @@ public class Polygonizer
     }
   }
 
+  /**
+   * Creates a parallel stream of indexes for a ring list.
+   * Each ring is processed by a single task,
+   * so only its own cached state is computed.
+   */
+  private static IntStream ringIndexes(List<EdgeRing> edgeRingList) {
+    return IntStream.range(0, edgeRingList.size()).parallel();
+  }
+
   private static void findDisjointShells(List<EdgeRing> shellList) {
     findOuterShells(shellList);
     
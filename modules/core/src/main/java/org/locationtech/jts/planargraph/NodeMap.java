@@ -15,14 +15,20 @@ package org.locationtech.jts.planargraph;
 
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.TreeMap;
 
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.util.XYHashMap;
 
 
 /**
  * A map of {@link Node}s, indexed by the coordinate of the node.
+ * Nodes are located using a hash of the coordinate ordinates,
+ * and iterated in coordinate order.
+ * <p>
+ * The collection returned by {@link #values()} (and used by {@link #iterator()})
+ * is an unmodifiable snapshot, which is cached until the map is next changed.
+ * Unlike a live map view, it does not reflect nodes added or removed
+ * after it was obtained, and {@link Iterator#remove()} is not supported.
  *
  * @version 1.7
  */
@@ -30,7 +36,7 @@ public class NodeMap
 
 {
 
-  private Map nodeMap = new TreeMap();
+  private XYHashMap<Node> nodeMap = new XYHashMap<Node>();
   
   /**
    * Constructs a NodeMap without any Nodes.
@@ -53,13 +59,13 @@ public class NodeMap
    */
   public Node remove(Coordinate pt)
   {
-    return (Node) nodeMap.remove(pt);
+    return nodeMap.remove(pt);
   }
 
   /**
    * Returns the Node at the given location, or null if no Node was there.
    */
-  public Node find(Coordinate coord)  {    return (Node) nodeMap.get(coord);  }
+  public Node find(Coordinate coord)  {    return nodeMap.get(coord);  }
 
   /**
    * Returns an Iterator over the Nodes in this NodeMap, sorted in ascending order
@@ -67,7 +73,7 @@ public class NodeMap
    */
   public Iterator iterator()
   {
-    return nodeMap.values().iterator();
+    return nodeMap.orderedValues().iterator();
   }
   /**
    * Returns the Nodes in this NodeMap, sorted in ascending order
@@ -75,7 +81,7 @@ public class NodeMap
    */
   public Collection values()
   {
-    return nodeMap.values();
+    return nodeMap.orderedValues();
   }
 
 }
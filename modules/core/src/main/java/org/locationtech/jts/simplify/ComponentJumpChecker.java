@@ -12,11 +12,14 @@
 package org.locationtech.jts.simplify;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.locationtech.jts.algorithm.RayCrossingCounter;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.index.strtree.STRtree;
 
 /**
  * Checks if simplifying (flattening) line sections or segments 
@@ -26,12 +29,53 @@ import org.locationtech.jts.geom.LineSegment;
  *
  */
 class ComponentJumpChecker {
-  
-  //TODO: use a spatial index?
-  private Collection<TaggedLineString> components;
+
+  /**
+   * Creates a checker for the components of a set of lines.
+   *
+   * @param lines the lines being simplified
+   * @return a checker for the lines
+   */
+  static ComponentJumpChecker create(Collection<LineString> lines) {
+    ComponentJumpChecker checker = new ComponentJumpChecker();
+    for (LineString line : lines) {
+      checker.add(line, line.getCoordinateN(1));
+    }
+    checker.componentIndex.build();
+    return checker;
+  }
+
+  /**
+   * The component points, indexed by location.
+   * The index is read-only once built,
+   * so the checker can be used by multiple threads.
+   * It does not refer to the {@link TaggedLineString}s,
+   * so it can be reused for more than one simplification of the same lines.
+   */
+  private STRtree componentIndex = new STRtree();
+
+  private ComponentJumpChecker() {
+  }
 
   public ComponentJumpChecker(Collection<TaggedLineString> taggedLines) {
-    components = taggedLines;
+    for (TaggedLineString comp : taggedLines) {
+      add(comp.getParent(), comp.getComponentPoint());
+    }
+    componentIndex.build();
+  }
+
+  private void add(LineString line, Coordinate compPt) {
+    componentIndex.insert(new Envelope(compPt), new Component(line, compPt));
+  }
+
+  private static class Component {
+    LineString line;
+    Coordinate pt;
+
+    Component(LineString line, Coordinate pt) {
+      this.line = line;
+      this.pt = pt;
+    }
   }
 
   /**
@@ -47,16 +91,13 @@ class ComponentJumpChecker {
    */
   public boolean hasJump(TaggedLineString line, int start, int end, LineSegment seg) {
     Envelope sectionEnv = computeEnvelope(line, start, end);
-    for (TaggedLineString comp : components) {
+    for (Component comp : queryComponents(sectionEnv)) {
       //-- don't test component against itself
-      if (comp == line)
+      if (comp.line == line.getParent())
         continue;
       
-      Coordinate compPt = comp.getComponentPoint();
-      if (sectionEnv.intersects(compPt)) {
-        if (hasJumpAtComponent(compPt, line, start, end, seg)) {
-          return true;
-        }
+      if (hasJumpAtComponent(comp.pt, line, start, end, seg)) {
+        return true;
       }
     }
     return false;
@@ -76,21 +117,23 @@ class ComponentJumpChecker {
    */
   public boolean hasJump(TaggedLineString line, LineSegment seg1, LineSegment seg2, LineSegment seg) {
     Envelope sectionEnv = computeEnvelope(seg1, seg2);
-    for (TaggedLineString comp : components) {
+    for (Component comp : queryComponents(sectionEnv)) {
       //-- don't test component against itself
-      if (comp == line)
+      if (comp.line == line.getParent())
         continue;
       
-      Coordinate compPt = comp.getComponentPoint();
-      if (sectionEnv.intersects(compPt)) {
-        if (hasJumpAtComponent(compPt, seg1, seg2, seg)) {
-          return true;
-        }
+      if (hasJumpAtComponent(comp.pt, seg1, seg2, seg)) {
+        return true;
       }
     }
     return false;
   }
 
+  @SuppressWarnings("unchecked")
+  private List<Component> queryComponents(Envelope sectionEnv) {
+    return componentIndex.query(sectionEnv);
+  }
+
   private static boolean hasJumpAtComponent(Coordinate compPt, TaggedLineString line, int start, int end, LineSegment seg) {
     int sectionCount = crossingCount(compPt, line, start, end);
     int segCount = crossingCount(compPt, seg);
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineSegment;
+import org.locationtech.jts.index.quadtree.Quadtree;
+
+/**
+ * A spatial index on a set of {@link LineSegment}s
+ * which supports concurrent adding, removing and querying.
+ * The segments are stored in the buckets of a grid
+ * provided by a {@link LineGridPartition},
+ * with each bucket being a {@link Quadtree} accessed under its own lock.
+ * A segment is stored in every bucket its envelope intersects.
+ * Updates to different areas of the grid do not contend.
+ *
+ * @author Martin Davis
+ *
+ */
+class ConcurrentLineSegmentIndex extends LineSegmentIndex
+{
+  private LineGridPartition grid;
+  private int gridSize;
+  private Quadtree[] buckets;
+
+  public ConcurrentLineSegmentIndex(LineGridPartition grid)
+  {
+    this.grid = grid;
+    gridSize = grid.getGridSize();
+    buckets = new Quadtree[gridSize * gridSize];
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new Quadtree();
+    }
+  }
+
+  @Override
+  public void add(LineSegment seg)
+  {
+    Envelope env = new Envelope(seg.p0, seg.p1);
+    int ix0 = grid.cellX(env.getMinX());
+    int ix1 = grid.cellX(env.getMaxX());
+    int iy0 = grid.cellY(env.getMinY());
+    int iy1 = grid.cellY(env.getMaxY());
+    for (int iy = iy0; iy <= iy1; iy++) {
+      for (int ix = ix0; ix <= ix1; ix++) {
+        Quadtree bucket = buckets[iy * gridSize + ix];
+        synchronized (bucket) {
+          bucket.insert(env, seg);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void remove(LineSegment seg)
+  {
+    Envelope env = new Envelope(seg.p0, seg.p1);
+    int ix0 = grid.cellX(env.getMinX());
+    int ix1 = grid.cellX(env.getMaxX());
+    int iy0 = grid.cellY(env.getMinY());
+    int iy1 = grid.cellY(env.getMaxY());
+    for (int iy = iy0; iy <= iy1; iy++) {
+      for (int ix = ix0; ix <= ix1; ix++) {
+        Quadtree bucket = buckets[iy * gridSize + ix];
+        synchronized (bucket) {
+          bucket.remove(env, seg);
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<Object> query(LineSegment querySeg)
+  {
+    Envelope env = new Envelope(querySeg.p0, querySeg.p1);
+    List<Object> items = new ArrayList<Object>();
+    int ix0 = grid.cellX(env.getMinX());
+    int ix1 = grid.cellX(env.getMaxX());
+    int iy0 = grid.cellY(env.getMinY());
+    int iy1 = grid.cellY(env.getMaxY());
+    for (int iy = iy0; iy <= iy1; iy++) {
+      for (int ix = ix0; ix <= ix1; ix++) {
+        Quadtree bucket = buckets[iy * gridSize + ix];
+        int cellX = ix;
+        int cellY = iy;
+        synchronized (bucket) {
+          bucket.query(env, item -> {
+            LineSegment seg = (LineSegment) item;
+            if (! Envelope.intersects(seg.p0, seg.p1, querySeg.p0, querySeg.p1))
+              return;
+            /**
+             * A segment in several buckets is reported only from the bucket
+             * containing the minimum corner of the intersection
+             * of the segment and query envelopes
+             */
+            double refX = Math.max(env.getMinX(), Math.min(seg.p0.x, seg.p1.x));
+            double refY = Math.max(env.getMinY(), Math.min(seg.p0.y, seg.p1.y));
+            if (grid.cellX(refX) == cellX && grid.cellY(refY) == cellY)
+              items.add(seg);
+          });
+        }
+      }
+    }
+    return items;
+  }
+}
@@ -126,25 +126,24 @@ static class DPTransformer
 {
   private boolean isEnsureValidTopology = true;
   private double distanceTolerance;
+  private PackedDouglasPeuckerSimplifier lineSimplifier = new PackedDouglasPeuckerSimplifier();
 
 	public DPTransformer(boolean isEnsureValidTopology, double distanceTolerance)
 	{
 		this.isEnsureValidTopology = isEnsureValidTopology;
 		this.distanceTolerance = distanceTolerance;
+		lineSimplifier.setDistanceTolerance(distanceTolerance);
 	}
 	
   protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent)
   {
-    boolean isPreserveEndpoint = ! (parent instanceof LinearRing);
-    Coordinate[] inputPts = coords.toCoordinateArray();
-    Coordinate[] newPts = null;
-    if (inputPts.length == 0) {
-      newPts = new Coordinate[0];
-    }
-    else {
-      newPts = DouglasPeuckerLineSimplifier.simplify(inputPts, distanceTolerance, isPreserveEndpoint);
+    if (coords.size() == 0) {
+      return factory.getCoordinateSequenceFactory().create(new Coordinate[0]);
     }
-    return factory.getCoordinateSequenceFactory().create(newPts);
+    boolean isPreserveEndpoint = ! (parent instanceof LinearRing);
+    lineSimplifier.setPreserveEndpoint(isPreserveEndpoint);
+    lineSimplifier.simplify(coords);
+    return lineSimplifier.getResultSequence(factory.getCoordinateSequenceFactory());
   }
 
   /**
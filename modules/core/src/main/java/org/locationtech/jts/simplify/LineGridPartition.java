@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+
+/**
+ * Partitions a set of lines into groups which can be simplified concurrently.
+ * A hierarchical grid is placed over the extent of the lines,
+ * with level <code>L</code> having <code>2^L x 2^L</code> cells.
+ * Each line is assigned to the cell at the finest level which contains its envelope.
+ * Lines in different cells at the same level have disjoint envelopes,
+ * so simplifying one cannot affect, or be affected by, the other.
+ * The groups are the cells at each level,
+ * ordered from the finest level to the coarsest.
+ * <p>
+ * The finest grid also provides the buckets of a {@link ConcurrentLineSegmentIndex}.
+ * The segments of the lines in a group lie in the buckets of the group cell,
+ * so concurrent groups use disjoint buckets.
+ *
+ * @author Martin Davis
+ *
+ */
+class LineGridPartition {
+
+  /**
+   * The maximum level of the grid (so there are at most 128 x 128 cells)
+   */
+  private static final int MAX_LEVEL = 7;
+
+  /**
+   * The target number of lines in a finest-level cell
+   */
+  private static final int CELL_LINE_COUNT = 32;
+
+  private double minX;
+  private double minY;
+  private double scaleX;
+  private double scaleY;
+  private int maxLevel;
+  private int gridSize;
+
+  private int[] lineOrder;
+  private int[] groupStart;
+  private int[] levelStart;
+
+  /**
+   * Creates a partition of a list of lines.
+   *
+   * @param lines the lines to partition
+   */
+  public LineGridPartition(List<LineString> lines) {
+    Envelope extent = new Envelope();
+    for (LineString line : lines) {
+      extent.expandToInclude(line.getEnvelopeInternal());
+    }
+    maxLevel = 0;
+    while (maxLevel < MAX_LEVEL
+        && (1L << (2 * maxLevel)) * CELL_LINE_COUNT < lines.size()) {
+      maxLevel++;
+    }
+    gridSize = 1 << maxLevel;
+    minX = extent.getMinX();
+    minY = extent.getMinY();
+    scaleX = extent.getWidth() > 0 ? gridSize / extent.getWidth() : 0;
+    scaleY = extent.getHeight() > 0 ? gridSize / extent.getHeight() : 0;
+    computeGroups(lines);
+  }
+
+  /**
+   * Gets the number of cells along each side of the finest grid.
+   *
+   * @return the finest grid size
+   */
+  public int getGridSize() {
+    return gridSize;
+  }
+
+  /**
+   * Computes the column of the finest-level cell containing an X ordinate.
+   *
+   * @param x an X ordinate
+   * @return the cell column
+   */
+  public int cellX(double x) {
+    return clamp((int) ((x - minX) * scaleX));
+  }
+
+  /**
+   * Computes the row of the finest-level cell containing a Y ordinate.
+   *
+   * @param y a Y ordinate
+   * @return the cell row
+   */
+  public int cellY(double y) {
+    return clamp((int) ((y - minY) * scaleY));
+  }
+
+  private int clamp(int i) {
+    if (i < 0) return 0;
+    if (i >= gridSize) return gridSize - 1;
+    return i;
+  }
+
+  /**
+   * Gets the number of levels.
+   *
+   * @return the number of levels
+   */
+  public int getNumLevels() {
+    return levelStart.length - 1;
+  }
+
+  /**
+   * Gets the index of the first group of a level.
+   * Levels are numbered in processing order (from finest to coarsest).
+   *
+   * @param level a level index, or the number of levels
+   * @return the index of the first group in the level
+   */
+  public int getLevelStart(int level) {
+    return levelStart[level];
+  }
+
+  /**
+   * Gets the position in the line order of the first line of a group.
+   *
+   * @param group a group index, or the number of groups
+   * @return the position of the first line in the group
+   */
+  public int getGroupStart(int group) {
+    return groupStart[group];
+  }
+
+  /**
+   * Gets the number of groups.
+   *
+   * @return the number of groups
+   */
+  public int getNumGroups() {
+    return groupStart.length - 1;
+  }
+
+  /**
+   * Gets the index of the line at a position in the line order.
+   *
+   * @param i a position in the line order
+   * @return the index of the line in the input list
+   */
+  public int getLine(int i) {
+    return lineOrder[i];
+  }
+
+  private void computeGroups(List<LineString> lines) {
+    int numLines = lines.size();
+    long numCells = (long) gridSize * gridSize;
+    //-- sort lines by level (finest first), then cell, then input order
+    long[] keys = new long[numLines];
+    for (int i = 0; i < numLines; i++) {
+      Envelope env = lines.get(i).getEnvelopeInternal();
+      int ix0 = cellX(env.getMinX());
+      int ix1 = cellX(env.getMaxX());
+      int iy0 = cellY(env.getMinY());
+      int iy1 = cellY(env.getMaxY());
+      int shift = 0;
+      while ((ix0 >> shift) != (ix1 >> shift) || (iy0 >> shift) != (iy1 >> shift)) {
+        shift++;
+      }
+      long cell = (long) (iy0 >> shift) * gridSize + (ix0 >> shift);
+      long groupKey = shift * numCells + cell;
+      keys[i] = groupKey * numLines + i;
+    }
+    Arrays.sort(keys);
+
+    lineOrder = new int[numLines];
+    int[] groupStartBuf = new int[numLines + 1];
+    int[] levelStartBuf = new int[maxLevel + 2];
+    int numGroups = 0;
+    int numLevels = 0;
+    long prevGroupKey = -1;
+    long prevShift = -1;
+    for (int k = 0; k < numLines; k++) {
+      long groupKey = keys[k] / numLines;
+      lineOrder[k] = (int) (keys[k] % numLines);
+      if (groupKey != prevGroupKey) {
+        long shift = groupKey / numCells;
+        if (shift != prevShift) {
+          levelStartBuf[numLevels++] = numGroups;
+          prevShift = shift;
+        }
+        groupStartBuf[numGroups++] = k;
+        prevGroupKey = groupKey;
+      }
+    }
+    groupStartBuf[numGroups] = numLines;
+    levelStartBuf[numLevels] = numGroups;
+    groupStart = Arrays.copyOf(groupStartBuf, numGroups + 1);
+    levelStart = Arrays.copyOf(levelStartBuf, numLevels + 1);
+  }
+}
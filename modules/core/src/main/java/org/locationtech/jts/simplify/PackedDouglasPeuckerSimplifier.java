@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+/**
+ * Simplifies a line given as packed ordinates
+ * using the standard Douglas-Peucker algorithm.
+ * Sections are processed with an explicit stack rather than recursion,
+ * and all working storage is reused between lines.
+ * The result is the same as that computed by {@link DouglasPeuckerLineSimplifier}.
+ * <p>
+ * This class does not ensure the topological validity of the result.
+ * It is intended for bulk simplification of lines;
+ * use {@link DouglasPeuckerSimplifier} to simplify geometries.
+ *
+ * @author Martin Davis
+ *
+ * @see DouglasPeuckerSimplifier
+ */
+public class PackedDouglasPeuckerSimplifier
+    extends PackedLineSimplifier
+{
+  private boolean isPreserveEndpoint = false;
+
+  private boolean[] isKept = new boolean[0];
+  private int[] stack = new int[0];
+
+  /**
+   * Creates a new simplifier.
+   */
+  public PackedDouglasPeuckerSimplifier() {
+  }
+
+  /**
+   * Sets whether the endpoint of a ring is preserved.
+   * If not, the endpoint of a ring is removed if it lies
+   * within tolerance of the segment between its neighbours
+   * (as long as the ring does not collapse).
+   *
+   * @param isPreserveEndpoint true if ring endpoints should be preserved
+   */
+  public void setPreserveEndpoint(boolean isPreserveEndpoint) {
+    this.isPreserveEndpoint = isPreserveEndpoint;
+  }
+
+  @Override
+  protected int simplifyPoints(double[] coords, int dim, int start, int numPts) {
+    if (isKept.length < numPts) {
+      isKept = new boolean[Math.max(numPts, 2 * isKept.length)];
+      stack = new int[2 * isKept.length];
+    }
+    for (int i = 0; i < numPts; i++) {
+      isKept[i] = false;
+    }
+    isKept[0] = true;
+    isKept[numPts - 1] = true;
+    int top = 0;
+    stack[top++] = 0;
+    stack[top++] = numPts - 1;
+    while (top > 0) {
+      int j = stack[--top];
+      int i = stack[--top];
+      if (i + 1 >= j) continue;
+      int pi = (start + i) * dim;
+      int pj = (start + j) * dim;
+      double ax = coords[pi];
+      double ay = coords[pi + 1];
+      double bx = coords[pj];
+      double by = coords[pj + 1];
+      double maxDistance = -1.0;
+      int maxIndex = i;
+      for (int k = i + 1; k < j; k++) {
+        int pk = (start + k) * dim;
+        double distance = segmentDistance(coords[pk], coords[pk + 1], ax, ay, bx, by);
+        if (distance > maxDistance) {
+          maxDistance = distance;
+          maxIndex = k;
+        }
+      }
+      if (maxDistance > distanceTolerance) {
+        isKept[maxIndex] = true;
+        stack[top++] = i;
+        stack[top++] = maxIndex;
+        stack[top++] = maxIndex;
+        stack[top++] = j;
+      }
+    }
+
+    int n = 0;
+    for (int i = 0; i < numPts; i++) {
+      if (isKept[i])
+        copyPoint(coords, start + i, n++);
+    }
+    if (! isPreserveEndpoint && isRing(coords, dim, start, numPts)) {
+      n = simplifyRingEndpoint(n);
+    }
+    return n;
+  }
+
+  private static boolean isRing(double[] coords, int dim, int start, int numPts) {
+    if (numPts < 4) return false;
+    int p0 = start * dim;
+    int pn = (start + numPts - 1) * dim;
+    return coords[p0] == coords[pn] && coords[p0 + 1] == coords[pn + 1];
+  }
+
+  private int simplifyRingEndpoint(int n) {
+    //-- avoid collapsing triangles
+    if (n < 4)
+      return n;
+    double distance = segmentDistance(getResultX(0), getResultY(0),
+        getResultX(1), getResultY(1), getResultX(n - 2), getResultY(n - 2));
+    if (distance > distanceTolerance)
+      return n;
+    //-- remove the endpoint and close the ring at the next point
+    double[] result = getResult();
+    int dim = getResultDimension();
+    System.arraycopy(result, dim, result, 0, (n - 2) * dim);
+    n -= 2;
+    if (getResultX(0) != getResultX(n - 1) || getResultY(0) != getResultY(n - 1)) {
+      System.arraycopy(result, 0, result, n * dim, dim);
+      n++;
+    }
+    return n;
+  }
+
+  /**
+   * Computes the distance from a point to a segment.
+   * This uses the same arithmetic as
+   * {@link org.locationtech.jts.algorithm.Distance#pointToSegment(org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate, org.locationtech.jts.geom.Coordinate)},
+   * so that results match the non-packed simplifier.
+   */
+  private static double segmentDistance(double px, double py,
+      double ax, double ay, double bx, double by)
+  {
+    if (ax == bx && ay == by)
+      return Math.hypot(px - ax, py - ay);
+    double len2 = (bx - ax) * (bx - ax) + (by - ay) * (by - ay);
+    double r = ((px - ax) * (bx - ax) + (py - ay) * (by - ay)) / len2;
+    if (r <= 0.0)
+      return Math.hypot(px - ax, py - ay);
+    if (r >= 1.0)
+      return Math.hypot(px - bx, py - by);
+    double s = ((ay - py) * (bx - ax) - (ax - px) * (by - ay)) / len2;
+    return Math.abs(s) * Math.sqrt(len2);
+  }
+}
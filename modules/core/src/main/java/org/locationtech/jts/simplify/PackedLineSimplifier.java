@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+/**
+ * Base class for line simplifiers which operate on
+ * packed arrays of ordinates rather than {@link org.locationtech.jts.geom.Coordinate}s.
+ * The input is a section of an array of interleaved ordinates
+ * with a given dimension, or a {@link CoordinateSequence}.
+ * The simplified line is written into a result buffer
+ * which is reused by subsequent simplifications,
+ * so a single simplifier can process many lines without allocating memory
+ * (after the buffers have grown to the size of the largest line).
+ * <p>
+ * Simplification is computed on the X and Y ordinates.
+ * Other ordinates are copied from the retained vertices.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Martin Davis
+ *
+ * @see PackedDouglasPeuckerSimplifier
+ * @see PackedVWSimplifier
+ */
+public abstract class PackedLineSimplifier
+{
+  protected double distanceTolerance;
+
+  private double[] inputBuf = new double[0];
+  private double[] result = new double[0];
+  private int resultSize = 0;
+  private int dimension = 2;
+  private int measures = 0;
+
+  /**
+   * Sets the distance tolerance for the simplification.
+   *
+   * @param distanceTolerance the approximation tolerance to use
+   */
+  public void setDistanceTolerance(double distanceTolerance) {
+    if (distanceTolerance < 0.0)
+      throw new IllegalArgumentException("Tolerance must be non-negative");
+    this.distanceTolerance = distanceTolerance;
+  }
+
+  /**
+   * Simplifies a line given as a section of an array of interleaved ordinates.
+   * The result replaces the contents of the result buffer.
+   *
+   * @param coords the array of ordinates
+   * @param dimension the number of ordinates in each point (at least 2)
+   * @param start the index of the first point of the line
+   * @param end the index after the last point of the line
+   * @return the number of points in the simplified line
+   */
+  public int simplify(double[] coords, int dimension, int start, int end) {
+    return simplify(coords, dimension, 0, start, end);
+  }
+
+  /**
+   * Simplifies the points in a {@link CoordinateSequence}.
+   * The ordinates of a {@link PackedCoordinateSequence.Double}
+   * are read directly; other sequences are copied into an internal buffer.
+   * The result has the same dimension and measures as the sequence.
+   *
+   * @param seq the sequence to simplify
+   * @return the number of points in the simplified line
+   */
+  public int simplify(CoordinateSequence seq) {
+    int dim = seq.getDimension();
+    int size = seq.size();
+    if (seq instanceof PackedCoordinateSequence.Double) {
+      double[] raw = ((PackedCoordinateSequence.Double) seq).getRawCoordinates();
+      return simplify(raw, dim, seq.getMeasures(), 0, size);
+    }
+    if (inputBuf.length < size * dim) {
+      inputBuf = new double[size * dim];
+    }
+    for (int i = 0; i < size; i++) {
+      for (int d = 0; d < dim; d++) {
+        inputBuf[i * dim + d] = seq.getOrdinate(i, d);
+      }
+    }
+    return simplify(inputBuf, dim, seq.getMeasures(), 0, size);
+  }
+
+  private int simplify(double[] coords, int dimension, int measures, int start, int end) {
+    if (dimension < 2)
+      throw new IllegalArgumentException("Dimension must be at least 2");
+    this.dimension = dimension;
+    this.measures = measures;
+    int numPts = end - start;
+    //-- a line may be padded with one extra point
+    int size = (numPts + 1) * dimension;
+    if (result.length < size) {
+      result = new double[Math.max(size, 2 * result.length)];
+    }
+    resultSize = numPts <= 0 ? 0 : simplifyPoints(coords, dimension, start, numPts);
+    return resultSize;
+  }
+
+  /**
+   * Simplifies a line, writing the retained points to the result buffer
+   * with {@link #copyPoint(double[], int, int)}.
+   * The line has at least one point.
+   *
+   * @param coords the array of ordinates
+   * @param dim the dimension of the points
+   * @param start the index of the first point of the line
+   * @param numPts the number of points in the line
+   * @return the number of points in the simplified line
+   */
+  protected abstract int simplifyPoints(double[] coords, int dim, int start, int numPts);
+
+  /**
+   * Copies a point to a position in the result buffer.
+   *
+   * @param coords the array of ordinates
+   * @param index the index of the point to copy
+   * @param resultIndex the position of the point in the result
+   */
+  protected void copyPoint(double[] coords, int index, int resultIndex) {
+    System.arraycopy(coords, index * dimension, result, resultIndex * dimension, dimension);
+  }
+
+  /**
+   * Gets the X ordinate of a point in the result buffer.
+   *
+   * @param i the index of the point
+   * @return the X ordinate
+   */
+  protected double getResultX(int i) {
+    return result[i * dimension];
+  }
+
+  /**
+   * Gets the Y ordinate of a point in the result buffer.
+   *
+   * @param i the index of the point
+   * @return the Y ordinate
+   */
+  protected double getResultY(int i) {
+    return result[i * dimension + 1];
+  }
+
+  /**
+   * Gets the buffer containing the ordinates of the simplified line.
+   * Only the first {@link #getResultSize()} points are valid.
+   * The buffer is overwritten by the next simplification.
+   *
+   * @return the result ordinate buffer
+   */
+  public double[] getResult() {
+    return result;
+  }
+
+  /**
+   * Gets the number of points in the simplified line.
+   *
+   * @return the number of result points
+   */
+  public int getResultSize() {
+    return resultSize;
+  }
+
+  /**
+   * Gets the dimension of the points in the result buffer.
+   *
+   * @return the result dimension
+   */
+  public int getResultDimension() {
+    return dimension;
+  }
+
+  /**
+   * Creates a {@link CoordinateSequence} containing the simplified line.
+   *
+   * @param factory the factory to create the sequence
+   * @return a new sequence containing the result points
+   */
+  public CoordinateSequence getResultSequence(CoordinateSequenceFactory factory) {
+    CoordinateSequence seq = factory.create(resultSize, dimension, measures);
+    int seqDim = Math.min(dimension, seq.getDimension());
+    for (int i = 0; i < resultSize; i++) {
+      for (int d = 0; d < seqDim; d++) {
+        seq.setOrdinate(i, d, result[i * dimension + d]);
+      }
+    }
+    return seq;
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+/**
+ * Simplifies a line given as packed ordinates
+ * using the Visvalingam-Whyatt algorithm.
+ * The vertex with the smallest effective area is found using
+ * an indexed binary heap, and the vertex list is linked by index arrays.
+ * All working storage is reused between lines.
+ * Vertices with equal areas are removed in line order,
+ * and consecutive repeated points are removed from the result,
+ * so the result is the same as that computed by {@link VWLineSimplifier}.
+ * <p>
+ * This class does not ensure the topological validity of the result.
+ * It is intended for bulk simplification of lines;
+ * use {@link VWSimplifier} to simplify geometries.
+ *
+ * @author Martin Davis
+ *
+ * @see VWSimplifier
+ */
+public class PackedVWSimplifier
+    extends PackedLineSimplifier
+{
+  private double[] area = new double[0];
+  private int[] prev = new int[0];
+  private int[] next = new int[0];
+  private int[] heap = new int[0];
+  private int[] heapPos = new int[0];
+  private int heapSize;
+
+  private double[] coords;
+  private int dim;
+  private int start;
+
+  /**
+   * Creates a new simplifier.
+   */
+  public PackedVWSimplifier() {
+  }
+
+  @Override
+  protected int simplifyPoints(double[] coords, int dim, int start, int numPts) {
+    this.coords = coords;
+    this.dim = dim;
+    this.start = start;
+    init(numPts);
+    double tolerance = distanceTolerance * distanceTolerance;
+    while (heapSize > 0 && area[heap[0]] < tolerance) {
+      remove(heap[0]);
+    }
+
+    int n = 0;
+    for (int i = 0; i >= 0; i = next[i]) {
+      //-- skip repeated points
+      if (n > 0 && isEqualXY(start + i, getResultX(n - 1), getResultY(n - 1)))
+        continue;
+      copyPoint(coords, start + i, n++);
+    }
+    // ensure computed value is a valid line
+    if (n < 2) {
+      copyPoint(coords, start, n++);
+    }
+    this.coords = null;
+    return n;
+  }
+
+  private void init(int numPts) {
+    if (area.length < numPts) {
+      int size = Math.max(numPts, 2 * area.length);
+      area = new double[size];
+      prev = new int[size];
+      next = new int[size];
+      heap = new int[size];
+      heapPos = new int[size];
+    }
+    heapSize = 0;
+    for (int i = 0; i < numPts; i++) {
+      prev[i] = i - 1;
+      next[i] = i < numPts - 1 ? i + 1 : -1;
+    }
+    for (int i = 0; i < numPts; i++) {
+      area[i] = computeArea(i);
+      //-- endpoints are never removed, so are not added to the heap
+      if (prev[i] >= 0 && next[i] >= 0) {
+        heapPos[i] = heapSize;
+        heap[heapSize++] = i;
+      }
+      else {
+        heapPos[i] = -1;
+      }
+    }
+    for (int k = heapSize / 2 - 1; k >= 0; k--) {
+      siftDown(k);
+    }
+  }
+
+  private boolean isEqualXY(int index, double x, double y) {
+    int p = index * dim;
+    return coords[p] == x && coords[p + 1] == y;
+  }
+
+  private double computeArea(int i) {
+    int p = prev[i];
+    int n = next[i];
+    if (p < 0 || n < 0)
+      return Double.MAX_VALUE;
+    int a = (start + p) * dim;
+    int b = (start + i) * dim;
+    int c = (start + n) * dim;
+    //-- same arithmetic as Triangle.area
+    return Math.abs(((coords[c] - coords[a]) * (coords[b + 1] - coords[a + 1])
+        - (coords[b] - coords[a]) * (coords[c + 1] - coords[a + 1])) / 2);
+  }
+
+  private void remove(int i) {
+    int p = prev[i];
+    int n = next[i];
+    removeFromHeap(i);
+    next[p] = n;
+    prev[n] = p;
+    updateArea(p);
+    updateArea(n);
+  }
+
+  private void updateArea(int i) {
+    if (heapPos[i] < 0) return;
+    double oldArea = area[i];
+    area[i] = computeArea(i);
+    if (area[i] < oldArea)
+      siftUp(heapPos[i]);
+    else
+      siftDown(heapPos[i]);
+  }
+
+  private void removeFromHeap(int i) {
+    int k = heapPos[i];
+    heapPos[i] = -1;
+    heapSize--;
+    if (k == heapSize) return;
+    int last = heap[heapSize];
+    heap[k] = last;
+    heapPos[last] = k;
+    siftDown(k);
+    siftUp(heapPos[last]);
+  }
+
+  /**
+   * Tests whether a vertex is removed before another.
+   * Ties are broken by line order.
+   */
+  private boolean isBefore(int i, int j) {
+    return area[i] < area[j] || (area[i] == area[j] && i < j);
+  }
+
+  private void siftUp(int k) {
+    int v = heap[k];
+    while (k > 0) {
+      int parent = (k - 1) / 2;
+      int pv = heap[parent];
+      if (! isBefore(v, pv)) break;
+      heap[k] = pv;
+      heapPos[pv] = k;
+      k = parent;
+    }
+    heap[k] = v;
+    heapPos[v] = k;
+  }
+
+  private void siftDown(int k) {
+    int v = heap[k];
+    while (true) {
+      int child = 2 * k + 1;
+      if (child >= heapSize) break;
+      if (child + 1 < heapSize && isBefore(heap[child + 1], heap[child]))
+        child++;
+      int cv = heap[child];
+      if (! isBefore(cv, v)) break;
+      heap[k] = cv;
+      heapPos[cv] = k;
+      k = child;
+    }
+    heap[k] = v;
+    heapPos[v] = k;
+  }
+}
@@ -14,6 +14,8 @@ package org.locationtech.jts.simplify;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * Simplifies a collection of TaggedLineStrings, preserving topology
@@ -23,14 +25,26 @@ import java.util.Iterator;
  */
 class TaggedLinesSimplifier
 {
-  private LineSegmentIndex inputIndex = new LineSegmentIndex();
-  private LineSegmentIndex outputIndex = new LineSegmentIndex();
+  private LineSegmentIndex inputIndex;
+  private LineSegmentIndex outputIndex;
   
   private double distanceTolerance = 0.0;
 
   public TaggedLinesSimplifier()
   {
+    this(new LineSegmentIndex(), new LineSegmentIndex());
+  }
 
+  /**
+   * Creates a simplifier using the given segment indexes.
+   *
+   * @param inputIndex the index for the input segments
+   * @param outputIndex the index for the simplified segments
+   */
+  TaggedLinesSimplifier(LineSegmentIndex inputIndex, LineSegmentIndex outputIndex)
+  {
+    this.inputIndex = inputIndex;
+    this.outputIndex = outputIndex;
   }
 
   /**
@@ -50,8 +64,17 @@ class TaggedLinesSimplifier
    * @param taggedLines the collection of lines to simplify
    */
   public void simplify(Collection taggedLines) {
-    ComponentJumpChecker jumpChecker = new ComponentJumpChecker(taggedLines);
-    
+    simplify(taggedLines, new ComponentJumpChecker(taggedLines));
+  }
+
+  /**
+   * Simplify a collection of TaggedLineStrings,
+   * using a given component jump checker.
+   *
+   * @param taggedLines the collection of lines to simplify
+   * @param jumpChecker the checker for the components of the lines
+   */
+  void simplify(Collection taggedLines, ComponentJumpChecker jumpChecker) {
     for (Iterator i = taggedLines.iterator(); i.hasNext(); ) {
       inputIndex.add((TaggedLineString) i.next());
     }
@@ -62,4 +85,38 @@ class TaggedLinesSimplifier
     }
   }
 
+  /**
+   * Simplify a list of TaggedLineStrings in parallel.
+   * The groups of lines in each level of the partition
+   * are simplified concurrently, with the lines in a group
+   * simplified in order.
+   * The levels are simplified in turn.
+   * The indexes must support concurrent access
+   * (e.g. {@link ConcurrentLineSegmentIndex}).
+   *
+   * @param taggedLines the lines to simplify
+   * @param jumpChecker the checker for the components of the lines
+   * @param partition the partition of the lines
+   */
+  void simplifyParallel(List<TaggedLineString> taggedLines,
+      ComponentJumpChecker jumpChecker, LineGridPartition partition) {
+    IntStream groups = IntStream.range(0, partition.getNumGroups()).parallel();
+    groups.forEach(g -> {
+      for (int k = partition.getGroupStart(g); k < partition.getGroupStart(g + 1); k++) {
+        inputIndex.add(taggedLines.get(partition.getLine(k)));
+      }
+    });
+    for (int level = 0; level < partition.getNumLevels(); level++) {
+      IntStream levelGroups = IntStream.range(partition.getLevelStart(level),
+          partition.getLevelStart(level + 1)).parallel();
+      levelGroups.forEach(g -> {
+        for (int k = partition.getGroupStart(g); k < partition.getGroupStart(g + 1); k++) {
+          TaggedLineStringSimplifier tlss
+              = new TaggedLineStringSimplifier(inputIndex, outputIndex, jumpChecker);
+          tlss.simplify(taggedLines.get(partition.getLine(k)), distanceTolerance);
+        }
+      });
+    }
+  }
+
 }
@@ -12,8 +12,12 @@
 
 package org.locationtech.jts.simplify;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
@@ -59,6 +63,19 @@ import org.locationtech.jts.geom.util.GeometryTransformer;
  * <p>
  * The simplification uses a maximum-distance difference algorithm
  * similar to the Douglas-Peucker algorithm.
+ * <p>
+ * The simplification can be computed in parallel
+ * (via {@link #setParallel(boolean)}).
+ * The lines are partitioned by a hierarchical grid,
+ * so that lines whose envelopes are disjoint are simplified concurrently.
+ * The same topology-preservation checks are made,
+ * so the result has the same properties.
+ * However, since lines are simplified in a different order,
+ * the result may not be identical to the sequential result.
+ * <p>
+ * The geometry can be simplified using several tolerances
+ * (via {@link #getResultGeometries(double[])}).
+ * This extracts and indexes the input components only once.
  * 
  * @author Martin Davis
  * @see DouglasPeuckerSimplifier
@@ -73,9 +90,26 @@ public class TopologyPreservingSimplifier
     return tss.getResultGeometry();
   }
 
+  /**
+   * Simplifies a geometry using several distance tolerances.
+   *
+   * @param geom the geometry to simplify
+   * @param distanceTolerances the approximation tolerances to use
+   * @return the simplified geometries, one for each tolerance
+   */
+  public static Geometry[] simplify(Geometry geom, double[] distanceTolerances)
+  {
+    TopologyPreservingSimplifier tss = new TopologyPreservingSimplifier(geom);
+    return tss.getResultGeometries(distanceTolerances);
+  }
+
   private Geometry inputGeom;
-  private TaggedLinesSimplifier lineSimplifier = new TaggedLinesSimplifier();
-  private Map<LineString, TaggedLineString> linestringMap;
+  private double distanceTolerance = 0.0;
+  private boolean isParallel = false;
+  private Set<LineString> lineSet;
+  private List<LineString> lines;
+  private ComponentJumpChecker jumpChecker;
+  private LineGridPartition partition;
 
   public TopologyPreservingSimplifier(Geometry inputGeom)
   {
@@ -92,23 +126,110 @@ public class TopologyPreservingSimplifier
    * @param distanceTolerance the approximation tolerance to use
    */
   public void setDistanceTolerance(double distanceTolerance) {
+    checkTolerance(distanceTolerance);
+    this.distanceTolerance = distanceTolerance;
+  }
+
+  private static void checkTolerance(double distanceTolerance) {
     if (distanceTolerance < 0.0)
       throw new IllegalArgumentException("Tolerance must be non-negative");
-    lineSimplifier.setDistanceTolerance(distanceTolerance);
+  }
+
+  /**
+   * Sets whether the simplification is computed in parallel.
+   *
+   * @param isParallel true if the simplification is computed in parallel
+   */
+  public void setParallel(boolean isParallel) {
+    this.isParallel = isParallel;
   }
 
   public Geometry getResultGeometry() 
   {
     // empty input produces an empty result
     if (inputGeom.isEmpty()) return inputGeom.copy();
-    
-    linestringMap = new HashMap<LineString, TaggedLineString>();
+    return simplify(distanceTolerance);
+  }
+
+  /**
+   * Gets the results of simplifying the geometry
+   * using several distance tolerances.
+   * The input components are extracted and indexed once only.
+   *
+   * @param distanceTolerances the approximation tolerances to use
+   * @return the simplified geometries, one for each tolerance
+   */
+  public Geometry[] getResultGeometries(double[] distanceTolerances)
+  {
+    for (double tol : distanceTolerances) {
+      checkTolerance(tol);
+    }
+    Geometry[] result = new Geometry[distanceTolerances.length];
+    for (int i = 0; i < distanceTolerances.length; i++) {
+      // empty input produces an empty result
+      if (inputGeom.isEmpty())
+        result[i] = inputGeom.copy();
+      else
+        result[i] = simplify(distanceTolerances[i]);
+    }
+    return result;
+  }
+
+  private void init() {
+    if (lines != null) return;
+    /**
+     * The lines are collected in a hash set, and simplified
+     * in the set order.
+     * Equal lines are simplified once only.
+     */
+    lineSet = new HashSet<LineString>();
     inputGeom.apply(new LineStringMapBuilderFilter(this));
-    lineSimplifier.simplify(linestringMap.values());
+    lines = new ArrayList<LineString>(lineSet);
+    lineSet = null;
+    jumpChecker = ComponentJumpChecker.create(lines);
+  }
+
+  private Geometry simplify(double distanceTolerance) {
+    init();
+    Map<LineString, TaggedLineString> linestringMap = new HashMap<LineString, TaggedLineString>();
+    List<TaggedLineString> taggedLines = new ArrayList<TaggedLineString>();
+    for (LineString line : lines) {
+      TaggedLineString taggedLine = createTaggedLine(line);
+      linestringMap.put(line, taggedLine);
+      taggedLines.add(taggedLine);
+    }
+    if (isParallel) {
+      if (partition == null) {
+        partition = new LineGridPartition(lines);
+      }
+      TaggedLinesSimplifier lineSimplifier = new TaggedLinesSimplifier(
+          new ConcurrentLineSegmentIndex(partition), new ConcurrentLineSegmentIndex(partition));
+      lineSimplifier.setDistanceTolerance(distanceTolerance);
+      lineSimplifier.simplifyParallel(taggedLines, jumpChecker, partition);
+    }
+    else {
+      TaggedLinesSimplifier lineSimplifier = new TaggedLinesSimplifier();
+      lineSimplifier.setDistanceTolerance(distanceTolerance);
+      lineSimplifier.simplify(taggedLines, jumpChecker);
+    }
     Geometry result = (new LineStringTransformer(linestringMap)).transform(inputGeom);
     return result;
   }
 
+  /**
+   * Creates a {@link TaggedLineString} for a line
+   * with the appropriate minimum size constraint.
+   * Closed {@link LineString}s (including {@link LinearRing}s
+   * have a minimum output size constraint of 4, 
+   * to ensure the output is valid.
+   * For all other linestrings, the minimum size is 2 points.
+   */
+  private static TaggedLineString createTaggedLine(LineString line) {
+    int minSize = line.isClosed() ? 4 : 2;
+    boolean isRing = (line instanceof LinearRing) ? true : false;
+    return new TaggedLineString(line, minSize, isRing);
+  }
+
   static class LineStringTransformer
       extends GeometryTransformer
   {
@@ -132,12 +253,7 @@ public class TopologyPreservingSimplifier
   }
 
   /**
-   * A filter to add linear geometries to the linestring map 
-   * with the appropriate minimum size constraint.
-   * Closed {@link LineString}s (including {@link LinearRing}s
-   * have a minimum output size constraint of 4, 
-   * to ensure the output is valid.
-   * For all other linestrings, the minimum size is 2 points.
+   * A filter to add linear geometries to the set of lines to simplify.
    * 
    * @author Martin Davis
    *
@@ -163,10 +279,7 @@ public class TopologyPreservingSimplifier
         // skip empty geometries
         if (line.isEmpty()) return;
         
-        int minSize = ((LineString) line).isClosed() ? 4 : 2;
-        boolean isRing = (line instanceof LinearRing) ? true : false;
-        TaggedLineString taggedLine = new TaggedLineString((LineString) line, minSize, isRing);
-        tps.linestringMap.put(line, taggedLine);
+        tps.lineSet.add(line);
       }
     }
   }
@@ -129,24 +129,22 @@ public class VWSimplifier
   {
     private boolean isEnsureValidTopology = true;
     private double distanceTolerance;
+    private PackedVWSimplifier lineSimplifier = new PackedVWSimplifier();
 
     public VWTransformer(boolean isEnsureValidTopology, double distanceTolerance)
     {
       this.isEnsureValidTopology = isEnsureValidTopology;
       this.distanceTolerance = distanceTolerance;
+      lineSimplifier.setDistanceTolerance(distanceTolerance);
     }
 
     protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent)
     {
-      Coordinate[] inputPts = coords.toCoordinateArray();
-      Coordinate[] newPts = null;
-      if (inputPts.length == 0) {
-        newPts = new Coordinate[0];
+      if (coords.size() == 0) {
+        return factory.getCoordinateSequenceFactory().create(new Coordinate[0]);
       }
-      else {
-        newPts = VWLineSimplifier.simplify(inputPts, distanceTolerance);
-      }
-      return factory.getCoordinateSequenceFactory().create(newPts);
+      lineSimplifier.simplify(coords);
+      return lineSimplifier.getResultSequence(factory.getCoordinateSequenceFactory());
     }
 
     /**
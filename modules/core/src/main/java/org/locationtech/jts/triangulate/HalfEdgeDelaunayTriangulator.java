@@ -0,0 +1,701 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.CGAlgorithmsDD;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.shape.fractal.HilbertCode;
+import org.locationtech.jts.triangulate.quadedge.LocateFailureException;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+
+/**
+ * Computes the Delaunay Triangulation of a set of points
+ * using incremental insertion into a triangulation stored
+ * in primitive arrays.
+ * This uses much less memory than {@link IncrementalDelaunayTriangulator}
+ * (which stores the triangulation as {@link org.locationtech.jts.triangulate.quadedge.QuadEdge}
+ * and {@link org.locationtech.jts.triangulate.quadedge.Vertex} objects),
+ * so it is able to triangulate very large point sets.
+ * <p>
+ * The triangulation is represented by triangle half-edges.
+ * The half-edges of triangle <code>t</code> have indexes <code>3t</code>, <code>3t + 1</code> and <code>3t + 2</code>,
+ * in counter-clockwise order.
+ * For each half-edge the triangulation stores the index of its origin vertex
+ * and the index of its twin half-edge in the adjacent triangle.
+ * The region outside the convex hull is covered by <i>ghost</i> triangles
+ * which have a vertex at infinity.
+ * This avoids the need for a bounding frame, and allows
+ * points outside the current hull to be inserted using the same logic.
+ * <p>
+ * Points are inserted in a Biased Randomized Insertion Order (BRIO)
+ * with the points in each round ordered along a Hilbert curve.
+ * This provides good locality for the walk which locates each inserted point,
+ * as well as avoiding the worst-case behaviour of a sorted insertion order.
+ * The order is randomized with a fixed seed, so the result is deterministic.
+ * <p>
+ * Duplicate points are ignored.
+ * No snapping tolerance is used.
+ * The result can be extracted as the same geometry types as those
+ * provided by {@link DelaunayTriangulationBuilder},
+ * or as an array of triangle vertex indexes.
+ *
+ * @author Martin Davis
+ *
+ * @see DelaunayTriangulationBuilder
+ */
+public class HalfEdgeDelaunayTriangulator
+{
+  /**
+   * The index of the vertex at infinity
+   */
+  private static final int GHOST = -1;
+
+  private static final int NO_EDGE = -1;
+
+  private static final long RANDOM_SEED = 13;
+
+  /**
+   * The minimum size of a BRIO round.
+   * Smaller rounds are merged into the first round.
+   */
+  private static final int MIN_ROUND_SIZE = 64;
+
+  private static final int HILBERT_LEVEL = 15;
+
+  /**
+   * Error bound for the fast incircle test (see Shewchuk)
+   */
+  private static final double INCIRCLE_ERRBOUND = 1.2e-15;
+
+  private final double[] xy;
+  private final int numPts;
+
+  private int[] triVertex;
+  private int[] twin;
+  private int numTri = 0;
+  private int lastTri = 0;
+  private int walkCounter = 0;
+
+  private int[] edgeStack = new int[64];
+
+  private boolean isComputed = false;
+
+  /**
+   * Creates a new triangulator for an array of points.
+   *
+   * @param pts the points to triangulate
+   */
+  public HalfEdgeDelaunayTriangulator(Coordinate[] pts)
+  {
+    this.numPts = pts.length;
+    xy = new double[2 * pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      xy[2 * i] = pts[i].x;
+      xy[2 * i + 1] = pts[i].y;
+    }
+  }
+
+  /**
+   * Creates a new triangulator for points stored in an array
+   * of interleaved X and Y ordinates.
+   * The array is not copied.
+   *
+   * @param xy the ordinates of the points to triangulate
+   */
+  public HalfEdgeDelaunayTriangulator(double[] xy)
+  {
+    if (xy.length % 2 != 0)
+      throw new IllegalArgumentException("Ordinate array must have even length");
+    this.xy = xy;
+    this.numPts = xy.length / 2;
+  }
+
+  /**
+   * Gets the number of input points.
+   *
+   * @return the number of points
+   */
+  public int getNumPoints() {
+    return numPts;
+  }
+
+  /**
+   * Gets the X ordinate of an input point.
+   *
+   * @param i the index of the point
+   * @return the X ordinate of the point
+   */
+  public double getX(int i) {
+    return xy[2 * i];
+  }
+
+  /**
+   * Gets the Y ordinate of an input point.
+   *
+   * @param i the index of the point
+   * @return the Y ordinate of the point
+   */
+  public double getY(int i) {
+    return xy[2 * i + 1];
+  }
+
+  /**
+   * Gets the number of triangles in the triangulation.
+   *
+   * @return the number of triangles
+   */
+  public int getNumTriangles() {
+    compute();
+    int count = 0;
+    for (int t = 0; t < numTri; t++) {
+      if (! isGhost(t)) count++;
+    }
+    return count;
+  }
+
+  /**
+   * Gets the triangles of the triangulation as an array
+   * of point indexes.
+   * Each triangle is represented by three consecutive entries,
+   * in counter-clockwise order.
+   *
+   * @return an array of triangle point indexes
+   */
+  public int[] getTriangleVertices() {
+    compute();
+    int[] tris = new int[3 * getNumTriangles()];
+    int n = 0;
+    for (int t = 0; t < numTri; t++) {
+      if (isGhost(t)) continue;
+      tris[n++] = triVertex[3 * t];
+      tris[n++] = triVertex[3 * t + 1];
+      tris[n++] = triVertex[3 * t + 2];
+    }
+    return tris;
+  }
+
+  /**
+   * Gets the vertices of the convex hull of the triangulation.
+   * If there are no triangles, no vertices are returned.
+   *
+   * @return an array of point indexes
+   */
+  int[] getHullVertices() {
+    compute();
+    int[] hull = new int[numTri];
+    int n = 0;
+    for (int t = 0; t < numTri; t++) {
+      if (! isGhost(t)) continue;
+      hull[n++] = triVertex[hullEdge(t)];
+    }
+    return Arrays.copyOf(hull, n);
+  }
+
+  /**
+   * Gets the edges of the computed triangulation as a {@link MultiLineString}.
+   *
+   * @param geomFact the geometry factory to use to create the output
+   * @return the edges of the triangulation
+   */
+  public Geometry getEdges(GeometryFactory geomFact) {
+    compute();
+    if (numTri == 0) {
+      return geomFact.createMultiLineString(collinearEdges(geomFact));
+    }
+    int numEdges = 0;
+    for (int e = 0; e < 3 * numTri; e++) {
+      if (isRealEdge(e)) numEdges++;
+    }
+    LineString[] edges = new LineString[numEdges];
+    int n = 0;
+    for (int e = 0; e < 3 * numTri; e++) {
+      if (! isRealEdge(e)) continue;
+      edges[n++] = geomFact.createLineString(new Coordinate[] {
+          createCoordinate(triVertex[e]), createCoordinate(triVertex[next(e)])
+      });
+    }
+    return geomFact.createMultiLineString(edges);
+  }
+
+  /**
+   * Gets the faces of the computed triangulation as a {@link GeometryCollection}
+   * of {@link Polygon}.
+   *
+   * @param geomFact the geometry factory to use to create the output
+   * @return the faces of the triangulation
+   */
+  public Geometry getTriangles(GeometryFactory geomFact) {
+    int[] tris = getTriangleVertices();
+    Polygon[] polys = new Polygon[tris.length / 3];
+    for (int i = 0; i < polys.length; i++) {
+      Coordinate p0 = createCoordinate(tris[3 * i]);
+      polys[i] = geomFact.createPolygon(new Coordinate[] {
+          p0, createCoordinate(tris[3 * i + 1]), createCoordinate(tris[3 * i + 2]), p0.copy()
+      });
+    }
+    return geomFact.createGeometryCollection(polys);
+  }
+
+  /**
+   * An edge is output once, from the half-edge with the lower index.
+   */
+  private boolean isRealEdge(int e) {
+    return triVertex[e] != GHOST && triVertex[next(e)] != GHOST && e < twin[e];
+  }
+
+  private Coordinate createCoordinate(int v) {
+    return new Coordinate(xy[2 * v], xy[2 * v + 1]);
+  }
+
+  /**
+   * If all points are collinear there are no triangles,
+   * and the triangulation edges link the points in order along the line.
+   */
+  private LineString[] collinearEdges(GeometryFactory geomFact) {
+    Coordinate[] pts = new Coordinate[numPts];
+    for (int i = 0; i < numPts; i++) {
+      pts[i] = createCoordinate(i);
+    }
+    Arrays.sort(pts);
+    LineString[] edges = new LineString[numPts];
+    int n = 0;
+    for (int i = 1; i < pts.length; i++) {
+      if (pts[i].equals2D(pts[i - 1])) continue;
+      edges[n++] = geomFact.createLineString(new Coordinate[] { pts[i - 1], pts[i] });
+    }
+    return Arrays.copyOf(edges, n);
+  }
+
+  private void compute() {
+    if (isComputed) return;
+    isComputed = true;
+
+    //-- a triangulation of n points has at most 2n - 2 triangles (including ghosts)
+    int maxTri = Math.max(4, 2 * numPts);
+    triVertex = new int[3 * maxTri];
+    twin = new int[3 * maxTri];
+
+    int[] order = insertionOrder();
+    int start = createInitialTriangle(order);
+    if (start < 0) return;
+    for (int i = start; i < order.length; i++) {
+      insert(order[i]);
+    }
+  }
+
+  //==================  Insertion order  ===================
+
+  /**
+   * Computes a Biased Randomized Insertion Order.
+   * The points are randomly assigned to rounds of doubling size,
+   * and each round is sorted along a Hilbert curve.
+   */
+  private int[] insertionOrder() {
+    int[] order = new int[numPts];
+    for (int i = 0; i < numPts; i++) {
+      order[i] = i;
+    }
+    Random random = new Random(RANDOM_SEED);
+    for (int i = numPts - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int tmp = order[i];
+      order[i] = order[j];
+      order[j] = tmp;
+    }
+
+    double minX = Double.POSITIVE_INFINITY;
+    double minY = Double.POSITIVE_INFINITY;
+    double maxX = Double.NEGATIVE_INFINITY;
+    double maxY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < numPts; i++) {
+      minX = Math.min(minX, xy[2 * i]);
+      maxX = Math.max(maxX, xy[2 * i]);
+      minY = Math.min(minY, xy[2 * i + 1]);
+      maxY = Math.max(maxY, xy[2 * i + 1]);
+    }
+    double size = Math.max(maxX - minX, maxY - minY);
+    double scale = size > 0 ? HilbertCode.maxOrdinate(HILBERT_LEVEL) / size : 0;
+
+    long[] keys = new long[numPts];
+    int end = numPts;
+    while (end > 0) {
+      //-- each round contains half the remaining points
+      int roundStart = end / 2;
+      if (roundStart < MIN_ROUND_SIZE) roundStart = 0;
+      for (int i = roundStart; i < end; i++) {
+        int v = order[i];
+        int hx = (int) ((xy[2 * v] - minX) * scale);
+        int hy = (int) ((xy[2 * v + 1] - minY) * scale);
+        long code = HilbertCode.encode(HILBERT_LEVEL, hx, hy);
+        keys[i] = (code << 32) | v;
+      }
+      Arrays.sort(keys, roundStart, end);
+      for (int i = roundStart; i < end; i++) {
+        order[i] = (int) keys[i];
+      }
+      end = roundStart;
+    }
+    return order;
+  }
+
+  //==================  Triangulation construction  ===================
+
+  /**
+   * Creates the first triangle from the first three non-collinear points,
+   * moving them to the start of the insertion order.
+   *
+   * @return the position in the order of the next point to insert, or -1 if all points are collinear
+   */
+  private int createInitialTriangle(int[] order) {
+    if (order.length < 3) return -1;
+    int v0 = order[0];
+    int i1 = 1;
+    while (i1 < order.length && isEqual(v0, order[i1])) i1++;
+    if (i1 >= order.length) return -1;
+    int v1 = order[i1];
+
+    int i2 = i1 + 1;
+    int orient = 0;
+    while (i2 < order.length) {
+      orient = orientation(v0, v1, order[i2]);
+      if (orient != 0) break;
+      i2++;
+    }
+    if (i2 >= order.length) return -1;
+    int v2 = order[i2];
+
+    //-- move the initial points to the start of the order
+    System.arraycopy(order, i1 + 1, order, i1 + 2, i2 - i1 - 1);
+    System.arraycopy(order, 1, order, 3, i1 - 1);
+    order[1] = v1;
+    order[2] = v2;
+
+    if (orient < 0) {
+      int tmp = v1;
+      v1 = v2;
+      v2 = tmp;
+    }
+    int t = addTriangle(v0, v1, v2);
+    int g01 = addTriangle(v1, v0, GHOST);
+    int g12 = addTriangle(v2, v1, GHOST);
+    int g20 = addTriangle(v0, v2, GHOST);
+    link(3 * t, 3 * g01);
+    link(3 * t + 1, 3 * g12);
+    link(3 * t + 2, 3 * g20);
+    link(3 * g01 + 1, 3 * g20 + 2);
+    link(3 * g12 + 1, 3 * g01 + 2);
+    link(3 * g20 + 1, 3 * g12 + 2);
+    lastTri = t;
+    return 3;
+  }
+
+  private void insert(int p) {
+    int e = locate(p);
+    if (e == NO_EDGE) return;
+
+    int t = e / 3;
+    if (isGhost(t) || orientation(triVertex[e], triVertex[next(e)], p) != 0) {
+      splitTriangle(t, p);
+    }
+    else {
+      splitEdge(e, p);
+    }
+  }
+
+  /**
+   * Locates a point in the triangulation by walking
+   * from the last inserted triangle.
+   * The starting edge for each triangle is varied,
+   * to ensure that the walk terminates.
+   *
+   * @return an edge of the real triangle containing the point
+   * (which is the edge containing the point, if any),
+   * an edge of a ghost triangle if the point is outside the convex hull,
+   * or NO_EDGE if the point is a duplicate
+   */
+  private int locate(int p) {
+    int t = lastTri;
+    //-- edge flips may have turned the last triangle into a ghost
+    if (isGhost(t)) t = twin[hullEdge(t)] / 3;
+    int maxIter = 10 * numTri + 100;
+    for (int iter = 0; iter < maxIter; iter++) {
+      if (isGhost(t))
+        return 3 * t;
+
+      int onEdge = NO_EDGE;
+      boolean isMoved = false;
+      int offset = walkCounter++ % 3;
+      for (int i = 0; i < 3; i++) {
+        int e = 3 * t + (offset + i) % 3;
+        int orient = orientation(triVertex[e], triVertex[next(e)], p);
+        if (orient < 0) {
+          t = twin[e] / 3;
+          isMoved = true;
+          break;
+        }
+        if (orient == 0) onEdge = e;
+      }
+      if (isMoved) continue;
+
+      for (int i = 0; i < 3; i++) {
+        if (isEqual(triVertex[3 * t + i], p)) return NO_EDGE;
+      }
+      if (onEdge != NO_EDGE) return onEdge;
+      return 3 * t;
+    }
+    throw new LocateFailureException("Failed to locate point "
+        + xy[2 * p] + " " + xy[2 * p + 1]);
+  }
+
+  /**
+   * Splits a triangle into three triangles with a point
+   * in the triangle interior (or in the exterior of the hull edge
+   * of a ghost triangle).
+   */
+  private void splitTriangle(int t, int p) {
+    int e0 = 3 * t;
+    int a = triVertex[e0];
+    int b = triVertex[e0 + 1];
+    int c = triVertex[e0 + 2];
+    int tw0 = twin[e0];
+    int tw1 = twin[e0 + 1];
+    int tw2 = twin[e0 + 2];
+
+    setTriangle(t, a, b, p);
+    int t1 = addTriangle(b, c, p);
+    int t2 = addTriangle(c, a, p);
+
+    link(3 * t, tw0);
+    link(3 * t1, tw1);
+    link(3 * t2, tw2);
+    link(3 * t + 1, 3 * t1 + 2);
+    link(3 * t1 + 1, 3 * t2 + 2);
+    link(3 * t2 + 1, 3 * t + 2);
+
+    setLastTriangle(t, t1, t2);
+    legalize(3 * t);
+    legalize(3 * t1);
+    legalize(3 * t2);
+  }
+
+  /**
+   * Splits the two triangles adjacent to an edge
+   * into four triangles with a point in the edge interior.
+   */
+  private void splitEdge(int e, int p) {
+    int f = twin[e];
+    int t1 = e / 3;
+    int t2 = f / 3;
+    int a = triVertex[e];
+    int b = triVertex[next(e)];
+    int c = triVertex[prev(e)];
+    int d = triVertex[prev(f)];
+    int twCA = twin[prev(e)];
+    int twBC = twin[next(e)];
+    int twDB = twin[prev(f)];
+    int twAD = twin[next(f)];
+
+    setTriangle(t1, c, a, p);
+    int tb = addTriangle(b, c, p);
+    setTriangle(t2, d, b, p);
+    int td = addTriangle(a, d, p);
+
+    link(3 * t1, twCA);
+    link(3 * tb, twBC);
+    link(3 * t2, twDB);
+    link(3 * td, twAD);
+    link(3 * t1 + 1, 3 * td + 2);
+    link(3 * t1 + 2, 3 * tb + 1);
+    link(3 * tb + 2, 3 * t2 + 1);
+    link(3 * t2 + 2, 3 * td + 1);
+
+    setLastTriangle(t1, tb, t2);
+    legalize(3 * t1);
+    legalize(3 * tb);
+    legalize(3 * t2);
+    legalize(3 * td);
+  }
+
+  private void setLastTriangle(int t0, int t1, int t2) {
+    if (! isGhost(t0)) lastTri = t0;
+    else if (! isGhost(t1)) lastTri = t1;
+    else lastTri = t2;
+  }
+
+  /**
+   * Restores the Delaunay condition for the edges opposite an inserted point
+   * by flipping illegal edges.
+   * The inserted point is the origin of the edge preceding the edge to check.
+   * After a flip the two edges opposite the point in the new triangles are checked.
+   *
+   * @param a the edge to check
+   */
+  private void legalize(int a) {
+    int stackSize = 0;
+    while (true) {
+      int b = twin[a];
+      int ar = prev(a);
+      int al = next(a);
+      int bl = prev(b);
+      int p0 = triVertex[ar];
+      int pr = triVertex[a];
+      int pl = triVertex[al];
+      int p1 = triVertex[bl];
+
+      if (isFlipRequired(p0, pr, pl, p1)) {
+        triVertex[a] = p1;
+        triVertex[b] = p0;
+        int hbl = twin[bl];
+        link(a, hbl);
+        link(b, twin[ar]);
+        link(ar, bl);
+        if (stackSize >= edgeStack.length) {
+          edgeStack = Arrays.copyOf(edgeStack, 2 * edgeStack.length);
+        }
+        edgeStack[stackSize++] = next(b);
+        continue;
+      }
+      if (stackSize == 0) break;
+      a = edgeStack[--stackSize];
+    }
+  }
+
+  /**
+   * Tests if the edge between the triangles (pr, pl, p0) and (pl, pr, p1)
+   * must be flipped,
+   * where p0 is the inserted point.
+   * The circumcircle of a ghost triangle is the open half-plane
+   * on the outer side of its hull edge.
+   */
+  private boolean isFlipRequired(int p0, int pr, int pl, int p1) {
+    if (p1 == GHOST) return false;
+    if (pl == GHOST) return orientation(p0, pr, p1) > 0;
+    if (pr == GHOST) return orientation(pl, p0, p1) > 0;
+    return isInCircle(pr, pl, p0, p1);
+  }
+
+  //==================  Triangle storage  ===================
+
+  private int addTriangle(int a, int b, int c) {
+    int t = numTri++;
+    setTriangle(t, a, b, c);
+    return t;
+  }
+
+  private void setTriangle(int t, int a, int b, int c) {
+    triVertex[3 * t] = a;
+    triVertex[3 * t + 1] = b;
+    triVertex[3 * t + 2] = c;
+  }
+
+  private void link(int e0, int e1) {
+    twin[e0] = e1;
+    twin[e1] = e0;
+  }
+
+  /**
+   * Gets the edge of a ghost triangle which lies on the convex hull.
+   */
+  private int hullEdge(int t) {
+    for (int e = 3 * t; e < 3 * t + 3; e++) {
+      if (triVertex[e] != GHOST && triVertex[next(e)] != GHOST)
+        return e;
+    }
+    return NO_EDGE;
+  }
+
+  private boolean isGhost(int t) {
+    return triVertex[3 * t] == GHOST
+        || triVertex[3 * t + 1] == GHOST
+        || triVertex[3 * t + 2] == GHOST;
+  }
+
+  private static int next(int e) {
+    return e % 3 == 2 ? e - 2 : e + 1;
+  }
+
+  private static int prev(int e) {
+    return e % 3 == 0 ? e + 2 : e - 1;
+  }
+
+  //==================  Predicates  ===================
+
+  private boolean isEqual(int v0, int v1) {
+    return xy[2 * v0] == xy[2 * v1] && xy[2 * v0 + 1] == xy[2 * v1 + 1];
+  }
+
+  private int orientation(int a, int b, int c) {
+    return CGAlgorithmsDD.orientationIndex(
+        xy[2 * a], xy[2 * a + 1],
+        xy[2 * b], xy[2 * b + 1],
+        xy[2 * c], xy[2 * c + 1]);
+  }
+
+  /**
+   * Tests if point d lies inside the circumcircle of the
+   * counter-clockwise triangle (a, b, c).
+   * A fast floating-point test is used if its result is certain,
+   * otherwise a robust test is used.
+   */
+  private boolean isInCircle(int a, int b, int c, int d) {
+    return isInCircle(xy, a, b, c, d);
+  }
+
+  /**
+   * Tests if point d lies inside the circumcircle of the
+   * counter-clockwise triangle (a, b, c),
+   * for points stored in an array of interleaved X and Y ordinates.
+   */
+  static boolean isInCircle(double[] xy, int a, int b, int c, int d) {
+    double dx = xy[2 * d];
+    double dy = xy[2 * d + 1];
+    double adx = xy[2 * a] - dx;
+    double ady = xy[2 * a + 1] - dy;
+    double bdx = xy[2 * b] - dx;
+    double bdy = xy[2 * b + 1] - dy;
+    double cdx = xy[2 * c] - dx;
+    double cdy = xy[2 * c + 1] - dy;
+
+    double bdxcdy = bdx * cdy;
+    double cdxbdy = cdx * bdy;
+    double alift = adx * adx + ady * ady;
+    double cdxady = cdx * ady;
+    double adxcdy = adx * cdy;
+    double blift = bdx * bdx + bdy * bdy;
+    double adxbdy = adx * bdy;
+    double bdxady = bdx * ady;
+    double clift = cdx * cdx + cdy * cdy;
+
+    double det = alift * (bdxcdy - cdxbdy)
+        + blift * (cdxady - adxcdy)
+        + clift * (adxbdy - bdxady);
+    double permanent = (Math.abs(bdxcdy) + Math.abs(cdxbdy)) * alift
+        + (Math.abs(cdxady) + Math.abs(adxcdy)) * blift
+        + (Math.abs(adxbdy) + Math.abs(bdxady)) * clift;
+    double errBound = INCIRCLE_ERRBOUND * permanent;
+    if (det > errBound) return true;
+    if (det < -errBound) return false;
+
+    return TrianglePredicate.isInCircleDDFast(
+        new Coordinate(xy[2 * a], xy[2 * a + 1]), new Coordinate(xy[2 * b], xy[2 * b + 1]),
+        new Coordinate(xy[2 * c], xy[2 * c + 1]), new Coordinate(xy[2 * d], xy[2 * d + 1]));
+  }
+}
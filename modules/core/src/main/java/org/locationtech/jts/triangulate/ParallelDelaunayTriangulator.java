@@ -0,0 +1,643 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Computes the Delaunay Triangulation of a set of points
+ * by triangulating spatial partitions of the points in parallel
+ * and merging the results.
+ * <p>
+ * The points are partitioned into vertical strips containing
+ * roughly equal numbers of points,
+ * and each strip is triangulated concurrently
+ * using a {@link HalfEdgeDelaunayTriangulator}.
+ * A triangle of a strip triangulation whose circumcircle lies strictly inside
+ * the strip cannot contain a point of another strip,
+ * so it is a triangle of the full triangulation.
+ * The remaining triangles lie in a zone around the strip boundaries.
+ * Their vertices (along with the hull vertices of each strip)
+ * are triangulated again,
+ * and the triangles of this triangulation whose circumcircles
+ * do not contain any other input point complete the result.
+ * <p>
+ * The result is the same as the Delaunay Triangulation computed
+ * by {@link HalfEdgeDelaunayTriangulator},
+ * up to the choice of triangles for cocircular points.
+ * Duplicate points are ignored.
+ * Parallel computation uses the common fork-join pool.
+ *
+ * @author Martin Davis
+ *
+ * @see HalfEdgeDelaunayTriangulator
+ */
+public class ParallelDelaunayTriangulator
+{
+  private static final int NO_EDGE = -1;
+
+  /**
+   * The minimum number of points in a partition.
+   * Smaller inputs are triangulated using fewer partitions.
+   */
+  private static final int MIN_PARTITION_SIZE = 64;
+
+  /**
+   * The relative distance by which a circumcircle must lie
+   * inside a strip, to allow for round-off error.
+   */
+  private static final double SAFE_MARGIN_FACTOR = 1e-9;
+
+  private final double[] xy;
+  private final int numPts;
+  private int numPartitions = Runtime.getRuntime().availableProcessors();
+
+  private int[] triVertex = null;
+  private int[] twin;
+  private int[] vertexEdge;
+
+  /**
+   * Creates a new triangulator for an array of points.
+   *
+   * @param pts the points to triangulate
+   */
+  public ParallelDelaunayTriangulator(Coordinate[] pts)
+  {
+    this.numPts = pts.length;
+    xy = new double[2 * pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      xy[2 * i] = pts[i].x;
+      xy[2 * i + 1] = pts[i].y;
+    }
+  }
+
+  /**
+   * Creates a new triangulator for points stored in an array
+   * of interleaved X and Y ordinates.
+   * The array is not copied.
+   *
+   * @param xy the ordinates of the points to triangulate
+   */
+  public ParallelDelaunayTriangulator(double[] xy)
+  {
+    if (xy.length % 2 != 0)
+      throw new IllegalArgumentException("Ordinate array must have even length");
+    this.xy = xy;
+    this.numPts = xy.length / 2;
+  }
+
+  /**
+   * Sets the number of partitions to triangulate concurrently.
+   * The default is the number of available processors.
+   *
+   * @param numPartitions the number of partitions
+   */
+  public void setNumPartitions(int numPartitions) {
+    if (numPartitions < 1)
+      throw new IllegalArgumentException("Number of partitions must be positive");
+    this.numPartitions = numPartitions;
+  }
+
+  /**
+   * Gets the number of input points.
+   *
+   * @return the number of points
+   */
+  public int getNumPoints() {
+    return numPts;
+  }
+
+  /**
+   * Gets the X ordinate of an input point.
+   *
+   * @param i the index of the point
+   * @return the X ordinate of the point
+   */
+  public double getX(int i) {
+    return xy[2 * i];
+  }
+
+  /**
+   * Gets the Y ordinate of an input point.
+   *
+   * @param i the index of the point
+   * @return the Y ordinate of the point
+   */
+  public double getY(int i) {
+    return xy[2 * i + 1];
+  }
+
+  /**
+   * Gets the number of triangles in the triangulation.
+   *
+   * @return the number of triangles
+   */
+  public int getNumTriangles() {
+    compute();
+    return triVertex.length / 3;
+  }
+
+  /**
+   * Gets the triangles of the triangulation as an array
+   * of point indexes.
+   * Each triangle is represented by three consecutive entries,
+   * in counter-clockwise order.
+   *
+   * @return an array of triangle point indexes
+   */
+  public int[] getTriangleVertices() {
+    compute();
+    return triVertex.clone();
+  }
+
+  /**
+   * Gets the edges of the computed triangulation as a {@link MultiLineString}.
+   *
+   * @param geomFact the geometry factory to use to create the output
+   * @return the edges of the triangulation
+   */
+  public Geometry getEdges(GeometryFactory geomFact) {
+    compute();
+    if (triVertex.length == 0) {
+      return new HalfEdgeDelaunayTriangulator(xy).getEdges(geomFact);
+    }
+    int numEdges = 0;
+    for (int e = 0; e < triVertex.length; e++) {
+      if (isOutputEdge(e)) numEdges++;
+    }
+    LineString[] edges = new LineString[numEdges];
+    int n = 0;
+    for (int e = 0; e < triVertex.length; e++) {
+      if (! isOutputEdge(e)) continue;
+      edges[n++] = geomFact.createLineString(new Coordinate[] {
+          createCoordinate(triVertex[e]), createCoordinate(triVertex[next(e)])
+      });
+    }
+    return geomFact.createMultiLineString(edges);
+  }
+
+  /**
+   * Gets the faces of the computed triangulation as a {@link GeometryCollection}
+   * of {@link Polygon}.
+   *
+   * @param geomFact the geometry factory to use to create the output
+   * @return the faces of the triangulation
+   */
+  public Geometry getTriangles(GeometryFactory geomFact) {
+    compute();
+    Polygon[] polys = new Polygon[triVertex.length / 3];
+    for (int i = 0; i < polys.length; i++) {
+      Coordinate p0 = createCoordinate(triVertex[3 * i]);
+      polys[i] = geomFact.createPolygon(new Coordinate[] {
+          p0, createCoordinate(triVertex[3 * i + 1]), createCoordinate(triVertex[3 * i + 2]), p0.copy()
+      });
+    }
+    return geomFact.createGeometryCollection(polys);
+  }
+
+  /**
+   * An edge is output once, from the half-edge with the lower index
+   * (or from its only half-edge, if it is on the hull).
+   */
+  private boolean isOutputEdge(int e) {
+    return twin[e] == NO_EDGE || e < twin[e];
+  }
+
+  private Coordinate createCoordinate(int v) {
+    return new Coordinate(xy[2 * v], xy[2 * v + 1]);
+  }
+
+  //==================  Mesh access  ===================
+
+  /**
+   * Gets the twin of a triangle half-edge,
+   * or -1 if the edge is on the triangulation boundary.
+   * The half-edges of triangle <code>t</code> have indexes
+   * <code>3t</code>, <code>3t + 1</code> and <code>3t + 2</code>.
+   */
+  int getTwin(int e) {
+    return twin[e];
+  }
+
+  /**
+   * Gets the origin vertex of a triangle half-edge.
+   */
+  int getVertex(int e) {
+    return triVertex[e];
+  }
+
+  /**
+   * Gets a half-edge originating at a vertex,
+   * or -1 if the vertex is not in any triangle.
+   */
+  int getVertexEdge(int v) {
+    compute();
+    return vertexEdge[v];
+  }
+
+  static int next(int e) {
+    return e % 3 == 2 ? e - 2 : e + 1;
+  }
+
+  static int prev(int e) {
+    return e % 3 == 0 ? e + 2 : e - 1;
+  }
+
+  //==================  Computation  ===================
+
+  private void compute() {
+    if (triVertex != null) return;
+    int numStrips = Math.min(numPartitions, numPts / MIN_PARTITION_SIZE);
+    if (numStrips <= 1) {
+      triVertex = new HalfEdgeDelaunayTriangulator(xy).getTriangleVertices();
+    }
+    else {
+      triVertex = new Merger(numStrips).triangulate();
+    }
+    computeTwins();
+  }
+
+  /**
+   * Computes the twin half-edges by indexing the
+   * outgoing half-edges of each vertex.
+   */
+  private void computeTwins() {
+    int numEdges = triVertex.length;
+    int[] outStart = new int[numPts + 1];
+    for (int e = 0; e < numEdges; e++) {
+      outStart[triVertex[e] + 1]++;
+    }
+    for (int v = 0; v < numPts; v++) {
+      outStart[v + 1] += outStart[v];
+    }
+    int[] outEdge = new int[numEdges];
+    int[] fill = Arrays.copyOf(outStart, numPts);
+    for (int e = 0; e < numEdges; e++) {
+      outEdge[fill[triVertex[e]]++] = e;
+    }
+
+    twin = new int[numEdges];
+    IntStream.range(0, numEdges).parallel().forEach(e -> {
+      int a = triVertex[e];
+      int b = triVertex[next(e)];
+      twin[e] = NO_EDGE;
+      for (int i = outStart[b]; i < outStart[b + 1]; i++) {
+        int f = outEdge[i];
+        if (triVertex[next(f)] == a) {
+          twin[e] = f;
+          break;
+        }
+      }
+    });
+
+    vertexEdge = new int[numPts];
+    for (int v = 0; v < numPts; v++) {
+      vertexEdge[v] = outStart[v] < outStart[v + 1] ? outEdge[outStart[v]] : NO_EDGE;
+    }
+  }
+
+  /**
+   * Triangulates the points in strips and merges the strip triangulations.
+   */
+  private class Merger {
+    private int numStrips;
+    private double[] splitX;
+    private int[] strip;
+    private int[][] stripPts;
+    private int[][] safeTris;
+    private boolean[] isBoundary;
+
+    Merger(int numStrips) {
+      this.numStrips = numStrips;
+    }
+
+    int[] triangulate() {
+      partition();
+      isBoundary = new boolean[numPts];
+      safeTris = new int[numStrips][];
+      IntStream.range(0, numStrips).parallel().forEach(s -> triangulateStrip(s));
+      int[] boundaryTris = triangulateBoundary();
+
+      int size = boundaryTris.length;
+      for (int s = 0; s < numStrips; s++) {
+        size += safeTris[s].length;
+      }
+      int[] tris = new int[size];
+      int n = 0;
+      for (int s = 0; s < numStrips; s++) {
+        System.arraycopy(safeTris[s], 0, tris, n, safeTris[s].length);
+        n += safeTris[s].length;
+      }
+      System.arraycopy(boundaryTris, 0, tris, n, boundaryTris.length);
+      return tris;
+    }
+
+    /**
+     * Partitions the points into vertical strips.
+     * Strip <code>s</code> contains the points with
+     * <code>splitX[s - 1] &lt;= x &lt; splitX[s]</code>.
+     */
+    private void partition() {
+      double[] xs = new double[numPts];
+      for (int i = 0; i < numPts; i++) {
+        xs[i] = xy[2 * i];
+      }
+      Arrays.parallelSort(xs);
+      double[] split = new double[numStrips - 1];
+      int numSplit = 0;
+      for (int s = 1; s < numStrips; s++) {
+        double x = xs[(int) ((long) s * numPts / numStrips)];
+        if (numSplit == 0 || x > split[numSplit - 1]) {
+          split[numSplit++] = x;
+        }
+      }
+      splitX = Arrays.copyOf(split, numSplit);
+      numStrips = numSplit + 1;
+
+      strip = new int[numPts];
+      int[] count = new int[numStrips];
+      for (int i = 0; i < numPts; i++) {
+        int s = stripIndex(xy[2 * i]);
+        strip[i] = s;
+        count[s]++;
+      }
+      stripPts = new int[numStrips][];
+      for (int s = 0; s < numStrips; s++) {
+        stripPts[s] = new int[count[s]];
+        count[s] = 0;
+      }
+      for (int i = 0; i < numPts; i++) {
+        int s = strip[i];
+        stripPts[s][count[s]++] = i;
+      }
+    }
+
+    private int stripIndex(double x) {
+      int pos = Arrays.binarySearch(splitX, x);
+      //-- a point on a split line lies in the strip to the right
+      return pos >= 0 ? pos + 1 : -(pos + 1);
+    }
+
+    private void triangulateStrip(int s) {
+      int[] pts = stripPts[s];
+      double[] stripXY = new double[2 * pts.length];
+      for (int i = 0; i < pts.length; i++) {
+        stripXY[2 * i] = xy[2 * pts[i]];
+        stripXY[2 * i + 1] = xy[2 * pts[i] + 1];
+      }
+      HalfEdgeDelaunayTriangulator triangulator = new HalfEdgeDelaunayTriangulator(stripXY);
+      int[] tris = triangulator.getTriangleVertices();
+      if (tris.length == 0) {
+        for (int i = 0; i < pts.length; i++) {
+          isBoundary[pts[i]] = true;
+        }
+      }
+      int[] hull = triangulator.getHullVertices();
+      for (int i = 0; i < hull.length; i++) {
+        isBoundary[pts[hull[i]]] = true;
+      }
+
+      int[] safe = new int[tris.length];
+      int n = 0;
+      for (int i = 0; i < tris.length; i += 3) {
+        int a = pts[tris[i]];
+        int b = pts[tris[i + 1]];
+        int c = pts[tris[i + 2]];
+        if (isSafe(a, b, c)) {
+          safe[n++] = a;
+          safe[n++] = b;
+          safe[n++] = c;
+        }
+        else {
+          isBoundary[a] = true;
+          isBoundary[b] = true;
+          isBoundary[c] = true;
+        }
+      }
+      safeTris[s] = Arrays.copyOf(safe, n);
+    }
+
+    /**
+     * Triangulates the points in the boundary zone,
+     * and keeps the triangles which are not safe in a strip
+     * and whose circumcircle is empty.
+     */
+    private int[] triangulateBoundary() {
+      int numBoundary = 0;
+      for (int i = 0; i < numPts; i++) {
+        if (isBoundary[i]) numBoundary++;
+      }
+      int[] pts = new int[numBoundary];
+      int[] interiorPts = new int[numPts - numBoundary];
+      int nb = 0;
+      int ni = 0;
+      for (int i = 0; i < numPts; i++) {
+        if (isBoundary[i]) pts[nb++] = i;
+        else interiorPts[ni++] = i;
+      }
+      double[] boundaryXY = new double[2 * numBoundary];
+      for (int i = 0; i < numBoundary; i++) {
+        boundaryXY[2 * i] = xy[2 * pts[i]];
+        boundaryXY[2 * i + 1] = xy[2 * pts[i] + 1];
+      }
+      int[] tris = new HalfEdgeDelaunayTriangulator(boundaryXY).getTriangleVertices();
+      PointGrid interior = new PointGrid(interiorPts);
+
+      boolean[] isKept = new boolean[tris.length / 3];
+      IntStream.range(0, isKept.length).parallel().forEach(t -> {
+        int a = pts[tris[3 * t]];
+        int b = pts[tris[3 * t + 1]];
+        int c = pts[tris[3 * t + 2]];
+        isKept[t] = ! isSafe(a, b, c) && interior.isCircleEmpty(a, b, c);
+      });
+
+      int numKept = 0;
+      for (int t = 0; t < isKept.length; t++) {
+        if (isKept[t]) numKept++;
+      }
+      int[] result = new int[3 * numKept];
+      int n = 0;
+      for (int t = 0; t < isKept.length; t++) {
+        if (! isKept[t]) continue;
+        result[n++] = pts[tris[3 * t]];
+        result[n++] = pts[tris[3 * t + 1]];
+        result[n++] = pts[tris[3 * t + 2]];
+      }
+      return result;
+    }
+
+    /**
+     * Tests if a triangle has all its vertices in the same strip
+     * and a circumcircle lying strictly inside the strip.
+     * The circumcircle is computed from a canonical vertex order
+     * so that the test gives the same result for any rotation of the triangle.
+     */
+    private boolean isSafe(int a, int b, int c) {
+      int s = strip[a];
+      if (strip[b] != s || strip[c] != s) return false;
+      if (b < a && b < c) {
+        int tmp = a; a = b; b = c; c = tmp;
+      }
+      else if (c < a && c < b) {
+        int tmp = c; c = b; b = a; a = tmp;
+      }
+      double ax = xy[2 * a];
+      double ay = xy[2 * a + 1];
+      double bx = xy[2 * b] - ax;
+      double by = xy[2 * b + 1] - ay;
+      double cx = xy[2 * c] - ax;
+      double cy = xy[2 * c + 1] - ay;
+      double d = 2 * (bx * cy - by * cx);
+      double b2 = bx * bx + by * by;
+      double c2 = cx * cx + cy * cy;
+      double ux = (cy * b2 - by * c2) / d;
+      double uy = (bx * c2 - cx * b2) / d;
+      double r = Math.sqrt(ux * ux + uy * uy);
+      double centreX = ax + ux;
+      if (Double.isNaN(centreX) || Double.isInfinite(r)) return false;
+
+      double margin = SAFE_MARGIN_FACTOR * (r + Math.abs(centreX));
+      if (s > 0 && centreX - r <= splitX[s - 1] + margin) return false;
+      if (s < splitX.length && centreX + r >= splitX[s] - margin) return false;
+      return true;
+    }
+  }
+
+  /**
+   * A grid index of points, supporting testing whether
+   * a triangle circumcircle contains any of the points.
+   */
+  private class PointGrid {
+    private int[] pts;
+    private double minX;
+    private double minY;
+    private double cellSize;
+    private int numCols;
+    private int numRows;
+    private int[] cellStart;
+    private int[] cellPts;
+
+    PointGrid(int[] pts) {
+      this.pts = pts;
+      if (pts.length == 0) return;
+      minX = Double.POSITIVE_INFINITY;
+      minY = Double.POSITIVE_INFINITY;
+      double maxX = Double.NEGATIVE_INFINITY;
+      double maxY = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < pts.length; i++) {
+        double x = xy[2 * pts[i]];
+        double y = xy[2 * pts[i] + 1];
+        minX = Math.min(minX, x);
+        maxX = Math.max(maxX, x);
+        minY = Math.min(minY, y);
+        maxY = Math.max(maxY, y);
+      }
+      double area = Math.max((maxX - minX) * (maxY - minY), 0);
+      //-- aim for about 2 points per cell
+      cellSize = Math.sqrt(2 * area / pts.length);
+      if (cellSize <= 0) cellSize = Math.max(maxX - minX, maxY - minY);
+      if (cellSize <= 0) cellSize = 1;
+      numCols = (int) ((maxX - minX) / cellSize) + 1;
+      numRows = (int) ((maxY - minY) / cellSize) + 1;
+
+      int numCells = numCols * numRows;
+      cellStart = new int[numCells + 1];
+      int[] cell = new int[pts.length];
+      for (int i = 0; i < pts.length; i++) {
+        cell[i] = cellIndex(col(xy[2 * pts[i]]), row(xy[2 * pts[i] + 1]));
+        cellStart[cell[i] + 1]++;
+      }
+      for (int i = 0; i < numCells; i++) {
+        cellStart[i + 1] += cellStart[i];
+      }
+      cellPts = new int[pts.length];
+      int[] fill = Arrays.copyOf(cellStart, numCells);
+      for (int i = 0; i < pts.length; i++) {
+        cellPts[fill[cell[i]]++] = pts[i];
+      }
+    }
+
+    private int col(double x) {
+      int col = (int) ((x - minX) / cellSize);
+      return Math.max(0, Math.min(numCols - 1, col));
+    }
+
+    private int row(double y) {
+      int row = (int) ((y - minY) / cellSize);
+      return Math.max(0, Math.min(numRows - 1, row));
+    }
+
+    private int cellIndex(int col, int row) {
+      return row * numCols + col;
+    }
+
+    /**
+     * Tests whether the circumcircle of a counter-clockwise triangle
+     * contains none of the points.
+     * The cell containing the circumcentre is checked first,
+     * since it is likely to contain a point if the circle is not empty.
+     */
+    boolean isCircleEmpty(int a, int b, int c) {
+      if (pts.length == 0) return true;
+      double ax = xy[2 * a];
+      double ay = xy[2 * a + 1];
+      double bx = xy[2 * b] - ax;
+      double by = xy[2 * b + 1] - ay;
+      double cx = xy[2 * c] - ax;
+      double cy = xy[2 * c + 1] - ay;
+      double d = 2 * (bx * cy - by * cx);
+      double b2 = bx * bx + by * by;
+      double c2 = cx * cx + cy * cy;
+      double ux = (cy * b2 - by * c2) / d;
+      double uy = (bx * c2 - cx * b2) / d;
+      //-- expand the radius slightly to allow for round-off
+      double r = Math.sqrt(ux * ux + uy * uy) * (1 + SAFE_MARGIN_FACTOR);
+      double centreX = ax + ux;
+      double centreY = ay + uy;
+
+      if (Double.isNaN(r) || Double.isInfinite(r)) {
+        //-- degenerate triangle: check all points
+        return isCellRangeEmpty(a, b, c, 0, numCols - 1, 0, numRows - 1);
+      }
+
+      int centreCol = col(centreX);
+      int centreRow = row(centreY);
+      if (! isCellRangeEmpty(a, b, c, centreCol, centreCol, centreRow, centreRow))
+        return false;
+      return isCellRangeEmpty(a, b, c,
+          col(centreX - r), col(centreX + r), row(centreY - r), row(centreY + r));
+    }
+
+    private boolean isCellRangeEmpty(int a, int b, int c,
+        int col0, int col1, int row0, int row1) {
+      for (int row = row0; row <= row1; row++) {
+        for (int col = col0; col <= col1; col++) {
+          int cell = cellIndex(col, row);
+          for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+            if (HalfEdgeDelaunayTriangulator.isInCircle(xy, a, b, c, cellPts[i]))
+              return false;
+          }
+        }
+      }
+      return true;
+    }
+  }
+}
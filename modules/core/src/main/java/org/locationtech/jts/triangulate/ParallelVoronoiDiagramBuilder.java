@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.operation.overlayng.RingClipper;
+
+/**
+ * A utility class which creates Voronoi Diagrams
+ * from collections of points,
+ * computing the Delaunay Triangulation and the Voronoi cells in parallel.
+ * The triangulation is computed by a {@link ParallelDelaunayTriangulator}.
+ * <p>
+ * The diagram is returned as a {@link GeometryCollection} of {@link Polygon}s
+ * representing the faces of the Voronoi diagram,
+ * in the same form as {@link VoronoiDiagramBuilder}.
+ * The faces are clipped to the larger of:
+ * <ul>
+ * <li> an envelope supplied by {@link #setClipEnvelope(Envelope)}
+ * <li> an envelope determined by the input sites
+ * </ul>
+ * The <tt>userData</tt> attribute of each face <tt>Polygon</tt> is set to
+ * the <tt>Coordinate</tt>  of the corresponding input site.
+ * <p>
+ * The cells of sites on the convex hull are unbounded.
+ * They are formed by extending the Voronoi edges of the hull edges
+ * beyond the clip envelope.
+ * Parallel computation uses the common fork-join pool.
+ *
+ * @author Martin Davis
+ *
+ * @see VoronoiDiagramBuilder
+ */
+public class ParallelVoronoiDiagramBuilder
+{
+  private Coordinate[] siteCoords;
+  private Envelope clipEnv = null;
+  private int numPartitions = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Creates a new Voronoi diagram builder.
+   */
+  public ParallelVoronoiDiagramBuilder()
+  {
+  }
+
+  /**
+   * Sets the sites (point or vertices) which will be diagrammed.
+   * All vertices of the given geometry will be used as sites.
+   *
+   * @param geom the geometry from which the sites will be extracted.
+   */
+  public void setSites(Geometry geom)
+  {
+    siteCoords = DelaunayTriangulationBuilder.extractUniqueCoordinates(geom).toCoordinateArray();
+  }
+
+  /**
+   * Sets the sites (point or vertices) which will be diagrammed
+   * from a collection of {@link Coordinate}s.
+   *
+   * @param coords a collection of Coordinates.
+   */
+  public void setSites(Collection coords)
+  {
+    siteCoords = DelaunayTriangulationBuilder.unique(CoordinateArrays.toCoordinateArray(coords))
+        .toCoordinateArray();
+  }
+
+  /**
+   * Sets the envelope to clip the diagram to.
+   * The diagram will be clipped to the larger
+   * of this envelope or an envelope surrounding the sites.
+   *
+   * @param clipEnv the clip envelope.
+   */
+  public void setClipEnvelope(Envelope clipEnv)
+  {
+    this.clipEnv = clipEnv;
+  }
+
+  /**
+   * Sets the number of partitions used to compute the triangulation.
+   * The default is the number of available processors.
+   *
+   * @param numPartitions the number of partitions
+   *
+   * @see ParallelDelaunayTriangulator#setNumPartitions(int)
+   */
+  public void setNumPartitions(int numPartitions)
+  {
+    this.numPartitions = numPartitions;
+  }
+
+  /**
+   * Gets the faces of the computed diagram as a {@link GeometryCollection}
+   * of {@link Polygon}s, clipped as specified.
+   * <p>
+   * The <tt>userData</tt> attribute of each face <tt>Polygon</tt> is set to
+   * the <tt>Coordinate</tt>  of the corresponding input site.
+   *
+   * @param geomFact the geometry factory to use to create the output
+   * @return a <tt>GeometryCollection</tt> containing the face <tt>Polygon</tt>s of the diagram
+   */
+  public Geometry getDiagram(GeometryFactory geomFact)
+  {
+    Envelope diagramEnv = clipEnv;
+    if (diagramEnv == null) {
+      diagramEnv = new Envelope();
+      for (Coordinate p : siteCoords) {
+        diagramEnv.expandToInclude(p);
+      }
+      // add a 50% buffer around the sites envelope
+      diagramEnv.expandBy(diagramEnv.getDiameter());
+    }
+
+    ParallelDelaunayTriangulator triangulator = new ParallelDelaunayTriangulator(siteCoords);
+    triangulator.setNumPartitions(numPartitions);
+    if (triangulator.getNumTriangles() == 0) {
+      //-- collinear sites are handled by the sequential builder
+      VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+      builder.setSites(Arrays.asList(siteCoords));
+      builder.setClipEnvelope(clipEnv);
+      return builder.getDiagram(geomFact);
+    }
+
+    CellBuilder cellBuilder = new CellBuilder(triangulator, diagramEnv, geomFact);
+    Polygon[] cells = new Polygon[siteCoords.length];
+    IntStream.range(0, cells.length).parallel().forEach(i -> cells[i] = cellBuilder.getCell(i));
+
+    List<Polygon> result = new ArrayList<Polygon>();
+    for (Polygon cell : cells) {
+      if (cell != null) result.add(cell);
+    }
+    return geomFact.createGeometryCollection(GeometryFactory.toGeometryArray(result));
+  }
+
+  /**
+   * Builds the clipped Voronoi cells of sites
+   * from the triangles around them.
+   */
+  private static class CellBuilder {
+    private ParallelDelaunayTriangulator tri;
+    private Envelope clipEnv;
+    private GeometryFactory geomFact;
+    private double[] centres;
+    private double farDistance;
+    private Coordinate envCentre;
+
+    CellBuilder(ParallelDelaunayTriangulator tri, Envelope clipEnv, GeometryFactory geomFact) {
+      this.tri = tri;
+      this.clipEnv = clipEnv;
+      this.geomFact = geomFact;
+      envCentre = clipEnv.centre();
+      farDistance = clipEnv.getDiameter();
+      computeCircumcentres();
+    }
+
+    /**
+     * Precomputing the circumcentres ensures that
+     * they are consistent across the Voronoi cells.
+     */
+    private void computeCircumcentres() {
+      int numTri = tri.getNumTriangles();
+      centres = new double[2 * numTri];
+      IntStream.range(0, numTri).parallel().forEach(t -> {
+        int a = tri.getVertex(3 * t);
+        int b = tri.getVertex(3 * t + 1);
+        int c = tri.getVertex(3 * t + 2);
+        double ax = tri.getX(a);
+        double ay = tri.getY(a);
+        double bx = tri.getX(b) - ax;
+        double by = tri.getY(b) - ay;
+        double cx = tri.getX(c) - ax;
+        double cy = tri.getY(c) - ay;
+        double d = 2 * (bx * cy - by * cx);
+        double b2 = bx * bx + by * by;
+        double c2 = cx * cx + cy * cy;
+        centres[2 * t] = ax + (cy * b2 - by * c2) / d;
+        centres[2 * t + 1] = ay + (bx * c2 - cx * b2) / d;
+      });
+    }
+
+    Polygon getCell(int v) {
+      int e0 = tri.getVertexEdge(v);
+      if (e0 < 0) return null;
+
+      //-- find the first edge CCW around the site, if the site is on the hull
+      int start = e0;
+      boolean isHull = false;
+      while (true) {
+        int t = tri.getTwin(start);
+        if (t < 0) {
+          isHull = true;
+          break;
+        }
+        start = ParallelDelaunayTriangulator.next(t);
+        if (start == e0) break;
+      }
+
+      CoordinateList pts = new CoordinateList();
+      int e = start;
+      int last;
+      while (true) {
+        pts.add(centre(e / 3), false);
+        last = e;
+        int t = tri.getTwin(ParallelDelaunayTriangulator.prev(e));
+        if (t < 0 || t == start) break;
+        e = t;
+      }
+
+      if (isHull) {
+        addUnboundedPoints(v, start, last, pts);
+      }
+      pts.closeRing();
+      Coordinate[] ring = pts.toCoordinateArray();
+
+      Envelope cellEnv = new Envelope();
+      for (Coordinate p : ring) {
+        cellEnv.expandToInclude(p);
+      }
+      if (! clipEnv.contains(cellEnv)) {
+        if (! clipEnv.intersects(cellEnv)) return null;
+        ring = new RingClipper(clipEnv).clip(ring);
+      }
+      if (ring.length < 4) return null;
+      Polygon cell = geomFact.createPolygon(ring);
+      if (cell.isEmpty() || cell.getArea() <= 0) return null;
+      cell.setUserData(new Coordinate(tri.getX(v), tri.getY(v)));
+      return cell;
+    }
+
+    /**
+     * Adds points far along the Voronoi edges of the two hull edges at a site,
+     * and a point between them,
+     * so that the cell covers the clip envelope.
+     */
+    private void addUnboundedPoints(int v, int startEdge, int lastEdge, CoordinateList pts) {
+      //-- the hull edges have the triangles on their left
+      int a0 = tri.getVertex(ParallelDelaunayTriangulator.next(startEdge));
+      int ak = tri.getVertex(ParallelDelaunayTriangulator.prev(lastEdge));
+      double n0x = tri.getY(a0) - tri.getY(v);
+      double n0y = -(tri.getX(a0) - tri.getX(v));
+      double nkx = tri.getY(v) - tri.getY(ak);
+      double nky = -(tri.getX(v) - tri.getX(ak));
+
+      Coordinate c0 = centre(startEdge / 3);
+      Coordinate ck = centre(lastEdge / 3);
+      Coordinate site = new Coordinate(tri.getX(v), tri.getY(v));
+      double dist = 2 * (farDistance
+          + Math.max(c0.distance(envCentre), ck.distance(envCentre))
+          + site.distance(envCentre));
+
+      double len0 = Math.sqrt(n0x * n0x + n0y * n0y);
+      double lenk = Math.sqrt(nkx * nkx + nky * nky);
+      pts.add(farPoint(ck, nkx, nky, dist), false);
+      pts.add(farPoint(site, n0x / len0 + nkx / lenk, n0y / len0 + nky / lenk, 2 * dist), false);
+      pts.add(farPoint(c0, n0x, n0y, dist), false);
+    }
+
+    private Coordinate centre(int t) {
+      return new Coordinate(centres[2 * t], centres[2 * t + 1]);
+    }
+
+    private static Coordinate farPoint(Coordinate p, double dx, double dy, double dist) {
+      double len = Math.sqrt(dx * dx + dy * dy);
+      return new Coordinate(p.x + dist * dx / len, p.y + dist * dy / len);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * An interface for processing the cells of a Voronoi diagram
+ * as they are produced by {@link VoronoiDiagramBuilder#visitCells(org.locationtech.jts.geom.GeometryFactory, VoronoiCellVisitor)}.
+ * 
+ * @author Martin Davis
+ */
+public interface VoronoiCellVisitor {
+  /**
+   * Visits a clipped Voronoi cell.
+   * The <tt>userData</tt> of the cell is set to the site coordinate.
+   * 
+   * @param site the coordinate of the cell site
+   * @param cell the cell geometry, clipped to the diagram envelope
+   */
+  void visit(Coordinate site, Geometry cell);
+}
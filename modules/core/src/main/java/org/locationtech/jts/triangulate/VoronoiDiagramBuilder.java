@@ -22,6 +22,7 @@ import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.quadedge.QuadEdge;
 import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
 
 
@@ -38,6 +39,9 @@ import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
  * The <tt>userData</tt> attribute of each face <tt>Polygon</tt> is set to 
  * the <tt>Coordinate</tt>  of the corresponding input site.
  * This allows using a <tt>Map</tt> to link faces to data associated with sites.
+ * <p>
+ * Large diagrams can be processed cell by cell
+ * using {@link #visitCells(GeometryFactory, VoronoiCellVisitor)}.
  * 
  * @author Martin Davis
  *
@@ -157,42 +161,58 @@ public class VoronoiDiagramBuilder
 	 */
 	public Geometry getDiagram(GeometryFactory geomFact)
 	{
-		create();
-		Geometry polys = subdiv.getVoronoiDiagram(geomFact);
-		
-		/*
-    System.out.println(polys);
-		Geometry tris = subdiv.getTriangles(true, geomFact);
-		System.out.println(tris);
-		if (! subdiv.isFrameDelaunay()) {
-		  throw new IllegalStateException("Triangulation frame is not Delaunay");
-		}
-		//*/
-		
-		//-- clip polys to diagramEnv
-		return clipGeometryCollection(polys, diagramEnv);
+		final List cells = new ArrayList();
+		visitCells(geomFact, new VoronoiCellVisitor() {
+			public void visit(Coordinate site, Geometry cell) {
+				cells.add(cell);
+			}
+		});
+		return geomFact.createGeometryCollection(GeometryFactory.toGeometryArray(cells));
 	}
 
-  private static Geometry clipGeometryCollection(Geometry geom, Envelope clipEnv)
+	/**
+	 * Visits the faces of the computed diagram one at a time,
+	 * clipped as specified.
+	 * Each face is created just before it is passed to the visitor,
+	 * so large diagrams can be processed or written out incrementally
+	 * without holding all the face polygons in memory.
+	 * <p>
+	 * Faces which lie outside the clip envelope are not visited.
+	 * The <tt>userData</tt> attribute of each face is set to 
+	 * the <tt>Coordinate</tt> of the corresponding input site.
+	 * 
+	 * @param geomFact the geometry factory to use to create the faces
+	 * @param visitor the visitor to pass the faces to
+	 */
+	public void visitCells(GeometryFactory geomFact, VoronoiCellVisitor visitor)
 	{
-		Geometry clipPoly = geom.getFactory().toGeometry(clipEnv);
-		List clipped = new ArrayList();
-		for (int i = 0; i < geom.getNumGeometries(); i++) {
-			Geometry g = geom.getGeometryN(i);
-			Geometry result = null;
-			// don't clip unless necessary
-			if (clipEnv.contains(g.getEnvelopeInternal()))
-					result = g;
-			else if (clipEnv.intersects(g.getEnvelopeInternal())) {
-				result = clipPoly.intersection(g);
-				// keep vertex key info
-				result.setUserData(g.getUserData());
+		create();
+		subdiv.computeVoronoiVertices();
+		Geometry clipPoly = geomFact.toGeometry(diagramEnv);
+		List edges = subdiv.getVertexUniqueEdges(false);
+		for (int i = 0; i < edges.size(); i++) {
+			QuadEdge qe = (QuadEdge) edges.get(i);
+			Polygon cellPoly = subdiv.getVoronoiCellPolygon(qe, geomFact);
+			Geometry cell = clipCell(cellPoly, clipPoly, diagramEnv);
+			if (cell != null) {
+				visitor.visit((Coordinate) cellPoly.getUserData(), cell);
 			}
+		}
+	}
 
-			if (result != null && ! result.isEmpty()) {
-				clipped.add(result);
-			}
+	private static Geometry clipCell(Geometry cell, Geometry clipPoly, Envelope clipEnv)
+	{
+		Geometry result = null;
+		// don't clip unless necessary
+		if (clipEnv.contains(cell.getEnvelopeInternal()))
+			result = cell;
+		else if (clipEnv.intersects(cell.getEnvelopeInternal())) {
+			result = clipPoly.intersection(cell);
+			// keep vertex key info
+			result.setUserData(cell.getUserData());
 		}
-		return geom.getFactory().createGeometryCollection(GeometryFactory.toGeometryArray(clipped));
+		if (result == null || result.isEmpty()) 
+			return null;
+		return result;
 	}
 }
@@ -11,7 +11,6 @@
  */
 package org.locationtech.jts.triangulate.polygon;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.locationtech.jts.geom.Coordinate;
@@ -20,7 +19,7 @@ import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.util.PolygonExtracter;
 import org.locationtech.jts.triangulate.tri.Tri;
-import org.locationtech.jts.triangulate.tri.TriangulationBuilder;
+import org.locationtech.jts.triangulate.tri.TriMesh;
 
 /**
  * Computes the Constrained Delaunay Triangulation of polygons.
@@ -30,6 +29,10 @@ import org.locationtech.jts.triangulate.tri.TriangulationBuilder;
  * of the polygon.
  * <p>
  * Holes are supported.
+ * <p>
+ * The triangulation is computed in a compact {@link TriMesh},
+ * so that large triangulations use little memory.
+ * {@link Tri}s are created only if requested.
  */
 public class ConstrainedDelaunayTriangulator {
   
@@ -46,6 +49,7 @@ public class ConstrainedDelaunayTriangulator {
   
   private final GeometryFactory geomFact;
   private final Geometry inputGeom;
+  private TriMesh mesh;
   private List<Tri> triList;
 
   /**
@@ -65,47 +69,67 @@ public class ConstrainedDelaunayTriangulator {
    */
   public Geometry getResult() {
     compute();
-    return Tri.toGeometry(triList, geomFact);
+    return mesh.toGeometry(geomFact);
   }
   
   /**
    * Gets the triangulation as a list of {@link Tri}s.
+   * The Tris are created from the triangulation mesh
+   * the first time this method is called,
+   * and are linked to their adjacent Tris.
    * 
    * @return the list of Tris in the triangulation
    */
   public List<Tri> getTriangles() {
     compute();
+    if (triList == null) {
+      triList = mesh.toTris();
+    }
     return triList;
   }
   
+  /**
+   * Gets the triangulation as a {@link TriMesh}.
+   * This is a compact representation 
+   * which avoids creating objects for each triangle.
+   * 
+   * @return the triangulation mesh
+   */
+  public TriMesh getMesh() {
+    compute();
+    return mesh;
+  }
+  
   private void compute() {
-    if (triList != null) return;
+    if (mesh != null) return;
     
+    @SuppressWarnings("unchecked")
     List<Polygon> polys = PolygonExtracter.getPolygons(inputGeom);
-    triList = new ArrayList<Tri>();
-    for (Polygon poly : polys) {
-      List<Tri> polyTriList = triangulatePolygon(poly);
-      triList.addAll(polyTriList);
+    mesh = new TriMesh();
+    int[] polyTriStart = new int[polys.size() + 1];
+    for (int i = 0; i < polys.size(); i++) {
+      triangulatePolygon(polys.get(i), mesh);
+      polyTriStart[i + 1] = mesh.getNumTriangles();
+    }
+    mesh.buildAdjacency();
+    for (int i = 0; i < polys.size(); i++) {
+      TriDelaunayImprover.improve(mesh, polyTriStart[i], polyTriStart[i + 1]);
     }
   }
  
   /**
-   * Computes the triangulation of a single polygon
-   * and returns it as a list of {@link Tri}s.
+   * Computes the initial triangulation of a single polygon
+   * and adds it to a mesh.
+   * Polygons do not share vertices in the mesh,
+   * so the triangles of different polygons are not adjacent.
    * 
    * @param poly the input polygon
-   * @return list of Tris forming the triangulation
+   * @param mesh the mesh to add the triangles to
    */
-  List<Tri> triangulatePolygon(Polygon poly) {
+  private static void triangulatePolygon(Polygon poly, TriMesh mesh) {
+    if (poly.isEmpty()) return;
     Coordinate[] polyShell = PolygonHoleJoiner.join(poly);
-    List<Tri> triList = PolygonEarClipper.triangulate(polyShell);
-    
-    //long start = System.currentTimeMillis();
-    TriangulationBuilder.build(triList);
-    TriDelaunayImprover.improve(triList);
-    //System.out.println("swap used: " + (System.currentTimeMillis() - start) + " milliseconds");
-
-    return triList;
+    PolygonEarClipper.triangulate(polyShell, mesh);
   }
 
 }
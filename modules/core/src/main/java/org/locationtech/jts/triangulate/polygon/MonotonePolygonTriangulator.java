@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.polygon;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.PolygonExtracter;
+import org.locationtech.jts.triangulate.tri.Tri;
+
+/**
+ * Computes a triangulation of each polygon in a {@link Geometry}
+ * using a plane sweep which decomposes the polygon into monotone pieces.
+ * The triangulation has the same form as that produced by {@link PolygonTriangulator}:
+ * a non-overlapping set of triangles which
+ * cover the polygon and have the same vertices as the polygon.
+ * <p>
+ * Holes are handled directly by the sweep,
+ * so the triangulation runs in O(n log n) time
+ * even for large polygons with many holes.
+ * This is much faster than {@link PolygonTriangulator},
+ * whose hole joining and ear clipping are close to quadratic.
+ * The output may contain more narrow triangles.
+ * <p>
+ * Polygons whose rings touch at a vertex are triangulated
+ * using {@link PolygonTriangulator}.
+ *
+ * @see PolygonTriangulator
+ * @see ConstrainedDelaunayTriangulator
+ *
+ * @author Martin Davis
+ *
+ */
+public class MonotonePolygonTriangulator {
+
+  /**
+   * Computes a triangulation of each polygon in a geometry.
+   *
+   * @param geom a geometry containing polygons
+   * @return a GeometryCollection containing the triangle polygons
+   */
+  public static Geometry triangulate(Geometry geom) {
+    MonotonePolygonTriangulator triangulator = new MonotonePolygonTriangulator(geom);
+    return triangulator.getResult();
+  }
+
+  private final GeometryFactory geomFact;
+  private final Geometry inputGeom;
+  private List<Tri> triList;
+
+  /**
+   * Constructs a new triangulator.
+   *
+   * @param inputGeom the input geometry
+   */
+  public MonotonePolygonTriangulator(Geometry inputGeom) {
+    geomFact = inputGeom.getFactory();
+    this.inputGeom = inputGeom;
+  }
+
+  /**
+   * Gets the triangulation as a {@link GeometryCollection} of triangular {@link Polygon}s.
+   *
+   * @return a collection of the result triangle polygons
+   */
+  public Geometry getResult() {
+    compute();
+    return Tri.toGeometry(triList, geomFact);
+  }
+
+  /**
+   * Gets the triangulation as a list of {@link Tri}s.
+   *
+   * @return the list of Tris in the triangulation
+   */
+  public List<Tri> getTriangles() {
+    compute();
+    return triList;
+  }
+
+  private void compute() {
+    if (triList != null) return;
+
+    @SuppressWarnings("unchecked")
+    List<Polygon> polys = PolygonExtracter.getPolygons(inputGeom);
+    triList = new ArrayList<Tri>();
+    for (Polygon poly : polys) {
+      if (poly.isEmpty()) continue;
+      List<Tri> polyTriList = triangulatePolygon(poly);
+      triList.addAll(polyTriList);
+    }
+  }
+
+  /**
+   * Computes the triangulation of a single polygon.
+   * If the polygon cannot be swept
+   * it is triangulated by ear-clipping.
+   *
+   * @return the list of Tris in the triangulation
+   */
+  private List<Tri> triangulatePolygon(Polygon poly) {
+    List<Tri> triList = MonotoneSweepTriangulator.triangulate(poly);
+    if (triList != null)
+      return triList;
+
+    Coordinate[] polyShell = PolygonHoleJoiner.join(poly);
+    return PolygonEarClipper.triangulate(polyShell);
+  }
+
+}
@@ -0,0 +1,581 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.polygon;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.triangulate.tri.Tri;
+
+/**
+ * Triangulates a polygon with holes by a plane sweep
+ * which decomposes it into y-monotone pieces,
+ * and triangulates each piece incrementally as the sweep proceeds.
+ * Holes are handled directly by the sweep, so no hole joining is required.
+ * The algorithm runs in O(n log n) time.
+ * <p>
+ * The vertices are swept in order of decreasing Y and increasing X.
+ * Each interior span between a left and a right boundary edge
+ * carries the monotone piece (or pieces, below a merge vertex)
+ * which is being triangulated.
+ * Split and merge vertices connect pieces in the same way as the
+ * diagonals of the classic monotone decomposition.
+ * <p>
+ * The polygon rings must not touch or self-touch,
+ * since the sweep requires vertices to be distinct.
+ * Repeated points are removed.
+ * If the polygon does not satisfy this
+ * <tt>null</tt> is returned, and another algorithm must be used.
+ *
+ * @author Martin Davis
+ *
+ * @see PolygonEarClipper
+ */
+class MonotoneSweepTriangulator {
+
+  /**
+   * Triangulates a polygon via a monotone sweep.
+   *
+   * @param poly the polygon to triangulate
+   * @return a list of the Tris, or null if the polygon rings touch
+   */
+  public static List<Tri> triangulate(Polygon poly) {
+    MonotoneSweepTriangulator triangulator = new MonotoneSweepTriangulator(poly);
+    return triangulator.compute();
+  }
+
+  private static final int SIDE_NONE = 0;
+  private static final int SIDE_LEFT = 1;
+  private static final int SIDE_RIGHT = 2;
+
+  private final Polygon polygon;
+  /**
+   * The polygon vertices, with rings oriented
+   * so that the interior is on the right (shell CW, holes CCW).
+   */
+  private Coordinate[] vertex;
+  private int[] vertexNext;
+  private int[] vertexPrev;
+  /**
+   * The ring edge from each vertex to the next one
+   */
+  private Edge[] edge;
+  private TreeSet<Edge> status;
+  private List<Tri> triList;
+
+  /**
+   * Creates a new triangulator.
+   *
+   * @param poly the polygon to triangulate
+   */
+  public MonotoneSweepTriangulator(Polygon poly) {
+    this.polygon = poly;
+  }
+
+  /**
+   * Computes the triangulation.
+   *
+   * @return a list of the Tris, or null if the polygon cannot be triangulated by the sweep
+   */
+  public List<Tri> compute() {
+    if (! extractVertices(polygon))
+      return null;
+
+    Integer[] order = sortVertices();
+    if (hasCoincidentVertices(order))
+      return null;
+
+    edge = new Edge[vertex.length];
+    for (int i = 0; i < vertex.length; i++) {
+      edge[i] = new Edge(i, vertexNext[i]);
+    }
+    status = new TreeSet<Edge>(new EdgeComparator());
+    triList = new ArrayList<Tri>();
+    for (int i = 0; i < order.length; i++) {
+      if (! processVertex(order[i]))
+        return null;
+    }
+    return triList;
+  }
+
+  private boolean extractVertices(Polygon poly) {
+    List<Coordinate[]> rings = new ArrayList<Coordinate[]>();
+    Coordinate[] shell = extractOrientedRing(poly.getExteriorRing(), true);
+    if (shell == null) return false;
+    rings.add(shell);
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      Coordinate[] hole = extractOrientedRing(poly.getInteriorRingN(i), false);
+      if (hole == null) return false;
+      rings.add(hole);
+    }
+    int size = 0;
+    for (Coordinate[] ring : rings) {
+      size += ring.length - 1;
+    }
+    vertex = new Coordinate[size];
+    vertexNext = new int[size];
+    vertexPrev = new int[size];
+    int start = 0;
+    for (Coordinate[] ring : rings) {
+      int ringSize = ring.length - 1;
+      for (int i = 0; i < ringSize; i++) {
+        int index = start + i;
+        vertex[index] = ring[i];
+        vertexNext[index] = start + (i + 1) % ringSize;
+        vertexPrev[index] = start + (i + ringSize - 1) % ringSize;
+      }
+      start += ringSize;
+    }
+    return true;
+  }
+
+  private static Coordinate[] extractOrientedRing(LinearRing ring, boolean isCW) {
+    Coordinate[] pts = CoordinateArrays.removeRepeatedPoints(ring.getCoordinates());
+    //-- collapsed rings cannot be swept
+    if (pts.length < 4)
+      return null;
+    boolean isRingCW = ! Orientation.isCCW(pts);
+    if (isCW == isRingCW)
+      return pts;
+    Coordinate[] ptsRev = pts.clone();
+    CoordinateArrays.reverse(ptsRev);
+    return ptsRev;
+  }
+
+  /**
+   * Sorts the vertex indices in sweep order.
+   *
+   * @return the sorted vertex indices
+   */
+  private Integer[] sortVertices() {
+    Integer[] order = new Integer[vertex.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, new Comparator<Integer>() {
+      public int compare(Integer i1, Integer i2) {
+        return compareSweep(i1, i2);
+      }
+    });
+    return order;
+  }
+
+  private boolean hasCoincidentVertices(Integer[] order) {
+    for (int i = 1; i < order.length; i++) {
+      if (vertex[order[i - 1]].equals2D(vertex[order[i]]))
+        return true;
+    }
+    return false;
+  }
+
+  private int compareSweep(int i1, int i2) {
+    Coordinate p1 = vertex[i1];
+    Coordinate p2 = vertex[i2];
+    if (p1.y > p2.y) return -1;
+    if (p1.y < p2.y) return 1;
+    return Double.compare(p1.x, p2.x);
+  }
+
+  /**
+   * Tests whether a vertex is before another in sweep order.
+   */
+  private boolean isAbove(int i1, int i2) {
+    return compareSweep(i1, i2) < 0;
+  }
+
+  /**
+   * Processes a vertex according to its type.
+   *
+   * @param v the vertex index
+   * @return false if the sweep state is inconsistent
+   */
+  private boolean processVertex(int v) {
+    int prev = vertexPrev[v];
+    int next = vertexNext[v];
+    /**
+     * The edge from prev to v, and the edge from v to next.
+     * Since the interior is on the right of the ring direction,
+     * edges traversed upwards are left boundaries of the interior,
+     * and edges traversed downwards are right boundaries.
+     */
+    Edge edgePrev = edge[prev];
+    Edge edgeNext = edge[v];
+    boolean isPrevBelow = isAbove(v, prev);
+    boolean isNextBelow = isAbove(v, next);
+
+    if (isPrevBelow && isNextBelow) {
+      if (isConvex(prev, v, next))
+        return processStart(v, edgePrev, edgeNext);
+      return processSplit(v, edgePrev, edgeNext);
+    }
+    if (! isPrevBelow && ! isNextBelow) {
+      if (isConvex(prev, v, next))
+        return processEnd(v, edgePrev, edgeNext);
+      return processMerge(v, edgePrev, edgeNext);
+    }
+    if (isNextBelow)
+      return processRightRegular(v, edgePrev, edgeNext);
+    return processLeftRegular(v, edgePrev, edgeNext);
+  }
+
+  private boolean isConvex(int prev, int v, int next) {
+    return Orientation.CLOCKWISE == Orientation.index(vertex[prev], vertex[v], vertex[next]);
+  }
+
+  private boolean processStart(int v, Edge leftEdge, Edge rightEdge) {
+    Piece piece = new Piece(v);
+    Span span = new Span(piece, piece);
+    span.setLeftEdge(leftEdge);
+    span.setRightEdge(rightEdge);
+    status.add(leftEdge);
+    return true;
+  }
+
+  private boolean processSplit(int v, Edge leftEdge, Edge rightEdge) {
+    Edge spanLeftEdge = status.lower(new Edge(v));
+    if (spanLeftEdge == null) return false;
+    Span span = spanLeftEdge.span;
+
+    Piece pieceLeft;
+    Piece pieceRight;
+    if (span.isMerged()) {
+      //-- connect to the merge vertex
+      pieceLeft = span.left;
+      pieceRight = span.right;
+      pieceLeft.add(v, SIDE_RIGHT);
+      pieceRight.add(v, SIDE_LEFT);
+    }
+    else {
+      //-- connect to the last vertex of the piece
+      Piece piece = span.left;
+      int last = piece.last();
+      if (piece.lastSide() == SIDE_RIGHT) {
+        pieceLeft = piece;
+        pieceLeft.add(v, SIDE_RIGHT);
+        pieceRight = new Piece(last);
+        pieceRight.add(v, SIDE_LEFT);
+      }
+      else {
+        pieceRight = piece;
+        pieceRight.add(v, SIDE_LEFT);
+        pieceLeft = new Piece(last);
+        pieceLeft.add(v, SIDE_RIGHT);
+      }
+    }
+    Span spanRight = new Span(pieceRight, pieceRight);
+    spanRight.setLeftEdge(leftEdge);
+    spanRight.setRightEdge(span.rightEdge);
+    span.left = pieceLeft;
+    span.right = pieceLeft;
+    span.setRightEdge(rightEdge);
+    status.add(leftEdge);
+    return true;
+  }
+
+  private boolean processEnd(int v, Edge rightEdge, Edge leftEdge) {
+    Span span = rightEdge.span;
+    if (span == null || leftEdge.span != span) return false;
+    span.left.close(v);
+    if (span.isMerged()) {
+      span.right.close(v);
+    }
+    if (! status.remove(leftEdge)) return false;
+    return true;
+  }
+
+  private boolean processMerge(int v, Edge rightEdge, Edge leftEdge) {
+    Span spanLeft = rightEdge.span;
+    Span spanRight = leftEdge.span;
+    if (spanLeft == null || spanRight == null || spanLeft == spanRight) return false;
+
+    if (spanLeft.isMerged()) {
+      spanLeft.right.close(v);
+    }
+    spanLeft.left.add(v, SIDE_RIGHT);
+
+    if (spanRight.isMerged()) {
+      spanRight.left.close(v);
+    }
+    spanRight.right.add(v, SIDE_LEFT);
+
+    spanLeft.right = spanRight.right;
+    spanLeft.setRightEdge(spanRight.rightEdge);
+    if (! status.remove(leftEdge)) return false;
+    return true;
+  }
+
+  /**
+   * Processes a regular vertex on the right boundary of a span.
+   */
+  private boolean processRightRegular(int v, Edge upperEdge, Edge lowerEdge) {
+    Span span = upperEdge.span;
+    if (span == null) return false;
+    if (span.isMerged()) {
+      span.right.close(v);
+      span.right = span.left;
+    }
+    span.left.add(v, SIDE_RIGHT);
+    span.setRightEdge(lowerEdge);
+    return true;
+  }
+
+  /**
+   * Processes a regular vertex on the left boundary of a span.
+   */
+  private boolean processLeftRegular(int v, Edge lowerEdge, Edge upperEdge) {
+    Span span = upperEdge.span;
+    if (span == null) return false;
+    if (span.isMerged()) {
+      span.left.close(v);
+      span.left = span.right;
+    }
+    span.right.add(v, SIDE_LEFT);
+    if (! status.remove(upperEdge)) return false;
+    span.setLeftEdge(lowerEdge);
+    status.add(lowerEdge);
+    return true;
+  }
+
+  private void addTriangle(int i0, int i1, int i2) {
+    Coordinate p0 = vertex[i0];
+    Coordinate p1 = vertex[i1];
+    Coordinate p2 = vertex[i2];
+    int orient = Orientation.index(p0, p1, p2);
+    //-- skip degenerate triangles
+    if (orient == Orientation.COLLINEAR)
+      return;
+    //-- Tris are oriented CW
+    if (orient == Orientation.CLOCKWISE) {
+      triList.add(Tri.create(p0, p1, p2));
+    }
+    else {
+      triList.add(Tri.create(p0, p2, p1));
+    }
+  }
+
+  /**
+   * A ring edge, oriented downwards in sweep order.
+   * Left boundary edges are kept in the sweep status.
+   */
+  private class Edge {
+    final int upper;
+    final int lower;
+    Span span;
+
+    Edge(int i0, int i1) {
+      if (isAbove(i0, i1)) {
+        upper = i0;
+        lower = i1;
+      }
+      else {
+        upper = i1;
+        lower = i0;
+      }
+    }
+
+    /**
+     * Creates a probe edge for locating a vertex in the sweep status.
+     *
+     * @param v the vertex to locate
+     */
+    Edge(int v) {
+      upper = v;
+      lower = v;
+    }
+
+    boolean isProbe() {
+      return upper == lower;
+    }
+
+    /**
+     * Computes the side of the edge a vertex lies on.
+     * Since the edge points downwards,
+     * a vertex to the left of it is in clockwise orientation.
+     *
+     * @param v a vertex index
+     * @return the orientation index of the vertex relative to the edge
+     */
+    int orientation(int v) {
+      return Orientation.index(vertex[upper], vertex[lower], vertex[v]);
+    }
+  }
+
+  /**
+   * Orders the status edges from left to right.
+   * Edges in the status do not cross, so their order is fixed
+   * while they are in the status.
+   * It is determined at the upper vertex of the edge which starts lowest.
+   */
+  private class EdgeComparator implements Comparator<Edge> {
+    public int compare(Edge e1, Edge e2) {
+      if (e1 == e2) return 0;
+      if (e1.isProbe())
+        return compareProbe(e1.upper, e2);
+      if (e2.isProbe())
+        return -compareProbe(e2.upper, e1);
+      if (isAbove(e1.upper, e2.upper)) {
+        return -compareLater(e2, e1);
+      }
+      return compareLater(e1, e2);
+    }
+
+    /**
+     * A vertex lying on an edge is ordered before it,
+     * so that a search finds the edge strictly left of the vertex.
+     */
+    private int compareProbe(int v, Edge e) {
+      return e.orientation(v) == Orientation.COUNTERCLOCKWISE ? 1 : -1;
+    }
+
+    private int compareLater(Edge later, Edge earlier) {
+      int orient = earlier.orientation(later.upper);
+      if (orient == Orientation.COLLINEAR) {
+        orient = earlier.orientation(later.lower);
+      }
+      if (orient == Orientation.CLOCKWISE) return -1;
+      if (orient == Orientation.COUNTERCLOCKWISE) return 1;
+      return Integer.compare(later.upper, earlier.upper);
+    }
+  }
+
+  /**
+   * An interior span of the sweep line between a left and a right boundary edge.
+   * Below a merge vertex the span contains two monotone pieces,
+   * until the next vertex in the span connects to the merge vertex.
+   */
+  private static class Span {
+    Piece left;
+    Piece right;
+    Edge leftEdge;
+    Edge rightEdge;
+
+    Span(Piece left, Piece right) {
+      this.left = left;
+      this.right = right;
+    }
+
+    boolean isMerged() {
+      return left != right;
+    }
+
+    void setLeftEdge(Edge e) {
+      leftEdge = e;
+      e.span = this;
+    }
+
+    void setRightEdge(Edge e) {
+      rightEdge = e;
+      e.span = this;
+    }
+  }
+
+  /**
+   * A monotone polygon which is triangulated incrementally
+   * as its vertices are added in sweep order.
+   * The stack holds the untriangulated reflex chain.
+   */
+  private class Piece {
+    private int[] stack = new int[4];
+    private int size = 0;
+    private int lastSide = SIDE_NONE;
+
+    Piece(int top) {
+      push(top);
+    }
+
+    int last() {
+      return stack[size - 1];
+    }
+
+    int lastSide() {
+      return lastSide;
+    }
+
+    /**
+     * Adds the next vertex of a chain of the piece,
+     * and adds the triangles which it completes.
+     *
+     * @param v the vertex index
+     * @param side the chain containing the vertex
+     */
+    void add(int v, int side) {
+      if (size == 1) {
+        push(v);
+      }
+      else if (side != lastSide) {
+        //-- vertex is on opposite chain, so can see all stack vertices
+        for (int i = 0; i < size - 1; i++) {
+          addTriangle(v, stack[i], stack[i + 1]);
+        }
+        int top = last();
+        size = 0;
+        push(top);
+        push(v);
+      }
+      else {
+        int prev = stack[--size];
+        while (size > 0) {
+          int top = last();
+          if (! isInterior(top, prev, v, side))
+            break;
+          addTriangle(v, prev, top);
+          prev = top;
+          size--;
+        }
+        push(prev);
+        push(v);
+      }
+      lastSide = side;
+    }
+
+    /**
+     * Adds the bottom vertex of the piece
+     * and triangulates the remaining part.
+     *
+     * @param v the bottom vertex index
+     */
+    void close(int v) {
+      for (int i = 0; i < size - 1; i++) {
+        addTriangle(v, stack[i], stack[i + 1]);
+      }
+      size = 0;
+    }
+
+    /**
+     * Tests if the diagonal from a vertex to a previous chain vertex
+     * lies in the interior of the piece.
+     * The interior is to the right of the left chain,
+     * and to the left of the right chain.
+     */
+    private boolean isInterior(int top, int prev, int v, int side) {
+      int orient = Orientation.index(vertex[top], vertex[prev], vertex[v]);
+      if (side == SIDE_LEFT)
+        return orient == Orientation.COUNTERCLOCKWISE;
+      return orient == Orientation.CLOCKWISE;
+    }
+
+    private void push(int v) {
+      if (size == stack.length) {
+        stack = Arrays.copyOf(stack, 2 * size);
+      }
+      stack[size++] = v;
+    }
+  }
+}
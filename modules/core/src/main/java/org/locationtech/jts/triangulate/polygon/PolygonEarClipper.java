@@ -12,6 +12,7 @@
 package org.locationtech.jts.triangulate.polygon;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.locationtech.jts.algorithm.Angle;
@@ -25,6 +26,7 @@ import org.locationtech.jts.geom.Triangle;
 import org.locationtech.jts.index.VertexSequencePackedRtree;
 import org.locationtech.jts.io.WKTWriter;
 import org.locationtech.jts.triangulate.tri.Tri;
+import org.locationtech.jts.triangulate.tri.TriMesh;
 
 /**
  * Triangulates a polygon using the Ear-Clipping technique.
@@ -61,6 +63,20 @@ class PolygonEarClipper {
     return clipper.compute();
   }
   
+  /**
+   * Triangulates a polygon via ear-clipping,
+   * adding the triangles to a {@link TriMesh}.
+   * The triangles refer to the mesh vertices by index,
+   * so no {@link Tri}s are created.
+   * 
+   * @param polyShell the vertices of the polygon
+   * @param mesh the mesh to add the triangles to
+   */
+  public static void triangulate(Coordinate[] polyShell, TriMesh mesh) {
+    PolygonEarClipper clipper = new PolygonEarClipper(polyShell);
+    clipper.compute(mesh);
+  }
+  
   private boolean isFlatCornersSkipped = false;
 
   /**
@@ -132,7 +148,74 @@ class PolygonEarClipper {
   }
   
   public List<Tri> compute() {
-    List<Tri> triList = new ArrayList<Tri>();
+    int[] ears = computeEars();
+    int numEars = ears.length / 3;
+    List<Tri> triList = new ArrayList<Tri>(numEars);
+    for (int i = 0; i < numEars; i++) {
+      triList.add(Tri.create(vertex[ears[3 * i]], vertex[ears[3 * i + 1]], vertex[ears[3 * i + 2]]));
+    }
+    return triList;
+  }
+  
+  /**
+   * Computes the triangulation and adds it to a {@link TriMesh}.
+   * Each distinct polygon vertex is added to the mesh once.
+   * 
+   * @param mesh the mesh to add the triangles to
+   */
+  public void compute(TriMesh mesh) {
+    int[] ears = computeEars();
+    int[] meshVertex = addMeshVertices(mesh);
+    for (int i = 0; i < ears.length; i += 3) {
+      mesh.addTriangle(meshVertex[ears[i]], meshVertex[ears[i + 1]], meshVertex[ears[i + 2]]);
+    }
+  }
+
+  /**
+   * Adds the polygon vertices to a mesh.
+   * Vertices which occur more than once 
+   * (due to hole joining or self-touching)
+   * are represented by the mesh vertex for their first position,
+   * so that the triangles on either side of them are adjacent in the mesh.
+   * 
+   * @param mesh the mesh to add the vertices to
+   * @return the mesh vertex index for each polygon vertex position
+   */
+  private int[] addMeshVertices(TriMesh mesh) {
+    int n = vertex.length - 1;
+    //-- a stable sort keeps equal vertices in position order
+    Integer[] order = new Integer[n];
+    for (int i = 0; i < n; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (i0, i1) -> vertex[i0].compareTo(vertex[i1]));
+    int[] firstPos = new int[n];
+    int groupFirst = 0;
+    for (int k = 0; k < n; k++) {
+      int i = order[k];
+      if (k == 0 || ! vertex[i].equals2D(vertex[order[k - 1]])) {
+        groupFirst = i;
+      }
+      firstPos[i] = groupFirst;
+    }
+    int[] meshVertex = new int[n];
+    for (int i = 0; i < n; i++) {
+      if (firstPos[i] == i)
+        meshVertex[i] = mesh.addVertex(vertex[i]);
+      else
+        meshVertex[i] = meshVertex[firstPos[i]];
+    }
+    return meshVertex;
+  }
+
+  /**
+   * Computes the ears of the triangulation.
+   * 
+   * @return the vertex positions of the ears, 3 per ear
+   */
+  private int[] computeEars() {
+    int[] ears = new int[3 * Math.max(1, vertexSize - 2)];
+    int numEars = 0;
 
     /**
      * Count scanned corners, to catch infinite loops
@@ -173,7 +256,13 @@ class PolygonEarClipper {
        * Convex corner - check if it is a valid ear
        */
       else if ( isValidEar(cornerIndex[1], corner) ) {
-        triList.add(Tri.create(corner));
+        if (3 * numEars == ears.length) {
+          ears = Arrays.copyOf(ears, 2 * ears.length);
+        }
+        ears[3 * numEars] = cornerIndex[0];
+        ears[3 * numEars + 1] = cornerIndex[1];
+        ears[3 * numEars + 2] = cornerIndex[2];
+        numEars++;
         removeCorner();
         cornerScanCount = 0;
       }
@@ -184,7 +273,7 @@ class PolygonEarClipper {
 
       //--- done when all corners are processed and removed
       if ( vertexSize < 3 ) {
-        return triList;
+        return Arrays.copyOf(ears, 3 * numEars);
       }
       
       /**
@@ -11,16 +11,14 @@
  */
 package org.locationtech.jts.triangulate.polygon;
 
-import java.util.List;
-
 import org.locationtech.jts.algorithm.Orientation;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
 import org.locationtech.jts.triangulate.tri.Tri;
-import org.locationtech.jts.triangulate.tri.TriangulationBuilder;
+import org.locationtech.jts.triangulate.tri.TriMesh;
 
 /**
- * Improves the quality of a triangulation of {@link Tri}s via
+ * Improves the quality of a triangulation in a {@link TriMesh} via
  * iterated Delaunay flipping.
  * This produces a Constrained Delaunay Triangulation
  * with the constraints being the boundary of the input triangulation.
@@ -30,28 +28,36 @@ import org.locationtech.jts.triangulate.tri.TriangulationBuilder;
 class TriDelaunayImprover {
   
   /**
-   * Improves the quality of a triangulation of {@link Tri}s via
+   * Improves the quality of a range of triangles in a mesh via
    * iterated Delaunay flipping.
-   * The Tris are assumed to be linked into a Triangulation
-   * (e.g. via {@link TriangulationBuilder}).
+   * The mesh adjacency must have been built
+   * (via {@link TriMesh#buildAdjacency()}),
+   * and the triangles in the range must not be adjacent 
+   * to triangles outside it.
    * 
-   * @param triList the list of Tris to flip.
+   * @param mesh the triangulation to flip
+   * @param triStart the index of the first triangle to flip
+   * @param triEnd the index after the last triangle to flip
    */
-  public static void improve(List<Tri> triList) {
-    TriDelaunayImprover improver = new TriDelaunayImprover(triList);
+  public static void improve(TriMesh mesh, int triStart, int triEnd) {
+    TriDelaunayImprover improver = new TriDelaunayImprover(mesh, triStart, triEnd);
     improver.improve();
   }
   
   private static int MAX_ITERATION = 200;
-  private List<Tri> triList;
+  private TriMesh mesh;
+  private int triStart;
+  private int triEnd;
 
-  private TriDelaunayImprover(List<Tri> triList) {
-    this.triList = triList;
+  private TriDelaunayImprover(TriMesh mesh, int triStart, int triEnd) {
+    this.mesh = mesh;
+    this.triStart = triStart;
+    this.triEnd = triEnd;
   }
 
   private void improve() {
     for (int i = 0; i < MAX_ITERATION; i++) {
-      int improveCount = improveScan(triList);
+      int improveCount = improveScan();
       //System.out.println("improve #" + i + " - count = " + improveCount);
       if ( improveCount == 0 ) {
         return;
@@ -67,15 +73,11 @@ class TriDelaunayImprover {
    * 
    * @return the number of flips that were made
    */
-  private int improveScan(List<Tri> triList) {
+  private int improveScan() {
     int improveCount = 0;
-    for (int i = 0; i < triList.size() - 1; i++) {
-      Tri tri = triList.get(i);
+    for (int tri = triStart; tri < triEnd - 1; tri++) {
       for (int j = 0; j < 3; j++) {
-        //Tri neighb = tri.getAdjacent(j);
-        //tri.validateAdjacent(j);
         if ( improveNonDelaunay(tri, j) ) {
-          // TODO: improve performance by only rescanning tris adjacent to flips?
           improveCount++;
         }
       }
@@ -84,30 +86,23 @@ class TriDelaunayImprover {
   }
 
   /**
-   * Does a flip of the common edge of two Tris if the Delaunay condition is not met.
+   * Does a flip of the common edge of two triangles if the Delaunay condition is not met.
    * 
-   * @param tri0 a Tri
-   * @param tri1 a Tri
+   * @param tri a triangle index
+   * @param index the index of the edge to check
    * @return true if the triangles were flipped
    */
-  private boolean improveNonDelaunay(Tri tri, int index) {
-    if ( tri == null ) {
-      return false;
-    }
-    Tri tri1 = tri.getAdjacent(index);
-    if ( tri1 == null ) {
+  private boolean improveNonDelaunay(int tri, int index) {
+    int tri1 = mesh.getAdjacent(tri, index);
+    if ( tri1 < 0 ) {
       return false;
     }
-    //tri0.validate();
-    //tri1.validate();
-
-    
-    int index1 = tri1.getIndex(tri);
+    int index1 = mesh.getAdjacentEdgeIndex(tri, index);
 
-    Coordinate adj0 = tri.getCoordinate(index);
-    Coordinate adj1 = tri.getCoordinate(Tri.next(index));
-    Coordinate opp0 = tri.getCoordinate(Tri.oppVertex(index));
-    Coordinate opp1 = tri1.getCoordinate(Tri.oppVertex(index1));
+    Coordinate adj0 = mesh.getCoordinate(tri, index);
+    Coordinate adj1 = mesh.getCoordinate(tri, Tri.next(index));
+    Coordinate opp0 = mesh.getCoordinate(tri, Tri.oppVertex(index));
+    Coordinate opp1 = mesh.getCoordinate(tri1, Tri.oppVertex(index1));
     
     /**
      * The candidate new edge is opp0 - opp1. 
@@ -125,7 +120,7 @@ class TriDelaunayImprover {
      * other triangle).
      */
     if ( ! isDelaunay(adj0, adj1, opp0, opp1) ) {
-      tri.flip(index);
+      mesh.flip(tri, index);
       return true;
     }
     return false;
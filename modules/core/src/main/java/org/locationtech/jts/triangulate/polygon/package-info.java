@@ -15,5 +15,6 @@
  * {@link ConstrainedDelaunayTriangulator} can be used to provide high-quality
  * near-Delaunay triangulations of polygonal geometry.
  * The {@link PolygonTriangulator} produces lower-quality but faster triangulations. 
+ * The {@link MonotonePolygonTriangulator} is faster still for large polygons and polygons with many holes.
  */
 package org.locationtech.jts.triangulate.polygon;
\ No newline at end of file
@@ -934,13 +934,7 @@ public class QuadEdgeSubdivision {
 	 */
   public List getVoronoiCellPolygons(GeometryFactory geomFact)
   {
-  	/*
-  	 * Compute circumcentres of triangles as vertices for dual edges.
-  	 * Precomputing the circumcentres is more efficient, 
-  	 * and more importantly ensures that the computed centres
-  	 * are consistent across the Voronoi cells.
-  	 */ 
-  	visitTriangles(new TriangleCircumcentreVisitor(), true);
+  	computeVoronoiVertices();
   	
     List cells = new ArrayList();
     Collection edges = getVertexUniqueEdges(false);
@@ -951,6 +945,21 @@ public class QuadEdgeSubdivision {
     return cells;
   }
   
+  /**
+   * Computes the circumcentres of the triangles
+   * as the vertices of the Voronoi cells.
+   * This must be called before using {@link #getVoronoiCellPolygon(QuadEdge, GeometryFactory)}
+   * to build cells individually.
+   * <p>
+   * Precomputing the circumcentres is more efficient, 
+   * and more importantly ensures that the computed centres
+   * are consistent across the Voronoi cells.
+   */
+  public void computeVoronoiVertices()
+  {
+    visitTriangles(new TriangleCircumcentreVisitor(), true);
+  }
+  
   /**
    * Gets the Voronoi cell around a site specified
    * by the origin of a QuadEdge.
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.tri;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * A compact index-based representation of a triangulation.
+ * Triangles are stored as vertex indices into a shared vertex buffer,
+ * with adjacency recorded as indices of the opposite triangle edges.
+ * This uses much less memory than a set of linked {@link Tri}s,
+ * and has better locality of reference.
+ * <p>
+ * The triangle vertices are oriented clockwise, as for {@link Tri}s.
+ * Edge <tt>i</tt> of a triangle runs from vertex <tt>i</tt> to vertex <tt>i+1</tt>.
+ * Tris can be created from the mesh on demand.
+ * <p>
+ * The adjacency is computed by {@link #buildAdjacency()}
+ * after all triangles have been added.
+ * Triangles are adjacent if they share an edge between the same vertex indices.
+ *
+ * @author Martin Davis
+ *
+ */
+public class TriMesh {
+
+  private static final int NO_EDGE = -1;
+
+  private Coordinate[] vertex = new Coordinate[16];
+  private int numVertex = 0;
+  /**
+   * The vertex indices of the triangles, 3 per triangle
+   */
+  private int[] triVertex = new int[48];
+  /**
+   * The index of the adjacent edge (3 * tri + edgeIndex) for each triangle edge,
+   * or -1 if the edge is on the boundary
+   */
+  private int[] triAdjacent;
+  private int numTri = 0;
+
+  /**
+   * Creates an empty mesh.
+   */
+  public TriMesh() {
+  }
+
+  /**
+   * Adds a vertex to the mesh.
+   *
+   * @param p the vertex coordinate
+   * @return the index of the vertex
+   */
+  public int addVertex(Coordinate p) {
+    if (numVertex == vertex.length) {
+      vertex = Arrays.copyOf(vertex, 2 * numVertex);
+    }
+    vertex[numVertex] = p;
+    return numVertex++;
+  }
+
+  /**
+   * Adds a set of vertices to the mesh.
+   * The vertices are assigned consecutive indices.
+   *
+   * @param pts the vertex coordinates
+   * @return the index of the first vertex added
+   */
+  public int addVertices(Coordinate[] pts) {
+    int start = numVertex;
+    if (numVertex + pts.length > vertex.length) {
+      vertex = Arrays.copyOf(vertex, Math.max(2 * vertex.length, numVertex + pts.length));
+    }
+    System.arraycopy(pts, 0, vertex, numVertex, pts.length);
+    numVertex += pts.length;
+    return start;
+  }
+
+  /**
+   * Adds a triangle to the mesh.
+   * The vertices should be oriented clockwise.
+   *
+   * @param v0 the index of the first vertex
+   * @param v1 the index of the second vertex
+   * @param v2 the index of the third vertex
+   * @return the index of the triangle
+   */
+  public int addTriangle(int v0, int v1, int v2) {
+    if (3 * numTri == triVertex.length) {
+      triVertex = Arrays.copyOf(triVertex, 2 * triVertex.length);
+    }
+    int i = 3 * numTri;
+    triVertex[i] = v0;
+    triVertex[i + 1] = v1;
+    triVertex[i + 2] = v2;
+    triAdjacent = null;
+    return numTri++;
+  }
+
+  /**
+   * Adds a list of {@link Tri}s to the mesh.
+   * Tri vertices with equal coordinates are
+   * represented by a single mesh vertex.
+   *
+   * @param triList the Tris to add
+   */
+  public void addTriangles(List<? extends Tri> triList) {
+    Map<Coordinate, Integer> vertexIndex = new HashMap<Coordinate, Integer>();
+    for (Tri tri : triList) {
+      int v0 = vertexIndex(tri.getCoordinate(0), vertexIndex);
+      int v1 = vertexIndex(tri.getCoordinate(1), vertexIndex);
+      int v2 = vertexIndex(tri.getCoordinate(2), vertexIndex);
+      addTriangle(v0, v1, v2);
+    }
+  }
+
+  private int vertexIndex(Coordinate p, Map<Coordinate, Integer> vertexIndex) {
+    Integer index = vertexIndex.get(p);
+    if (index != null)
+      return index;
+    int v = addVertex(p);
+    vertexIndex.put(p, v);
+    return v;
+  }
+
+  /**
+   * Gets the number of vertices in the mesh.
+   *
+   * @return the number of vertices
+   */
+  public int getNumVertices() {
+    return numVertex;
+  }
+
+  /**
+   * Gets the coordinate of a vertex.
+   *
+   * @param v the vertex index
+   * @return the vertex coordinate
+   */
+  public Coordinate getVertexCoordinate(int v) {
+    return vertex[v];
+  }
+
+  /**
+   * Gets the number of triangles in the mesh.
+   *
+   * @return the number of triangles
+   */
+  public int getNumTriangles() {
+    return numTri;
+  }
+
+  /**
+   * Gets the index of a vertex of a triangle.
+   *
+   * @param tri the triangle index
+   * @param index the vertex index in the triangle (0, 1 or 2)
+   * @return the index of the vertex
+   */
+  public int getVertex(int tri, int index) {
+    return triVertex[3 * tri + index];
+  }
+
+  /**
+   * Gets the coordinate of a vertex of a triangle.
+   *
+   * @param tri the triangle index
+   * @param index the vertex index in the triangle (0, 1 or 2)
+   * @return the vertex coordinate
+   */
+  public Coordinate getCoordinate(int tri, int index) {
+    return vertex[triVertex[3 * tri + index]];
+  }
+
+  /**
+   * Gets the triangle adjacent to an edge of a triangle.
+   *
+   * @param tri the triangle index
+   * @param index the edge index in the triangle (0, 1 or 2)
+   * @return the index of the adjacent triangle, or -1 if the edge is on the boundary
+   */
+  public int getAdjacent(int tri, int index) {
+    int adj = triAdjacent[3 * tri + index];
+    if (adj == NO_EDGE) return NO_EDGE;
+    return adj / 3;
+  }
+
+  /**
+   * Gets the index of the shared edge in the triangle adjacent to an edge.
+   *
+   * @param tri the triangle index
+   * @param index the edge index in the triangle (0, 1 or 2)
+   * @return the index of the edge in the adjacent triangle, or -1 if the edge is on the boundary
+   */
+  public int getAdjacentEdgeIndex(int tri, int index) {
+    int adj = triAdjacent[3 * tri + index];
+    if (adj == NO_EDGE) return NO_EDGE;
+    return adj % 3;
+  }
+
+  /**
+   * Computes the adjacency of the triangles.
+   * This must be called after all triangles have been added.
+   */
+  public void buildAdjacency() {
+    int numEdge = 3 * numTri;
+    //-- index the edges by origin vertex
+    int[] vertexStart = new int[numVertex + 1];
+    for (int e = 0; e < numEdge; e++) {
+      vertexStart[triVertex[e] + 1]++;
+    }
+    for (int v = 0; v < numVertex; v++) {
+      vertexStart[v + 1] += vertexStart[v];
+    }
+    int[] vertexEdge = new int[numEdge];
+    int[] fill = Arrays.copyOf(vertexStart, numVertex);
+    for (int e = 0; e < numEdge; e++) {
+      vertexEdge[fill[triVertex[e]]++] = e;
+    }
+
+    triAdjacent = new int[numEdge];
+    Arrays.fill(triAdjacent, NO_EDGE);
+    for (int e = 0; e < numEdge; e++) {
+      if (triAdjacent[e] != NO_EDGE) continue;
+      int orig = triVertex[e];
+      int dest = triVertex[nextEdge(e)];
+      //-- find the opposite edge from dest to orig
+      for (int i = vertexStart[dest]; i < vertexStart[dest + 1]; i++) {
+        int opp = vertexEdge[i];
+        if (triVertex[nextEdge(opp)] == orig) {
+          triAdjacent[e] = opp;
+          triAdjacent[opp] = e;
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Interchanges the vertices of a triangle and a neighbour
+   * so that their common edge
+   * becomes the other diagonal of the quadrilateral they form.
+   * The vertices and adjacency are updated in the same way as {@link Tri#flip(int)}.
+   *
+   * @param tri the triangle index
+   * @param index the index of the edge to flip
+   */
+  public void flip(int tri, int index) {
+    int e = 3 * tri + index;
+    int eAdj = triAdjacent[e];
+    int tri1 = eAdj / 3;
+    int index1 = eAdj % 3;
+    int base0 = 3 * tri;
+    int base1 = 3 * tri1;
+
+    int adj0 = triVertex[e];
+    int adj1 = triVertex[base0 + Tri.next(index)];
+    int opp0 = triVertex[base0 + Tri.oppVertex(index)];
+    int opp1 = triVertex[base1 + Tri.oppVertex(index1)];
+
+    //-- the outer edges of the quadrilateral
+    int edgeAdj1Opp0 = triAdjacent[base0 + Tri.next(index)];
+    int edgeOpp0Adj0 = triAdjacent[base0 + Tri.prev(index)];
+    int edgeAdj0Opp1 = triAdjacent[base1 + Tri.next(index1)];
+    int edgeOpp1Adj1 = triAdjacent[base1 + Tri.prev(index1)];
+
+    //-- tri becomes opp1-opp0-adj0 and tri1 becomes opp0-opp1-adj1
+    triVertex[base0] = opp1;
+    triVertex[base0 + 1] = opp0;
+    triVertex[base0 + 2] = adj0;
+    triVertex[base1] = opp0;
+    triVertex[base1 + 1] = opp1;
+    triVertex[base1 + 2] = adj1;
+
+    setAdjacent(base0, base1);
+    setAdjacent(base0 + 1, edgeOpp0Adj0);
+    setAdjacent(base0 + 2, edgeAdj0Opp1);
+    setAdjacent(base1 + 1, edgeOpp1Adj1);
+    setAdjacent(base1 + 2, edgeAdj1Opp0);
+  }
+
+  private void setAdjacent(int e, int eAdj) {
+    triAdjacent[e] = eAdj;
+    if (eAdj != NO_EDGE) {
+      triAdjacent[eAdj] = e;
+    }
+  }
+
+  private static int nextEdge(int e) {
+    return e % 3 == 2 ? e - 2 : e + 1;
+  }
+
+  /**
+   * Creates a {@link Tri} for a triangle in the mesh.
+   * The Tri is not linked to adjacent Tris.
+   *
+   * @param tri the triangle index
+   * @return a new Tri
+   */
+  public Tri getTri(int tri) {
+    return Tri.create(getCoordinate(tri, 0), getCoordinate(tri, 1), getCoordinate(tri, 2));
+  }
+
+  /**
+   * Creates a list of {@link Tri}s for the triangles in the mesh.
+   * If the adjacency has been built
+   * the Tris are linked to their adjacent Tris.
+   *
+   * @return a list of Tris
+   */
+  public List<Tri> toTris() {
+    List<Tri> triList = new ArrayList<Tri>(numTri);
+    for (int t = 0; t < numTri; t++) {
+      triList.add(getTri(t));
+    }
+    if (triAdjacent != null) {
+      for (int t = 0; t < numTri; t++) {
+        triList.get(t).setAdjacent(adjacentTri(triList, t, 0),
+            adjacentTri(triList, t, 1), adjacentTri(triList, t, 2));
+      }
+    }
+    return triList;
+  }
+
+  private Tri adjacentTri(List<Tri> triList, int tri, int index) {
+    int adj = getAdjacent(tri, index);
+    if (adj == NO_EDGE) return null;
+    return triList.get(adj);
+  }
+
+  /**
+   * Creates a {@link GeometryCollection} of {@link Polygon}s
+   * representing the triangles in the mesh.
+   *
+   * @param geomFact the GeometryFactory to use
+   * @return the polygons for the triangles
+   */
+  public Geometry toGeometry(GeometryFactory geomFact) {
+    Geometry[] geoms = new Geometry[numTri];
+    for (int t = 0; t < numTri; t++) {
+      Coordinate p0 = getCoordinate(t, 0);
+      Coordinate p1 = getCoordinate(t, 1);
+      Coordinate p2 = getCoordinate(t, 2);
+      geoms[t] = geomFact.createPolygon(
+          geomFact.createLinearRing(new Coordinate[] { p0.copy(), p1.copy(), p2.copy(), p0.copy() }), null);
+    }
+    return geomFact.createGeometryCollection(geoms);
+  }
+}
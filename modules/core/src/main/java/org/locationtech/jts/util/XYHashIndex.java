@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.util;
+
+import java.util.Arrays;
+
+/**
+ * Assigns sequential integer ids to distinct 2D locations.
+ * Locations are stored in a primitive array
+ * and found via an open-addressing hash table
+ * keyed on the bits of the X and Y ordinates.
+ * This uses much less memory than a map keyed by
+ * {@link org.locationtech.jts.geom.Coordinate}s,
+ * and allocates no objects per location.
+ * <p>
+ * Locations are equal if their ordinates are equal
+ * (so negative zero is the same as zero).
+ * <p>
+ * This class is not thread-safe for adding locations,
+ * but can be queried concurrently once all locations are added.
+ *
+ * @author Martin Davis
+ *
+ */
+public class XYHashIndex
+{
+  /**
+   * Indicates that a location is not in the index.
+   */
+  public static final int NONE = -1;
+
+  private static final int INIT_CAPACITY = 16;
+
+  private double[] xy;
+  private int size = 0;
+  private int[] table;
+
+  /**
+   * Creates a new empty index.
+   */
+  public XYHashIndex() {
+    this(INIT_CAPACITY);
+  }
+
+  /**
+   * Creates a new empty index,
+   * with space allocated for a given number of locations.
+   *
+   * @param capacity the expected number of locations
+   */
+  public XYHashIndex(int capacity) {
+    int cap = Math.max(capacity, INIT_CAPACITY);
+    xy = new double[2 * cap];
+    int tableSize = INIT_CAPACITY;
+    while (tableSize < 2 * cap) {
+      tableSize *= 2;
+    }
+    table = new int[tableSize];
+  }
+
+  /**
+   * Gets the number of locations in the index.
+   * Ids range from 0 to this value (exclusive).
+   *
+   * @return the number of locations
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the X ordinate of a location.
+   *
+   * @param id a location id
+   * @return the X ordinate
+   */
+  public double getX(int id) {
+    return xy[2 * id];
+  }
+
+  /**
+   * Gets the Y ordinate of a location.
+   *
+   * @param id a location id
+   * @return the Y ordinate
+   */
+  public double getY(int id) {
+    return xy[2 * id + 1];
+  }
+
+  /**
+   * Finds the id of a location, if present.
+   *
+   * @param x the X ordinate of the location
+   * @param y the Y ordinate of the location
+   * @return the id of the location, or {@link #NONE} if it is not present
+   */
+  public int find(double x, double y) {
+    int mask = table.length - 1;
+    int slot = hash(x, y) & mask;
+    while (true) {
+      int id = table[slot] - 1;
+      if (id < 0) return NONE;
+      if (xy[2 * id] == x && xy[2 * id + 1] == y)
+        return id;
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  /**
+   * Adds a location to the index, if not already present.
+   *
+   * @param x the X ordinate of the location
+   * @param y the Y ordinate of the location
+   * @return the id of the location
+   */
+  public int add(double x, double y) {
+    int mask = table.length - 1;
+    int slot = hash(x, y) & mask;
+    while (true) {
+      int id = table[slot] - 1;
+      if (id < 0) break;
+      if (xy[2 * id] == x && xy[2 * id + 1] == y)
+        return id;
+      slot = (slot + 1) & mask;
+    }
+    if (2 * size == xy.length) {
+      xy = Arrays.copyOf(xy, 2 * xy.length);
+    }
+    int id = size++;
+    xy[2 * id] = x;
+    xy[2 * id + 1] = y;
+    table[slot] = id + 1;
+    if (2 * size > table.length) {
+      rehash();
+    }
+    return id;
+  }
+
+  private void rehash() {
+    table = new int[2 * table.length];
+    int mask = table.length - 1;
+    for (int id = 0; id < size; id++) {
+      int slot = hash(xy[2 * id], xy[2 * id + 1]) & mask;
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = id + 1;
+    }
+  }
+
+  /**
+   * Computes a hash code for a location.
+   * Negative zero is hashed the same as zero,
+   * since they are equal as ordinate values.
+   */
+  private static int hash(double x, double y) {
+    long bits = 31 * Double.doubleToLongBits(x + 0.0) + Double.doubleToLongBits(y + 0.0);
+    int h = (int) (bits ^ (bits >>> 32));
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+
+/**
+ * A map from 2D locations to values,
+ * using an {@link XYHashIndex} to locate entries.
+ * Lookups take constant time and do not allocate objects,
+ * unlike a <code>TreeMap</code> keyed by {@link Coordinate}s.
+ * <p>
+ * Keys are compared using only their X and Y ordinates,
+ * in the same way as {@link Coordinate#compareTo(Object)}.
+ * The values can be retrieved in insertion order,
+ * or in the order of their keys (as a <code>TreeMap</code> would provide).
+ * The ordered view is computed when required and cached
+ * until the map is next modified.
+ *
+ * @author Martin Davis
+ *
+ * @param <V> the type of the values
+ */
+public class XYHashMap<V>
+{
+  private XYHashIndex index = new XYHashIndex();
+  private Object[] values = new Object[16];
+  private int size = 0;
+  private List<V> orderedValues = null;
+
+  /**
+   * Creates a new empty map.
+   */
+  public XYHashMap() {
+  }
+
+  /**
+   * Gets the number of entries in the map.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the value for a location.
+   *
+   * @param x the X ordinate of the location
+   * @param y the Y ordinate of the location
+   * @return the value at the location, or null if none
+   */
+  @SuppressWarnings("unchecked")
+  public V get(double x, double y) {
+    int id = index.find(x, y);
+    if (id < 0) return null;
+    return (V) values[id];
+  }
+
+  /**
+   * Gets the value for a location.
+   *
+   * @param p the location
+   * @return the value at the location, or null if none
+   */
+  public V get(Coordinate p) {
+    return get(p.getX(), p.getY());
+  }
+
+  /**
+   * Sets the value for a location,
+   * replacing any existing value.
+   *
+   * @param p the location
+   * @param value the value to set (must be non-null)
+   * @return the previous value at the location, or null if none
+   */
+  @SuppressWarnings("unchecked")
+  public V put(Coordinate p, V value) {
+    int id = index.add(p.getX(), p.getY());
+    if (id == values.length) {
+      values = Arrays.copyOf(values, 2 * values.length);
+    }
+    V prev = (V) values[id];
+    values[id] = value;
+    if (prev == null) size++;
+    orderedValues = null;
+    return prev;
+  }
+
+  /**
+   * Removes the value for a location.
+   *
+   * @param p the location
+   * @return the removed value, or null if none
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(Coordinate p) {
+    int id = index.find(p.getX(), p.getY());
+    if (id < 0) return null;
+    V prev = (V) values[id];
+    if (prev != null) {
+      //-- the location remains in the index, to be reused if a value is added again
+      values[id] = null;
+      size--;
+      orderedValues = null;
+    }
+    return prev;
+  }
+
+  /**
+   * Gets the values in the map, in insertion order
+   * (of the first insertion of their location).
+   *
+   * @return an unmodifiable list of the values
+   */
+  public List<V> values() {
+    return Collections.unmodifiableList(new ValueList(liveIds()));
+  }
+
+  /**
+   * Gets the values in the map, ordered by their location
+   * (in the order of {@link Coordinate#compareTo(Object)}).
+   *
+   * @return an unmodifiable list of the values
+   */
+  public List<V> orderedValues() {
+    if (orderedValues == null) {
+      Integer[] ids = new Integer[size];
+      int[] live = liveIds();
+      for (int i = 0; i < size; i++) {
+        ids[i] = live[i];
+      }
+      Arrays.sort(ids, (id1, id2) -> compare(id1, id2));
+      int[] sortedIds = new int[size];
+      for (int i = 0; i < size; i++) {
+        sortedIds[i] = ids[i];
+      }
+      orderedValues = Collections.unmodifiableList(new ValueList(sortedIds));
+    }
+    return orderedValues;
+  }
+
+  private int[] liveIds() {
+    int[] ids = new int[size];
+    int n = 0;
+    for (int id = 0; id < index.size(); id++) {
+      if (values[id] != null)
+        ids[n++] = id;
+    }
+    return ids;
+  }
+
+  private int compare(int id1, int id2) {
+    double x1 = index.getX(id1);
+    double x2 = index.getX(id2);
+    if (x1 < x2) return -1;
+    if (x1 > x2) return 1;
+    double y1 = index.getY(id1);
+    double y2 = index.getY(id2);
+    if (y1 < y2) return -1;
+    if (y1 > y2) return 1;
+    return 0;
+  }
+
+  /**
+   * A list of the values for a fixed set of ids.
+   */
+  private class ValueList extends AbstractList<V> {
+    private Object[] list;
+
+    ValueList(int[] ids) {
+      list = new Object[ids.length];
+      for (int i = 0; i < ids.length; i++) {
+        list[i] = values[ids[i]];
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(int i) {
+      return (V) list[i];
+    }
+
+    @Override
+    public int size() {
+      return list.length;
+    }
+  }
+}
@@ -39,6 +39,32 @@ public class DistanceTest extends GeometryTestCase {
         new Coordinate(2, 0), new Coordinate(0,0), new Coordinate(1,0)), 0.000001);
   }
 
+  public void testDistancePointLineOrdinates() {
+    assertEquals(0.5, Distance.pointToSegment(0.5, 0.5, 0, 0, 1, 0), 0.000001);
+    assertEquals(1.0, Distance.pointToSegment(2, 0, 0, 0, 1, 0), 0.000001);
+    assertEquals(Math.sqrt(2), Distance.pointToSegment(-1, -1, 0, 0, 1, 0), 0.000001);
+    // zero-length segment
+    assertEquals(5.0, Distance.pointToSegment(3, 4, 0, 0, 0, 0), 0.000001);
+  }
+
+  public void testDistancePointSegmentStringPacked() {
+    double[] coords = new double[] { 
+        0, 0, 99,
+        10, 0, 99,
+        10, 10, 99,
+        20, 10, 99 };
+    assertEquals(2.0, Distance.pointToSegmentString(12, 5, coords, 3, 0, 4), 0.000001);
+    assertEquals(5.0, Distance.pointToSegmentString(12, 5, coords, 3, 2, 4), 0.000001);
+    // single vertex
+    assertEquals(5.0, Distance.pointToSegmentString(13, 14, coords, 3, 2, 3), 0.000001);
+    
+    Coordinate[] line = new Coordinate[] { 
+        new Coordinate(0, 0), new Coordinate(10, 0), new Coordinate(10, 10), new Coordinate(20, 10) };
+    Coordinate p = new Coordinate(3.7, -2.1);
+    assertEquals(Distance.pointToSegmentString(p, line), 
+        Distance.pointToSegmentString(p.x, p.y, coords, 3, 0, 4), 1e-12);
+  }
+
   public void testDistanceLineLineDisjointCollinear() {
     assertEquals(1.999699, Distance.segmentToSegment(
         new Coordinate(0,0), new Coordinate(9.9, 1.4), 
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class IncrementalConvexHullTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(IncrementalConvexHullTest.class);
+  }
+
+  public IncrementalConvexHullTest(String name) { super(name); }
+
+  public void testEmpty() {
+    IncrementalConvexHull hull = new IncrementalConvexHull(getGeometryFactory());
+    assertTrue(hull.getHull().isEmpty());
+    assertEquals(0, hull.getNumVertices());
+    assertFalse(hull.contains(0, 0));
+  }
+
+  public void testPoint() {
+    checkHull("MULTIPOINT ((1 1), (1 1))");
+  }
+
+  public void testCollinear() {
+    checkHull("MULTIPOINT ((2 2), (0 0), (3 3), (1 1), (4 4), (2 2))");
+  }
+
+  public void testCollinearThenPolygon() {
+    checkHull("MULTIPOINT ((0 0), (1 1), (2 2), (0 2))");
+  }
+
+  public void testSquareWithInterior() {
+    checkHull("MULTIPOINT ((5 5), (0 0), (10 0), (2 3), (10 10), (5 0), (0 10), (10 5))");
+  }
+
+  public void testInteriorPointsIgnored() {
+    IncrementalConvexHull hull = new IncrementalConvexHull(getGeometryFactory());
+    hull.add(0, 0);
+    hull.add(10, 0);
+    hull.add(10, 10);
+    hull.add(0, 10);
+    assertFalse(hull.add(5, 5));
+    assertFalse(hull.add(5, 0));
+    assertFalse(hull.add(10, 10));
+    assertTrue(hull.add(5, 11));
+    assertEquals(5, hull.getNumVertices());
+  }
+
+  public void testContains() {
+    IncrementalConvexHull hull = new IncrementalConvexHull(getGeometryFactory());
+    hull.add(new Coordinate(0, 0));
+    hull.add(new Coordinate(10, 0));
+    hull.add(new Coordinate(5, 10));
+    assertTrue(hull.contains(5, 5));
+    assertTrue(hull.contains(5, 0));
+    assertTrue(hull.contains(5, 10));
+    assertFalse(hull.contains(5, -1));
+    assertFalse(hull.contains(1, 9));
+    assertFalse(hull.contains(11, 0));
+  }
+
+  public void testHullCached() {
+    IncrementalConvexHull hull = new IncrementalConvexHull(getGeometryFactory());
+    hull.add(0, 0);
+    hull.add(10, 0);
+    hull.add(5, 10);
+    Geometry hull1 = hull.getHull();
+    hull.add(5, 5);
+    assertSame(hull1, hull.getHull());
+    hull.add(5, -5);
+    assertNotSame(hull1, hull.getHull());
+    checkEqual(read("POLYGON ((0 0, 5 10, 10 0, 5 -5, 0 0))"), hull.getHull());
+  }
+
+  public void testRandom() {
+    double[] xy = PackedConvexHullTest.randomPoints(10_000, 3);
+    IncrementalConvexHull hull = new IncrementalConvexHull(getGeometryFactory());
+    for (int i = 0; i < xy.length; i += 2) {
+      hull.add(xy[i], xy[i + 1]);
+    }
+    checkHull(xy, hull);
+  }
+
+  public void testAddArray() {
+    double[] xy = PackedConvexHullTest.randomPoints(10_000, 4);
+    IncrementalConvexHull hull = new IncrementalConvexHull(getGeometryFactory());
+    hull.add(xy);
+    checkHull(xy, hull);
+  }
+
+  private void checkHull(String wkt) {
+    Geometry geom = read(wkt);
+    IncrementalConvexHull hull = new IncrementalConvexHull(getGeometryFactory());
+    for (Coordinate p : geom.getCoordinates()) {
+      hull.add(p);
+    }
+    checkHull(PackedConvexHullTest.toOrdinates(geom.getCoordinates()), hull);
+  }
+
+  private void checkHull(double[] xy, IncrementalConvexHull hull) {
+    Geometry expected = new ConvexHull(PackedConvexHullTest.toCoordinates(xy), getGeometryFactory()).getConvexHull();
+    checkEqual(expected, hull.getHull());
+    assertTrue(Arrays.equals(PackedConvexHull.computeHull(xy), hull.getVertices()));
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.algorithm;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class PackedConvexHullTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PackedConvexHullTest.class);
+  }
+
+  public PackedConvexHullTest(String name) { super(name); }
+
+  public void testEmpty() {
+    checkHull("MULTIPOINT EMPTY");
+  }
+
+  public void testPoint() {
+    checkHull("MULTIPOINT ((1 1))");
+  }
+
+  public void testIdenticalPoints() {
+    checkHull("MULTIPOINT ((1 1), (1 1), (1 1))");
+  }
+
+  public void testTwoPoints() {
+    checkHull("MULTIPOINT ((1 1), (2 2), (1 1))");
+  }
+
+  public void testCollinear() {
+    checkHull("MULTIPOINT ((0 0), (3 3), (1 1), (2 2), (4 4), (2 2))");
+  }
+
+  public void testCollinearVertical() {
+    checkHull("MULTIPOINT ((5 0), (5 3), (5 1), (5 2))");
+  }
+
+  public void testTriangle() {
+    checkHull("MULTIPOINT ((0 0), (10 0), (5 10))");
+  }
+
+  public void testSquareWithInterior() {
+    checkHull("MULTIPOINT ((0 0), (10 0), (10 10), (0 10), (5 5), (5 0), (10 5), (2 3))");
+  }
+
+  public void testOctagonCollinear() {
+    checkHull("MULTIPOINT ((0 1), (0 2), (1 3), (2 3), (3 2), (3 1), (2 0), (1 0), (0 1.5), (1.5 1.5), (2.5 0.5))");
+  }
+
+  public void testVertexOrder() {
+    double[] hull = PackedConvexHull.computeHull(new double[] { 0,0, 10,10, 10,0, 5,5, 0,10 });
+    assertTrue(Arrays.equals(new double[] { 0,0, 0,10, 10,10, 10,0 }, hull));
+  }
+
+  public void testGrid() {
+    double[] xy = new double[2 * 400];
+    int n = 0;
+    for (int i = 0; i < 20; i++) {
+      for (int j = 0; j < 20; j++) {
+        xy[n++] = i;
+        xy[n++] = j;
+      }
+    }
+    checkHull(xy, false);
+  }
+
+  public void testRandom() {
+    checkHull(randomPoints(10_000, 1), false);
+  }
+
+  public void testRandomParallel() {
+    checkHull(randomPoints(500_000, 2), true);
+  }
+
+  public void testOddLength() {
+    try {
+      PackedConvexHull.computeHull(new double[] { 1, 2, 3 });
+      fail("Expected IllegalArgumentException");
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  private void checkHull(String wkt) {
+    Geometry geom = read(wkt);
+    checkHull(toOrdinates(geom.getCoordinates()), false);
+  }
+
+  private void checkHull(double[] xy, boolean isParallel) {
+    Geometry expected = new ConvexHull(toCoordinates(xy), getGeometryFactory()).getConvexHull();
+    Geometry actual = PackedConvexHull.getConvexHull(xy, getGeometryFactory(), isParallel);
+    checkEqual(expected, actual);
+  }
+
+  static double[] toOrdinates(Coordinate[] pts) {
+    double[] xy = new double[2 * pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      xy[2 * i] = pts[i].x;
+      xy[2 * i + 1] = pts[i].y;
+    }
+    return xy;
+  }
+
+  static Coordinate[] toCoordinates(double[] xy) {
+    Coordinate[] pts = new Coordinate[xy.length / 2];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(xy[2 * i], xy[2 * i + 1]);
+    }
+    return pts;
+  }
+
+  static double[] randomPoints(int num, long seed) {
+    Random rnd = new Random(seed);
+    double[] xy = new double[2 * num];
+    for (int i = 0; i < xy.length; i++) {
+      xy[i] = 1000 * rnd.nextGaussian();
+    }
+    return xy;
+  }
+}
@@ -3,6 +3,7 @@ package org.locationtech.jts.algorithm.construct;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -124,6 +125,45 @@ public class LargestEmptyCircleTest extends GeometryTestCase {
         0.01, 5.5, 4.5, 2.12 );
   }
   
+  public void testBoundarySquareParallel() {
+    checkCircleParallel("MULTIPOINT ((2 2), (6 4), (8 8))", 
+        "POLYGON ((1 9, 9 9, 9 1, 1 1, 1 9))", 0.01);
+  }
+  
+  public void testPolygonLinesParallel() {
+    checkCircleParallel("GEOMETRYCOLLECTION (POLYGON ((1 9, 5 9, 5 7, 3 7, 3 5, 1 5, 1 9)), LINESTRING (2 4, 8 4), LINESTRING (7 1, 7 7))", 
+        null, 0.01);
+  }
+  
+  /**
+   * Tests a non-convex boundary where the initial cells are outside the boundary,
+   * so the obstacle indexes are first used by the parallel refinement.
+   */
+  public void testBoundaryCShapeParallel() {
+    for (int i = 0; i < 20; i++) {
+      checkCircleParallel("GEOMETRYCOLLECTION (POINT (1 1), POINT (9 1), POINT (1 9), POINT (9 9), POLYGON ((0.5 4, 1.5 4, 1.5 6, 0.5 6, 0.5 4)))", 
+          "POLYGON ((0 0, 10 0, 10 2, 2 2, 2 8, 10 8, 10 10, 0 10, 0 0))", 0.01);
+    }
+  }
+  
+  public void testBatch() {
+    Geometry[] obstacles = new Geometry[] {
+        read("MULTIPOINT ((100 100), (100 200), (200 200), (200 100))"),
+        read("MULTIPOINT ((2 2), (6 4), (8 8))"),
+        read("GEOMETRYCOLLECTION (LINESTRING EMPTY, POINT (4 3), POINT (7 6), POINT (4 6))")
+    };
+    Geometry[] boundaries = new Geometry[] {
+        null,
+        read("POLYGON ((1 9, 9 9, 9 1, 1 1, 1 9))"),
+        null
+    };
+    Point[] centers = LargestEmptyCircle.getCenters(obstacles, boundaries, 0.01, true);
+    for (int i = 0; i < obstacles.length; i++) {
+      Point expected = LargestEmptyCircle.getCenter(obstacles[i], boundaries[i], 0.01);
+      checkEqual(expected, centers[i]);
+    }
+  }
+  
   //========================================================
   
   /**
@@ -171,6 +211,17 @@ public class LargestEmptyCircleTest extends GeometryTestCase {
     checkEqualXY("Radius line endpoint point: ", radiusPt, radiusLine.getCoordinateN(1));
   }
   
+  private void checkCircleParallel(String wktObstacles, String wktBoundary, double tolerance) {
+    Geometry obstacles = read(wktObstacles);
+    Geometry boundary = wktBoundary == null ? null : read(wktBoundary);
+    LargestEmptyCircle lec = new LargestEmptyCircle(obstacles, boundary, tolerance); 
+    double radius = lec.getRadiusLine().getLength();
+    LargestEmptyCircle lecPar = new LargestEmptyCircle(obstacles, boundary, tolerance); 
+    lecPar.setParallel(true);
+    double radiusPar = lecPar.getRadiusLine().getLength();
+    assertEquals("Radius: ", radius, radiusPar, 2 * tolerance);
+  }
+  
   private void checkCircleZeroRadius(String wkt, double tolerance) {
     checkCircleZeroRadius(read(wkt), tolerance);
   }
@@ -3,6 +3,7 @@ package org.locationtech.jts.algorithm.construct;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -87,6 +88,37 @@ public class MaximumInscribedCircleTest extends GeometryTestCase {
        0.01 );
   }
   
+  public void testCircleIndexed() {
+    Geometry centre = read("POINT (100 100)");
+    //-- large enough to use indexed distance
+    Geometry circle = centre.buffer(100, 40);
+    checkCircle(circle, 0.01, 100, 100, 99.98);
+  }
+
+  public void testKiteWithHoleParallel() {
+    checkCircleParallel("POLYGON ((100 0, 200 200, 300 200, 300 100, 100 0), (200 150, 200 170, 220 170, 220 150, 200 150))", 
+        0.01);
+  }
+
+  public void testCircleParallel() {
+    Geometry circle = read("POINT (100 100)").buffer(100, 40);
+    checkCircleParallel(circle, 0.01);
+  }
+
+  public void testBatch() {
+    Geometry[] geoms = new Geometry[] {
+        read("POLYGON ((100 200, 200 200, 200 100, 100 100, 100 200))"),
+        read("POLYGON ((100 0, 200 200, 300 200, 300 100, 100 0))"),
+        read("MULTIPOLYGON (((150 200, 200 200, 200 150, 150 150, 150 200)), ((100 100, 200 100, 200 0, 100 0, 100 100)))"),
+        read("POINT (100 100)").buffer(100, 40)
+    };
+    Point[] centers = MaximumInscribedCircle.getCenters(geoms, 0.01, true);
+    for (int i = 0; i < geoms.length; i++) {
+      Point expected = MaximumInscribedCircle.getCenter(geoms[i], 0.01);
+      checkEqual(expected, centers[i]);
+    }
+  }
+  
   /**
    * A coarse distance check, mainly testing 
    * that there is not a huge number of iterations.
@@ -103,6 +135,21 @@ public class MaximumInscribedCircleTest extends GeometryTestCase {
     assertTrue(dist < 2 * tolerance);
   }
   
+  private void checkCircleParallel(String wkt, double tolerance) {
+    checkCircleParallel(read(wkt), tolerance);
+  }
+  
+  private void checkCircleParallel(Geometry geom, double tolerance) {
+    MaximumInscribedCircle mic = new MaximumInscribedCircle(geom, tolerance); 
+    double radius = mic.getRadiusLine().getLength();
+    MaximumInscribedCircle micPar = new MaximumInscribedCircle(geom, tolerance); 
+    micPar.setParallel(true);
+    double radiusPar = micPar.getRadiusLine().getLength();
+    assertEquals("Radius: ", radius, radiusPar, 2 * tolerance);
+    double dist = geom.getBoundary().distance(micPar.getCenter());
+    assertEquals(radiusPar, dist, 1e-10);
+  }
+  
   private void checkCircle(String wkt, double tolerance, 
       double x, double y, double expectedRadius) {
     checkCircle(read(wkt), tolerance, x, y, expectedRadius);
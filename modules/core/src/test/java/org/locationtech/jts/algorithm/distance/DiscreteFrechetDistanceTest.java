@@ -13,6 +13,7 @@
 package org.locationtech.jts.algorithm.distance;
 
 import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 
 import test.jts.GeometryTestCase;
@@ -73,6 +74,41 @@ public class DiscreteFrechetDistanceTest extends GeometryTestCase {
       "LINESTRING (0 0, 50 100, 100 0)", 141.4213562373095);
   }
   
+  public void testParallelLong() {
+    int n = 4500;
+    Coordinate[] pts0 = new Coordinate[n];
+    Coordinate[] pts1 = new Coordinate[n + 100];
+    for (int i = 0; i < pts0.length; i++) {
+      pts0[i] = new Coordinate(i, Math.sin(i / 10.0));
+    }
+    for (int i = 0; i < pts1.length; i++) {
+      pts1[i] = new Coordinate(i * n / (double) pts1.length, 0.5 + Math.cos(i / 7.0));
+    }
+    Geometry g1 = getGeometryFactory().createLineString(pts0);
+    Geometry g2 = getGeometryFactory().createLineString(pts1);
+    double distance = DiscreteFrechetDistance.distance(g1, g2, true);
+    assertEquals(couplingDistance(pts0, pts1), distance, 0.0);
+  }
+
+  /**
+   * A long line against a short one has no anti-diagonal large enough
+   * to compute in parallel, so the sequential algorithm is used.
+   */
+  public void testParallelLongAndShort() {
+    int n = 5000;
+    Coordinate[] pts0 = new Coordinate[n];
+    for (int i = 0; i < pts0.length; i++) {
+      pts0[i] = new Coordinate(i, Math.sin(i / 10.0));
+    }
+    Coordinate[] pts1 = new Coordinate[] {
+        new Coordinate(0, 2), new Coordinate(n / 2, -2), new Coordinate(n, 2) };
+    Geometry g1 = getGeometryFactory().createLineString(pts0);
+    Geometry g2 = getGeometryFactory().createLineString(pts1);
+    double distance = DiscreteFrechetDistance.distance(g1, g2, true);
+    assertEquals(DiscreteFrechetDistance.distance(g1, g2), distance, 0.0);
+    assertEquals(couplingDistance(pts0, pts1), distance, 0.0);
+  }
+
   private static final double TOLERANCE = 0.00001;
 
   private void runTest(String wkt1, String wkt2, double expectedDistance) {
@@ -82,5 +118,30 @@ public class DiscreteFrechetDistanceTest extends GeometryTestCase {
     DiscreteFrechetDistance.distance(g1, g2);
     double distance1 = DiscreteFrechetDistance.distance(g1, g2);
     assertEquals(expectedDistance, distance1, TOLERANCE);
+
+    double distanceParallel = DiscreteFrechetDistance.distance(g1, g2, true);
+    assertEquals(distance1, distanceParallel, 0.0);
+  }
+
+  /**
+   * Computes the discrete Fréchet distance using the
+   * standard dynamic programming recurrence, one row at a time.
+   */
+  private static double couplingDistance(Coordinate[] pts0, Coordinate[] pts1) {
+    double[] prev = new double[pts1.length];
+    double[] row = new double[pts1.length];
+    for (int i = 0; i < pts0.length; i++) {
+      for (int j = 0; j < pts1.length; j++) {
+        double dist = pts0[i].distance(pts1[j]);
+        if (i == 0 && j == 0) row[j] = dist;
+        else if (i == 0) row[j] = Math.max(dist, row[j - 1]);
+        else if (j == 0) row[j] = Math.max(dist, prev[j]);
+        else row[j] = Math.max(dist, Math.min(Math.min(prev[j], row[j - 1]), prev[j - 1]));
+      }
+      double[] tmp = prev;
+      prev = row;
+      row = tmp;
+    }
+    return prev[pts1.length - 1];
   }
 }
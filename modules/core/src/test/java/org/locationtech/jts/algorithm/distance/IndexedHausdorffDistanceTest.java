@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.algorithm.distance;
+
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class IndexedHausdorffDistanceTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(IndexedHausdorffDistanceTest.class);
+  }
+
+  public IndexedHausdorffDistanceTest(String name) { super(name); }
+
+  public void testLineSegments() {
+    checkDistance("LINESTRING (0 0, 2 1)", "LINESTRING (0 0, 2 0)", 1.0);
+  }
+
+  public void testLineSegments2() {
+    checkDistance("LINESTRING (0 0, 2 0)", "LINESTRING (0 1, 1 2, 2 1)", 2.0);
+  }
+
+  public void testLinePoints() {
+    checkDistance("LINESTRING (0 0, 2 0)", "MULTIPOINT (0 1, 1 0, 2 1)", 1.0);
+  }
+
+  public void testPolygons() {
+    checkDistance("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 8, 8 8, 8 2, 2 2))",
+        "POLYGON ((1 1, 12 1, 12 11, 1 11, 1 1))", 3.0);
+  }
+
+  public void testLinesShowingDiscretenessEffect() {
+    checkDistance("LINESTRING (130 0, 0 0, 0 150)", "LINESTRING (10 10, 10 150, 130 10)", 14.142135623730951);
+    checkDistance("LINESTRING (130 0, 0 0, 0 150)", "LINESTRING (10 10, 10 150, 130 10)", 0.5, 70.0);
+  }
+
+  public void testDensified() {
+    checkDensified("LINESTRING (0 0, 100 0, 100 100, 0 100)",
+        "LINESTRING (0 5, 50 30, 95 0, 90 100, 50 60, 10 95)", 0.1);
+  }
+
+  public void testEmpty() {
+    checkDistance("LINESTRING (0 0, 2 1)", "LINESTRING EMPTY", 0.0);
+    assertTrue(IndexedHausdorffDistance.isWithinDistance(
+        read("LINESTRING EMPTY"), read("POINT (1 1)"), 0));
+  }
+
+  public void testWithinDistance() {
+    checkWithinDistance("LINESTRING (0 0, 2 0)", "LINESTRING (0 1, 1 2, 2 1)");
+    checkWithinDistance("LINESTRING (130 0, 0 0, 0 150)", "LINESTRING (10 10, 10 150, 130 10)");
+    checkWithinDistance("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))",
+        "POLYGON ((1 1, 12 1, 12 11, 1 11, 1 1))");
+  }
+
+  public void testWithinDistanceEnvelope() {
+    //-- distance is larger than the envelopes imply
+    assertFalse(IndexedHausdorffDistance.isWithinDistance(
+        read("LINESTRING (0 0, 10 0, 10 10)"), read("LINESTRING (0 0, 0 10, 10 10)"), 9.9));
+    assertTrue(IndexedHausdorffDistance.isWithinDistance(
+        read("LINESTRING (0 0, 10 0, 10 10)"), read("LINESTRING (0 0, 0 10, 10 10)"), 10));
+  }
+
+  private void checkDistance(String wkt1, String wkt2, double expectedDistance) {
+    Geometry g1 = read(wkt1);
+    Geometry g2 = read(wkt2);
+    double distance = IndexedHausdorffDistance.distance(g1, g2);
+    assertEquals(expectedDistance, distance, TOLERANCE);
+    if (! g1.isEmpty() && ! g2.isEmpty()) {
+      assertEquals(DiscreteHausdorffDistance.distance(g1, g2), distance, TOLERANCE);
+    }
+  }
+
+  private void checkDistance(String wkt1, String wkt2, double densifyFrac, double expectedDistance) {
+    Geometry g1 = read(wkt1);
+    Geometry g2 = read(wkt2);
+    double distance = IndexedHausdorffDistance.distance(g1, g2, densifyFrac);
+    assertEquals(expectedDistance, distance, TOLERANCE);
+  }
+
+  private void checkDensified(String wkt1, String wkt2, double densifyFrac) {
+    Geometry g1 = read(wkt1);
+    Geometry g2 = read(wkt2);
+    double expected = DiscreteHausdorffDistance.distance(g1, g2, densifyFrac);
+    assertEquals(expected, IndexedHausdorffDistance.distance(g1, g2, densifyFrac), TOLERANCE);
+  }
+
+  private void checkWithinDistance(String wkt1, String wkt2) {
+    Geometry g1 = read(wkt1);
+    Geometry g2 = read(wkt2);
+    double distance = DiscreteHausdorffDistance.distance(g1, g2);
+    assertTrue(IndexedHausdorffDistance.isWithinDistance(g1, g2, distance));
+    assertTrue(IndexedHausdorffDistance.isWithinDistance(g1, g2, distance + 1));
+    assertFalse(IndexedHausdorffDistance.isWithinDistance(g1, g2, distance * 0.99));
+  }
+
+  private static final double TOLERANCE = 0.00001;
+}
@@ -11,6 +11,9 @@
  */
 package org.locationtech.jts.algorithm.hull;
 
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 
 import junit.textui.TestRunner;
@@ -143,8 +146,86 @@ public class ConcaveHullTest extends GeometryTestCase {
        0.75, "POLYGON ((584227.74314188 7549592.83423486, 584239.72795377 7549593.43742855, 584242.72446125 7549593.58214511, 584245.72096874 7549593.72686167, 584251.71398371 7549594.01629478, 584230.73978847 7549592.9760418, 584227.74314188 7549592.83423486))" );
   }
   
+  public void testScalablePoint() {
+    checkHullScalable("MULTIPOINT ((10 10), (10 10))", 
+       70, false, "POINT (10 10)" );
+  }
+
+  public void testScalableCollinear() {
+    checkHullScalable("LINESTRING (10 10, 20 20, 30 30))", 
+       70, false, "LINESTRING (10 10, 30 30)" );
+  }
+
+  public void testScalableChevron() {
+    checkHullScalable("MULTIPOINT ((10 10), (90 10), (30 70), (70 70), (50 60))", 
+       70, false, "POLYGON ((30 70, 70 70, 90 10, 50 60, 10 10, 30 70))" );
+  }
+
+  public void testScalableRandom() {
+    Geometry geom = randomPointsInRing(4000, 1);
+    checkHullScalable(geom, 10, false);
+    checkHullScalable(geom, 10, true);
+    checkHullScalable(geom, 20, true);
+  }
+  
+  public void testBatch() {
+    Geometry[] geoms = new Geometry[] {
+        randomPointsInRing(1000, 2),
+        randomPointsInRing(2000, 3),
+        read("MULTIPOINT ((10 10), (90 10), (30 70), (70 70), (50 60))"),
+        read("MULTIPOINT EMPTY")
+    };
+    Geometry[] hulls = ConcaveHull.concaveHullByLength(geoms, 20, true, true);
+    assertEquals(geoms.length, hulls.length);
+    for (int i = 0; i < geoms.length; i++) {
+      Geometry expected = ConcaveHull.concaveHullByLength(geoms[i], 20, true);
+      checkEqual(expected, hulls[i]);
+    }
+  }
+  
   //==========================================================================
   
+  private void checkHullScalable(String wkt, double maxLength, boolean isHolesAllowed, String wktExpected) {
+    Geometry geom = read(wkt);
+    ConcaveHull hull = new ConcaveHull(geom);
+    hull.setMaximumEdgeLength(maxLength);
+    hull.setHolesAllowed(isHolesAllowed);
+    hull.setScalable(true);
+    Geometry actual = hull.getHull();
+    Geometry expected = read(wktExpected);
+    checkEqual(expected, actual);
+  }
+  
+  private void checkHullScalable(Geometry geom, double maxLength, boolean isHolesAllowed) {
+    ConcaveHull hull = new ConcaveHull(geom);
+    hull.setMaximumEdgeLength(maxLength);
+    hull.setHolesAllowed(isHolesAllowed);
+    hull.setScalable(true);
+    Geometry actual = hull.getHull();
+    Geometry expected = ConcaveHull.concaveHullByLength(geom, maxLength, isHolesAllowed);
+    assertTrue(actual.covers(geom));
+    checkEqual(expected, actual);
+  }
+  
+  /**
+   * Creates random points in an annulus with a wavy outer boundary,
+   * so the hull is concave and has a hole.
+   */
+  private Geometry randomPointsInRing(int n, long seed) {
+    Random random = new Random(seed);
+    Coordinate[] pts = new Coordinate[n];
+    int i = 0;
+    while (i < n) {
+      double x = 200 * random.nextDouble() - 100;
+      double y = 200 * random.nextDouble() - 100;
+      double angle = Math.atan2(y, x);
+      double r = Math.sqrt(x * x + y * y);
+      if (r < 30 || r > 100 * (0.7 + 0.3 * Math.sin(5 * angle))) continue;
+      pts[i++] = new Coordinate(x, y);
+    }
+    return getGeometryFactory().createMultiPointFromCoords(pts);
+  }
+  
   private void checkHullByLengthRatio(String wkt, double threshold, String wktExpected) {
     Geometry geom = read(wkt);
     Geometry actual = ConcaveHull.concaveHullByLengthRatio(geom, threshold);
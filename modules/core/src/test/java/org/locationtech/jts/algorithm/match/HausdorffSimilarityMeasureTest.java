@@ -46,4 +46,12 @@ public class HausdorffSimilarityMeasureTest extends GeometryTestCase {
     assertTrue("Greater distance, poorer similarity", m13 < m12);
   }
 
+  public void testIndexed()
+  {
+    Geometry g1 = read("LINESTRING(1 1, 2 1.0, 3 1)");
+    Geometry g2 = read("LINESTRING(1 1, 2 1.2, 3 1.5, 4 1)");
+    assertEquals(new HausdorffSimilarityMeasure().measure(g1, g2),
+        new HausdorffSimilarityMeasure(true).measure(g1, g2), 1e-12);
+  }
+
 }
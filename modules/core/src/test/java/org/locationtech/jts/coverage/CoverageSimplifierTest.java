@@ -381,8 +381,48 @@ public class CoverageSimplifierTest extends GeometryTestCase {
     );
   }
   
+  public void testLevels() {
+    Geometry[] input = readArray(
+        "POLYGON ((1 19, 6 19, 7 11, 6 1, 1 1, 1 19))",
+        "POLYGON ((6 19, 12 19, 11 15, 12 1, 6 1, 7 11, 6 19))",
+        "POLYGON ((12 19, 19 19, 22 10, 19 1, 12 1, 11 15, 12 19))" );
+    checkLevels(input, new double[] { 0, 1, 3, 6 });
+  }
+  
+  public void testLevelsGrid() {
+    Geometry[] input = CoverageTestUtil.createWavyGrid(getGeometryFactory(), 8, 8, null);
+    checkLevels(input, new double[] { 0.02, 0.05, 0.1, 0.5 });
+  }
+  
+  public void testParallelGrid() {
+    Geometry[] input = CoverageTestUtil.createWavyGrid(getGeometryFactory(), 20, 10, null);
+    assertTrue(CoverageValidator.isValid(input));
+    checkParallel(input, 0.05);
+    checkParallel(input, 0.2);
+  }
+  
   //=================================
 
+  private void checkLevels(Geometry[] input, double[] tolerances) {
+    Geometry[][] actual = CoverageSimplifier.simplifyLevels(input, tolerances, false);
+    Geometry[][] actualParallel = CoverageSimplifier.simplifyLevels(input, tolerances, true);
+    assertEquals(tolerances.length, actual.length);
+    for (int i = 0; i < tolerances.length; i++) {
+      Geometry[] expected = CoverageSimplifier.simplify(input, tolerances[i]);
+      CoverageTestUtil.checkEqualExact(expected, actual[i]);
+      CoverageTestUtil.checkEqualExact(expected, actualParallel[i]);
+    }
+  }
+  
+  private void checkParallel(Geometry[] input, double tolerance) {
+    Geometry[] expected = CoverageSimplifier.simplify(input, tolerance);
+    CoverageSimplifier simplifier = new CoverageSimplifier(input);
+    simplifier.setParallel(true);
+    Geometry[] actual = simplifier.simplify(tolerance);
+    CoverageTestUtil.checkEqualExact(expected, actual);
+    assertTrue(CoverageValidator.isValid(actual));
+  }
+
 
   private void checkNoop(Geometry[] input) {
     Geometry[] actual = CoverageSimplifier.simplify(input, 0);
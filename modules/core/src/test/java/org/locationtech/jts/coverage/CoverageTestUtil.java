@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import org.junit.Assert;
+
+/**
+ * Creates test coverages, and checks coverage results.
+ * 
+ * @author Martin Davis
+ *
+ */
+class CoverageTestUtil {
+
+  /**
+   * Creates a coverage of a grid of unit squares.
+   * The square with lower-left corner (i, j) is at index <code>size * i + j</code>.
+   * 
+   * @param geomFact the factory to use
+   * @param size the number of squares on each side of the grid
+   * @return the coverage polygons
+   */
+  static Geometry[] createGrid(GeometryFactory geomFact, int size) {
+    Geometry[] coverage = new Geometry[size * size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        coverage[size * i + j] = createSquare(geomFact, i, j, 1);
+      }
+    }
+    return coverage;
+  }
+
+  /**
+   * Creates a square polygon.
+   * 
+   * @param geomFact the factory to use
+   * @param x the X ordinate of the lower-left corner
+   * @param y the Y ordinate of the lower-left corner
+   * @param size the side length
+   * @return the square polygon
+   */
+  static Geometry createSquare(GeometryFactory geomFact, double x, double y, double size) {
+    return geomFact.createPolygon(new Coordinate[] {
+        new Coordinate(x, y), new Coordinate(x, y + size),
+        new Coordinate(x + size, y + size), new Coordinate(x + size, y),
+        new Coordinate(x, y) });
+  }
+
+  /**
+   * Creates a coverage of a grid of cells with wavy edges.
+   * The cell with lower-left corner (i, j) is at index <code>numCells * i + j</code>.
+   * The vertical edge at an optional location is given a different shape.
+   * 
+   * @param geomFact the factory to use
+   * @param numCells the number of cells on each side of the grid
+   * @param numEdgePts the number of segments in each cell edge
+   * @param modifiedEdge the (i, j) location of the vertical edge to modify, or null
+   * @return the coverage polygons
+   */
+  static Geometry[] createWavyGrid(GeometryFactory geomFact, int numCells, int numEdgePts, int[] modifiedEdge) {
+    Geometry[] coverage = new Geometry[numCells * numCells];
+    for (int i = 0; i < numCells; i++) {
+      for (int j = 0; j < numCells; j++) {
+        CoordinateList ring = new CoordinateList();
+        ring.add(wavyEdge(i, j, true, numEdgePts, modifiedEdge), false, true);
+        ring.add(wavyEdge(i + 1, j, false, numEdgePts, modifiedEdge), false, true);
+        ring.add(wavyEdge(i, j + 1, true, numEdgePts, modifiedEdge), false, false);
+        ring.add(wavyEdge(i, j, false, numEdgePts, modifiedEdge), false, false);
+        coverage[numCells * i + j] = geomFact.createPolygon(ring.toCoordinateArray());
+      }
+    }
+    return coverage;
+  }
+
+  private static Coordinate[] wavyEdge(int i, int j, boolean isHorizontal, int numEdgePts, int[] modifiedEdge) {
+    boolean isModified = ! isHorizontal && modifiedEdge != null
+        && i == modifiedEdge[0] && j == modifiedEdge[1];
+    Coordinate[] pts = new Coordinate[numEdgePts + 1];
+    for (int k = 0; k <= numEdgePts; k++) {
+      double t = (double) k / numEdgePts;
+      double phase = 7 * k + 13 * i + 29 * j + (isHorizontal ? 0 : 3);
+      if (isModified) phase += 1;
+      double offset = (k == 0 || k == numEdgePts) ? 0 : 0.05 * Math.sin(phase);
+      pts[k] = isHorizontal ? new Coordinate(i + t, j + offset) : new Coordinate(i + offset, j + t);
+    }
+    return pts;
+  }
+
+  /**
+   * Checks that two coverages have exactly equal elements.
+   * 
+   * @param expected the expected coverage
+   * @param actual the actual coverage
+   */
+  static void checkEqualExact(Geometry[] expected, Geometry[] actual) {
+    Assert.assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      Assert.assertTrue(expected[i].equalsExact(actual[i]));
+    }
+  }
+}
@@ -11,7 +11,12 @@
  */
 package org.locationtech.jts.coverage;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -40,6 +45,131 @@ public class CoverageUnionTest extends GeometryTestCase
             );
   }
 
+  private static final String CHESSBOARD_4 = "GEOMETRYCOLLECTION (POLYGON ((1 9, 5 9, 5 5, 1 5, 1 9)), POLYGON ((5 9, 9 9, 9 5, 5 5, 5 9)), POLYGON ((1 5, 5 5, 5 1, 1 1, 1 5)), POLYGON ((5 5, 9 5, 9 1, 5 1, 5 5)))";
+  
+  public void testGroupsRows() {
+    checkGroupUnion(CHESSBOARD_4, new int[] { 0, 0, 1, 1 },
+        "POLYGON ((1 5, 1 9, 5 9, 9 9, 9 5, 5 5, 1 5))",
+        "POLYGON ((1 1, 1 5, 5 5, 9 5, 9 1, 5 1, 1 1))" );
+  }
+  
+  public void testGroupsDiagonal() {
+    checkGroupUnion(CHESSBOARD_4, new int[] { 0, 1, 1, 0 },
+        "MULTIPOLYGON (((1 9, 5 9, 5 5, 1 5, 1 9)), ((5 5, 9 5, 9 1, 5 1, 5 5)))",
+        "MULTIPOLYGON (((5 9, 9 9, 9 5, 5 5, 5 9)), ((1 5, 5 5, 5 1, 1 1, 1 5)))" );
+  }
+  
+  public void testGroupsSingle() {
+    checkGroupUnion(CHESSBOARD_4, new int[] { 0, 0, 0, 0 },
+        "POLYGON ((1 1, 1 5, 1 9, 5 9, 9 9, 9 5, 9 1, 5 1, 1 1))" );
+  }
+  
+  public void testGroupsUnusedKey() {
+    checkGroupUnion(CHESSBOARD_4, new int[] { 2, 2, 0, 0 },
+        "POLYGON ((1 1, 1 5, 5 5, 9 5, 9 1, 5 1, 1 1))",
+        "POLYGON EMPTY",
+        "POLYGON ((1 5, 1 9, 5 9, 9 9, 9 5, 5 5, 1 5))" );
+  }
+  
+  public void testGroupsFilledHole() {
+    checkGroupUnion("GEOMETRYCOLLECTION (POLYGON ((1 9, 9 9, 9 1, 1 1, 1 9), (3 7, 7 7, 7 3, 3 3, 3 7)), POLYGON ((3 7, 7 7, 7 3, 3 3, 3 7)), POLYGON ((9 9, 12 9, 12 1, 9 1, 9 9)))", 
+        new int[] { 0, 1, 0 },
+        "POLYGON ((1 1, 1 9, 9 9, 12 9, 12 1, 9 1, 1 1), (3 3, 7 3, 7 7, 3 7, 3 3))",
+        "POLYGON ((3 7, 7 7, 7 3, 3 3, 3 7))" );
+  }
+  
+  public void testGroupsHoleInGroup() {
+    checkGroupUnion("GEOMETRYCOLLECTION (POLYGON ((1 9, 5 9, 5 5, 3 5, 3 3, 5 3, 5 1, 1 1, 1 9)), POLYGON ((5 9, 9 9, 9 1, 5 1, 5 3, 7 3, 7 5, 5 5, 5 9)), POLYGON ((3 5, 7 5, 7 3, 3 3, 3 5)))", 
+        new int[] { 0, 0, 1 },
+        "POLYGON ((1 1, 1 9, 5 9, 9 9, 9 1, 5 1, 1 1), (3 3, 5 3, 7 3, 7 5, 5 5, 3 5, 3 3))",
+        "POLYGON ((3 5, 7 5, 7 3, 3 3, 3 5))" );
+  }
+  
+  public void testGroupsMultiPolygon() {
+    checkGroupUnion("GEOMETRYCOLLECTION (MULTIPOLYGON (((1 9, 5 9, 5 5, 1 5, 1 9)), ((5 5, 9 5, 9 1, 5 1, 5 5))), POLYGON ((5 9, 9 9, 9 5, 5 5, 5 9)), POLYGON ((1 5, 5 5, 5 1, 1 1, 1 5)))", 
+        new int[] { 0, 0, 1 },
+        "POLYGON ((1 5, 1 9, 5 9, 9 9, 9 5, 9 1, 5 1, 5 5, 1 5))",
+        "POLYGON ((1 5, 5 5, 5 1, 1 1, 1 5))" );
+  }
+  
+  public void testGroupsEmptyElement() {
+    checkGroupUnion("GEOMETRYCOLLECTION (POLYGON ((1 9, 5 9, 5 5, 1 5, 1 9)), POLYGON EMPTY, POLYGON ((5 9, 9 9, 9 5, 5 5, 5 9)))", 
+        new int[] { 0, 1, 0 },
+        "POLYGON ((1 5, 1 9, 5 9, 9 9, 9 5, 5 5, 1 5))",
+        "POLYGON EMPTY" );
+  }
+  
+  public void testGroupsGrid() {
+    int size = 12;
+    Geometry[] coverage = new Geometry[size * size];
+    int[] keys = new int[size * size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        coverage[size * i + j] = getGeometryFactory().toGeometry(new Envelope(i, i + 1, j, j + 1));
+        //-- a pseudo-random pattern of groups
+        keys[size * i + j] = (i * 7 + j * j * 3 + (i * j) % 5) % 6;
+      }
+    }
+    Geometry[] actual = CoverageUnion.union(coverage, keys);
+    Geometry[] actualParallel = CoverageUnion.union(coverage, keys, true);
+    for (int k = 0; k < actual.length; k++) {
+      Geometry expected = CoverageUnion.union(groupElements(coverage, keys, k));
+      checkEqual(expected, actual[k]);
+      checkEqual(expected, actualParallel[k]);
+    }
+  }
+  
+  public void testGroupsKeysMismatch() {
+    try {
+      CoverageUnion.union(toArray(read(CHESSBOARD_4)), new int[] { 0, 1 });
+      fail("Expected IllegalArgumentException");
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testGroupsKeyNegative() {
+    checkInvalidKeys(new int[] { 0, -1, 0, 1 });
+  }
+
+  public void testGroupsKeySparse() {
+    checkInvalidKeys(new int[] { 0, 1, 1000000, 1 });
+  }
+
+  private void checkInvalidKeys(int[] keys) {
+    try {
+      CoverageUnion.union(toArray(read(CHESSBOARD_4)), keys);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  private void checkGroupUnion(String wktCoverage, int[] keys, String... wktExpected) {
+    Geometry[] coverage = toArray(read(wktCoverage));
+    Geometry[] expected = readArray(wktExpected);
+    Geometry[] actual = CoverageUnion.union(coverage, keys);
+    checkEqual(expected, actual);
+    checkEqual(expected, CoverageUnion.union(coverage, keys, true));
+    //-- the same as unioning each group separately
+    for (int k = 0; k < actual.length; k++) {
+      Geometry[] group = groupElements(coverage, keys, k);
+      if (group.length > 0) {
+        checkEqual(CoverageUnion.union(group), actual[k]);
+      }
+    }
+  }
+  
+  private static Geometry[] groupElements(Geometry[] coverage, int[] keys, int key) {
+    List<Geometry> group = new ArrayList<Geometry>();
+    for (int i = 0; i < coverage.length; i++) {
+      if (keys[i] == key) group.add(coverage[i]);
+    }
+    return GeometryFactory.toGeometryArray(group);
+  }
+  
   private void checkUnion(String wktCoverage, String wktExpected) {
     Geometry covGeom = read(wktCoverage);
     Geometry[] coverage = toArray(covGeom);
@@ -159,10 +159,14 @@ public class CoverageValidatorTest extends GeometryTestCase
   private void checkInvalid(Geometry[] coverage, Geometry[] expected) {
     Geometry[] actual = CoverageValidator.validate(coverage);
     checkEqual(expected, actual);
+    Geometry[] actualParallel = CoverageValidator.validate(coverage, 0, true);
+    checkEqual(expected, actualParallel);
   }
   
   private void checkInvalidWithGaps(Geometry[] coverage, double gapWidth, Geometry[] expected) {
     Geometry[] actual = CoverageValidator.validate(coverage, gapWidth);
     checkEqual(expected, actual);
+    Geometry[] actualParallel = CoverageValidator.validate(coverage, gapWidth, true);
+    checkEqual(expected, actualParallel);
   }
 }
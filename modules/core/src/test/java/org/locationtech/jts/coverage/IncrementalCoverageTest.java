@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class IncrementalCoverageTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(IncrementalCoverageTest.class);
+  }
+
+  public IncrementalCoverageTest(String name) {
+    super(name);
+  }
+
+  private static final int GRID_SIZE = 10;
+
+  public void testValidateOverlap() {
+    IncrementalCoverage cov = new IncrementalCoverage(CoverageTestUtil.createGrid(getGeometryFactory(), GRID_SIZE));
+    assertTrue(cov.isValid());
+    cov.replace(44, CoverageTestUtil.createSquare(getGeometryFactory(), 4.1, 4.1, 1));
+    checkValidate(cov);
+    assertFalse(cov.isValid());
+    cov.replace(44, CoverageTestUtil.createSquare(getGeometryFactory(), 4, 4, 1));
+    checkValidate(cov);
+    assertTrue(cov.isValid());
+  }
+
+  public void testValidateGap() {
+    IncrementalCoverage cov = new IncrementalCoverage(CoverageTestUtil.createGrid(getGeometryFactory(), GRID_SIZE));
+    cov.setGapWidth(0.1);
+    assertTrue(cov.isValid());
+    cov.replace(23, CoverageTestUtil.createSquare(getGeometryFactory(), 2, 3, 0.95));
+    checkValidate(cov, 0.1);
+    assertFalse(cov.isValid());
+  }
+
+  public void testValidateDeleteInsert() {
+    IncrementalCoverage cov = new IncrementalCoverage(CoverageTestUtil.createGrid(getGeometryFactory(), GRID_SIZE));
+    assertTrue(cov.isValid());
+    cov.delete(55);
+    assertTrue(cov.isValid());
+    assertNull(cov.getPolygon(55));
+    int id = cov.insert(CoverageTestUtil.createSquare(getGeometryFactory(), 5, 5, 1.5));
+    assertEquals(GRID_SIZE * GRID_SIZE, id);
+    checkValidate(cov);
+    assertFalse(cov.isValid());
+    cov.delete(id);
+    assertTrue(cov.isValid());
+  }
+
+  public void testSimplifyInitial() {
+    Geometry[] grid = CoverageTestUtil.createWavyGrid(getGeometryFactory(), GRID_SIZE, 10, null);
+    IncrementalCoverage cov = new IncrementalCoverage(grid);
+    cov.setSimplifyTolerance(0.1);
+    Geometry[] expected = CoverageSimplifier.simplify(grid, 0.1);
+    CoverageTestUtil.checkEqualExact(expected, cov.simplify());
+  }
+
+  public void testSimplifyReplace() {
+    IncrementalCoverage cov = new IncrementalCoverage(CoverageTestUtil.createWavyGrid(getGeometryFactory(), GRID_SIZE, 10, null));
+    cov.setSimplifyTolerance(0.1);
+    Geometry[] simp0 = cov.simplify();
+
+    //-- change the edge between cells 3,4 and 4,4
+    Geometry[] edited = CoverageTestUtil.createWavyGrid(getGeometryFactory(), GRID_SIZE, 10, new int[] { 4, 4 });
+    cov.replace(34, edited[34]);
+    cov.replace(44, edited[44]);
+    Geometry[] simp = cov.simplify();
+    checkSimplified(cov, simp, 0.1);
+    checkUnchangedOutside(simp0, simp, new Envelope(2.5, 5.5, 2.5, 5.5));
+  }
+
+  public void testSimplifyDelete() {
+    IncrementalCoverage cov = new IncrementalCoverage(CoverageTestUtil.createWavyGrid(getGeometryFactory(), GRID_SIZE, 10, null));
+    cov.setSimplifyTolerance(0.2);
+    Geometry[] simp0 = cov.simplify();
+    cov.delete(55);
+    Geometry[] simp = cov.simplify();
+    assertNull(simp[55]);
+    checkSimplified(cov, simp, 0.2);
+    checkUnchangedOutside(simp0, simp, new Envelope(3.5, 7.5, 3.5, 7.5));
+  }
+
+  public void testSimplifyInsert() {
+    Geometry[] grid = CoverageTestUtil.createWavyGrid(getGeometryFactory(), GRID_SIZE, 10, null);
+    IncrementalCoverage cov = new IncrementalCoverage(grid);
+    cov.setSimplifyTolerance(0.1);
+    cov.delete(55);
+    cov.simplify();
+    int id = cov.insert(grid[55]);
+    Geometry[] simp = cov.simplify();
+    assertNotNull(simp[id]);
+    checkSimplified(cov, simp, 0.1);
+  }
+
+  public void testSimplifyRepeatedEdits() {
+    Geometry[] grid = CoverageTestUtil.createWavyGrid(getGeometryFactory(), GRID_SIZE, 10, null);
+    Geometry[] edited = CoverageTestUtil.createWavyGrid(getGeometryFactory(), GRID_SIZE, 10, new int[] { 4, 4 });
+    IncrementalCoverage cov = new IncrementalCoverage(grid);
+    cov.setSimplifyTolerance(0.1);
+    cov.simplify();
+    for (int i = 0; i < 3; i++) {
+      cov.replace(34, edited[34]);
+      cov.replace(44, edited[44]);
+      checkSimplified(cov, cov.simplify(), 0.1);
+      cov.replace(34, grid[34]);
+      cov.replace(44, grid[44]);
+      checkSimplified(cov, cov.simplify(), 0.1);
+    }
+  }
+
+  //------------------------------------------------------------
+
+  private void checkValidate(IncrementalCoverage cov) {
+    checkValidate(cov, 0);
+  }
+
+  private void checkValidate(IncrementalCoverage cov, double gapWidth) {
+    Geometry[] actual = cov.validate();
+    List<Geometry> live = new ArrayList<Geometry>();
+    List<Integer> liveIds = new ArrayList<Integer>();
+    Geometry[] coverage = cov.getCoverage();
+    for (int i = 0; i < coverage.length; i++) {
+      if (coverage[i] != null) {
+        live.add(coverage[i]);
+        liveIds.add(i);
+      }
+    }
+    Geometry[] expected = CoverageValidator.validate(GeometryFactory.toGeometryArray(live), gapWidth);
+    for (int i = 0; i < expected.length; i++) {
+      Geometry act = actual[liveIds.get(i)];
+      if (expected[i] == null) {
+        assertNull(act);
+      }
+      else {
+        checkEqual(expected[i], act);
+      }
+    }
+  }
+
+  /**
+   * Checks that a simplified coverage is valid,
+   * and that each polygon is simplified.
+   */
+  private void checkSimplified(IncrementalCoverage cov, Geometry[] simp, double tolerance) {
+    List<Geometry> live = new ArrayList<Geometry>();
+    Geometry[] coverage = cov.getCoverage();
+    for (int i = 0; i < simp.length; i++) {
+      if (simp[i] != null) {
+        live.add(simp[i]);
+        assertTrue(simp[i].getNumPoints() < coverage[i].getNumPoints());
+        assertTrue(coverage[i].buffer(tolerance).covers(simp[i]));
+      }
+    }
+    assertTrue(CoverageValidator.isValid(GeometryFactory.toGeometryArray(live)));
+  }
+
+  private static void checkUnchangedOutside(Geometry[] simp0, Geometry[] simp, Envelope region) {
+    for (int i = 0; i < simp0.length; i++) {
+      if (simp0[i] == null || simp0[i].getEnvelopeInternal().intersects(region))
+        continue;
+      assertTrue(simp0[i].equalsExact(simp[i]));
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.coverage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class TiledCoverageValidatorTest extends GeometryTestCase 
+{
+  public static void main(String args[]) {
+    TestRunner.run(TiledCoverageValidatorTest.class);
+  }
+  
+  public TiledCoverageValidatorTest(String name) {
+    super(name);
+  }
+  
+  public void testValid() {
+    Geometry[] coverage = CoverageTestUtil.createGrid(getGeometryFactory(), 10);
+    checkTiled(coverage, 3, 0);
+  }
+
+  public void testOverlapAcrossTiles() {
+    Geometry[] coverage = CoverageTestUtil.createGrid(getGeometryFactory(), 10);
+    //-- shift a cell on a tile boundary so it overlaps cells in other tiles
+    coverage[44] = CoverageTestUtil.createSquare(getGeometryFactory(), 4.1, 4.1, 1);
+    checkTiled(coverage, 5, 0);
+  }
+
+  public void testOverlapAcrossManyTiles() {
+    Geometry[] coverage = CoverageTestUtil.createGrid(getGeometryFactory(), 10);
+    coverage[22] = CoverageTestUtil.createSquare(getGeometryFactory(), 2.5, 2.5, 4);
+    checkTiled(coverage, 1, 0);
+  }
+
+  public void testGapAcrossTiles() {
+    Geometry[] coverage = CoverageTestUtil.createGrid(getGeometryFactory(), 10);
+    coverage[44] = CoverageTestUtil.createSquare(getGeometryFactory(), 4, 4, 0.95);
+    checkTiled(coverage, 5, 0.1);
+  }
+
+  public void testSingleTile() {
+    Geometry[] coverage = CoverageTestUtil.createGrid(getGeometryFactory(), 4);
+    coverage[5] = CoverageTestUtil.createSquare(getGeometryFactory(), 1.5, 1.5, 1);
+    checkTiled(coverage, 100, 0);
+  }
+
+  public void testParallel() {
+    Geometry[] coverage = CoverageTestUtil.createGrid(getGeometryFactory(), 10);
+    coverage[44] = CoverageTestUtil.createSquare(getGeometryFactory(), 4.1, 4.1, 1);
+    checkTiled(coverage, 5, 0, true);
+  }
+
+  //------------------------------------------------------------
+
+  private void checkTiled(Geometry[] coverage, double tileSize, double gapWidth) {
+    checkTiled(coverage, tileSize, gapWidth, false);
+  }
+  
+  private void checkTiled(Geometry[] coverage, double tileSize, double gapWidth, boolean isParallel) {
+    Geometry[] expected = CoverageValidator.validate(coverage, gapWidth);
+    
+    STRtree index = new STRtree();
+    Envelope extent = new Envelope();
+    for (Geometry geom : coverage) {
+      index.insert(geom.getEnvelopeInternal(), geom);
+      extent.expandToInclude(geom.getEnvelopeInternal());
+    }
+    CoverageSource source = new CoverageSource() {
+      @SuppressWarnings("unchecked")
+      public List<Geometry> query(Envelope env) {
+        //-- return copies, as a database would
+        List<Geometry> result = new ArrayList<Geometry>();
+        for (Geometry geom : (List<Geometry>) index.query(env)) {
+          result.add(geom.copy());
+        }
+        return result;
+      }
+    };
+    
+    List<Geometry> invalidPolys = new ArrayList<Geometry>();
+    List<Geometry> invalidLines = new ArrayList<Geometry>();
+    TiledCoverageValidator validator = new TiledCoverageValidator(source, extent, tileSize);
+    validator.setGapWidth(gapWidth);
+    validator.setParallel(isParallel);
+    validator.validate(new CoverageInvalidVisitor() {
+      public void visit(Geometry polygon, Geometry lines) {
+        invalidPolys.add(polygon);
+        invalidLines.add(lines);
+      }
+    });
+    
+    Geometry[] actual = new Geometry[coverage.length];
+    for (int i = 0; i < invalidPolys.size(); i++) {
+      int polyIndex = indexOf(coverage, invalidPolys.get(i));
+      assertNull("polygon reported more than once", actual[polyIndex]);
+      actual[polyIndex] = invalidLines.get(i);
+    }
+    checkEqual(expected, actual);
+  }
+
+  private static int indexOf(Geometry[] coverage, Geometry geom) {
+    for (int i = 0; i < coverage.length; i++) {
+      if (coverage[i].equalsExact(geom)) 
+        return i;
+    }
+    return -1;
+  }
+}
@@ -12,9 +12,13 @@
 
 package org.locationtech.jts.dissolve;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.io.ParseException;
 
 import junit.framework.TestCase;
@@ -127,6 +131,84 @@ public class LineDissolverTest  extends TestCase {
         "LINESTRING (0 0, 2 1)");
   }
 
+  
+  /**
+   * Checks the packed dissolver against the standard one
+   * on a set of overlapping random walks along a grid.
+   */
+  public void testPackedRandomGridWalks()
+  {
+    GeometryFactory fact = new GeometryFactory();
+    Random rnd = new Random(13);
+    List<Geometry> lines = new ArrayList<Geometry>();
+    for (int i = 0; i < 200; i++) {
+      Coordinate[] pts = new Coordinate[8];
+      int x = rnd.nextInt(10);
+      int y = rnd.nextInt(10);
+      for (int j = 0; j < pts.length; j++) {
+        pts[j] = new Coordinate(x, y);
+        if (rnd.nextBoolean())
+          x += rnd.nextBoolean() ? 1 : -1;
+        else
+          y += rnd.nextBoolean() ? 1 : -1;
+      }
+      lines.add(fact.createLineString(pts));
+    }
+    Geometry input = fact.buildGeometry(lines);
+    Geometry expected = LineDissolver.dissolve(input);
+    Geometry actual = PackedLineDissolver.dissolve(input);
+    assertTrue(actual.norm().equalsExact(expected.norm()));
+    checkPackedParallel(input, 10, expected);
+    checkPackedParallel(input, 100, expected);
+  }
+
+  /**
+   * Checks parallel dissolving of isolated rings
+   * which cross partition borders.
+   */
+  public void testPackedParallelRings() throws ParseException
+  {
+    GeometryFactory fact = new GeometryFactory();
+    List<Geometry> lines = new ArrayList<Geometry>();
+    for (int i = 0; i < 10; i++) {
+      for (int j = 0; j < 10; j++) {
+        double x = 10 * i;
+        double y = 10 * j;
+        lines.add(fact.createLineString(new Coordinate[] {
+            new Coordinate(x + 5, y), new Coordinate(x + 5, y + 5), new Coordinate(x, y + 5) }));
+        lines.add(fact.createLineString(new Coordinate[] {
+            new Coordinate(x, y + 5), new Coordinate(x, y), new Coordinate(x + 5, y) }));
+      }
+    }
+    Geometry input = fact.buildGeometry(lines);
+    Geometry expected = LineDissolver.dissolve(input);
+    checkPackedParallel(input, 1, expected);
+    checkPackedParallel(input, 7, expected);
+  }
+
+  public void testPackedSetParallelAfterAdd() throws ParseException
+  {
+    PackedLineDissolver pd = new PackedLineDissolver();
+    pd.add(IOUtil.read("LINESTRING (0 0, 1 1)"));
+    try {
+      pd.setParallel(true);
+      fail("Expected IllegalStateException");
+    }
+    catch (IllegalStateException expected) {
+      // expected
+    }
+    //-- the input is dissolved in the mode it was added in
+    assertTrue(pd.getResult().norm().equalsExact(IOUtil.read("LINESTRING (0 0, 1 1)").norm()));
+  }
+
+  private void checkPackedParallel(Geometry input, int partitionSize, Geometry expected) {
+    PackedLineDissolver pd = new PackedLineDissolver();
+    pd.setParallel(true);
+    pd.setPartitionSize(partitionSize);
+    pd.add(input);
+    Geometry actual = pd.getResult();
+    assertTrue(actual.norm().equalsExact(expected.norm()));
+  }
 
   private void checkDissolve(String wkt, String expectedWKT) throws ParseException {
     checkDissolve(new String[] { wkt }, expectedWKT);
@@ -149,6 +231,17 @@ public class LineDissolverTest  extends TestCase {
       //    + " actual = " + result.norm());
     }
     assertTrue(equal);
+    
+    PackedLineDissolver pd = new PackedLineDissolver();
+    pd.add(geoms);
+    Geometry packedResult = pd.getResult();
+    assertTrue(packedResult.norm().equalsExact(expected.norm()));
+
+    PackedLineDissolver pdParallel = new PackedLineDissolver();
+    pdParallel.setParallel(true);
+    pdParallel.setPartitionSize(1);
+    pdParallel.add(geoms);
+    assertTrue(pdParallel.getResult().norm().equalsExact(expected.norm()));
   }
 
 }
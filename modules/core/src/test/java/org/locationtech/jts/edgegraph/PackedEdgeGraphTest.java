@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.edgegraph;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class PackedEdgeGraphTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PackedEdgeGraphTest.class);
+  }
+
+  public PackedEdgeGraphTest(String name) { super(name); }
+
+  public void testNode() {
+    PackedEdgeGraph graph = new PackedEdgeGraph();
+    graph.addEdge(0, 0, 1, 0);
+    graph.addEdge(0, 0, 0, 1);
+    graph.addEdge(0, 0, -1, 0);
+
+    int e = graph.findEdge(0, 0, 1, 0);
+    checkDest(graph, e, 1, 0);
+    checkDest(graph, graph.oNext(e), 0, 1);
+    checkDest(graph, graph.oNext(graph.oNext(e)), -1, 0);
+    assertEquals(e, graph.oNext(graph.oNext(graph.oNext(e))));
+    assertTrue(graph.isEdgesSorted(e));
+
+    checkNext(graph, 1, 0, 0, 0, 0, 1);
+    checkNext(graph, 0, 1, 0, 0, -1, 0);
+    checkNext(graph, -1, 0, 0, 0, 1, 0);
+    checkNextPrev(graph);
+
+    assertEquals(3, graph.degree(e));
+    assertEquals(4, graph.getNumVertices());
+    assertEquals(6, graph.getNumHalfEdges());
+  }
+
+  public void testRingGraph() {
+    PackedEdgeGraph graph = new PackedEdgeGraph();
+    graph.addEdge(10, 10, 10, 90);
+    graph.addEdge(10, 90, 90, 90);
+    graph.addEdge(90, 90, 90, 10);
+    graph.addEdge(90, 10, 10, 10);
+    int e = graph.findEdge(10, 10, 10, 90);
+    int eNext = graph.findEdge(10, 90, 90, 90);
+    assertEquals(eNext, graph.next(e));
+    assertEquals(e, graph.prev(eNext));
+    assertEquals(graph.findEdge(10, 90, 10, 10), PackedEdgeGraph.sym(e));
+    assertTrue(graph.orig(e).equals2D(new Coordinate(10, 10)));
+    assertTrue(graph.dest(e).equals2D(new Coordinate(10, 90)));
+    assertEquals(PackedEdgeGraph.NONE, graph.prevNode(e));
+    checkNextPrev(graph);
+  }
+
+  public void testDuplicateEdge() {
+    PackedEdgeGraph graph = new PackedEdgeGraph();
+    int e = graph.addEdge(0, 0, 1, 1);
+    assertEquals(e, graph.addEdge(0, 0, 1, 1));
+    assertEquals(PackedEdgeGraph.sym(e), graph.addEdge(1, 1, 0, 0));
+    assertEquals(2, graph.getNumHalfEdges());
+  }
+
+  public void testZeroLengthEdge() {
+    PackedEdgeGraph graph = new PackedEdgeGraph();
+    assertEquals(PackedEdgeGraph.NONE, graph.addEdge(1, 1, 1, 1));
+    assertEquals(0, graph.getNumHalfEdges());
+  }
+
+  public void testNegativeZero() {
+    PackedEdgeGraph graph = new PackedEdgeGraph();
+    int e = graph.addEdge(0.0, 0.0, 1, 1);
+    assertEquals(e, graph.addEdge(-0.0, -0.0, 1, 1));
+    assertEquals(2, graph.getNumVertices());
+  }
+
+  public void testCCWAfterInserts() {
+    PackedEdgeGraph graph = new PackedEdgeGraph();
+    int e1 = graph.addEdge(50, 39, 35, 42);
+    graph.addEdge(50, 39, 50, 60);
+    graph.addEdge(50, 39, 68, 35);
+    assertTrue(graph.isEdgesSorted(e1));
+  }
+
+  public void testCCWAfterInserts2() {
+    PackedEdgeGraph graph = new PackedEdgeGraph();
+    int e1 = graph.addEdge(50, 200, 0, 200);
+    graph.addEdge(50, 200, 190, 50);
+    graph.addEdge(50, 200, 200, 200);
+    assertTrue(graph.isEdgesSorted(e1));
+  }
+
+  /**
+   * Checks that a graph has the same structure
+   * as the equivalent {@link EdgeGraph}.
+   */
+  public void testSameAsEdgeGraph() {
+    Random rnd = new Random(42);
+    EdgeGraph edgeGraph = new EdgeGraph();
+    PackedEdgeGraph graph = new PackedEdgeGraph();
+    for (int i = 0; i < 2000; i++) {
+      Coordinate p0 = new Coordinate(rnd.nextInt(30), rnd.nextInt(30));
+      Coordinate p1 = new Coordinate(rnd.nextInt(30), rnd.nextInt(30));
+      HalfEdge he = edgeGraph.addEdge(p0, p1);
+      int e = graph.addEdge(p0, p1);
+      assertEquals(he == null, e == PackedEdgeGraph.NONE);
+    }
+    for (int e = 0; e < graph.getNumHalfEdges(); e++) {
+      HalfEdge he = edgeGraph.findEdge(graph.orig(e), graph.dest(e));
+      assertNotNull(he);
+      checkSame(he.next(), graph, graph.next(e));
+      checkSame(he.oNext(), graph, graph.oNext(e));
+      checkSame(he.prev(), graph, graph.prev(e));
+      assertEquals(he.degree(), graph.degree(e));
+      assertEquals(he.isEdgesSorted(), graph.isEdgesSorted(e));
+    }
+  }
+
+  //==================================================
+
+  private void checkSame(HalfEdge he, PackedEdgeGraph graph, int e) {
+    assertTrue(he.orig().equals2D(graph.orig(e)));
+    assertTrue(he.dest().equals2D(graph.dest(e)));
+  }
+
+  private void checkDest(PackedEdgeGraph graph, int e, double x, double y) {
+    assertEquals(x, graph.destX(e));
+    assertEquals(y, graph.destY(e));
+  }
+
+  private void checkNextPrev(PackedEdgeGraph graph) {
+    for (int e = 0; e < graph.getNumHalfEdges(); e++) {
+      assertEquals(e, graph.prev(graph.next(e)));
+    }
+  }
+
+  private void checkNext(PackedEdgeGraph graph, double x1, double y1, double x2, double y2, double x3, double y3) {
+    int e1 = graph.findEdge(x1, y1, x2, y2);
+    int e2 = graph.findEdge(x2, y2, x3, y3);
+    assertEquals(e2, graph.next(e1));
+    assertEquals(e1, graph.prev(e2));
+  }
+}
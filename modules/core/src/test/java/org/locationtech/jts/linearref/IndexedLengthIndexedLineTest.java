@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.linearref;
+
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link IndexedLengthIndexedLine} computes
+ * the same values as {@link LengthIndexedLine}.
+ */
+public class IndexedLengthIndexedLineTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(IndexedLengthIndexedLineTest.class);
+  }
+
+  public IndexedLengthIndexedLineTest(String name) {
+    super(name);
+  }
+
+  public void testSimpleLine() {
+    checkSame("LINESTRING (0 0, 10 0, 10 10, 20 10)");
+  }
+
+  public void testSelfCrossingLine() {
+    checkSame("LINESTRING (0 0, 10 10, 10 0, 0 10, 0 0)");
+  }
+
+  public void testZeroLengthSegments() {
+    checkSame("LINESTRING (0 0, 5 0, 5 0, 10 0, 10 0)");
+  }
+
+  public void testMultiLineWithGap() {
+    checkSame("MULTILINESTRING ((0 0, 10 0), (20 0, 25 0, 30 0))");
+  }
+
+  public void testMultiLineWithZeroLengthComponent() {
+    checkSame("MULTILINESTRING ((0 0, 10 0), (10 0, 10 0), (20 0, 30 0))");
+  }
+
+  public void testEquidistantSegments() {
+    checkSame("LINESTRING (0 0, 10 0, 10 2, 0 2)", 5, 1);
+  }
+
+  public void testExtractAtComponentEnd() {
+    checkExtract("MULTILINESTRING ((0 0, 10 0), (20 0, 30 0))", 10, 10, 0);
+  }
+
+  public void testEmpty() {
+    Geometry line = read("LINESTRING EMPTY");
+    IndexedLengthIndexedLine indexed = new IndexedLengthIndexedLine(line);
+    assertEquals(new LengthIndexedLine(line).project(new Coordinate(1, 1)),
+        indexed.project(1, 1));
+  }
+
+  public void testRandomWalk() {
+    Geometry line = createRandomWalk(5000, 1);
+    checkSame(line, 2000);
+  }
+
+  /**
+   * Tests a line along a grid, which has many equidistant segments
+   * and repeated vertices.
+   */
+  public void testGridWalk() {
+    Random rnd = new Random(3);
+    Coordinate[] pts = new Coordinate[2000];
+    int x = 0;
+    int y = 0;
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(x, y);
+      if (rnd.nextBoolean())
+        x += rnd.nextBoolean() ? 1 : -1;
+      else
+        y += rnd.nextBoolean() ? 1 : -1;
+    }
+    Geometry line = getGeometryFactory().createLineString(pts);
+    checkSame(line, 2000);
+  }
+
+  public void testBatch() {
+    Geometry line = createRandomWalk(1000, 5);
+    IndexedLengthIndexedLine indexed = new IndexedLengthIndexedLine(line);
+    double[] xs = new double[] { 0, 10, -5, 100 };
+    double[] ys = new double[] { 0, 3, 20, -100 };
+    double[] index = indexed.project(xs, ys);
+    Coordinate[] pts = indexed.extractPoint(index);
+    for (int i = 0; i < xs.length; i++) {
+      assertEquals(indexed.project(xs[i], ys[i]), index[i]);
+      assertTrue(pts[i].equals2D(indexed.extractPoint(index[i])));
+    }
+  }
+
+  //------------------------------------------------------------
+
+  private void checkSame(String wkt) {
+    checkSame(read(wkt), 200);
+  }
+
+  private void checkSame(String wkt, double x, double y) {
+    Geometry line = read(wkt);
+    LengthIndexedLine lil = new LengthIndexedLine(line);
+    IndexedLengthIndexedLine indexed = new IndexedLengthIndexedLine(line);
+    assertEquals(lil.project(new Coordinate(x, y)), indexed.project(x, y));
+  }
+
+  private void checkSame(Geometry line, int numPts) {
+    LengthIndexedLine lil = new LengthIndexedLine(line);
+    IndexedLengthIndexedLine indexed = new IndexedLengthIndexedLine(line);
+    Random rnd = new Random(11);
+    Coordinate[] linePts = line.getCoordinates();
+    double len = line.getLength();
+    for (int i = 0; i < numPts; i++) {
+      Coordinate pt;
+      if (i % 4 == 0 && linePts.length > 0) {
+        //-- vertices provide exact ties
+        pt = linePts[rnd.nextInt(linePts.length)].copy();
+      }
+      else {
+        Geometry env = line.getEnvelope();
+        pt = new Coordinate(
+            env.getEnvelopeInternal().getMinX() - 10 + rnd.nextDouble() * (env.getEnvelopeInternal().getWidth() + 20),
+            env.getEnvelopeInternal().getMinY() - 10 + rnd.nextDouble() * (env.getEnvelopeInternal().getHeight() + 20));
+      }
+      double index = lil.project(pt);
+      assertEquals(index, indexed.project(pt));
+      checkExtract(lil, indexed, index);
+      checkExtract(lil, indexed, -index);
+      checkExtract(lil, indexed, (rnd.nextDouble() * 1.2 - 0.1) * len);
+    }
+    //-- check extracting at the end of each component
+    LengthLocationMap locMap = new LengthLocationMap(line);
+    for (int i = 0; i < line.getNumGeometries(); i++) {
+      int numCompPts = line.getGeometryN(i).getNumPoints();
+      if (numCompPts == 0) continue;
+      double compEnd = locMap.getLength(new LinearLocation(i, numCompPts - 1, 0.0));
+      checkExtract(lil, indexed, compEnd);
+    }
+  }
+
+  private void checkExtract(String wkt, double index, double x, double y) {
+    Geometry line = read(wkt);
+    IndexedLengthIndexedLine indexed = new IndexedLengthIndexedLine(line);
+    checkExtract(new LengthIndexedLine(line), indexed, index);
+    assertTrue(indexed.extractPoint(index).equals2D(new Coordinate(x, y)));
+  }
+
+  private void checkExtract(LengthIndexedLine lil, IndexedLengthIndexedLine indexed, double index) {
+    Coordinate expected = lil.extractPoint(index);
+    Coordinate actual = indexed.extractPoint(index);
+    assertTrue("Expected " + expected + " but found " + actual,
+        expected.equals3D(actual) || expected.equals2D(actual) && Double.isNaN(expected.getZ()) && Double.isNaN(actual.getZ()));
+  }
+
+  private Geometry createRandomWalk(int numPts, long seed) {
+    Random rnd = new Random(seed);
+    GeometryFactory fact = getGeometryFactory();
+    Coordinate[] pts = new Coordinate[numPts];
+    double x = 0;
+    double y = 0;
+    for (int i = 0; i < numPts; i++) {
+      pts[i] = new Coordinate(x, y);
+      x += rnd.nextDouble() * 2 - 0.9;
+      y += rnd.nextDouble() * 2 - 1;
+    }
+    return fact.createLineString(pts);
+  }
+}
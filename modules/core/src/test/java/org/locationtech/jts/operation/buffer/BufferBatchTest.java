@@ -0,0 +1,128 @@
+package org.locationtech.jts.operation.buffer;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.WKTReader;
+
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that batch buffering produces the same results
+ * as buffering each geometry individually.
+ *
+ * @author Martin Davis
+ *
+ */
+public class BufferBatchTest extends GeometryTestCase {
+
+  private static final double TOLERANCE = 1e-9;
+
+  public static void main(String[] args) {
+    junit.textui.TestRunner.run(BufferBatchTest.class);
+  }
+
+  public BufferBatchTest(String name) {
+    super(name);
+  }
+
+  public void testPointRound() {
+    checkBatch(BufferParameters.CAP_ROUND, 8, 10.0,
+        "POINT (10 10)", "POINT (-123.4 56.7)");
+  }
+
+  public void testPointRoundQuadSegs1() {
+    checkBatch(BufferParameters.CAP_ROUND, 1, 10.0,
+        "POINT (10 10)");
+  }
+
+  public void testPointSquare() {
+    checkBatch(BufferParameters.CAP_SQUARE, 8, 10.0,
+        "POINT (10 10)");
+  }
+
+  public void testPointFlat() {
+    checkBatch(BufferParameters.CAP_FLAT, 8, 10.0,
+        "POINT (10 10)");
+  }
+
+  public void testSegmentRound() {
+    checkBatch(BufferParameters.CAP_ROUND, 8, 5.0,
+        "LINESTRING (0 0, 100 0)", "LINESTRING (10 10, 20 43)", "LINESTRING (20 43, 10 10)");
+  }
+
+  public void testSegmentRoundQuadSegs3() {
+    checkBatch(BufferParameters.CAP_ROUND, 3, 5.0,
+        "LINESTRING (0 0, 100 0)", "LINESTRING (10 10, 20 43)");
+  }
+
+  public void testSegmentFlat() {
+    checkBatch(BufferParameters.CAP_FLAT, 8, 5.0,
+        "LINESTRING (0 0, 100 0)", "LINESTRING (10 10, 20 43)");
+  }
+
+  public void testSegmentSquare() {
+    checkBatch(BufferParameters.CAP_SQUARE, 8, 5.0,
+        "LINESTRING (0 0, 100 0)", "LINESTRING (10 10, 20 43)");
+  }
+
+  public void testNonSimpleInputs() {
+    checkBatch(BufferParameters.CAP_ROUND, 8, 5.0,
+        "LINESTRING (0 0, 100 0, 100 100)", "LINESTRING (10 10, 10 10)",
+        "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))", "MULTIPOINT ((0 0), (5 5))",
+        "POINT EMPTY", "LINESTRING EMPTY");
+  }
+
+  public void testNegativeDistance() {
+    checkBatch(BufferParameters.CAP_ROUND, 8, -5.0,
+        "POINT (10 10)", "LINESTRING (0 0, 100 0)", "POLYGON ((0 0, 100 0, 100 100, 0 100, 0 0))");
+  }
+
+  public void testSingleSided() {
+    BufferParameters params = new BufferParameters();
+    params.setSingleSided(true);
+    checkBatch(params, 5.0,
+        "LINESTRING (0 0, 100 0)");
+  }
+
+  public void testParallel() {
+    BufferParameters params = new BufferParameters();
+    Geometry[] geoms = new Geometry[200];
+    for (int i = 0; i < geoms.length; i++) {
+      geoms[i] = i % 2 == 0
+          ? read("POINT (" + i + " " + (2 * i) + ")")
+          : read("LINESTRING (" + i + " 0, 0 " + i + ")");
+    }
+    checkBatch(params, 1.5, geoms, true);
+  }
+
+  public void testFixedPrecision() {
+    WKTReader rdr = new WKTReader(new GeometryFactory(new PrecisionModel(10)));
+    Geometry[] geoms = new Geometry[] {
+        read(rdr, "POINT (10 10)"),
+        read(rdr, "LINESTRING (10 10, 20 43)")
+    };
+    checkBatch(new BufferParameters(), 5.0, geoms, false);
+  }
+
+  private void checkBatch(int capStyle, int quadSegs, double distance, String... wkt) {
+    BufferParameters params = new BufferParameters();
+    params.setEndCapStyle(capStyle);
+    params.setQuadrantSegments(quadSegs);
+    checkBatch(params, distance, wkt);
+  }
+
+  private void checkBatch(BufferParameters params, double distance, String... wkt) {
+    checkBatch(params, distance, readArray(wkt), false);
+  }
+
+  private void checkBatch(BufferParameters params, double distance, Geometry[] geoms, boolean isParallel) {
+    Geometry[] actual = BufferOp.bufferOp(geoms, distance, params, isParallel);
+    assertEquals(geoms.length, actual.length);
+    for (int i = 0; i < geoms.length; i++) {
+      Geometry expected = BufferOp.bufferOp(geoms[i], distance, params);
+      checkValid(actual[i]);
+      checkEqual(expected, actual[i], TOLERANCE);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.locationtech.jts.operation.distance;
+
+import org.locationtech.jts.geom.Geometry;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class DistanceMatrixTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(DistanceMatrixTest.class);
+  }
+
+  public DistanceMatrixTest(String name) {
+    super(name);
+  }
+
+  private static final String[] SET_A = new String[] {
+      "POINT (0 0)",
+      "POINT (15 15)",
+      "LINESTRING (0 10, 10 20, 20 10)",
+      "POLYGON ((50 50, 90 50, 90 90, 50 90, 50 50))",
+      "POINT EMPTY",
+      "MULTIPOINT ((60 60), (100 100))"
+  };
+
+  private static final String[] SET_B = new String[] {
+      "POINT (1 1)",
+      "POINT (70 70)",
+      "LINESTRING (5 5, 25 5)",
+      "POLYGON ((10 10, 20 10, 20 20, 10 20, 10 10))",
+      "LINESTRING EMPTY",
+      "POINT (200 200)"
+  };
+
+  public void testAllPairs() {
+    checkMatrix(SET_A, SET_B, 1000, false);
+  }
+
+  public void testCutoff() {
+    checkMatrix(SET_A, SET_B, 5, false);
+    checkMatrix(SET_A, SET_B, 0, false);
+  }
+
+  public void testParallel() {
+    checkMatrix(SET_A, SET_B, 10, true);
+    checkMatrix(SET_B, SET_A, 10, true);
+  }
+
+  public void testContainment() {
+    DistanceMatrix matrix = DistanceMatrix.withinDistance(
+        readArray("POLYGON ((50 50, 90 50, 90 90, 50 90, 50 50))"),
+        readArray("POINT (70 70)", "POINT (40 70)"), 5);
+    assertEquals(1, matrix.size());
+    assertEquals(0.0, matrix.getDistance(0, 0));
+    assertTrue(Double.isNaN(matrix.getDistance(0, 1)));
+  }
+
+  private void checkMatrix(String[] wktA, String[] wktB, double maxDist, boolean isParallel) {
+    Geometry[] geomsA = readArray(wktA);
+    Geometry[] geomsB = readArray(wktB);
+    DistanceMatrix matrix = DistanceMatrix.withinDistance(geomsA, geomsB, maxDist, isParallel);
+    assertEquals(geomsA.length, matrix.getNumRows());
+    assertEquals(geomsB.length, matrix.getNumColumns());
+
+    int count = 0;
+    for (int i = 0; i < geomsA.length; i++) {
+      for (int j = 0; j < geomsB.length; j++) {
+        double actual = matrix.getDistance(i, j);
+        if (geomsA[i].isEmpty() || geomsB[j].isEmpty()) {
+          assertTrue(Double.isNaN(actual));
+          continue;
+        }
+        double expected = DistanceOp.distance(geomsA[i], geomsB[j]);
+        if (expected <= maxDist) {
+          assertEquals(expected, actual, 1e-12);
+          count++;
+        }
+        else {
+          assertTrue(Double.isNaN(actual));
+        }
+      }
+    }
+    assertEquals(count, matrix.size());
+
+    //-- check row entries are in column order
+    for (int i = 0; i < geomsA.length; i++) {
+      for (int k = matrix.getRowStart(i) + 1; k < matrix.getRowStart(i + 1); k++) {
+        assertTrue(matrix.getColumn(k - 1) < matrix.getColumn(k));
+      }
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package org.locationtech.jts.operation.distance;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.distance.IndexedFacetDistanceSet.Neighbours;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class IndexedFacetDistanceSetTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(IndexedFacetDistanceSetTest.class);
+  }
+
+  public IndexedFacetDistanceSetTest(String name) {
+    super(name);
+  }
+
+  private static final String[] TARGETS = new String[] {
+      "LINESTRING (0 0, 10 0, 10 10)",
+      "POINT (20 20)",
+      "POLYGON ((30 0, 40 0, 40 10, 30 10, 30 0))",
+      "LINESTRING EMPTY",
+      "MULTIPOINT ((0 30), (5 35))",
+      "LINESTRING (0 0, 1 1, 2 0, 3 1, 4 0, 5 1, 6 0, 7 1, 8 0, 9 1, 10 0, 11 1, 12 0, 13 1, 14 0, 15 1, 16 0)"
+  };
+
+  public void testNearestPoint() {
+    IndexedFacetDistanceSet index = new IndexedFacetDistanceSet(readArray(TARGETS));
+    assertEquals(1, index.nearestGeometry(read("POINT (19 18)")));
+    assertEquals(2, index.nearestGeometry(read("POINT (35 5)")));
+    assertEquals(4, index.nearestGeometry(read("POINT (4 36)")));
+  }
+
+  public void testNearestLine() {
+    IndexedFacetDistanceSet index = new IndexedFacetDistanceSet(readArray(TARGETS));
+    assertEquals(2, index.nearestGeometry(read("LINESTRING (25 -10, 28 10)")));
+  }
+
+  public void testNearestEmpty() {
+    IndexedFacetDistanceSet index = new IndexedFacetDistanceSet(readArray("POINT EMPTY"));
+    assertEquals(-1, index.nearestGeometry(read("POINT (1 1)")));
+    IndexedFacetDistanceSet index2 = new IndexedFacetDistanceSet(readArray(TARGETS));
+    assertEquals(-1, index2.nearestGeometry(read("POINT EMPTY")));
+  }
+
+  public void testKNearest() {
+    checkKNearest(TARGETS, "POINT (12 12)", 3);
+    checkKNearest(TARGETS, "POINT (12 12)", 10);
+    checkKNearest(TARGETS, "LINESTRING (20 -5, 25 30)", 4);
+    checkKNearest(TARGETS, "POLYGON ((12 12, 18 12, 18 18, 12 18, 12 12))", 2);
+  }
+
+  public void testWithinDistance() {
+    checkWithinDistance(TARGETS, "POINT (12 12)", 5);
+    checkWithinDistance(TARGETS, "POINT (12 12)", 20);
+    checkWithinDistance(TARGETS, "POINT (12 12)", 0);
+    checkWithinDistance(TARGETS, "LINESTRING (20 -5, 25 30)", 10);
+  }
+
+  public void testWithinDistanceInclusive() {
+    IndexedFacetDistanceSet index = new IndexedFacetDistanceSet(readArray(TARGETS));
+    Neighbours result = index.withinDistance(read("POINT (20 15)"), 5);
+    assertEquals(1, result.size());
+    assertEquals(1, result.getIndex(0));
+    assertEquals(5.0, result.getDistance(0));
+  }
+
+  private void checkKNearest(String[] wktTargets, String wktQuery, int k) {
+    Geometry[] targets = readArray(wktTargets);
+    Geometry query = read(wktQuery);
+    IndexedFacetDistanceSet index = new IndexedFacetDistanceSet(targets);
+    Neighbours result = index.kNearest(query, k);
+
+    double[] expected = sortedDistances(targets, query, Double.POSITIVE_INFINITY);
+    int expectedSize = Math.min(k, expected.length);
+    assertEquals(expectedSize, result.size());
+    checkDistances(targets, query, result, expected);
+  }
+
+  private void checkWithinDistance(String[] wktTargets, String wktQuery, double maxDist) {
+    Geometry[] targets = readArray(wktTargets);
+    Geometry query = read(wktQuery);
+    IndexedFacetDistanceSet index = new IndexedFacetDistanceSet(targets);
+    Neighbours result = index.withinDistance(query, maxDist);
+
+    double[] expected = sortedDistances(targets, query, maxDist);
+    assertEquals(expected.length, result.size());
+    checkDistances(targets, query, result, expected);
+  }
+
+  private void checkDistances(Geometry[] targets, Geometry query, Neighbours result, double[] expected) {
+    for (int i = 0; i < result.size(); i++) {
+      assertEquals(expected[i], result.getDistance(i), 1e-12);
+      double dist = IndexedFacetDistance.distance(targets[result.getIndex(i)], query);
+      assertEquals(dist, result.getDistance(i), 1e-12);
+    }
+  }
+
+  private static double[] sortedDistances(Geometry[] targets, Geometry query, double maxDist) {
+    double[] dist = new double[targets.length];
+    int n = 0;
+    for (int i = 0; i < targets.length; i++) {
+      if (targets[i].isEmpty()) continue;
+      double d = IndexedFacetDistance.distance(targets[i], query);
+      if (d <= maxDist) dist[n++] = d;
+    }
+    double[] result = Arrays.copyOf(dist, n);
+    Arrays.sort(result);
+    return result;
+  }
+}
@@ -2,6 +2,9 @@ package org.locationtech.jts.operation.distance;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.WKTReader;
 
 import junit.textui.TestRunner;
 
@@ -19,6 +22,28 @@ public class IndexedFacetDistanceTest extends BaseDistanceTest {
     return IndexedFacetDistance.nearestPoints(g1, g2);
   }
 
+  public void testPackedSequence() {
+    WKTReader packedReader = new WKTReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+    String[] wkt = new String[] { 
+        "LINESTRING (0 0, 10 0, 10 10, 20 10, 20 0, 30 0, 30 10, 40 10, 40 0, 50 0, 55 5)",
+        "POINT (12 5)",
+        "MULTIPOINT ((12 5), (60 3))",
+        "POLYGON ((0 20, 50 20, 50 30, 0 30, 0 20))"
+    };
+    for (int i = 0; i < wkt.length; i++) {
+      for (int j = 0; j < wkt.length; j++) {
+        Geometry g1 = read(wkt[i]);
+        Geometry g2 = read(wkt[j]);
+        Geometry p1 = read(packedReader, wkt[i]);
+        Geometry p2 = read(packedReader, wkt[j]);
+        double expected = distance(g1, g2);
+        assertEquals(expected, distance(p1, p2), 1e-12);
+        assertEquals(expected, distance(p1, g2), 1e-12);
+        assertEquals(expected, distance(g1, p2), 1e-12);
+      }
+    }
+  }
+
   public void testClosestPoints7() {
     // skip this test for now, since it relies on checking point-in-polygon
   }
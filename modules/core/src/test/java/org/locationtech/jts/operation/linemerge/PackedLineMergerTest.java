@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.operation.linemerge;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class PackedLineMergerTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PackedLineMergerTest.class);
+  }
+
+  public PackedLineMergerTest(String name) {
+    super(name);
+  }
+
+  public void testChain() {
+    checkMerge("MULTILINESTRING ((120 300, 80 340), (120 300, 140 320, 160 320), (40 320, 20 340, 0 320), (0 320, 20 300, 40 320), (40 320, 60 320, 80 340), (160 320, 180 340, 200 320), (200 320, 180 300, 160 320))");
+  }
+
+  public void testCrossing() {
+    checkMerge("MULTILINESTRING ((0 0, 100 100), (0 100, 100 0))");
+  }
+
+  public void testEmptyAndDegenerate() {
+    checkMerge("GEOMETRYCOLLECTION (LINESTRING EMPTY, LINESTRING (10642 31441, 10642 31441), LINESTRING (1 1, 1 1, 2 2))");
+  }
+
+  public void testMajorityDirection() {
+    checkMerge("MULTILINESTRING ((0 0, 1 1), (2 2, 1 1), (3 3, 2 2))");
+  }
+
+  public void testLollipop() {
+    checkMerge("MULTILINESTRING ((0 0, 1 0), (1 0, 2 0, 2 1), (2 1, 1 0))");
+  }
+
+  public void testClosedLineAtNode() {
+    checkMerge("MULTILINESTRING ((0 0, 1 0), (1 0, 2 1, 2 -1, 1 0), (1 0, 1 1))");
+  }
+
+  public void testIsolatedLoops() {
+    checkMerge("MULTILINESTRING ((5 5, 6 5, 6 6), (6 6, 5 6, 5 5), (0 0, 1 0, 1 1, 0 0), (10 10, 11 10), (11 10, 11 11, 10 10))");
+  }
+
+  public void testRandomGridNetwork() {
+    Geometry lines = createGridNetwork(20, 0.6);
+    checkMerge(lines);
+  }
+
+  public void testGetMergedLine() {
+    Geometry lines = createGridNetwork(10, 0.6);
+    PackedLineMerger merger = new PackedLineMerger();
+    merger.add(lines);
+    Collection<LineString> merged = merger.getMergedLineStrings();
+    assertEquals(merged.size(), merger.getNumMergedLines());
+    int i = 0;
+    for (LineString line : merged) {
+      assertTrue(line.equalsExact(merger.getMergedLine(i++)));
+    }
+  }
+
+  //------------------------------------------------------------
+
+  private void checkMerge(String wkt) {
+    checkMerge(read(wkt));
+  }
+
+  /**
+   * Checks that the merged lines are identical to those of {@link LineMerger},
+   * in the same order, for both sequential and parallel computation.
+   */
+  private void checkMerge(Geometry lines) {
+    LineMerger lineMerger = new LineMerger();
+    lineMerger.add(lines);
+    Collection expected = lineMerger.getMergedLineStrings();
+    checkMerge(lines, false, expected);
+    checkMerge(lines, true, expected);
+  }
+
+  private void checkMerge(Geometry lines, boolean isParallel, Collection expected) {
+    PackedLineMerger merger = new PackedLineMerger();
+    merger.setParallel(isParallel);
+    merger.add(lines);
+    Collection<LineString> actual = merger.getMergedLineStrings();
+    assertEquals(expected.size(), actual.size());
+    Iterator itExpected = expected.iterator();
+    for (LineString line : actual) {
+      Geometry expectedLine = (Geometry) itExpected.next();
+      assertTrue("Expected " + expectedLine + " but found " + line,
+          expectedLine.equalsExact(line));
+    }
+  }
+
+  /**
+   * Creates a network of the edges of a grid,
+   * with a random subset of edges included
+   * in random directions.
+   */
+  private Geometry createGridNetwork(int size, double density) {
+    Random rnd = new Random(17);
+    List<LineString> lines = new ArrayList<LineString>();
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        if (rnd.nextDouble() < density)
+          lines.add(createEdge(rnd, i, j, i + 1, j));
+        if (rnd.nextDouble() < density)
+          lines.add(createEdge(rnd, i, j, i, j + 1));
+      }
+    }
+    return getGeometryFactory().buildGeometry(lines);
+  }
+
+  private LineString createEdge(Random rnd, int x0, int y0, int x1, int y1) {
+    Coordinate p0 = new Coordinate(x0, y0);
+    Coordinate mid = new Coordinate((x0 + x1) / 2.0 + 0.1 * rnd.nextDouble(), (y0 + y1) / 2.0);
+    Coordinate p1 = new Coordinate(x1, y1);
+    Coordinate[] pts = rnd.nextBoolean()
+        ? new Coordinate[] { p0, mid, p1 }
+        : new Coordinate[] { p1, mid, p0 };
+    return getGeometryFactory().createLineString(pts);
+  }
+}
@@ -11,10 +11,14 @@
  */
 package org.locationtech.jts.operation.polygonize;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Polygon;
 
 import test.jts.GeometryTestCase;
 
@@ -176,6 +180,30 @@ public class PolygonizerTest extends GeometryTestCase {
         );
   }
 
+  public void testParallelNestedGrid() {
+    checkPolygonizeParallel(false, createNestedSquareGrid(20));
+    checkPolygonizeParallel(true, createNestedSquareGrid(20));
+  }
+
+  /**
+   * Tests many connected components containing cut edges and dangles.
+   */
+  public void testParallelComponentsWithCutEdges() {
+    List<Geometry> lines = new ArrayList<Geometry>();
+    for (int i = 0; i < 20; i++) {
+      for (int j = 0; j < 20; j++) {
+        double x = 2 * i;
+        double y = 2 * j;
+        lines.add(getGeometryFactory().toGeometry(new Envelope(x, x + 1, y, y + 1)).getBoundary());
+        lines.add(getGeometryFactory().toGeometry(new Envelope(x + 0.6, x + 0.8, y + 0.6, y + 0.8)).getBoundary());
+        //-- cut edge between the squares, and a dangle
+        lines.add(read("LINESTRING (" + (x + 1) + " " + (y + 1) + ", " + (x + 0.8) + " " + (y + 0.8) + ")"));
+        lines.add(read("LINESTRING (" + x + " " + y + ", " + (x + 0.3) + " " + (y + 0.1) + ")"));
+      }
+    }
+    checkPolygonizeParallel(false, lines);
+    checkPolygonizeParallel(true, lines);
+  }
 
 /*
   public void test2() {
@@ -204,13 +232,65 @@ public class PolygonizerTest extends GeometryTestCase {
   }
 
   private void checkPolygonize(boolean extractOnlyPolygonal, String[] inputWKT, String[] expectedWKT) {
+    List expected = readList(expectedWKT);
+    checkPolygonize(extractOnlyPolygonal, false, inputWKT, expected);
+    checkPolygonize(extractOnlyPolygonal, true, inputWKT, expected);
+  }
+
+  private void checkPolygonize(boolean extractOnlyPolygonal, boolean isParallel, String[] inputWKT, List expected) {
     Polygonizer polygonizer = new Polygonizer(extractOnlyPolygonal);
+    polygonizer.setParallel(isParallel);
     polygonizer.add(readList(inputWKT));
-    List expected = readList(expectedWKT);
     Collection actual = polygonizer.getPolygons();
     checkEqual(expected, actual);
   }
 
+  /**
+   * Checks that parallel polygonization produces 
+   * exactly the same polygons, in the same order, as sequential.
+   */
+  private void checkPolygonizeParallel(boolean extractOnlyPolygonal, List<Geometry> input) {
+    Polygonizer polygonizer = new Polygonizer(extractOnlyPolygonal);
+    polygonizer.add(input);
+    Collection expected = polygonizer.getPolygons();
+
+    Polygonizer polygonizerPar = new Polygonizer(extractOnlyPolygonal);
+    polygonizerPar.setParallel(true);
+    polygonizerPar.add(input);
+    Collection actual = polygonizerPar.getPolygons();
+
+    assertEquals(expected.size(), actual.size());
+    Iterator itExpected = expected.iterator();
+    Iterator itActual = actual.iterator();
+    while (itExpected.hasNext()) {
+      Polygon polyExpected = (Polygon) itExpected.next();
+      Polygon polyActual = (Polygon) itActual.next();
+      assertTrue(polyExpected.equalsExact(polyActual));
+    }
+    assertEquals(polygonizer.getCutEdges(), polygonizerPar.getCutEdges());
+    assertEquals(polygonizer.getDangles(), polygonizerPar.getDangles());
+    assertEquals(polygonizer.getInvalidRingLines(), polygonizerPar.getInvalidRingLines());
+  }
+
+  /**
+   * Creates the linework of a grid of squares,
+   * each containing a smaller square, which in turn contains a smaller one.
+   */
+  private List<Geometry> createNestedSquareGrid(int size) {
+    List<Geometry> lines = new ArrayList<Geometry>();
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        for (int k = 0; k < 3; k++) {
+          double inset = 0.15 * k;
+          Envelope env = new Envelope(i + inset, i + 1 - inset, j + inset, j + 1 - inset);
+          Polygon square = (Polygon) getGeometryFactory().toGeometry(env);
+          lines.add(square.getExteriorRing());
+        }
+      }
+    }
+    return lines;
+  }
+
   private void checkPolygonizeNoError(String[] inputWKT) {
     Polygonizer polygonizer = new Polygonizer();
     polygonizer.add(readList(inputWKT));
@@ -224,7 +304,13 @@ public class PolygonizerTest extends GeometryTestCase {
   }
   
   private void checkPolygonizeInvalidRings(String inputWKT, String expectedWKT) {
+    checkPolygonizeInvalidRings(false, inputWKT, expectedWKT);
+    checkPolygonizeInvalidRings(true, inputWKT, expectedWKT);
+  }
+
+  private void checkPolygonizeInvalidRings(boolean isParallel, String inputWKT, String expectedWKT) {
     Polygonizer polygonizer = new Polygonizer();
+    polygonizer.setParallel(isParallel);
     polygonizer.add(read(inputWKT));
     Collection actualList = polygonizer.getInvalidRingLines();
     Geometry expected = read(expectedWKT);
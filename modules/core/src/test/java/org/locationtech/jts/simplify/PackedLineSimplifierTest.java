@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.simplify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that {@link PackedDouglasPeuckerSimplifier} and {@link PackedVWSimplifier}
+ * compute the same results as the line simplifiers they replace.
+ */
+public class PackedLineSimplifierTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PackedLineSimplifierTest.class);
+  }
+
+  public PackedLineSimplifierTest(String name) {
+    super(name);
+  }
+
+  public void testDPSimple() {
+    checkDP(new double[] { 0, 0, 5, 1, 10, 0, 10, 10 }, 2, 0.5, false,
+        new double[] { 0, 0, 5, 1, 10, 0, 10, 10 });
+    checkDP(new double[] { 0, 0, 5, 1, 10, 0, 10, 10 }, 2, 2, false,
+        new double[] { 0, 0, 10, 0, 10, 10 });
+  }
+
+  public void testDPRingEndpoint() {
+    double[] ring = new double[] { 5, 0, 10, 0, 10, 10, 0, 10, 0, 0, 5, 0 };
+    checkDP(ring, 2, 1, true, ring);
+    checkDP(ring, 2, 1, false,
+        new double[] { 10, 0, 10, 10, 0, 10, 0, 0, 10, 0 });
+  }
+
+  public void testVWSimple() {
+    checkVW(new double[] { 0, 0, 5, 1, 10, 0, 10, 10 }, 2, 3,
+        new double[] { 0, 0, 10, 0, 10, 10 });
+  }
+
+  public void testVWSinglePoint() {
+    checkVW(new double[] { 1, 2 }, 2, 1, new double[] { 1, 2, 1, 2 });
+  }
+
+  public void testVWRepeatedPoints() {
+    checkVW(new double[] { 0, 0, 5, 5, 5, 5, 10, 0 }, 2, 0,
+        new double[] { 0, 0, 5, 5, 10, 0 });
+    checkVW(new double[] { 0, 0, 0, 0, 10, 0 }, 2, 0,
+        new double[] { 0, 0, 10, 0 });
+    checkVW(new double[] { 1, 2, 1, 2, 1, 2 }, 2, 0,
+        new double[] { 1, 2, 1, 2 });
+  }
+
+  public void testXYZ() {
+    double[] coords = new double[] { 0, 0, 1, 5, 0.1, 2, 10, 0, 3 };
+    checkDP(coords, 3, 1, false, new double[] { 0, 0, 1, 10, 0, 3 });
+    checkVW(coords, 3, 1, new double[] { 0, 0, 1, 10, 0, 3 });
+  }
+
+  public void testSection() {
+    double[] coords = new double[] { 99, 99, 0, 0, 5, 0.1, 10, 0, 99, 99 };
+    PackedDouglasPeuckerSimplifier simp = new PackedDouglasPeuckerSimplifier();
+    simp.setDistanceTolerance(1);
+    int n = simp.simplify(coords, 2, 1, 4);
+    assertEquals(2, n);
+    checkEqualXY(new double[] { 0, 0, 10, 0 }, simp.getResult(), 2 * n);
+  }
+
+  public void testPackedSequence() {
+    PackedCoordinateSequence.Double seq = new PackedCoordinateSequence.Double(
+        new double[] { 0, 0, 1, 5, 0.1, 2, 10, 0, 3 }, 3, 1);
+    PackedVWSimplifier simp = new PackedVWSimplifier();
+    simp.setDistanceTolerance(1);
+    simp.simplify(seq);
+    CoordinateSequence result = simp.getResultSequence(CoordinateArraySequenceFactory.instance());
+    assertEquals(2, result.size());
+    assertEquals(1, result.getMeasures());
+    assertEquals(3.0, result.getM(1));
+  }
+
+  public void testRandomLines() {
+    Random rnd = new Random(17);
+    PackedDouglasPeuckerSimplifier dp = new PackedDouglasPeuckerSimplifier();
+    PackedVWSimplifier vw = new PackedVWSimplifier();
+    for (int i = 0; i < 200; i++) {
+      //-- vary size to exercise buffer reuse
+      int numPts = 2 + rnd.nextInt(i % 10 == 0 ? 2000 : 50);
+      boolean isRing = i % 3 == 0 && numPts >= 4;
+      //-- integer ordinates provide many ties
+      boolean isGrid = i % 2 == 0;
+      Coordinate[] pts = createRandomWalk(rnd, numPts, isRing, isGrid);
+      double tol = rnd.nextDouble() * 5;
+
+      dp.setDistanceTolerance(tol);
+      dp.setPreserveEndpoint(i % 4 == 0);
+      checkSame(DouglasPeuckerLineSimplifier.simplify(pts, tol, i % 4 == 0), dp, pts);
+
+      vw.setDistanceTolerance(tol);
+      checkSame(VWLineSimplifier.simplify(pts, tol), vw, pts);
+    }
+  }
+
+  public void testRepeatedPointsZeroTolerance() {
+    Random rnd = new Random(23);
+    PackedDouglasPeuckerSimplifier dp = new PackedDouglasPeuckerSimplifier();
+    PackedVWSimplifier vw = new PackedVWSimplifier();
+    dp.setDistanceTolerance(0);
+    vw.setDistanceTolerance(0);
+    for (int i = 0; i < 200; i++) {
+      int numPts = 2 + rnd.nextInt(50);
+      boolean isRing = i % 2 == 0 && numPts >= 4;
+      Coordinate[] pts = createRandomWalk(rnd, numPts, isRing, i % 4 < 2);
+      pts = repeatPoints(rnd, pts);
+
+      dp.setPreserveEndpoint(i % 3 == 0);
+      checkSame(DouglasPeuckerLineSimplifier.simplify(pts, 0, i % 3 == 0), dp, pts);
+      checkSame(VWLineSimplifier.simplify(pts, 0), vw, pts);
+    }
+  }
+
+  //------------------------------------------------------------
+
+  private void checkDP(double[] coords, int dim, double tol, boolean isPreserveEndpoint, double[] expected) {
+    PackedDouglasPeuckerSimplifier simp = new PackedDouglasPeuckerSimplifier();
+    simp.setDistanceTolerance(tol);
+    simp.setPreserveEndpoint(isPreserveEndpoint);
+    int n = simp.simplify(coords, dim, 0, coords.length / dim);
+    assertEquals(expected.length / dim, n);
+    checkEqualXY(expected, simp.getResult(), n * dim);
+  }
+
+  private void checkVW(double[] coords, int dim, double tol, double[] expected) {
+    PackedVWSimplifier simp = new PackedVWSimplifier();
+    simp.setDistanceTolerance(tol);
+    int n = simp.simplify(coords, dim, 0, coords.length / dim);
+    assertEquals(expected.length / dim, n);
+    checkEqualXY(expected, simp.getResult(), n * dim);
+  }
+
+  private void checkEqualXY(double[] expected, double[] actual, int len) {
+    for (int i = 0; i < len; i++) {
+      assertEquals(expected[i], actual[i]);
+    }
+  }
+
+  private void checkSame(Coordinate[] expected, PackedLineSimplifier simp, Coordinate[] pts) {
+    double[] coords = new double[2 * pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      coords[2 * i] = pts[i].x;
+      coords[2 * i + 1] = pts[i].y;
+    }
+    int n = simp.simplify(coords, 2, 0, pts.length);
+    assertEquals(expected.length, n);
+    double[] result = simp.getResult();
+    for (int i = 0; i < n; i++) {
+      assertEquals(expected[i].x, result[2 * i]);
+      assertEquals(expected[i].y, result[2 * i + 1]);
+    }
+  }
+
+  /**
+   * Repeats some points of a line, including its endpoints.
+   */
+  private static Coordinate[] repeatPoints(Random rnd, Coordinate[] pts) {
+    List<Coordinate> result = new ArrayList<Coordinate>();
+    for (int i = 0; i < pts.length; i++) {
+      int count = (i == 0 || i == pts.length - 1 || rnd.nextInt(3) == 0) ? 1 + rnd.nextInt(3) : 1;
+      for (int k = 0; k < count; k++) {
+        result.add(pts[i].copy());
+      }
+    }
+    return result.toArray(new Coordinate[0]);
+  }
+
+  private static Coordinate[] createRandomWalk(Random rnd, int numPts, boolean isRing, boolean isGrid) {
+    Coordinate[] pts = new Coordinate[numPts];
+    double x = 0;
+    double y = 0;
+    for (int i = 0; i < numPts; i++) {
+      pts[i] = new Coordinate(x, y);
+      if (isGrid) {
+        x += rnd.nextInt(3) - 1;
+        y += rnd.nextInt(3) - 1;
+      }
+      else {
+        x += rnd.nextDouble() * 2 - 0.9;
+        y += rnd.nextDouble() * 2 - 1;
+      }
+    }
+    if (isRing) {
+      pts[numPts - 1] = pts[0].copy();
+    }
+    return pts;
+  }
+}
@@ -12,7 +12,13 @@
 
 package org.locationtech.jts.simplify;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
 
 import test.jts.GeometryTestCase;
 
@@ -245,6 +251,43 @@ public class TopologyPreservingSimplifierTest
         "POLYGON ((-222618.41756525903 6299886.966175825, -222510 6300300, -221720.85158014414 6300132.680680807, -222448.77936063593 6299647.669870703, -222618.41756525903 6299886.966175825), (-222467.0202338936 6299970.185860572, -222456.57057590774 6299931.950053182, -222490.56062790897 6299837.359974515, -222415.1394852571 6299926.6972160805, -222421.19226152284 6299963.389132584, -222467.0202338936 6299970.185860572))");
   }
   
+  /**
+   * Tests parallel simplification of many polygons,
+   * which are partitioned into several levels and cells.
+   * The polygons are disjoint, so the result is the same as
+   * the sequential result.
+   */
+  public void testParallelPolygonGrid() {
+    Geometry geom = createWavyPolygonGrid(20, false);
+    checkParallelSameAsSequential(geom, 0.6);
+  }
+
+  /**
+   * Tests parallel simplification of polygons with holes
+   * which extend across the partition cells.
+   */
+  public void testParallelPolygonWithHoles() {
+    Geometry geom = createWavyPolygonGrid(20, true);
+    TopologyPreservingSimplifier tps = new TopologyPreservingSimplifier(geom);
+    tps.setParallel(true);
+    Geometry[] results = tps.getResultGeometries(new double[] { 0.5, 2, 10 });
+    for (Geometry result : results) {
+      checkValid(result);
+      assertEquals(geom.getNumGeometries(), result.getNumGeometries());
+      assertEquals(((Polygon) geom.getGeometryN(0)).getNumInteriorRing(),
+          ((Polygon) result.getGeometryN(0)).getNumInteriorRing());
+    }
+  }
+
+  public void testMultipleTolerances() {
+    Geometry geom = createWavyPolygonGrid(5, true);
+    double[] tolerances = new double[] { 0, 0.5, 2, 10 };
+    Geometry[] results = TopologyPreservingSimplifier.simplify(geom, tolerances);
+    for (int i = 0; i < tolerances.length; i++) {
+      checkEqual(TopologyPreservingSimplifier.simplify(geom, tolerances[i]), results[i]);
+    }
+  }
+
   private void checkTPS(String wkt, double tolerance, String wktExpected) {
     Geometry geom = read(wkt);
     Geometry actual = TopologyPreservingSimplifier.simplify(geom, tolerance);
@@ -252,6 +295,67 @@ public class TopologyPreservingSimplifierTest
     //TODO: add this once the "skipping over rings" problem is fixed
     //checkValid(actual);
     checkEqual(expected, actual);
+    
+    TopologyPreservingSimplifier tps = new TopologyPreservingSimplifier(geom);
+    tps.setParallel(true);
+    Geometry[] results = tps.getResultGeometries(new double[] { tolerance, tolerance });
+    checkEqual(expected, results[0]);
+    checkEqual(expected, results[1]);
+  }
+
+  private void checkParallelSameAsSequential(Geometry geom, double tolerance) {
+    Geometry expected = TopologyPreservingSimplifier.simplify(geom, tolerance);
+    TopologyPreservingSimplifier tps = new TopologyPreservingSimplifier(geom);
+    tps.setDistanceTolerance(tolerance);
+    tps.setParallel(true);
+    Geometry actual = tps.getResultGeometry();
+    checkValid(actual);
+    checkEqual(expected, actual);
+  }
+
+  /**
+   * Creates a grid of polygons with wavy edges.
+   * Optionally they are holes in a single large polygon.
+   */
+  private Geometry createWavyPolygonGrid(int size, boolean isHoles) {
+    List<LinearRing> rings = new ArrayList<LinearRing>();
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        rings.add(createWavyRing(10 * i + 1, 10 * j + 1, 8));
+      }
+    }
+    if (isHoles) {
+      LinearRing shell = createWavyRing(-10, -10, 10 * size + 20);
+      Polygon poly = getGeometryFactory().createPolygon(shell,
+          rings.toArray(new LinearRing[0]));
+      return getGeometryFactory().createMultiPolygon(new Polygon[] { poly });
+    }
+    Polygon[] polys = new Polygon[rings.size()];
+    for (int i = 0; i < polys.length; i++) {
+      polys[i] = getGeometryFactory().createPolygon(rings.get(i));
+    }
+    return getGeometryFactory().createMultiPolygon(polys);
+  }
+
+  private LinearRing createWavyRing(double x0, double y0, double size) {
+    int n = 40;
+    Coordinate[] pts = new Coordinate[4 * n + 1];
+    for (int side = 0; side < 4; side++) {
+      for (int k = 0; k < n; k++) {
+        double t = size * k / n;
+        double wave = 0.8 * Math.sin(Math.PI * 4 * k / n);
+        Coordinate p;
+        switch (side) {
+        case 0: p = new Coordinate(x0 + t, y0 + wave); break;
+        case 1: p = new Coordinate(x0 + size - wave, y0 + t); break;
+        case 2: p = new Coordinate(x0 + size - t, y0 + size - wave); break;
+        default: p = new Coordinate(x0 + wave, y0 + size - t); break;
+        }
+        pts[side * n + k] = p;
+      }
+    }
+    pts[4 * n] = pts[0].copy();
+    return getGeometryFactory().createLinearRing(pts);
   }
   
   private void checkTPSNoChange(String wkt, double tolerance) {
@@ -66,6 +66,20 @@ public class VWSimplifierTest
         .setExpectedResult("POLYGON ((1721270 693090, 1721400 693090, 1721400 692960, 1721270 692960, 1721270 693090), (1721355.3 693015.146, 1721318.687 693046.251, 1721367.025 692978.29, 1721355.3 693015.146))")
         .test();
   }
+  public void testLineRepeatedPoints() throws Exception {
+    new GeometryOperationValidator(
+        VWSimplifierResult.getResult(
+      "LINESTRING (0 0, 5 5, 5 5, 10 0)",
+        0.0))
+        .setExpectedResult("LINESTRING (0 0, 5 5, 10 0)")
+        .test();
+    new GeometryOperationValidator(
+        VWSimplifierResult.getResult(
+      "LINESTRING (0 0, 0 0, 10 0)",
+        0.0))
+        .setExpectedResult("LINESTRING (0 0, 10 0)")
+        .test();
+  }
 
  
 }
@@ -0,0 +1,172 @@
+package org.locationtech.jts.triangulate;
+
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.ConvexHull;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.operation.overlayng.CoverageUnion;
+import org.locationtech.jts.triangulate.quadedge.TrianglePredicate;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class HalfEdgeDelaunayTriangulatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(HalfEdgeDelaunayTriangulatorTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public HalfEdgeDelaunayTriangulatorTest(String name) { super(name); }
+
+  public void testTriangle() {
+    String wkt = "MULTIPOINT ((10 10 1), (10 20 2), (20 20 3))";
+    checkEdges(wkt, "MULTILINESTRING ((10 20, 20 20), (10 10, 10 20), (10 10, 20 20))");
+    checkTriangles(wkt, "GEOMETRYCOLLECTION (POLYGON ((10 20, 10 10, 20 20, 10 20)))");
+  }
+
+  public void testRandom() {
+    String wkt = "MULTIPOINT ((50 40), (140 70), (80 100), (130 140), (30 150), (70 180), (190 110), (120 20))";
+    checkEdges(wkt, "MULTILINESTRING ((70 180, 190 110), (30 150, 70 180), (30 150, 50 40), (50 40, 120 20), (190 110, 120 20), (120 20, 140 70), (190 110, 140 70), (130 140, 140 70), (130 140, 190 110), (70 180, 130 140), (80 100, 130 140), (70 180, 80 100), (30 150, 80 100), (50 40, 80 100), (80 100, 120 20), (80 100, 140 70))");
+    checkSameAsBuilder(wkt);
+  }
+
+  public void testGrid() {
+    checkValid("MULTIPOINT ((10 10), (10 20), (20 20), (20 10), (20 0), (10 0), (0 0), (0 10), (0 20))", 8);
+  }
+
+  public void testCollinearHull() {
+    checkValid("MULTIPOINT ((0 0), (1 0), (2 0), (3 0), (4 0), (2 1), (5 0), (-1 0))", 6);
+  }
+
+  public void testDuplicates() {
+    checkValid("MULTIPOINT ((0 0), (10 0), (0 0), (10 0), (5 5), (5 5), (5 -5))", 2);
+  }
+
+  public void testCollinear() {
+    checkEdges("MULTIPOINT ((0 0), (20 20), (10 10), (30 30), (10 10))",
+        "MULTILINESTRING ((0 0, 10 10), (10 10, 20 20), (20 20, 30 30))");
+    checkTriangles("MULTIPOINT ((0 0), (20 20), (10 10))", "GEOMETRYCOLLECTION EMPTY");
+  }
+
+  public void testFewPoints() {
+    checkEdges("MULTIPOINT ((0 0), (20 20))", "MULTILINESTRING ((0 0, 20 20))");
+    checkEdges("MULTIPOINT ((0 0))", "MULTILINESTRING EMPTY");
+    checkEdges("MULTIPOINT EMPTY", "MULTILINESTRING EMPTY");
+  }
+
+  public void testFrameTooSmallBug() {
+    checkTriangles("MULTIPOINT ((0 194), (66 151), (203 80), (273 43), (340 0))",
+        "GEOMETRYCOLLECTION (POLYGON ((0 194, 66 151, 203 80, 0 194)), POLYGON ((0 194, 203 80, 273 43, 0 194)), POLYGON ((273 43, 203 80, 340 0, 273 43)), POLYGON ((340 0, 203 80, 66 151, 340 0)))");
+  }
+
+  public void testNarrow_GEOS_719() {
+    checkSameAsBuilder("MULTIPOINT ((1139294.6389832513 8201313.534695469), (1139360.8549531854 8201271.189805277), (1139497.5995843115 8201199.995542546), (1139567.7837303514 8201163.348533507), (1139635.3942210067 8201119.902527407))");
+  }
+
+  public void testNarrow_GH477() {
+    checkTriangles("MULTIPOINT ((0 0), (1 0), (-1 0.05), (0 0))",
+        "GEOMETRYCOLLECTION (POLYGON ((-1 0.05, 1 0, 0 0, -1 0.05)))");
+    checkTriangles("MULTIPOINT ((0 0), (0 486), (1 486), (1 22), (2 22), (2 0))",
+        "GEOMETRYCOLLECTION (POLYGON ((0 0, 0 486, 1 22, 0 0)), POLYGON ((0 0, 1 22, 2 0, 0 0)), POLYGON ((0 486, 1 486, 1 22, 0 486)), POLYGON ((1 22, 1 486, 2 22, 1 22)), POLYGON ((1 22, 2 22, 2 0, 1 22)))");
+  }
+
+  public void testNarrow_Shapely_1873() {
+    checkSameAsBuilder("MULTIPOINT ((584245.72096874 7549593.72686167), (584251.71398371 7549594.01629478), (584242.72446125 7549593.58214511), (584230.73978847 7549592.9760418), (584233.73581213 7549593.13045099), (584236.7318358 7549593.28486019), (584239.72795377 7549593.43742855), (584227.74314188 7549592.83423486))");
+  }
+
+  public void testRandomPoints() {
+    Coordinate[] pts = randomPoints(2000, 1);
+    checkSameAsBuilder(geomFact.createMultiPointFromCoords(pts));
+  }
+
+  public void testRandomGridPoints() {
+    Random random = new Random(7);
+    Coordinate[] pts = new Coordinate[1000];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(random.nextInt(40), random.nextInt(40));
+    }
+    checkDelaunay(new HalfEdgeDelaunayTriangulator(pts), geomFact.createMultiPointFromCoords(pts));
+  }
+
+  public void testPackedOrdinates() {
+    Coordinate[] pts = randomPoints(500, 3);
+    double[] xy = new double[2 * pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      xy[2 * i] = pts[i].x;
+      xy[2 * i + 1] = pts[i].y;
+    }
+    HalfEdgeDelaunayTriangulator triangulator = new HalfEdgeDelaunayTriangulator(xy);
+    Geometry expected = new HalfEdgeDelaunayTriangulator(pts).getTriangles(geomFact);
+    checkEqual(expected.norm(), triangulator.getTriangles(geomFact).norm());
+  }
+
+  private Coordinate[] randomPoints(int n, long seed) {
+    Random random = new Random(seed);
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(1000 * random.nextDouble(), 1000 * random.nextDouble());
+    }
+    return pts;
+  }
+
+  private void checkEdges(String sitesWKT, String expectedWKT) {
+    Geometry sites = read(sitesWKT);
+    Geometry result = new HalfEdgeDelaunayTriangulator(sites.getCoordinates()).getEdges(geomFact);
+    checkEqual(read(expectedWKT).norm(), result.norm());
+  }
+
+  private void checkTriangles(String sitesWKT, String expectedWKT) {
+    Geometry sites = read(sitesWKT);
+    Geometry result = new HalfEdgeDelaunayTriangulator(sites.getCoordinates()).getTriangles(geomFact);
+    checkEqual(read(expectedWKT).norm(), result.norm());
+  }
+
+  private void checkSameAsBuilder(String sitesWKT) {
+    checkSameAsBuilder(read(sitesWKT));
+  }
+
+  private void checkSameAsBuilder(Geometry sites) {
+    DelaunayTriangulationBuilder builder = new DelaunayTriangulationBuilder();
+    builder.setSites(sites);
+    Geometry expected = builder.getTriangles(geomFact);
+    Geometry result = new HalfEdgeDelaunayTriangulator(sites.getCoordinates()).getTriangles(geomFact);
+    checkEqual(expected.norm(), result.norm());
+  }
+
+  private void checkValid(String sitesWKT, int expectedNumTri) {
+    Geometry sites = read(sitesWKT);
+    HalfEdgeDelaunayTriangulator triangulator = new HalfEdgeDelaunayTriangulator(sites.getCoordinates());
+    assertEquals(expectedNumTri, triangulator.getNumTriangles());
+    checkDelaunay(triangulator, sites);
+  }
+
+  /**
+   * Checks that the triangles cover the convex hull of the sites
+   * and that no site lies inside a triangle circumcircle.
+   */
+  private void checkDelaunay(HalfEdgeDelaunayTriangulator triangulator, Geometry sites) {
+    Geometry tris = triangulator.getTriangles(geomFact);
+    Geometry union = CoverageUnion.union(tris);
+    Geometry hull = new ConvexHull(sites).getConvexHull();
+    assertEquals(hull.getArea(), tris.getArea(), 1e-6);
+    assertTrue("hulls do not match", union.equalsTopo(hull));
+
+    int[] triVerts = triangulator.getTriangleVertices();
+    for (int i = 0; i < triVerts.length; i += 3) {
+      Coordinate a = pt(triangulator, triVerts[i]);
+      Coordinate b = pt(triangulator, triVerts[i + 1]);
+      Coordinate c = pt(triangulator, triVerts[i + 2]);
+      for (int j = 0; j < triangulator.getNumPoints(); j++) {
+        assertFalse(TrianglePredicate.isInCircleDDSlow(a, b, c, pt(triangulator, j)));
+      }
+    }
+  }
+
+  private static Coordinate pt(HalfEdgeDelaunayTriangulator triangulator, int i) {
+    return new Coordinate(triangulator.getX(i), triangulator.getY(i));
+  }
+}
@@ -0,0 +1,94 @@
+package org.locationtech.jts.triangulate;
+
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.ConvexHull;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.operation.overlayng.CoverageUnion;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class ParallelDelaunayTriangulatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(ParallelDelaunayTriangulatorTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public ParallelDelaunayTriangulatorTest(String name) { super(name); }
+
+  public void testSmall() {
+    String wkt = "MULTIPOINT ((50 40), (140 70), (80 100), (130 140), (30 150), (70 180), (190 110), (120 20))";
+    checkSameAsSequential(read(wkt).getCoordinates(), 4);
+  }
+
+  public void testCollinear() {
+    Geometry sites = read("MULTIPOINT ((0 0), (20 20), (10 10), (30 30), (10 10))");
+    ParallelDelaunayTriangulator triangulator = new ParallelDelaunayTriangulator(sites.getCoordinates());
+    assertEquals(0, triangulator.getNumTriangles());
+    checkEqual(read("MULTILINESTRING ((0 0, 10 10), (10 10, 20 20), (20 20, 30 30))").norm(),
+        triangulator.getEdges(geomFact).norm());
+  }
+
+  public void testRandom() {
+    Coordinate[] pts = randomPoints(5000, 1);
+    checkSameAsSequential(pts, 2);
+    checkSameAsSequential(pts, 4);
+    checkSameAsSequential(pts, 16);
+  }
+
+  public void testRandomClustered() {
+    Random random = new Random(5);
+    Coordinate[] pts = new Coordinate[3000];
+    for (int i = 0; i < pts.length; i++) {
+      double r = 10 * Math.abs(random.nextGaussian());
+      double ang = 2 * Math.PI * random.nextDouble();
+      pts[i] = new Coordinate(r * Math.cos(ang), r * Math.sin(ang));
+    }
+    checkSameAsSequential(pts, 8);
+  }
+
+  public void testGrid() {
+    Coordinate[] pts = new Coordinate[50 * 50];
+    for (int i = 0; i < 50; i++) {
+      for (int j = 0; j < 50; j++) {
+        pts[50 * i + j] = new Coordinate(i, j);
+      }
+    }
+    ParallelDelaunayTriangulator triangulator = new ParallelDelaunayTriangulator(pts);
+    triangulator.setNumPartitions(4);
+    assertEquals(2 * 49 * 49, triangulator.getNumTriangles());
+    Geometry tris = triangulator.getTriangles(geomFact);
+    assertEquals(49.0 * 49.0, tris.getArea(), 1e-9);
+    Geometry union = CoverageUnion.union(tris);
+    assertTrue(union.equalsTopo(new ConvexHull(pts, geomFact).getConvexHull()));
+  }
+
+  public void testEdges() {
+    Coordinate[] pts = randomPoints(1000, 2);
+    ParallelDelaunayTriangulator triangulator = new ParallelDelaunayTriangulator(pts);
+    triangulator.setNumPartitions(4);
+    Geometry expected = new HalfEdgeDelaunayTriangulator(pts).getEdges(geomFact);
+    checkEqual(expected.norm(), triangulator.getEdges(geomFact).norm());
+  }
+
+  private Coordinate[] randomPoints(int n, long seed) {
+    Random random = new Random(seed);
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(1000 * random.nextDouble(), 1000 * random.nextDouble());
+    }
+    return pts;
+  }
+
+  private void checkSameAsSequential(Coordinate[] pts, int numPartitions) {
+    ParallelDelaunayTriangulator triangulator = new ParallelDelaunayTriangulator(pts);
+    triangulator.setNumPartitions(numPartitions);
+    Geometry expected = new HalfEdgeDelaunayTriangulator(pts).getTriangles(geomFact);
+    checkEqual(expected.norm(), triangulator.getTriangles(geomFact).norm());
+  }
+}
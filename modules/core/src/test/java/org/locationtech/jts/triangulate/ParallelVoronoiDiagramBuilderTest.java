@@ -0,0 +1,76 @@
+package org.locationtech.jts.triangulate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class ParallelVoronoiDiagramBuilderTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(ParallelVoronoiDiagramBuilderTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+
+  public ParallelVoronoiDiagramBuilderTest(String name) { super(name); }
+
+  public void testSimple() {
+    checkSameAsSequential(read("MULTIPOINT ((10 10), (20 70), (60 30), (80 70))"), null, 1);
+  }
+
+  public void testSingleTriangle() {
+    checkSameAsSequential(read("MULTIPOINT ((10 10), (20 70), (60 30))"), null, 1);
+  }
+
+  public void testRandom() {
+    Random random = new Random(3);
+    Coordinate[] pts = new Coordinate[2000];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(100 * random.nextDouble(), 100 * random.nextDouble());
+    }
+    Geometry sites = geomFact.createMultiPointFromCoords(pts);
+    checkSameAsSequential(sites, null, 4);
+    checkSameAsSequential(sites, new Envelope(20, 60, 30, 50), 4);
+  }
+
+  public void testCollinear() {
+    checkSameAsSequential(read("MULTIPOINT ((10 10), (20 20), (30 30))"), null, 1);
+  }
+
+  private void checkSameAsSequential(Geometry sites, Envelope clipEnv, int numPartitions) {
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(sites);
+    builder.setClipEnvelope(clipEnv);
+    Geometry expected = builder.getDiagram(geomFact);
+
+    ParallelVoronoiDiagramBuilder parBuilder = new ParallelVoronoiDiagramBuilder();
+    parBuilder.setSites(sites);
+    parBuilder.setClipEnvelope(clipEnv);
+    parBuilder.setNumPartitions(numPartitions);
+    Geometry actual = parBuilder.getDiagram(geomFact);
+
+    assertEquals(expected.getNumGeometries(), actual.getNumGeometries());
+    Map<Coordinate, Geometry> expectedCells = new HashMap<Coordinate, Geometry>();
+    for (int i = 0; i < expected.getNumGeometries(); i++) {
+      Geometry cell = expected.getGeometryN(i);
+      expectedCells.put((Coordinate) cell.getUserData(), cell);
+    }
+    for (int i = 0; i < actual.getNumGeometries(); i++) {
+      Geometry cell = actual.getGeometryN(i);
+      assertTrue(cell.isValid());
+      Geometry expectedCell = expectedCells.get((Coordinate) cell.getUserData());
+      assertNotNull(expectedCell);
+      double tol = 1e-9 * Math.max(1, expectedCell.getArea());
+      assertEquals(expectedCell.getArea(), cell.getArea(), tol);
+      assertEquals(0.0, expectedCell.symDifference(cell).getArea(), 1e-6 * expectedCell.getArea());
+    }
+  }
+}
@@ -11,9 +11,15 @@
  */
 package org.locationtech.jts.triangulate;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.math.DD;
+import org.locationtech.jts.triangulate.quadedge.QuadEdgeSubdivision;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -62,6 +68,68 @@ public class VoronoiTest extends GeometryTestCase {
     runVoronoi(wkt);    
   }
   
+  public void testVisitCells() {
+    String wkt = "MULTIPOINT ((259 289), (46 194), (396 359), (243 349), (206 99), (470 40), (429 185), (54 9), (78 208), (457 406), (355 191), (346 497), (144 79), (35 459), (322 37), (181 371), (359 257), (57 331), (225 139), (475 245), (416 364), (155 477), (123 232), (102 141), (251 434))";
+    checkVisitCells(wkt, null);
+    checkVisitCells(wkt, new Envelope(100, 300, 100, 300));
+  }
+  
+  private void checkVisitCells(String sitesWKT, Envelope clipEnv) {
+    Geometry sites = read(sitesWKT);
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(sites);
+    builder.setClipEnvelope(clipEnv);
+    List<Geometry> expected = computeClippedCells(sites, clipEnv);
+    
+    final List<Geometry> cells = new ArrayList<Geometry>();
+    builder.visitCells(sites.getFactory(), new VoronoiCellVisitor() {
+      public void visit(Coordinate site, Geometry cell) {
+        assertEquals(site, cell.getUserData());
+        assertTrue(cell.intersects(sites.getFactory().createPoint(site)) || clipEnv != null);
+        cells.add(cell);
+      }
+    });
+    assertEquals(expected.size(), cells.size());
+    for (int i = 0; i < cells.size(); i++) {
+      checkEqual(expected.get(i), cells.get(i));
+      assertEquals(expected.get(i).getUserData(), cells.get(i).getUserData());
+    }
+  }
+  
+  /**
+   * Computes the clipped Voronoi cells independently of the cell visitor,
+   * by clipping all the cell polygons of the subdivision.
+   */
+  private List<Geometry> computeClippedCells(Geometry sites, Envelope clipEnv) {
+    VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+    builder.setSites(sites);
+    builder.setClipEnvelope(clipEnv);
+    QuadEdgeSubdivision subdiv = builder.getSubdivision();
+    Envelope diagramEnv = clipEnv;
+    if (diagramEnv == null) {
+      diagramEnv = new Envelope(sites.getEnvelopeInternal());
+      diagramEnv.expandBy(diagramEnv.getDiameter());
+    }
+    Geometry clipPoly = sites.getFactory().toGeometry(diagramEnv);
+    List<Geometry> clipped = new ArrayList<Geometry>();
+    List<?> polys = subdiv.getVoronoiCellPolygons(sites.getFactory());
+    for (Object obj : polys) {
+      Geometry poly = (Geometry) obj;
+      Geometry cell = null;
+      if (diagramEnv.contains(poly.getEnvelopeInternal())) {
+        cell = poly;
+      }
+      else if (diagramEnv.intersects(poly.getEnvelopeInternal())) {
+        cell = clipPoly.intersection(poly);
+        cell.setUserData(poly.getUserData());
+      }
+      if (cell != null && ! cell.isEmpty()) {
+        clipped.add(cell);
+      }
+    }
+    return clipped;
+  }
+  
   static final double COMPARISON_TOLERANCE = 1.0e-7;
 	
 	private void runVoronoi(String sitesWKT) {
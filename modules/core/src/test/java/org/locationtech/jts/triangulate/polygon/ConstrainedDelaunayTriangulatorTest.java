@@ -12,6 +12,8 @@
 package org.locationtech.jts.triangulate.polygon;
 
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.triangulate.tri.Tri;
+import org.locationtech.jts.triangulate.tri.TriMesh;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -57,6 +59,40 @@ public class ConstrainedDelaunayTriangulatorTest extends GeometryTestCase {
         );
   }
   
+  public void testManyHoles() {
+    checkTri(
+  "POLYGON ((0 0, 0 100, 100 100, 100 0, 0 0), (10 10, 12 18, 20 20, 18 12, 10 10), (30 10, 32 18, 40 20, 38 12, 30 10), (50 10, 52 18, 60 20, 58 12, 50 10), (10 30, 12 38, 20 40, 18 32, 10 30), (30 30, 32 38, 40 40, 38 32, 30 30), (50 30, 52 38, 60 40, 58 32, 50 30), (70 70, 72 78, 80 80, 78 72, 70 70))"
+        );
+  }
+  
+  public void testMesh() {
+    Geometry geom = read("POLYGON ((10 90, 90 90, 90 20, 10 10, 10 90), (30 70, 80 70, 50 30, 30 70))");
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(geom);
+    assertEquals(7, cdt.getMesh().getNumTriangles());
+    assertEquals(7, cdt.getTriangles().size());
+    checkEqual(cdt.getResult(), Tri.toGeometry(cdt.getTriangles(), geom.getFactory()));
+    assertSame(cdt.getTriangles(), cdt.getTriangles());
+  }
+
+  /**
+   * The vertices duplicated by hole joining are single mesh vertices,
+   * so every interior edge has an adjacent triangle.
+   */
+  public void testMeshHoleVertices() {
+    Geometry geom = read("POLYGON ((10 90, 90 90, 90 20, 10 10, 10 90), (30 70, 80 70, 50 30, 30 70))");
+    ConstrainedDelaunayTriangulator cdt = new ConstrainedDelaunayTriangulator(geom);
+    TriMesh mesh = cdt.getMesh();
+    assertEquals(7, mesh.getNumVertices());
+    int numBoundary = 0;
+    for (int t = 0; t < mesh.getNumTriangles(); t++) {
+      for (int i = 0; i < 3; i++) {
+        if (mesh.getAdjacent(t, i) < 0) numBoundary++;
+      }
+    }
+    //-- the shell and hole edges
+    assertEquals(7, numBoundary);
+  }
+  
   private void checkTri(String wkt, String wktExpected) {
     Geometry geom = read(wkt);
     Geometry actual = ConstrainedDelaunayTriangulator.triangulate(geom);
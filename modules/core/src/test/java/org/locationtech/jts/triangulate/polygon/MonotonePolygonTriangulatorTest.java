@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.triangulate.polygon;
+
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.operation.overlayng.CoverageUnion;
+import org.locationtech.jts.triangulate.tri.Tri;
+import org.locationtech.jts.util.GeometricShapeFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class MonotonePolygonTriangulatorTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(MonotonePolygonTriangulatorTest.class);
+  }
+
+  public MonotonePolygonTriangulatorTest(String name) {
+    super(name);
+  }
+
+  public void testQuad() {
+    checkTri("POLYGON ((10 10, 20 40, 90 90, 90 10, 10 10))");
+  }
+
+  public void testPent() {
+    checkTri("POLYGON ((10 10, 20 40, 90 90, 100 50, 90 10, 10 10))");
+  }
+
+  public void testHoleCW() {
+    checkTri("POLYGON ((10 90, 90 90, 90 20, 10 10, 10 90), (30 70, 80 70, 50 30, 30 70))");
+  }
+
+  public void testHorizontalEdges() {
+    checkTri("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 2 4, 4 4, 4 2, 2 2), (6 2, 6 4, 8 4, 8 2, 6 2), (2 6, 2 8, 8 8, 8 6, 2 6))");
+  }
+
+  public void testCollinearVertices() {
+    checkTri("POLYGON ((0 0, 0 5, 0 10, 5 10, 10 10, 10 5, 10 0, 5 0, 0 0), (2 5, 5 8, 8 5, 5 2, 2 5))");
+  }
+
+  public void testSawtooth() {
+    checkTri("POLYGON ((0 0, 0 10, 1 6, 2 10, 3 6, 4 10, 5 6, 6 10, 7 6, 8 10, 8 0, 7 4, 6 0, 5 4, 4 0, 3 4, 2 0, 1 4, 0 0))");
+  }
+
+  public void testCeeShape() {
+    checkTri(
+  "POLYGON ((110 170, 138 272, 145 286, 152 296, 160 307, 303 307, 314 301, 332 287, 343 278, 352 270, 385 99, 374 89, 359 79, 178 89, 167 91, 153 99, 146 107, 173 157, 182 163, 191 170, 199 176, 208 184, 218 194, 226 203, 198 252, 188 247, 182 239, 175 231, 167 223, 161 213, 156 203, 155 198, 110 170))"
+        );
+  }
+
+  public void testRepeatedPoints() {
+    checkTri("POLYGON ((71 195, 178 335, 178 335, 239 185, 380 210, 290 60, 110 70, 71 195))");
+  }
+
+  public void testTouchingHoles() {
+    checkTri("POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10), (20 80, 30 30, 50 70, 20 80), (50 70, 70 20, 80 80, 50 70))");
+  }
+
+  public void testHoleTouchesShell() {
+    checkTri("POLYGON ((5 5, 9 5, 9 0, 0 0, 5 5), (3 3, 6 1, 5 3, 3 3))");
+  }
+
+  public void testEmpty() {
+    checkEqual(read("GEOMETRYCOLLECTION EMPTY"),
+        MonotonePolygonTriangulator.triangulate(read("POLYGON EMPTY")));
+  }
+
+  public void testMultiPolygon() {
+    checkTri("MULTIPOLYGON (((10 10, 20 50, 50 50, 40 20, 10 10)), ((10 70, 10 90, 50 90, 40 70, 10 70)), ((20 60, 90 90, 90 20, 60 60, 20 60)))");
+  }
+
+  public void testManyHoles() {
+    checkTri(polygonWithHoles(10, 12));
+  }
+
+  public void testRandomStar() {
+    Random random = new Random(11);
+    for (int n = 10; n < 200; n += 17) {
+      Coordinate[] pts = new Coordinate[n + 1];
+      for (int i = 0; i < n; i++) {
+        double ang = 2 * Math.PI * i / n;
+        double r = 10 + 90 * random.nextDouble();
+        pts[i] = new Coordinate(Math.round(r * Math.cos(ang)), Math.round(r * Math.sin(ang)));
+      }
+      pts[n] = pts[0];
+      Polygon poly = getGeometryFactory().createPolygon(pts);
+      if (poly.isValid())
+        checkTri(poly);
+    }
+  }
+
+  public void testSameAsPolygonTriangulatorArea() {
+    Geometry geom = polygonWithHoles(6, 7);
+    double area = Tri.area(new PolygonTriangulator(geom).getTriangles());
+    assertEquals(area, Tri.area(new MonotonePolygonTriangulator(geom).getTriangles()), 1e-6);
+  }
+
+  private Polygon polygonWithHoles(int n, int holePts) {
+    GeometryFactory geomFact = getGeometryFactory();
+    GeometricShapeFactory shapeFact = new GeometricShapeFactory(geomFact);
+    Random random = new Random(n);
+    LinearRing[] holes = new LinearRing[n * n];
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < n; j++) {
+        shapeFact.setCentre(new Coordinate(10 * i + 5 + random.nextDouble(), 10 * j + 5 + random.nextDouble()));
+        shapeFact.setSize(6);
+        shapeFact.setNumPoints(holePts);
+        holes[n * i + j] = shapeFact.createCircle().getExteriorRing();
+      }
+    }
+    double side = 10 * n;
+    LinearRing shell = geomFact.createLinearRing(new Coordinate[] {
+        new Coordinate(0, 0), new Coordinate(0, side), new Coordinate(side, side),
+        new Coordinate(side, 0), new Coordinate(0, 0) });
+    return geomFact.createPolygon(shell, holes);
+  }
+
+  private void checkTri(String wkt) {
+    checkTri(read(wkt));
+  }
+
+  /**
+   * Checks that the triangles are non-degenerate, correctly oriented,
+   * and form a coverage whose union is the input.
+   */
+  private void checkTri(Geometry geom) {
+    MonotonePolygonTriangulator triangulator = new MonotonePolygonTriangulator(geom);
+    List<Tri> triList = triangulator.getTriangles();
+    for (Tri tri : triList) {
+      tri.validate();
+      assertTrue(tri.getArea() > 0);
+    }
+    Geometry actual = triangulator.getResult();
+    assertEquals(geom.getArea(), actual.getArea(), 1e-9 * geom.getArea());
+    Geometry actualUnion = CoverageUnion.union(actual);
+    assertTrue(geom.equalsTopo(actualUnion));
+  }
+}
@@ -0,0 +1,112 @@
+package org.locationtech.jts.triangulate.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class TriMeshTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(TriMeshTest.class);
+  }
+  
+  public TriMeshTest(String name) {
+    super(name);
+  }
+
+  public void testAdjacent() {
+    TriMesh mesh = createSimpleMesh();
+    assertEquals(1, mesh.getAdjacent(0, 0));
+    assertEquals(2, mesh.getAdjacent(0, 1));
+    assertEquals(3, mesh.getAdjacent(0, 2));
+    assertEquals(0, mesh.getAdjacent(1, 0));
+    assertEquals(0, mesh.getAdjacentEdgeIndex(1, 0));
+    assertEquals(-1, mesh.getAdjacent(1, 1));
+  }
+
+  public void testToTris() {
+    TriMesh mesh = createSimpleMesh();
+    List<Tri> tris = mesh.toTris();
+    Tri triCentre = tris.get(0);
+    assertTrue(tris.get(1) == triCentre.getAdjacent(0));
+    assertTrue(tris.get(2) == triCentre.getAdjacent(1));
+    assertTrue(tris.get(3) == triCentre.getAdjacent(2));
+    assertTrue(triCentre == tris.get(2).getAdjacent(0));
+  }
+
+  public void testFlip() {
+    TriMesh mesh = createSimpleMesh();
+    List<Tri> tris = mesh.toTris();
+    tris.get(0).flip(1);
+    
+    mesh.flip(0, 1);
+    checkSameAs(tris, mesh);
+    for (int t = 0; t < mesh.getNumTriangles(); t++) {
+      assertTrue( Orientation.CLOCKWISE == Orientation.index(
+          mesh.getCoordinate(t, 0), mesh.getCoordinate(t, 1), mesh.getCoordinate(t, 2)));
+    }
+  }
+
+  public void testAddTriangles() {
+    List<Tri> triList = new ArrayList<Tri>();
+    triList.add(tri(0,0,  0,10, 10,0));
+    triList.add(tri(10,0,  0,10, 10,10));
+    TriMesh mesh = new TriMesh();
+    mesh.addTriangles(triList);
+    mesh.buildAdjacency();
+    assertEquals(4, mesh.getNumVertices());
+    assertEquals(1, mesh.getAdjacent(0, 1));
+    assertEquals(0, mesh.getAdjacent(1, 0));
+    checkEqual(read("GEOMETRYCOLLECTION (POLYGON ((0 0, 0 10, 10 0, 0 0)), POLYGON ((10 0, 0 10, 10 10, 10 0)))"),
+        mesh.toGeometry(new GeometryFactory()));
+  }
+
+  private void checkSameAs(List<Tri> tris, TriMesh mesh) {
+    for (int t = 0; t < tris.size(); t++) {
+      Tri tri = tris.get(t);
+      for (int i = 0; i < 3; i++) {
+        checkEqualXY(tri.getCoordinate(i), mesh.getCoordinate(t, i));
+        Tri adj = tri.getAdjacent(i);
+        int adjIndex = mesh.getAdjacent(t, i);
+        if (adj == null) {
+          assertEquals(-1, adjIndex);
+        }
+        else {
+          assertTrue(adj == tris.get(adjIndex));
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates a triangle with three adjacent triangles.
+   */
+  private static TriMesh createSimpleMesh() {
+    TriMesh mesh = new TriMesh();
+    int v10_10 = mesh.addVertex(new Coordinate(10, 10));
+    int v10_20 = mesh.addVertex(new Coordinate(10, 20));
+    int v20_10 = mesh.addVertex(new Coordinate(20, 10));
+    int v0_10 = mesh.addVertex(new Coordinate(0, 10));
+    int v20_20 = mesh.addVertex(new Coordinate(20, 20));
+    int v10_0 = mesh.addVertex(new Coordinate(10, 0));
+    mesh.addTriangle(v10_10, v10_20, v20_10);
+    mesh.addTriangle(v10_20, v10_10, v0_10);
+    mesh.addTriangle(v20_10, v10_20, v20_20);
+    mesh.addTriangle(v10_10, v20_10, v10_0);
+    mesh.buildAdjacency();
+    return mesh;
+  }
+
+  private static Tri tri(double x0, double y0, double x1, double y1, double x2, double y2) {
+    return Tri.create(
+        new Coordinate(x0, y0),
+        new Coordinate(x1, y1),
+        new Coordinate(x2, y2));
+  }
+}
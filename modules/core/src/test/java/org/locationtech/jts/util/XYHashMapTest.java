@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.locationtech.jts.geom.Coordinate;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class XYHashMapTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(XYHashMapTest.class);
+  }
+
+  public XYHashMapTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() {
+    XYHashMap<String> map = new XYHashMap<String>();
+    assertEquals(0, map.size());
+    assertNull(map.get(0, 0));
+    assertEquals(0, map.orderedValues().size());
+  }
+
+  public void testPutGetRemove() {
+    XYHashMap<String> map = new XYHashMap<String>();
+    assertNull(map.put(new Coordinate(1, 2), "a"));
+    assertNull(map.put(new Coordinate(0, 5), "b"));
+    assertEquals("a", map.put(new Coordinate(1, 2), "c"));
+    assertEquals(2, map.size());
+    assertEquals("c", map.get(1, 2));
+    assertEquals("b", map.remove(new Coordinate(0, 5)));
+    assertNull(map.remove(new Coordinate(0, 5)));
+    assertEquals(1, map.size());
+    assertNull(map.put(new Coordinate(0, 5), "d"));
+    assertEquals("d", map.get(new Coordinate(0, 5)));
+  }
+
+  public void testNegativeZero() {
+    XYHashMap<String> map = new XYHashMap<String>();
+    map.put(new Coordinate(0.0, 0.0), "a");
+    assertEquals("a", map.get(-0.0, -0.0));
+  }
+
+  public void testOrderedValues() {
+    XYHashMap<Integer> map = new XYHashMap<Integer>();
+    TreeMap<Coordinate, Integer> treeMap = new TreeMap<Coordinate, Integer>();
+    Random rnd = new Random(3);
+    for (int i = 0; i < 1000; i++) {
+      Coordinate p = new Coordinate(rnd.nextInt(30), rnd.nextInt(30));
+      if (rnd.nextInt(5) == 0) {
+        assertEquals(treeMap.remove(p), map.remove(p));
+      }
+      else {
+        assertEquals(treeMap.put(p, i), map.put(p, i));
+      }
+      assertEquals(treeMap.size(), map.size());
+    }
+    assertEquals(new ArrayList<Integer>(treeMap.values()), map.orderedValues());
+    List<Integer> values = new ArrayList<Integer>(map.values());
+    values.sort(null);
+    List<Integer> expected = new ArrayList<Integer>(treeMap.values());
+    expected.sort(null);
+    assertEquals(expected, values);
+  }
+}
@@ -0,0 +1,77 @@
+package test.jts.perf.algorithm;
+
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.hull.ConcaveHull;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPoint;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+public class ConcaveHullPerfTest extends PerformanceTestCase {
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(ConcaveHullPerfTest.class);
+  }
+
+  private static final int NUM_CLUSTERS = 20;
+  
+  private MultiPoint geom;
+  private Geometry[] clusters;
+  private double maxLength;
+  
+  public ConcaveHullPerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10_000, 100_000, 500_000 });
+    setRunIterations(1);
+  }
+ 
+  public void startRun(int num)
+  {
+    System.out.println("Running with size " + num);
+    geom = createRandomMultiPoint(num, 1324);
+    maxLength = 4 * ConcaveHull.uniformGridEdgeLength(geom);
+    clusters = new Geometry[NUM_CLUSTERS];
+    for (int i = 0; i < NUM_CLUSTERS; i++) {
+      clusters[i] = createRandomMultiPoint(num / NUM_CLUSTERS, i);
+    }
+  }
+
+  /**
+   * Creates random points in a star-shaped region,
+   * so the hull is concave.
+   */
+  private MultiPoint createRandomMultiPoint(int num, long seed) {
+    Coordinate[] pts = new Coordinate[num];
+    Random rand = new Random(seed);
+    for (int i = 0; i < num; i++) {
+      double angle = 2 * Math.PI * rand.nextDouble();
+      double r = 100 * Math.sqrt(rand.nextDouble()) * (0.7 + 0.3 * Math.sin(5 * angle));
+      pts[i] = new Coordinate(r * Math.cos(angle), r * Math.sin(angle));
+    }
+    GeometryFactory fact = new GeometryFactory();
+    return fact.createMultiPointFromCoords(pts);
+  }
+  
+  public void runConcaveHull() {
+    ConcaveHull.concaveHullByLength(geom, maxLength);
+  }
+  
+  public void runConcaveHullScalable() {
+    ConcaveHull hull = new ConcaveHull(geom);
+    hull.setMaximumEdgeLength(maxLength);
+    hull.setScalable(true);
+    hull.getHull();
+  }
+  
+  public void runConcaveHullBatch() {
+    ConcaveHull.concaveHullByLength(clusters, maxLength, false, false);
+  }
+  
+  public void runConcaveHullBatchParallel() {
+    ConcaveHull.concaveHullByLength(clusters, maxLength, false, true);
+  }
+}
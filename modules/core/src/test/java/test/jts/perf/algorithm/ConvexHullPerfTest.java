@@ -3,6 +3,8 @@ package test.jts.perf.algorithm;
 import java.util.ArrayList;
 import java.util.Random;
 
+import org.locationtech.jts.algorithm.IncrementalConvexHull;
+import org.locationtech.jts.algorithm.PackedConvexHull;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -18,6 +20,7 @@ public class ConvexHullPerfTest extends PerformanceTestCase {
   }
 
   private MultiPoint geom;
+  private double[] xy;
   
   public ConvexHullPerfTest(String name)
   {
@@ -30,6 +33,12 @@ public class ConvexHullPerfTest extends PerformanceTestCase {
   {
     System.out.println("Running with size " + num);
     geom = createRandomMultiPoint(num);
+    xy = new double[2 * num];
+    for (int i = 0; i < num; i++) {
+      Coordinate p = geom.getGeometryN(i).getCoordinate();
+      xy[2 * i] = p.x;
+      xy[2 * i + 1] = p.y;
+    }
   }
 
   private MultiPoint createRandomMultiPoint(int num) {
@@ -45,4 +54,20 @@ public class ConvexHullPerfTest extends PerformanceTestCase {
   public void runConvexHull() {
     Geometry convextHull = geom.convexHull();
   }
+
+  public void runPacked() {
+    double[] hull = PackedConvexHull.computeHull(xy);
+  }
+
+  public void runPackedParallel() {
+    double[] hull = PackedConvexHull.computeHull(xy, true);
+  }
+
+  public void runIncremental() {
+    IncrementalConvexHull hull = new IncrementalConvexHull(geom.getFactory());
+    for (int i = 0; i < xy.length; i += 2) {
+      hull.add(xy[i], xy[i + 1]);
+    }
+    Geometry convexHull = hull.getHull();
+  }
 }
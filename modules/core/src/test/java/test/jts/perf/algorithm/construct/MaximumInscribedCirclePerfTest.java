@@ -0,0 +1,81 @@
+package test.jts.perf.algorithm.construct;
+
+import java.util.Random;
+
+import org.locationtech.jts.algorithm.construct.MaximumInscribedCircle;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares the per-call cost of computing Maximum Inscribed Circle centers
+ * with the batch API, for many polygons of a given number of vertices.
+ */
+public class MaximumInscribedCirclePerfTest extends PerformanceTestCase {
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(MaximumInscribedCirclePerfTest.class);
+  }
+
+  private static final int NUM_POLYS = 10_000;
+  private static final double TOLERANCE = 0.01;
+  
+  private GeometryFactory geomFact = new GeometryFactory();
+  private Geometry[] polys;
+  private Geometry bigPoly;
+  
+  public MaximumInscribedCirclePerfTest(String name)
+  {
+    super(name);
+    setRunSize(new int[] { 10, 50, 200, 1000 });
+    setRunIterations(1);
+  }
+ 
+  public void startRun(int num)
+  {
+    System.out.println("Running with " + NUM_POLYS + " polygons of size " + num);
+    Random rand = new Random(1324);
+    polys = new Geometry[NUM_POLYS];
+    for (int i = 0; i < NUM_POLYS; i++) {
+      polys[i] = createStar(rand.nextDouble() * 1000, rand.nextDouble() * 1000, num, rand);
+    }
+    bigPoly = createStar(0, 0, 100 * num, rand);
+  }
+
+  private Geometry createStar(double x, double y, int numPts, Random rand) {
+    Coordinate[] pts = new Coordinate[numPts + 1];
+    for (int i = 0; i < numPts; i++) {
+      double angle = 2 * Math.PI * i / numPts;
+      double r = 5 + 5 * rand.nextDouble();
+      pts[i] = new Coordinate(x + r * Math.cos(angle), y + r * Math.sin(angle));
+    }
+    pts[numPts] = pts[0].copy();
+    return geomFact.createPolygon(pts);
+  }
+  
+  public void runPerCall() {
+    for (Geometry poly : polys) {
+      MaximumInscribedCircle.getCenter(poly, TOLERANCE);
+    }
+  }
+  
+  public void runBatch() {
+    MaximumInscribedCircle.getCenters(polys, TOLERANCE, false);
+  }
+  
+  public void runBatchParallel() {
+    MaximumInscribedCircle.getCenters(polys, TOLERANCE, true);
+  }
+  
+  public void runBigPolygon() {
+    MaximumInscribedCircle.getCenter(bigPoly, TOLERANCE);
+  }
+  
+  public void runBigPolygonParallel() {
+    MaximumInscribedCircle mic = new MaximumInscribedCircle(bigPoly, TOLERANCE);
+    mic.setParallel(true);
+    mic.getCenter();
+  }
+}
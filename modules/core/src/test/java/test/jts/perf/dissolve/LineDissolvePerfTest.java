@@ -19,6 +19,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.locationtech.jts.dissolve.LineDissolver;
+import org.locationtech.jts.dissolve.PackedLineDissolver;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.util.LinearComponentExtracter;
@@ -60,6 +61,25 @@ public class LineDissolvePerfTest  extends PerformanceTestCase
     System.out.println(Memory.allString());
   }
   
+  public void runPackedDissolver_World()
+  {
+    PackedLineDissolver dis = new PackedLineDissolver();
+    dis.add(data);
+    Geometry result = dis.getResult();
+    System.out.println();
+    System.out.println(Memory.allString());
+  }
+  
+  public void runPackedDissolverParallel_World()
+  {
+    PackedLineDissolver dis = new PackedLineDissolver();
+    dis.setParallel(true);
+    dis.add(data);
+    Geometry result = dis.getResult();
+    System.out.println();
+    System.out.println(Memory.allString());
+  }
+  
   public void runBruteForce_World()
   {
     Geometry result = dissolveLines(data);
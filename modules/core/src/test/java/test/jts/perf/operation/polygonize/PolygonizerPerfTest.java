@@ -30,6 +30,7 @@ public class PolygonizerPerfTest extends PerformanceTestCase {
   
   GeometryFactory geomFact = new GeometryFactory();
   private Geometry testCircles;
+  private List<Geometry> testGrid;
   
   public static void main(String args[]) {
     PerformanceTestRunner.run(PolygonizerPerfTest.class);
@@ -52,6 +53,25 @@ public class PolygonizerPerfTest extends PerformanceTestCase {
     polys.add(surround);
     testCircles = geomFact.createMultiPolygon(GeometryFactory.toPolygonArray(polys));
     //System.out.println(testCircles);
+    
+    testGrid = createNodedGrid(num / 10 + 1);
+  }
+  
+  /**
+   * Creates a fully-noded grid of line segments,
+   * to measure the graph traversal for a large network.
+   */
+  private List<Geometry> createNodedGrid(int nOnSide) {
+    List<Geometry> lines = new ArrayList<Geometry>();
+    for (int i = 0; i <= nOnSide; i++) {
+      for (int j = 0; j < nOnSide; j++) {
+        lines.add(geomFact.createLineString(new Coordinate[] { 
+            new Coordinate(i, j), new Coordinate(i, j + 1) }));
+        lines.add(geomFact.createLineString(new Coordinate[] { 
+            new Coordinate(j, i), new Coordinate(j + 1, i) }));
+      }
+    }
+    return lines;
   }
   
   private List<Polygon> createCircleGrid(int num, double size, int bufferSegs) {
@@ -92,4 +112,28 @@ public class PolygonizerPerfTest extends PerformanceTestCase {
     polygonizer.add(testCircles);
     Collection output = polygonizer.getPolygons();
   }
+
+  public void runDisjointCirclesInsideDonutParallel()
+  {
+    boolean extractOnlyPolygonal = false;
+    Polygonizer polygonizer = new Polygonizer(extractOnlyPolygonal);
+    polygonizer.setParallel(true);
+    polygonizer.add(testCircles);
+    Collection output = polygonizer.getPolygons();
+  }
+
+  public void runNodedGrid()
+  {
+    Polygonizer polygonizer = new Polygonizer();
+    polygonizer.add(testGrid);
+    Collection output = polygonizer.getPolygons();
+  }
+
+  public void runNodedGridParallel()
+  {
+    Polygonizer polygonizer = new Polygonizer();
+    polygonizer.setParallel(true);
+    polygonizer.add(testGrid);
+    Collection output = polygonizer.getPolygons();
+  }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.planargraph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.operation.linemerge.LineMerger;
+import org.locationtech.jts.operation.polygonize.Polygonizer;
+import org.locationtech.jts.planargraph.Node;
+import org.locationtech.jts.planargraph.NodeMap;
+
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Tests the performance of the hash-based {@link NodeMap}
+ * against a {@link TreeMap} keyed by coordinate
+ * (which NodeMap used previously),
+ * and of the graph operations which use it.
+ * The input is a grid of nodes, with lookups at random grid points
+ * (about a quarter of which are nodes).
+ * 
+ * @author Martin Davis
+ *
+ */
+public class NodeMapPerfTest extends PerformanceTestCase {
+
+  private static final int NUM_LOOKUPS = 1000000;
+
+  GeometryFactory geomFact = new GeometryFactory();
+  private Coordinate[] nodePts;
+  private Coordinate[] queryPts;
+  private List<Geometry> rowLines;
+  private List<Geometry> gridLines;
+
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(NodeMapPerfTest.class);
+  }
+
+  public NodeMapPerfTest(String name) {
+    super(name);
+    setRunSize(new int[] { 100, 300, 500 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int nOnSide)
+  {
+    System.out.println("Running with grid size " + nOnSide);
+    nodePts = createGridPoints(nOnSide, 2);
+    queryPts = createQueryPoints(nOnSide, NUM_LOOKUPS);
+    rowLines = createRowLines(nOnSide);
+    gridLines = createNodedGrid(nOnSide);
+  }
+
+  public void runTreeMapLookup() {
+    TreeMap<Coordinate, Node> map = new TreeMap<Coordinate, Node>();
+    for (Coordinate p : nodePts) {
+      map.put(p, new Node(p));
+    }
+    int count = 0;
+    for (Coordinate q : queryPts) {
+      if (map.get(q) != null) count++;
+    }
+    System.out.println("TreeMap: " + count + " found of " + queryPts.length);
+  }
+
+  public void runNodeMapLookup() {
+    NodeMap map = new NodeMap();
+    for (Coordinate p : nodePts) {
+      map.add(new Node(p));
+    }
+    int count = 0;
+    for (Coordinate q : queryPts) {
+      if (map.find(q) != null) count++;
+    }
+    System.out.println("NodeMap: " + count + " found of " + queryPts.length);
+  }
+
+  public void runLineMerger() {
+    LineMerger merger = new LineMerger();
+    merger.add(rowLines);
+    Collection merged = merger.getMergedLineStrings();
+    System.out.println("LineMerger: " + rowLines.size() + " lines merged to " + merged.size());
+  }
+
+  public void runPolygonizer() {
+    Polygonizer polygonizer = new Polygonizer();
+    polygonizer.add(gridLines);
+    Collection polys = polygonizer.getPolygons();
+    System.out.println("Polygonizer: " + polys.size() + " polygons");
+  }
+
+  /**
+   * Creates the points of a grid with a given spacing.
+   */
+  private static Coordinate[] createGridPoints(int nOnSide, int spacing) {
+    Coordinate[] pts = new Coordinate[nOnSide * nOnSide];
+    int n = 0;
+    for (int i = 0; i < nOnSide; i++) {
+      for (int j = 0; j < nOnSide; j++) {
+        pts[n++] = new Coordinate(spacing * i, spacing * j);
+      }
+    }
+    return pts;
+  }
+
+  /**
+   * Creates random query points on the unit grid covering the nodes,
+   * so that about one quarter of the queries find a node.
+   */
+  private static Coordinate[] createQueryPoints(int nOnSide, int num) {
+    Random rnd = new Random(13);
+    Coordinate[] pts = new Coordinate[num];
+    for (int i = 0; i < num; i++) {
+      pts[i] = new Coordinate(rnd.nextInt(2 * nOnSide), rnd.nextInt(2 * nOnSide));
+    }
+    return pts;
+  }
+
+  /**
+   * Creates the rows of a grid as unit segments,
+   * which merge into one line per row.
+   */
+  private List<Geometry> createRowLines(int nOnSide) {
+    List<Geometry> lines = new ArrayList<Geometry>();
+    for (int i = 0; i <= nOnSide; i++) {
+      for (int j = 0; j < nOnSide; j++) {
+        lines.add(geomFact.createLineString(new Coordinate[] { 
+            new Coordinate(j, i), new Coordinate(j + 1, i) }));
+      }
+    }
+    return lines;
+  }
+
+  /**
+   * Creates a fully-noded grid of unit segments.
+   */
+  private List<Geometry> createNodedGrid(int nOnSide) {
+    List<Geometry> lines = new ArrayList<Geometry>();
+    for (int i = 0; i <= nOnSide; i++) {
+      for (int j = 0; j < nOnSide; j++) {
+        lines.add(geomFact.createLineString(new Coordinate[] { 
+            new Coordinate(i, j), new Coordinate(i, j + 1) }));
+        lines.add(geomFact.createLineString(new Coordinate[] { 
+            new Coordinate(j, i), new Coordinate(j + 1, i) }));
+      }
+    }
+    return lines;
+  }
+}
@@ -16,8 +16,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateArrays;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
+import org.locationtech.jts.triangulate.HalfEdgeDelaunayTriangulator;
+import org.locationtech.jts.triangulate.ParallelDelaunayTriangulator;
 import org.locationtech.jts.util.Memory;
 import org.locationtech.jts.util.Stopwatch;
 
@@ -64,6 +67,34 @@ public class DelaunayPerfTest
 		System.out.println("  --  Time: " + sw.getTimeString()
 				+ "  Mem: " + Memory.usedTotalString());
 //		System.out.println(g);
+		
+		runHalfEdge(pts);
+		runParallel(pts, 2);
+		runParallel(pts, 4);
+		runParallel(pts, Runtime.getRuntime().availableProcessors());
+	}
+	
+	public void runHalfEdge(List pts)
+	{
+		Stopwatch sw = new Stopwatch();
+		HalfEdgeDelaunayTriangulator triangulator = new HalfEdgeDelaunayTriangulator(
+				CoordinateArrays.toCoordinateArray(pts));
+		triangulator.getNumTriangles();
+		
+		System.out.println("  --  Half-edge Time: " + sw.getTimeString()
+				+ "  Mem: " + Memory.usedTotalString());
+	}
+	
+	public void runParallel(List pts, int numPartitions)
+	{
+		Stopwatch sw = new Stopwatch();
+		ParallelDelaunayTriangulator triangulator = new ParallelDelaunayTriangulator(
+				CoordinateArrays.toCoordinateArray(pts));
+		triangulator.setNumPartitions(numPartitions);
+		triangulator.getNumTriangles();
+		
+		System.out.println("  --  Parallel (" + numPartitions + ") Time: " + sw.getTimeString()
+				+ "  Mem: " + Memory.usedTotalString());
 	}
 	
 	List randomPointsInGrid(int nPts)
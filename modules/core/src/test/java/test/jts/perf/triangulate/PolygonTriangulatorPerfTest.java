@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.triangulate;
+
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.io.WKTFileReader;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.triangulate.polygon.MonotonePolygonTriangulator;
+import org.locationtech.jts.triangulate.polygon.PolygonTriangulator;
+import org.locationtech.jts.util.GeometricShapeFactory;
+
+import test.jts.TestFiles;
+import test.jts.perf.PerformanceTestCase;
+import test.jts.perf.PerformanceTestRunner;
+
+/**
+ * Compares the performance of {@link PolygonTriangulator}
+ * and {@link MonotonePolygonTriangulator}
+ * on real-world polygons and on polygons with many holes.
+ * 
+ * @author Martin Davis
+ *
+ */
+public class PolygonTriangulatorPerfTest extends PerformanceTestCase {
+
+  public static void main(String args[]) {
+    PerformanceTestRunner.run(PolygonTriangulatorPerfTest.class);
+  }
+
+  private static final int DATASET_SIZE = 0;
+  
+  private static GeometryFactory geomFact = new GeometryFactory();
+  
+  private List<Geometry> geoms;
+
+  public PolygonTriangulatorPerfTest(String name) {
+    super(name);
+    //-- size 0 uses the real-world datasets; others are the number of holes per side
+    setRunSize(new int[] { DATASET_SIZE, 10, 20, 40, 80 });
+    setRunIterations(1);
+  }
+
+  public void startRun(int size) throws Exception {
+    if (size == DATASET_SIZE) {
+      geoms = new ArrayList<Geometry>();
+      geoms.addAll(loadPolygons("africa.wkt"));
+      geoms.addAll(loadPolygons("europe.wkt"));
+      geoms.addAll(loadPolygons("bc-250k.wkt"));
+    }
+    else {
+      geoms = new ArrayList<Geometry>();
+      geoms.add(createPolygonWithHoles(size, 16));
+    }
+    System.out.println("\n-------  Running with # geoms: " + geoms.size() 
+        + "  # pts: " + numPts(geoms));
+  }
+
+  private static List<Geometry> loadPolygons(String resourceName) throws Exception {
+    String path = TestFiles.getResourceFilePath(resourceName);
+    WKTFileReader wktFileRdr = new WKTFileReader(new FileReader(path), new WKTReader());
+    return wktFileRdr.read();
+  }
+
+  private static int numPts(List<Geometry> geoms) {
+    int n = 0;
+    for (Geometry g : geoms) {
+      n += g.getNumPoints();
+    }
+    return n;
+  }
+  
+  /**
+   * Creates a square polygon containing a grid of circular holes.
+   */
+  private static Geometry createPolygonWithHoles(int nSide, int holePts) {
+    GeometricShapeFactory shapeFact = new GeometricShapeFactory(geomFact);
+    Random random = new Random(1324);
+    LinearRing[] holes = new LinearRing[nSide * nSide];
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        shapeFact.setCentre(new Coordinate(10 * i + 5 + random.nextDouble(), 10 * j + 5 + random.nextDouble()));
+        shapeFact.setSize(6);
+        shapeFact.setNumPoints(holePts);
+        holes[nSide * i + j] = shapeFact.createCircle().getExteriorRing();
+      }
+    }
+    double side = 10 * nSide;
+    LinearRing shell = geomFact.createLinearRing(new Coordinate[] {
+        new Coordinate(0, 0), new Coordinate(0, side), new Coordinate(side, side),
+        new Coordinate(side, 0), new Coordinate(0, 0) });
+    return geomFact.createPolygon(shell, holes);
+  }
+
+  public void runPolygonTriangulator() {
+    for (Geometry geom : geoms) {
+      PolygonTriangulator.triangulate(geom);
+    }
+  }
+
+  public void runMonotonePolygonTriangulator() {
+    for (Geometry geom : geoms) {
+      MonotonePolygonTriangulator.triangulate(geom);
+    }
+  }
+}
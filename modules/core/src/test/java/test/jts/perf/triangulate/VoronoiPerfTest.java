@@ -19,6 +19,8 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.triangulate.DelaunayTriangulationBuilder;
+import org.locationtech.jts.triangulate.ParallelVoronoiDiagramBuilder;
+import org.locationtech.jts.triangulate.VoronoiDiagramBuilder;
 import org.locationtech.jts.util.Stopwatch;
 
 public class VoronoiPerfTest 
@@ -52,6 +54,30 @@ public class VoronoiPerfTest
 		Geometry g = builder.getEdges(geomFact);
 		System.out.println("# pts: " + pts.size() + "  --  " + sw.getTimeString());
 //		System.out.println(g);
+		
+		runVoronoi(pts);
+		runParallelVoronoi(pts, 2);
+		runParallelVoronoi(pts, 4);
+		runParallelVoronoi(pts, Runtime.getRuntime().availableProcessors());
+	}
+	
+	public void runVoronoi(List pts)
+	{
+		Stopwatch sw = new Stopwatch();
+		VoronoiDiagramBuilder builder = new VoronoiDiagramBuilder();
+		builder.setSites(pts);
+		builder.getDiagram(geomFact);
+		System.out.println("  --  Voronoi: " + sw.getTimeString());
+	}
+	
+	public void runParallelVoronoi(List pts, int numPartitions)
+	{
+		Stopwatch sw = new Stopwatch();
+		ParallelVoronoiDiagramBuilder builder = new ParallelVoronoiDiagramBuilder();
+		builder.setSites(pts);
+		builder.setNumPartitions(numPartitions);
+		builder.getDiagram(geomFact);
+		System.out.println("  --  Parallel Voronoi (" + numPartitions + "): " + sw.getTimeString());
 	}
 	
 	List randomPoints(int nPts)